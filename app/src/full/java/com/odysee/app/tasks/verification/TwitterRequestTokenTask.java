@@ -12,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import com.odysee.app.model.TwitterOauth;
 import com.odysee.app.tasks.TwitterOauthHandler;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -52,9 +53,10 @@ public class TwitterRequestTokenTask extends AsyncTask<Void, Void, String> {
             Request request = new Request.Builder().url(ENDPOINT).addHeader(
                     "Authorization", oauthParams.getAuthorizationHeader()).post(body).build();
 
-            OkHttpClient client = new OkHttpClient.Builder().build();
-            Response response = client.newCall(request).execute();
-            return response.body().string();
+            OkHttpClient client = HttpClients.get();
+            try (Response response = client.newCall(request).execute()) {
+                return response.body().string();
+            }
         } catch (Exception ex) {
             error = ex;
             return null;
@@ -2,7 +2,6 @@ package com.odysee.app.ui.rewards;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.Gravity;
 import android.view.LayoutInflater;
@@ -29,6 +28,7 @@ import com.odysee.app.tasks.verification.TwitterAccessTokenTask;
 import com.odysee.app.tasks.verification.TwitterRequestTokenTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import lombok.Setter;
 
@@ -88,7 +88,7 @@ public class RewardVerificationTwitterFragment extends Fragment {
                 handleFlowError(null);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
 
@@ -179,7 +179,7 @@ public class RewardVerificationTwitterFragment extends Fragment {
                 handleFlowError(null);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void twitterVerify(TwitterOauth twitterOauth) {
@@ -223,7 +223,7 @@ public class RewardVerificationTwitterFragment extends Fragment {
                     handleFlowError(error != null ? error.getMessage() : null);
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             twitterOauthInProgress = false;
             if (listener != null) {
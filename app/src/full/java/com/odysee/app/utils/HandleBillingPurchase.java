@@ -1,7 +1,6 @@
 package com.odysee.app.utils;
 
 import android.content.Context;
-import android.os.AsyncTask;
 import android.view.View;
 
 import androidx.annotation.NonNull;
@@ -39,7 +38,7 @@ public class HandleBillingPurchase {
 
                 // send the purchase token to the backend to complete verification
                 AndroidPurchaseTask task = new AndroidPurchaseTask(purchaseToken, progressView, context, handler);
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         }
     }
@@ -42,7 +42,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.Future;
 
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.snackbar.Snackbar;
@@ -66,6 +65,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.VerificationSkipQueue;
 
 import org.json.JSONObject;
@@ -272,14 +272,13 @@ public class FirstRunActivity extends AppCompatActivity implements FirstRunStepH
 
     private void checkWalletBalanceForChannelStep() {
         Activity a = this;
-        Thread t = new Thread(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 Callable<WalletBalance> c = new WalletBalanceFetch(Lbryio.AUTH_TOKEN);
-                Future<WalletBalance> f = ((OdyseeApp) a.getApplication()).getExecutor().submit(c);
 
                 try {
-                    WalletBalance wb = f.get();
+                    WalletBalance wb = c.call();
                     a.runOnUiThread(new Runnable() {
                         @Override
                         public void run() {
@@ -299,7 +298,6 @@ public class FirstRunActivity extends AppCompatActivity implements FirstRunStepH
                 }
             }
         });
-        t.start();
     }
 
     private void handleCreateChannel() {
@@ -457,7 +455,7 @@ public class FirstRunActivity extends AppCompatActivity implements FirstRunStepH
                 //onRequestCompleted(FIRST_RUN_STEP_CHANNEL);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void proceedToChannelStep() {
@@ -24,7 +24,6 @@ import android.content.pm.PackageManager;
 import android.graphics.Color;
 import android.hardware.camera2.CameraCharacteristics;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
@@ -60,6 +59,7 @@ import com.odysee.app.tasks.claim.PublishClaimTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -71,8 +71,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -393,7 +391,7 @@ public class GoLiveActivity extends AppCompatActivity {
                 uploadingThumbnail = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void launchFilePicker() {
@@ -434,8 +432,7 @@ public class GoLiveActivity extends AppCompatActivity {
     private void signAndSetupStream() {
         String hexData = Helper.toHexString(selectedChannel.getName());
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -471,7 +468,6 @@ public class GoLiveActivity extends AppCompatActivity {
                 }
             }
         });
-        executor.shutdown();
     }
 
     // Poll every 30s waiting for claim to be confirmed before streaming
@@ -567,7 +563,7 @@ public class GoLiveActivity extends AppCompatActivity {
                 showPrecheckError(getString(R.string.error_publishing_livestream));
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     /**
@@ -672,7 +668,7 @@ public class GoLiveActivity extends AppCompatActivity {
                     showPrecheckError(getString(R.string.precheck_error_loading_channels));
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -73,6 +73,7 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.annotation.AnyThread;
+import androidx.annotation.MainThread;
 
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.request.target.CustomTarget;
@@ -122,7 +123,6 @@ import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
 import com.odysee.app.adapter.ProfileDefaultChannelAdapter;
-import com.odysee.app.callable.WalletBalanceFetch;
 import com.odysee.app.dialog.AddToListsDialogFragment;
 import com.odysee.app.listener.VerificationListener;
 import com.odysee.app.model.OdyseeCollection;
@@ -133,8 +133,6 @@ import com.odysee.app.tasks.RewardVerifiedHandler;
 import com.odysee.app.tasks.claim.ResolveResultHandler;
 import com.odysee.app.ui.channel.*;
 
-import org.java_websocket.client.WebSocketClient;
-import org.java_websocket.handshake.ServerHandshake;
 import org.jetbrains.annotations.NotNull;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -146,7 +144,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
-import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.KeyStore;
@@ -167,9 +164,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -181,7 +175,6 @@ import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
 import javax.crypto.spec.SecretKeySpec;
-import javax.net.ssl.SSLParameters;
 
 import com.odysee.app.adapter.NotificationListAdapter;
 import com.odysee.app.adapter.StartupStageAdapter;
@@ -204,7 +197,6 @@ import com.odysee.app.listener.SelectionModeListener;
 import com.odysee.app.listener.StoragePermissionListener;
 import com.odysee.app.listener.WalletBalanceListener;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.ClaimCacheKey;
 import com.odysee.app.model.StartupStage;
 import com.odysee.app.model.Tag;
 import com.odysee.app.model.UrlSuggestion;
@@ -227,7 +219,6 @@ import com.odysee.app.tasks.lbryinc.NotificationDeleteTask;
 import com.odysee.app.tasks.localdata.FetchRecentUrlHistoryTask;
 import com.odysee.app.tasks.wallet.DefaultSyncTaskHandler;
 import com.odysee.app.tasks.wallet.LoadSharedUserStateTask;
-import com.odysee.app.tasks.wallet.SaveSharedUserStateTask;
 import com.odysee.app.tasks.wallet.SyncApplyTask;
 import com.odysee.app.tasks.wallet.SyncGetTask;
 import com.odysee.app.tasks.wallet.SyncSetTask;
@@ -248,6 +239,7 @@ import com.odysee.app.ui.wallet.InvitesFragment;
 import com.odysee.app.ui.wallet.RewardsFragment;
 import com.odysee.app.ui.wallet.WalletFragment;
 import com.odysee.app.utils.CastHelper;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.ContentSources;
 import com.odysee.app.utils.FirebaseMessagingToken;
 import com.odysee.app.utils.Helper;
@@ -255,14 +247,20 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.PlaybackPositionStore;
 import com.odysee.app.utils.PlayerManager;
 import com.odysee.app.utils.PurchasedChecker;
+import com.odysee.app.utils.SharedUserStateSaver;
+import com.odysee.app.utils.StartupPipeline;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 import com.odysee.app.utils.VerificationSkipQueue;
+import com.odysee.app.utils.WalletBalanceService;
+import com.odysee.app.utils.WalletSyncScheduler;
+import com.odysee.app.utils.WebSocketManager;
 
 import lombok.Getter;
 import lombok.Setter;
-import lombok.SneakyThrows;
 import okhttp3.OkHttpClient;
 
 public class MainActivity extends AppCompatActivity implements SharedPreferences.OnSharedPreferenceChangeListener,
@@ -329,7 +327,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
     @Setter
     private BackPressInterceptor backPressInterceptor;
-    private WebSocketClient webSocketClient;
+    private WebSocketManager.Subscription notificationSubscription;
 
     private int bottomNavigationHeight = 0;
     private ActivityResultLauncher<Intent> activityResultLauncher;
@@ -441,6 +439,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     private ActionBarDrawerToggle toggle;
     private SwipeRefreshLayout notificationsSwipeContainer;
     private SyncSetTask syncSetTask = null;
+    private SharedUserStateSaver sharedUserStateSaver;
     private List<WalletSync> pendingSyncSetQueue;
     private static DatabaseHelper dbHelper;
     private List<CameraPermissionListener> cameraPermissionListeners;
@@ -452,9 +451,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     private List<WalletBalanceListener> walletBalanceListeners;
     private List<FetchClaimsListener> fetchClaimsListeners;
     private List<FetchChannelsListener> fetchChannelsListeners;
-    @Getter
-    private ScheduledFuture<?> scheduledWalletUpdater;
-    private boolean walletSyncScheduled;
+    private WalletSyncScheduler walletSyncScheduler;
 
     ScheduledFuture<?> scheduledSearchFuture;
     private boolean autoSearchEnabled = false;
@@ -587,12 +584,15 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         }
 
         dbHelper = new DatabaseHelper(this);
-        Executors.newSingleThreadExecutor().execute(new Runnable() {
+        PlaybackPositionStore.getInstance().init(PreferenceManager.getDefaultSharedPreferences(this));
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 SQLiteDatabase db = dbHelper.getWritableDatabase();
                 if (db != null) {
                     DatabaseHelper.checkAndCreateBuiltinPlaylists(dbHelper.getWritableDatabase());
+                    DatabaseHelper.trimHistory(db);
+                    PlaybackPositionStore.getInstance().migrateAndTrim();
                 }
             }
         });
@@ -696,6 +696,12 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         screenOrientationListeners = new ArrayList<>();
         storagePermissionListeners = new ArrayList<>();
         walletBalanceListeners = new ArrayList<>();
+        WalletBalanceService.getInstance().setListener(new WalletBalanceListener() {
+            @Override
+            public void onWalletBalanceUpdated(WalletBalance walletBalance) {
+                dispatchWalletBalance();
+            }
+        });
 
         SharedPreferences sharedPreferences = getSharedPreferences("lbry_shared_preferences", MODE_PRIVATE);
         SharedPreferences.Editor sharedPreferencesEditor = sharedPreferences.edit();
@@ -940,7 +946,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                         .setPositiveButton(R.string.yes, new DialogInterface.OnClickListener() {
                             @Override
                             public void onClick(DialogInterface dialogInterface, int i) {
-                                Thread t = new Thread(new Runnable() {
+                                ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
                                     @Override
                                     public void run() {
                                         SQLiteDatabase db = DatabaseHelper.getInstance().getWritableDatabase();
@@ -954,7 +960,6 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                                         });
                                     }
                                 });
-                                t.start();
                             }
                         }).setNegativeButton(R.string.no, null);
                 builder.show();
@@ -1503,6 +1508,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     public void addWalletBalanceListener(WalletBalanceListener listener) {
         if (!walletBalanceListeners.contains(listener)) {
             walletBalanceListeners.add(listener);
+            // the last fetched balance is shown until the next one is fetched
+            listener.onWalletBalanceUpdated(Lbry.walletBalance);
         }
     }
 
@@ -1600,9 +1607,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     }
 
     private Claim getCachedClaimForUrl(String url) {
-        ClaimCacheKey key = new ClaimCacheKey();
-        key.setUrl(url);
-        return Lbry.claimCache.containsKey(key) ? Lbry.claimCache.get(key) : null;
+        return Lbry.claimCache.getByUrl(url);
     }
 
     public void setWunderbarValue(String value) {
@@ -1781,10 +1786,18 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     @Override
     protected void onDestroy() {
         shuttingDown = true;
+        if (walletSyncScheduler != null) {
+            walletSyncScheduler.stop();
+        }
+        WalletBalanceService.getInstance().setListener(null);
+        if (sharedUserStateSaver != null) {
+            sharedUserStateSaver.cancel();
+        }
         unregisterReceivers();
         NotificationManagerCompat notificationManager = NotificationManagerCompat.from(this);
-        if (webSocketClient != null) {
-            webSocketClient.close();
+        if (notificationSubscription != null) {
+            notificationSubscription.unsubscribe();
+            notificationSubscription = null;
         }
         if (dbHelper != null) {
             dbHelper.close();
@@ -1832,88 +1845,62 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         return null;
     }
 
-    // Annotated as AnyThread because it is using an AsyncTask. Change it as needed when that was no longer the case
+    /**
+     * Requests a fetch of the wallet balance. Listeners are notified on the main thread if it changed.
+     */
     @AnyThread
     public void updateWalletBalance() {
         if (isSignedIn()) {
-            Activity a = this;
-            Thread t = new Thread(new Runnable() {
+            WalletBalanceService.getInstance().refresh(getAuthToken());
+        } else {
+            runOnUiThread(new Runnable() {
                 @Override
                 public void run() {
-                    Callable<WalletBalance> c = new WalletBalanceFetch(getAuthToken());
-                    Future<WalletBalance> f = ((OdyseeApp) a.getApplication()).getExecutor().submit(c);
-                    try {
-                        WalletBalance balance = f.get();
-
-                        a.runOnUiThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                Lbry.walletBalance = balance;
-                                for (WalletBalanceListener listener : walletBalanceListeners) {
-                                    if (listener != null) {
-                                        listener.onWalletBalanceUpdated(balance);
-                                    }
-                                }
-                                sendBroadcast(new Intent(ACTION_WALLET_BALANCE_UPDATED));
-                                ((TextView) findViewById(R.id.floating_balance_value)).setText(Helper.shortCurrencyFormat(Lbry.getTotalBalance()));
-                            }
-                        });
-                    } catch (ExecutionException | InterruptedException e) {
-                        e.printStackTrace();
-                    }
+                    Lbry.walletBalance = new WalletBalance();
+                    dispatchWalletBalance();
                 }
             });
-            t.start();
-        } else {
-            Lbry.walletBalance = new WalletBalance();
+        }
+    }
 
-            for (WalletBalanceListener listener : walletBalanceListeners) {
-                if (listener != null) {
-                    listener.onWalletBalanceUpdated(Lbry.walletBalance);
-                }
+    @MainThread
+    private void dispatchWalletBalance() {
+        for (WalletBalanceListener listener : walletBalanceListeners) {
+            if (listener != null) {
+                listener.onWalletBalanceUpdated(Lbry.walletBalance);
             }
-            sendBroadcast(new Intent(ACTION_WALLET_BALANCE_UPDATED));
-            ((TextView) findViewById(R.id.floating_balance_value)).setText(Helper.shortCurrencyFormat(Lbry.getTotalBalance()));
         }
+        sendBroadcast(new Intent(ACTION_WALLET_BALANCE_UPDATED));
+        ((TextView) findViewById(R.id.floating_balance_value)).setText(Helper.shortCurrencyFormat(Lbry.getTotalBalance()));
     }
 
-    @SneakyThrows
     private void checkWebSocketClient() {
-        if ((webSocketClient == null || webSocketClient.isClosed()) && !Helper.isNullOrEmpty(Lbryio.AUTH_TOKEN)) {
-            webSocketClient = new WebSocketClient(new URI(String.format("%s%s", Lbryio.WS_CONNECTION_BASE_URL, Lbryio.AUTH_TOKEN))) {
-                @Override
-                public void onOpen(ServerHandshake handshakedata) { }
-
-                @Override
-                public void onMessage(String message) {
-                    loadRemoteNotifications(false);
-                }
-
-                @Override
-                public void onClose(int code, String reason, boolean remote) {
-                    if (!shuttingDown) {
-                        // attempt to re-establish the connection if the app isn't being closed
-                        checkWebSocketClient();
-                    }
-                }
-
-                @Override
-                public void onError(Exception ex) { }
-
-                protected void onSetSSLParameters(SSLParameters sslParameters) {
-                    // don't call setEndpointIdentificationAlgorithm for API level < 24
-                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                        sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
-                    }
-                }
-            };
-            webSocketClient.connect();
+        if (notificationSubscription == null && !Helper.isNullOrEmpty(Lbryio.AUTH_TOKEN)) {
+            notificationSubscription = WebSocketManager.getInstance().subscribe(
+                    String.format("%s%s", Lbryio.WS_CONNECTION_BASE_URL, Lbryio.AUTH_TOKEN), "notifications", new WebSocketManager.MessageListener() {
+                        @Override
+                        public void onMessage(String type, JSONObject message) {
+                            loadRemoteNotifications(false);
+                            // the notification may come from a change made on another device
+                            runOnUiThread(new Runnable() {
+                                @Override
+                                public void run() {
+                                    if (walletSyncScheduler != null) {
+                                        walletSyncScheduler.requestSync();
+                                    }
+                                }
+                            });
+                        }
+                    });
         }
     }
 
     @Override
     protected void onStart() {
         super.onStart();
+        if (walletSyncScheduler != null) {
+            walletSyncScheduler.resume();
+        }
         if (!isSignedIn()) {
             BottomNavigationView bottomNavigationView = findViewById(R.id.bottom_navigation);
             bottomNavigationView.setSelectedItemId(R.id.action_home_menu);
@@ -1955,10 +1942,10 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         castHelper.addCastStateListener();
         checkNowPlaying();
 
-        if (isSignedIn())
+        if (isSignedIn()) {
             loadRemoteNotifications(false);
-
-        scheduleWalletBalanceUpdate();
+            WalletBalanceService.getInstance().resume(getAuthToken());
+        }
 
         if (pendingSourceTabId != 0) {
             if (pendingSourceTabId == SIGN_IN_SOURCE_NOTIFICATIONS) {
@@ -2035,6 +2022,10 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         if (!enteringPIPMode && !inPictureInPictureMode && playerManager != null && !isBackgroundPlaybackEnabled()) {
             playerManager.getCurrentPlayer().setPlayWhenReady(false);
         }
+        if (sharedUserStateSaver != null) {
+            sharedUserStateSaver.flush();
+        }
+        WalletBalanceService.getInstance().pause();
         super.onPause();
     }
 
@@ -2299,7 +2290,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
 
  */
     }
@@ -2333,7 +2324,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 resolveUrlSuggestions(urls);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
     }
 
     private List<UrlSuggestion> buildLbryUrlSuggestions() {
@@ -2575,7 +2566,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                     sp.edit().putBoolean(PREFERENCE_KEY_INTERNAL_NEW_ANDROID_REWARD_CLAIMED, true).apply();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -2701,8 +2692,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
                 return null;
             }
-        }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
-        new NotificationDeleteTask(remoteIds).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        }).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
+        new NotificationDeleteTask(remoteIds).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         if (notificationListAdapter != null) {
             notificationListAdapter.removeNotifications(notifications);
         }
@@ -2716,7 +2707,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         Account odyseeAccount = Helper.getOdyseeAccount(accounts);
         if (odyseeAccount != null) {
             fetchOwnChannels();
-            scheduleWalletBalanceUpdate();
+            updateWalletBalance();
             loadRemoteNotifications(false);
         } else {
             // Accounts can be removed from the system settings UI, so let's clear
@@ -2732,17 +2723,22 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 DatabaseHelper.clearViewHistory(db);
                 DatabaseHelper.clearUrlHistory(db);
                 DatabaseHelper.clearSubscriptions(db);
+                DatabaseHelper.clearTransactions(db);
                 db.close();
             } catch (Exception ex) {
                 ex.printStackTrace();
             }
+            ((OdyseeApp) getApplication()).getExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    Lbry.claimSearchCache.clear();
+                }
+            });
 
             BottomNavigationView bottomNavigationView = findViewById(R.id.bottom_navigation);
             bottomNavigationView.setSelectedItemId(R.id.action_home_menu);
 
-            if (scheduledWalletUpdater != null)
-                scheduledWalletUpdater.cancel(true);
-
+            WalletBalanceService.getInstance().stop();
             updateWalletBalance();
         }
 
@@ -2822,7 +2818,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 @Override
                 public void run() {
                     SQLiteDatabase db = dbHelper.getReadableDatabase();
-                    Lbryio.blockedChannels = new ArrayList<>(DatabaseHelper.getBlockedChannels(db));
+                    Lbryio.setBlockedChannels(DatabaseHelper.getBlockedChannels(db));
                     initialBlockedChannelsLoaded = true;
 
                     new Handler(Looper.getMainLooper()).post(new Runnable() {
@@ -2937,6 +2933,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
         customBlockingRulesMap = new HashMap<>(rulesMap);
         customBlockingLoaded = true;
+        ContentFilter.setCustomBlockRules(customBlockingRulesMap, odyseeLocale);
 
         if (!initialCategoriesLoaded) {
             loadInitialCategories();
@@ -3067,53 +3064,44 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         }
     }
 
-    private void scheduleWalletBalanceUpdate() {
-        if (isSignedIn() && (scheduledWalletUpdater == null || scheduledWalletUpdater.isDone() || scheduledWalletUpdater.isCancelled())) {
-            MainActivity a = this;
-            try {
-                scheduledWalletUpdater = ((OdyseeApp) a.getApplication()).getScheduledExecutor().scheduleWithFixedDelay(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (!a.isBatterySaverMode()) {
-                            updateWalletBalance();
-                        }
-                    }
-                }, 0, 5, TimeUnit.SECONDS);
-            } catch (Exception e) {
-                e.printStackTrace();
+    private void scheduleWalletSyncTask() {
+        runOnUiThread(new Runnable() {
+            @Override
+            public void run() {
+                getWalletSyncScheduler().start();
             }
-        }
+        });
     }
 
-    private void scheduleWalletSyncTask() {
-        if (!walletSyncScheduled) {
-            ((OdyseeApp) getApplication()).getScheduledExecutor().scheduleAtFixedRate(new Runnable() {
+    private WalletSyncScheduler getWalletSyncScheduler() {
+        if (walletSyncScheduler == null) {
+            walletSyncScheduler = new WalletSyncScheduler(new WalletSyncScheduler.SyncListener() {
                 @Override
-                public void run() {
+                public void onSync() {
                     syncWalletAndLoadPreferences();
                 }
-            }, 0, 5, TimeUnit.MINUTES);
-            walletSyncScheduled = true;
+            });
         }
+        return walletSyncScheduler;
     }
 
+    /**
+     * Requests a save of the shared user state. Requests made in a short time are saved together.
+     */
     public void saveSharedUserState() {
         if (!userSyncEnabled()) {
             return;
         }
-        SaveSharedUserStateTask saveTask = new SaveSharedUserStateTask(Lbryio.AUTH_TOKEN, this, new SaveSharedUserStateTask.SaveSharedUserStateHandler() {
-            @Override
-            public void onSuccess() {
-                // push wallet sync changes
-                pushCurrentWalletSync();
-            }
-
-            @Override
-            public void onError(Exception error) {
-                // pass
-            }
-        });
-        saveTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        if (sharedUserStateSaver == null) {
+            sharedUserStateSaver = new SharedUserStateSaver(this, new SharedUserStateSaver.SaveListener() {
+                @Override
+                public void onSaved() {
+                    // push wallet sync changes
+                    pushCurrentWalletSync();
+                }
+            });
+        }
+        sharedUserStateSaver.requestSave();
     }
 
     private void loadSharedUserState() {
@@ -3150,7 +3138,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             Log.e(TAG, String.format("merge subscriptions failed: %s", error.getMessage()), error);
                         }
                     });
-                    mergeTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    mergeTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
 
                 if (followedTags != null && followedTags.size() > 0) {
@@ -3177,12 +3165,12 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             }
                         }
 
-                        Lbryio.blockedChannels = new ArrayList<>(newBlockedChannels);
+                        Lbryio.setBlockedChannels(newBlockedChannels);
                         SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(MainActivity.this);
                         sp.edit().putBoolean(PREFERENCE_KEY_INTERNAL_INITIAL_BLOCKED_LIST_LOADED, true).apply();
                     } else {
                         // replace the blocked channels list entirely
-                        Lbryio.blockedChannels = new ArrayList<>(blockedChannels);
+                        Lbryio.setBlockedChannels(blockedChannels);
                     }
                 }
 
@@ -3197,21 +3185,24 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 Log.e(TAG, String.format("load shared user state failed: %s", error != null ? error.getMessage() : "no error message"), error);
             }
         }, Lbryio.AUTH_TOKEN);
-        loadTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        loadTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void pushCurrentWalletSync() {
+        if (walletSyncScheduler != null) {
+            walletSyncScheduler.resetInterval();
+        }
         String password = getSecureValue(SECURE_VALUE_KEY_SAVED_PASSWORD, this, Lbry.KEYSTORE);
         SyncApplyTask fetchTask = new SyncApplyTask(true, password, new DefaultSyncTaskHandler() {
             @Override
             public void onSyncApplySuccess(String hash, String data) {
                 SyncSetTask setTask = new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null);
-                setTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                setTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
             @Override
             public void onSyncApplyError(Exception error) { }
         });
-        fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        fetchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private boolean userSyncEnabled() {
@@ -3252,7 +3243,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                     fullSyncInProgress = false;
                 }
             });
-            syncSetTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            syncSetTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             WalletSync pending = new WalletSync(hash, data);
             pendingSyncSetQueue.add(pending);
@@ -3281,7 +3272,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
             }
         });
-        fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        fetchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private byte[] rsaEncrypt(byte[] secret, KeyStore keyStore) throws Exception {
@@ -3403,9 +3394,16 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         SyncGetTask task = new SyncGetTask(password, true, null, new DefaultSyncTaskHandler() {
             @Override
             public void onSyncGetSuccess(WalletSync walletSync) {
+                // the shared user state is saved in the wallet, so it can only have changed with the wallet
+                // without a hash, there's no telling whether the wallet changed
+                boolean remoteChanged = walletSync.isChanged() || walletSync.getHash() == null
+                        || !walletSync.getHash().equalsIgnoreCase(Lbryio.lastRemoteHash);
                 Lbryio.lastWalletSync = walletSync;
                 Lbryio.lastRemoteHash = walletSync.getHash();
-                loadSharedUserState();
+                if (remoteChanged) {
+                    loadSharedUserState();
+                }
+                onWalletSyncFinished(remoteChanged);
             }
 
             @Override
@@ -3415,6 +3413,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 if (Lbryio.isSignedIn()) {
                     syncApplyAndSet();
                 }
+                onWalletSyncFinished(true);
             }
 
             @Override
@@ -3422,6 +3421,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 // pass
                 Log.e(TAG, String.format("sync get failed: %s", error != null ? error.getMessage() : "no error message"), error);
 
+                onWalletSyncFinished(false);
                 fullSyncInProgress = false;
                 if (queuedSyncCount > 0) {
                     queuedSyncCount--;
@@ -3452,7 +3452,13 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
+    }
+
+    private void onWalletSyncFinished(boolean changed) {
+        if (walletSyncScheduler != null) {
+            walletSyncScheduler.onSyncFinished(changed);
+        }
     }
 
     private void registerUAReceiver() {
@@ -3614,9 +3620,9 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             DatabaseHelper.markNotificationsSeen(db);
                             loadUnseenNotificationsCount();
                         }
-                    }, ((OdyseeApp) getApplication()).getExecutor());
+                    }, ((OdyseeApp) getApplication()).getTaskRuntime().getExecutor(TaskRuntime.Pool.DISK));
                 } else {
-                    Thread t = new Thread(new Runnable() {
+                    ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                         @Override
                         public void run() {
                             try {
@@ -3630,7 +3636,6 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             }
                         }
                     });
-                    t.start();
                 }
             }
         }
@@ -3765,6 +3770,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 if (db != null) {
                     DatabaseHelper.clearLocalUserData(db);
                 }
+                // the Following pages are cached with the subscriptions of the user in the options
+                Lbry.claimSearchCache.clear();
             }
         });
     }
@@ -3978,121 +3985,103 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         findViewById(R.id.splash_view_error_container).setVisibility(View.VISIBLE);
     }
 
-    @SuppressLint("StaticFieldLeak")
     private void startup() {
         final Context context = this;
         Lbry.startupInit();
 
-        // perform some tasks before launching
-        (new AsyncTask<Void, Void, Boolean>() {
-            private final List<StartupStage> startupStages = new ArrayList<>(7);
-
-            private void initStartupStages() {
-                startupStages.add(new StartupStage(STARTUP_STAGE_INSTALL_ID_LOADED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_KNOWN_TAGS_LOADED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_EXCHANGE_RATE_LOADED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_USER_AUTHENTICATED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_NEW_INSTALL_DONE, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_SUBSCRIPTIONS_LOADED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_SUBSCRIPTIONS_RESOLVED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_BLOCK_LIST_LOADED, false));
-                startupStages.add(new StartupStage(STARTUP_STAGE_FILTER_LIST_LOADED, false));
-            }
-            protected void onPreExecute() {
-                hideActionBar();
-//                findViewById(R.id.splash_view).setVisibility(View.VISIBLE);
-                LbryAnalytics.setCurrentScreen(MainActivity.this, "Splash", "Splash");
-                initStartupStages();
-            }
-            protected Boolean doInBackground(Void... params) {
-                BufferedReader reader = null;
-                try {
-                    // Load the installation id from the file system
-                    String lbrynetDir = String.format("%s/%s", getAppInternalStorageDir(), "lbrynet");
-                    String installIdPath = String.format("%s/install_id", lbrynetDir);
-                    reader = new BufferedReader(new InputStreamReader(new FileInputStream(installIdPath)));
-                    String installId = reader.readLine();
-                    if (Helper.isNullOrEmpty(installId)) {
-                        // no install_id found (first run didn't start the sdk successfully?)
-                        startupStages.set(STARTUP_STAGE_INSTALL_ID_LOADED - 1, new StartupStage(STARTUP_STAGE_INSTALL_ID_LOADED, false));
-                        return false;
-                    }
-
-                    Lbry.INSTALLATION_ID = installId;
-                    startupStages.set(STARTUP_STAGE_INSTALL_ID_LOADED - 1, new StartupStage(STARTUP_STAGE_INSTALL_ID_LOADED, true));
-
-                    SQLiteDatabase db = dbHelper.getReadableDatabase();
-                    List<Tag> fetchedTags = DatabaseHelper.getTags(db);
-                    Lbry.knownTags = Helper.mergeKnownTags(fetchedTags);
-                    Collections.sort(Lbry.knownTags, new Tag());
-                    Lbry.followedTags = Helper.filterFollowedTags(Lbry.knownTags);
-                    startupStages.set(STARTUP_STAGE_KNOWN_TAGS_LOADED - 1, new StartupStage(STARTUP_STAGE_KNOWN_TAGS_LOADED, true));
-
-                    // load the exchange rate
-                    Lbryio.loadExchangeRate();
-                    if (Lbryio.LBCUSDRate == 0) {
-                        return false;
-                    }
-                    startupStages.set(STARTUP_STAGE_EXCHANGE_RATE_LOADED - 1, new StartupStage(STARTUP_STAGE_EXCHANGE_RATE_LOADED, true));
-
-                    try {
-                        Lbryio.authenticate(context);
-                    } catch (AuthTokenInvalidatedException ex) {
-                        // if this happens, attempt to authenticate again, so that we can obtain a new auth token
-                        // this will also result in the user having to sign in again
-                        Lbryio.authenticate(context);
-                    }
-                    if (Lbryio.currentUser == null) {
-                        throw new Exception("Did not retrieve authenticated user.");
-                    }
-                    startupStages.set(STARTUP_STAGE_USER_AUTHENTICATED - 1, new StartupStage(STARTUP_STAGE_USER_AUTHENTICATED, true));
-
-                    Lbryio.newInstall(context);
-                    startupStages.set(STARTUP_STAGE_NEW_INSTALL_DONE - 1, new StartupStage(STARTUP_STAGE_NEW_INSTALL_DONE, true));
-
-                    startupStages.set(STARTUP_STAGE_SUBSCRIPTIONS_LOADED - 1, new StartupStage(STARTUP_STAGE_SUBSCRIPTIONS_LOADED, true));
-                    startupStages.set(STARTUP_STAGE_SUBSCRIPTIONS_RESOLVED - 1, new StartupStage(STARTUP_STAGE_SUBSCRIPTIONS_RESOLVED, true));
-
-                    JSONObject blockedObject = (JSONObject) Lbryio.parseResponse(Lbryio.call("file", "list_blocked", context));
-                    JSONArray blockedArray = blockedObject.getJSONArray("outpoints");
-                    Lbryio.populateOutpointList(Lbryio.blockedOutpoints, blockedArray);
-                    startupStages.set(STARTUP_STAGE_BLOCK_LIST_LOADED - 1, new StartupStage(STARTUP_STAGE_BLOCK_LIST_LOADED, true));
-
-                    JSONObject filteredObject = (JSONObject) Lbryio.parseResponse(Lbryio.call("file", "list_filtered", context));
-                    JSONArray filteredArray = filteredObject.getJSONArray("outpoints");
-                    Lbryio.populateOutpointList(Lbryio.filteredOutpoints, filteredArray);
-                    startupStages.set(STARTUP_STAGE_FILTER_LIST_LOADED - 1, new StartupStage(STARTUP_STAGE_FILTER_LIST_LOADED, true));
-                } catch (Exception ex) {
-                    // nope
-                    Log.e(TAG, String.format("App startup failed: %s", ex.getMessage()), ex);
+        hideActionBar();
+        LbryAnalytics.setCurrentScreen(MainActivity.this, "Splash", "Splash");
+
+        // perform some tasks before launching. Stages which don't depend on each other run concurrently.
+        StartupPipeline pipeline = new StartupPipeline();
+        pipeline.addStage(STARTUP_STAGE_INSTALL_ID_LOADED, () -> {
+            // Load the installation id from the file system
+            String lbrynetDir = String.format("%s/%s", getAppInternalStorageDir(), "lbrynet");
+            String installIdPath = String.format("%s/install_id", lbrynetDir);
+            BufferedReader reader = null;
+            try {
+                reader = new BufferedReader(new InputStreamReader(new FileInputStream(installIdPath)));
+                String installId = reader.readLine();
+                if (Helper.isNullOrEmpty(installId)) {
+                    // no install_id found (first run didn't start the sdk successfully?)
                     return false;
-                } finally {
-                    Helper.closeCloseable(reader);
                 }
 
+                Lbry.INSTALLATION_ID = installId;
                 return true;
+            } finally {
+                Helper.closeCloseable(reader);
+            }
+        });
+        pipeline.addStage(STARTUP_STAGE_KNOWN_TAGS_LOADED, () -> {
+            SQLiteDatabase db = dbHelper.getReadableDatabase();
+            List<Tag> fetchedTags = DatabaseHelper.getTags(db);
+            List<Tag> knownTags = Helper.mergeKnownTags(fetchedTags);
+            Collections.sort(knownTags, new Tag());
+            Lbry.knownTags = knownTags;
+            Lbry.followedTags = Helper.filterFollowedTags(knownTags);
+            return true;
+        });
+        // prices are shown without a USD conversion if the exchange rate could not be loaded
+        pipeline.addOptionalStage(STARTUP_STAGE_EXCHANGE_RATE_LOADED, false, () -> {
+            Lbryio.loadExchangeRate();
+            return Lbryio.LBCUSDRate != 0;
+        });
+        pipeline.addStage(STARTUP_STAGE_USER_AUTHENTICATED, () -> {
+            try {
+                Lbryio.authenticate(context);
+            } catch (AuthTokenInvalidatedException ex) {
+                // if this happens, attempt to authenticate again, so that we can obtain a new auth token
+                // this will also result in the user having to sign in again
+                Lbryio.authenticate(context);
+            }
+            if (Lbryio.currentUser == null) {
+                throw new Exception("Did not retrieve authenticated user.");
+            }
+            return true;
+        }, STARTUP_STAGE_INSTALL_ID_LOADED);
+        pipeline.addOptionalStage(STARTUP_STAGE_NEW_INSTALL_DONE, true, () -> {
+            Lbryio.newInstall(context);
+            return true;
+        }, STARTUP_STAGE_USER_AUTHENTICATED);
+        pipeline.addStage(STARTUP_STAGE_SUBSCRIPTIONS_LOADED, null);
+        pipeline.addStage(STARTUP_STAGE_SUBSCRIPTIONS_RESOLVED, null);
+        pipeline.addStage(STARTUP_STAGE_BLOCK_LIST_LOADED, () -> {
+            JSONObject blockedObject = (JSONObject) Lbryio.parseResponse(Lbryio.call("file", "list_blocked", context));
+            JSONArray blockedArray = blockedObject.getJSONArray("outpoints");
+            ContentFilter.setBlockedOutpoints(blockedArray);
+            return true;
+        }, STARTUP_STAGE_USER_AUTHENTICATED);
+        pipeline.addStage(STARTUP_STAGE_FILTER_LIST_LOADED, () -> {
+            JSONObject filteredObject = (JSONObject) Lbryio.parseResponse(Lbryio.call("file", "list_filtered", context));
+            JSONArray filteredArray = filteredObject.getJSONArray("outpoints");
+            ContentFilter.setFilteredOutpoints(filteredArray);
+            return true;
+        }, STARTUP_STAGE_USER_AUTHENTICATED);
+
+        pipeline.start(((OdyseeApp) getApplication()).getExecutor(), (startupSuccessful, startupStages) -> runOnUiThread(() -> {
+            if (!startupSuccessful) {
+                // show which startup stage failed
+                renderStartupFailed(startupStages);
+                appStarted = false;
+                return;
             }
-            protected void onPostExecute(Boolean startupSuccessful) {
-                if (!startupSuccessful) {
-                    // show which startup stage failed
-                    renderStartupFailed(startupStages);
-                    appStarted = false;
-                    return;
-                }
 
-//                findViewById(R.id.splash_view).setVisibility(View.GONE);
-                showActionBar();
+            showActionBar();
 
-//                loadLastFragment();
-                fetchRewards();
-                loadRemoteNotifications(false);
+            fetchRewards();
+            loadRemoteNotifications(false);
+
+            checkUrlIntent(getIntent());
+            checkWebSocketClient();
 
-                checkUrlIntent(getIntent());
-                checkWebSocketClient();
-                LbryAnalytics.logEvent(LbryAnalytics.EVENT_APP_LAUNCH);
-                appStarted = true;
+            Bundle bundle = new Bundle();
+            for (StartupStage stage : startupStages) {
+                bundle.putLong(String.format("startup_stage_%d_ms", stage.stage), stage.durationMs);
             }
-        }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            LbryAnalytics.logEvent(LbryAnalytics.EVENT_APP_LAUNCH, bundle);
+            appStarted = true;
+        }));
     }
 
     private void fetchRewards() {
@@ -4130,7 +4119,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
             });
         } else {
-            Thread t = new Thread(new Runnable() {
+            ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                 @Override
                 public void run() {
                     Callable<List<Reward>> callable = new Callable<List<Reward>>() {
@@ -4158,10 +4147,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                         }
                     };
 
-                    Future<List<Reward>> future = ((OdyseeApp) getApplication()).getExecutor().submit(callable);
-
                     try {
-                        List<Reward> rewards = future.get();
+                        List<Reward> rewards = callable.call();
 
                         if (rewards != null) {
                             Lbryio.updateRewardsLists(rewards);
@@ -4170,12 +4157,11 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                                 updateRewardsUsdValue();
                             }
                         }
-                    } catch (InterruptedException | ExecutionException e) {
+                    } catch (Exception e) {
                         e.printStackTrace();
                     }
                 }
             });
-            t.start();
         }
     }
 
@@ -4356,6 +4342,9 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
             MainActivity.playerReassigned = true;
         }
         accountManager.removeOnAccountsUpdatedListener(this);
+        if (walletSyncScheduler != null) {
+            walletSyncScheduler.pause();
+        }
         super.onStop();
     }
 
@@ -4503,7 +4492,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 error.printStackTrace();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void fetchOwnClaims() {
@@ -4521,7 +4510,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
             @Override
             public void onError(Exception error) { }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void unlockTips() {
@@ -4544,7 +4533,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
             CompletableFuture<Boolean> completableFuture = CompletableFuture.supplyAsync(task, ((OdyseeApp) getApplication()).getExecutor());
             completableFuture.thenAccept(result -> unlockingTips = false);
         } else {
-            Thread unlockingThread = new Thread(new Runnable() {
+            ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                 @Override
                 public void run() {
                     Callable<Boolean> callable = () -> {
@@ -4557,18 +4546,15 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                         }
                     };
 
-                    Future<Boolean> future = ((OdyseeApp) getApplication()).getExecutor().submit(callable);
-
                     try {
                         unlockingTips = true;
-                        future.get(); // This doesn't block main thread as it is called from a different thread
+                        callable.call(); // This doesn't block main thread as it is called from a different thread
                         unlockingTips = false;
-                    } catch (InterruptedException | ExecutionException e) {
+                    } catch (Exception e) {
                         e.printStackTrace();
                     }
                 }
             });
-            unlockingThread.start();
         }
     }
 
@@ -4582,7 +4568,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
     private void loadUnseenNotificationsCount() {
         Activity activity = this;
-        Thread t = new Thread(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -4599,7 +4585,6 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
             }
         });
-        t.start();
     }
 
     private void loadRemoteNotifications(boolean markRead) {
@@ -4627,9 +4612,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 });
                 if (result != null) {
                     SQLiteDatabase db = dbHelper.getWritableDatabase();
-                    for (LbryNotification notification : result) {
-                        DatabaseHelper.createOrUpdateNotification(notification, db);
-                    }
+                    DatabaseHelper.saveNotifications(result, db);
                     remoteNotifcationsLastLoaded = new Date();
 
                     loadUnseenNotificationsCount();
@@ -4639,9 +4622,9 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                     }
                 }
 
-            }, ((OdyseeApp) activity.getApplication()).getExecutor());
+            }, ((OdyseeApp) activity.getApplication()).getTaskRuntime().getExecutor(TaskRuntime.Pool.DISK));
         } else {
-            Thread t = new Thread(new Runnable() {
+            ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                 @Override
                 public void run() {
                     Callable<List<LbryNotification>> callable = new Callable<List<LbryNotification>>() {
@@ -4705,10 +4688,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             return notifications;
                         }
                     };
-                    Future<List<LbryNotification>> future = ((OdyseeApp) getApplication()).getExecutor().submit(callable);
-
                     try {
-                        List<LbryNotification> notifications = future.get();
+                        List<LbryNotification> notifications = callable.call();
 
                         if (notifications != null) {
                             remoteNotifcationsLastLoaded = new Date();
@@ -4729,12 +4710,11 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             }
                         }
 
-                    } catch (InterruptedException | ExecutionException e) {
+                    } catch (Exception e) {
                         e.printStackTrace();
                     }
                 }
             });
-            t.start();
         }
     }
 
@@ -4752,7 +4732,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
         if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
             Supplier<List<LbryNotification>> task = new GetLocalNotificationsSupplier();
-            CompletableFuture<List<LbryNotification>> completableFuture = CompletableFuture.supplyAsync(task);
+            CompletableFuture<List<LbryNotification>> completableFuture = CompletableFuture.supplyAsync(task, ((OdyseeApp) getApplication()).getTaskRuntime().getExecutor(TaskRuntime.Pool.DISK));
             completableFuture.thenAccept(n -> {
                 runOnUiThread(new Runnable() {
                     @Override
@@ -4762,7 +4742,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 });
             });
         } else {
-            Thread thread = new Thread(new Runnable() {
+            ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
                 @Override
                 public void run() {
                     Callable<List<LbryNotification>> callable = new Callable<List<LbryNotification>>() {
@@ -4780,9 +4760,8 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                         }
                     };
 
-                    Future<List<LbryNotification>> futureNotifications = ((OdyseeApp) getApplication()).getExecutor().submit(callable);
                     try {
-                        List<LbryNotification> notifications = futureNotifications.get();
+                        List<LbryNotification> notifications = callable.call();
 
                         runOnUiThread(new Runnable() {
                             @Override
@@ -4790,13 +4769,11 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                                 updateLocalNotifications(notifications);
                             }
                         });
-                    } catch (InterruptedException | ExecutionException e) {
+                    } catch (Exception e) {
                         e.printStackTrace();
                     }
                 }
             });
-
-            thread.start();
         }
     }
 
@@ -4839,9 +4816,9 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
                 if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
                     Supplier<Boolean> supplier = new NotificationUpdateSupplier(options);
-                    CompletableFuture.supplyAsync(supplier);
+                    CompletableFuture.supplyAsync(supplier, ((OdyseeApp) getApplication()).getExecutor());
                 } else {
-                    Thread t = new Thread(new Runnable() {
+                    ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                         @Override
                         public void run() {
                             try {
@@ -4851,7 +4828,6 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                             }
                         }
                     });
-                    t.start();
                 }
                 if (!notification.getTargetUrl().equalsIgnoreCase("lbry://?subscriptions")) {
                     markNotificationReadAndSeen(notification.getId());
@@ -4877,7 +4853,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
 
     private void markNotificationReadAndSeen(long notificationId) {
         Activity activity = this;
-        Thread t = new Thread(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 if (dbHelper != null) {
@@ -4896,7 +4872,6 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 }
             }
         });
-        t.start();
     }
 
     public void showRewardsVerification() {
@@ -4925,7 +4900,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                     // pass
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -5001,7 +4976,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     }
 
     public void handleAddUrlToList(String url, OdyseeCollection collection, boolean showMessage) {
-        Executors.newSingleThreadExecutor().execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -5046,7 +5021,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
     }
 
     public void handleRemoveUrlFromList(String url, OdyseeCollection collection) {
-        Executors.newSingleThreadExecutor().execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -5077,7 +5052,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
             return;
         }
 
-        Executors.newSingleThreadExecutor().execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -5134,7 +5109,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 try {
                     SQLiteDatabase db = dbHelper.getWritableDatabase();
                     DatabaseHelper.removeBlockedChannel(channel.getClaimId(), db);
-                    Lbryio.blockedChannels = new ArrayList<>(DatabaseHelper.getBlockedChannels(db));
+                    Lbryio.setBlockedChannels(DatabaseHelper.getBlockedChannels(db));
 
                     new Handler(Looper.getMainLooper()).post(new Runnable() {
                         @Override
@@ -5162,7 +5137,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
                 try {
                     SQLiteDatabase db = dbHelper.getWritableDatabase();
                     DatabaseHelper.createOrUpdateBlockedChannel(channel.getClaimId(), channel.getName(), db);
-                    Lbryio.blockedChannels = new ArrayList<>(DatabaseHelper.getBlockedChannels(db));
+                    Lbryio.setBlockedChannels(DatabaseHelper.getBlockedChannels(db));
 
                     new Handler(Looper.getMainLooper()).post(new Runnable() {
                         @Override
@@ -5221,13 +5196,13 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
         Fragment current = getCurrentFragment();
         if (current != null) {
             if (current instanceof AllContentFragment) {
-                ((AllContentFragment) current).applyFilterForBlockedChannels(Lbryio.blockedChannels); // content view
+                ((AllContentFragment) current).applyFilterForBlockedChannels(); // content view
             } else if (current instanceof FileViewFragment) {
-                ((FileViewFragment) current).applyFilterForBlockedChannels(Lbryio.blockedChannels); // related content and comments view
+                ((FileViewFragment) current).applyFilterForBlockedChannels(); // related content and comments view
             } else if (current instanceof SearchFragment) {
-                ((SearchFragment) current).applyFilterForBlockedChannels(Lbryio.blockedChannels); // search results
+                ((SearchFragment) current).applyFilterForBlockedChannels(); // search results
             } else if (current instanceof ChannelFragment) {
-                ((ChannelFragment) current).applyFilterForBlockedChannels(Lbryio.blockedChannels); // channel comments
+                ((ChannelFragment) current).applyFilterForBlockedChannels(); // channel comments
             }
         }
     }
@@ -5250,7 +5225,7 @@ public class MainActivity extends AppCompatActivity implements SharedPreferences
             @Override
             public void onSyncGetError(Exception error) { }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
 */
     }
 
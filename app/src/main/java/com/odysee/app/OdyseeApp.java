@@ -6,10 +6,17 @@ import android.os.Build;
 import androidx.appcompat.app.AppCompatDelegate;
 import androidx.preference.PreferenceManager;
 
+import com.odysee.app.listener.TransactionListener;
+import com.odysee.app.utils.HttpClients;
+import com.odysee.app.utils.Lbry;
+import com.odysee.app.utils.PlaybackPositionStore;
+import com.odysee.app.utils.TaskRuntime;
+import com.odysee.app.utils.TransactionHistoryStore;
+import com.odysee.app.utils.WalletBalanceService;
+import com.odysee.app.utils.WebSocketManager;
+
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 
 public class OdyseeApp extends Application {
     public static final String PREFERENCE_KEY_DARK_MODE = "com.odysee.app.preference.userinterface.DarkMode";
@@ -19,12 +26,19 @@ public class OdyseeApp extends Application {
     public static final String APP_SETTING_DARK_MODE_NOTNIGHT = "notnight";
     public static final String APP_SETTING_DARK_MODE_SYSTEM = "system";
 
-    private ExecutorService executor;
-    private ScheduledExecutorService scheduledExecutor;
     @Override
     public void onCreate() {
         super.onCreate();
 
+        Lbry.claimSearchCache.init(getCacheDir());
+        Lbry.setTransactionListener(new TransactionListener() {
+            @Override
+            public void onTransactionSubmitted(String method) {
+                WalletBalanceService.getInstance().onTransactionSubmitted();
+                TransactionHistoryStore.getInstance().invalidate();
+            }
+        });
+
         if (getDarkModeAppSetting().equals(APP_SETTING_DARK_MODE_NIGHT)) {
             AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_YES);
         } else if (getDarkModeAppSetting().equals(APP_SETTING_DARK_MODE_NOTNIGHT)){
@@ -34,6 +48,23 @@ public class OdyseeApp extends Application {
         }
     }
 
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            HttpClients.evictIdleConnections();
+            Lbry.claimCache.trimTo(0.25f);
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            Lbry.claimCache.trimTo(0.5f);
+        }
+        if (level == TRIM_MEMORY_UI_HIDDEN) {
+            // the process may be killed while in the background, with playback positions still waiting to be written
+            PlaybackPositionStore.getInstance().flush();
+            getTaskRuntime().logMetrics();
+            WebSocketManager.getInstance().logMetrics();
+        }
+    }
+
     /**
      * Returns the Dark mode app setting, which could be Light/Night -up to Android 10- or Light/Night/System -from Android 11-
      * @return - For API Level < 30, 'night' or 'notnight'. For newer versions, 'system' also.
@@ -52,22 +83,18 @@ public class OdyseeApp extends Application {
         }
     }
 
-    public ExecutorService getExecutor() {
-        int availableCores = Runtime.getRuntime().availableProcessors();
-        if (executor == null) {
-            executor = Executors.newFixedThreadPool(Math.max(availableCores, 4));
-        }
+    public TaskRuntime getTaskRuntime() {
+        return TaskRuntime.getInstance();
+    }
 
-        return executor;
+    /**
+     * @return the network pool of the task runtime. Use getTaskRuntime() to pick the pool which fits the work.
+     */
+    public ExecutorService getExecutor() {
+        return getTaskRuntime().getExecutor(TaskRuntime.Pool.NETWORK);
     }
 
     public ScheduledExecutorService getScheduledExecutor() {
-        int availableCores = Runtime.getRuntime().availableProcessors();
-        if (scheduledExecutor == null) {
-            scheduledExecutor = Executors.newScheduledThreadPool(Math.max(availableCores, 4));
-            ((ScheduledThreadPoolExecutor) scheduledExecutor).setRemoveOnCancelPolicy(true);
-        }
-
-        return scheduledExecutor;
+        return getTaskRuntime().getScheduledExecutor();
     }
 }
@@ -6,7 +6,6 @@ import android.app.Activity;
 import android.content.Intent;
 import android.content.res.Configuration;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
@@ -50,6 +49,7 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 
 import org.json.JSONObject;
@@ -62,7 +62,6 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -546,8 +545,7 @@ public class SignInActivity extends Activity {
         updateControlsBeforeRequest();
         requestInProgress = true;
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        executorService.execute(new Runnable() {
+        executor.execute(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -636,7 +634,7 @@ public class SignInActivity extends Activity {
                 finishWithWalletSync();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void runWalletSync(String password) {
@@ -691,7 +689,7 @@ public class SignInActivity extends Activity {
                 walletSyncStarted = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void finishWithWalletSync() {
@@ -748,7 +746,7 @@ public class SignInActivity extends Activity {
                 // check if local and remote hash are different, and then run sync set
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, "", SignInActivity.this, Lbry.KEYSTORE);
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
                 /*if (listener != null) {
                     listener.onWalletSyncEnabled();
@@ -773,7 +771,7 @@ public class SignInActivity extends Activity {
                 walletSyncStarted = false;
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void loadSharedUserStateAndFinish() {
@@ -784,7 +782,7 @@ public class SignInActivity extends Activity {
             public void onSuccess(List<Subscription> subscriptions, List<Tag> followedTags, List<LbryUri> blockedChannels) {
                 Log.d(TAG, "Loaded user state successfully.");
                 Lbryio.subscriptions = new ArrayList<>(subscriptions);
-                Lbryio.blockedChannels = new ArrayList<>(blockedChannels);
+                Lbryio.setBlockedChannels(blockedChannels);
                 finishSignInActivity();
             }
 
@@ -795,7 +793,7 @@ public class SignInActivity extends Activity {
                 finishSignInActivity();
             }
         }, Lbryio.AUTH_TOKEN);
-        loadTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        loadTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processExistingWalletWithPassword(String password) {
@@ -816,7 +814,7 @@ public class SignInActivity extends Activity {
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, password, SignInActivity.this, Lbry.KEYSTORE);
                 // check if local and remote hash are different, and then run sync set
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
                 /*if (listener != null) {
                     listener.onWalletSyncEnabled();
@@ -836,7 +834,7 @@ public class SignInActivity extends Activity {
                 walletSyncStarted = false;
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processNewWallet() {
@@ -855,7 +853,7 @@ public class SignInActivity extends Activity {
                 walletSyncStarted = false;
             }
         });
-        fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        fetchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void createNewRemoteSync(String hash, String data) {
@@ -881,6 +879,6 @@ public class SignInActivity extends Activity {
                 walletSyncStarted = false;
             }
         });
-        setTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        setTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
\ No newline at end of file
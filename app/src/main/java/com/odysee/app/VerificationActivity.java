@@ -6,7 +6,6 @@ import android.content.IntentFilter;
 import android.content.SharedPreferences;
 import android.content.res.Configuration;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
@@ -32,6 +31,7 @@ import com.odysee.app.tasks.lbryinc.FetchCurrentUserTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.VerificationSkipQueue;
 
 public class VerificationActivity extends FragmentActivity implements VerificationListener, WalletSyncListener {
@@ -251,7 +251,7 @@ public class VerificationActivity extends FragmentActivity implements Verificati
                     hideLoading();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             // change pager view depending on flow
             showLoading();
@@ -285,7 +285,7 @@ public class VerificationActivity extends FragmentActivity implements Verificati
                     hideLoading();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -323,7 +323,7 @@ public class VerificationActivity extends FragmentActivity implements Verificati
                 hideLoading();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void showFetchUserError(String message) {
@@ -39,6 +39,7 @@ import com.odysee.app.ui.ytsync.YouTubeSyncStatusFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -47,8 +48,6 @@ import org.json.JSONObject;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import lombok.SneakyThrows;
 
@@ -111,8 +110,7 @@ public class YouTubeSyncActivity extends AppCompatActivity implements YouTubeSyn
         viewPager.setVisibility(View.INVISIBLE);
         mainProgress.setVisibility(View.VISIBLE);
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -214,8 +212,7 @@ public class YouTubeSyncActivity extends AppCompatActivity implements YouTubeSyn
         Helper.setViewVisibility(progress, View.VISIBLE);
 
         final String desiredChannelName = channelName;
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        ((OdyseeApp) getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -15,15 +15,21 @@ import com.odysee.app.R;
 import com.odysee.app.model.Comment;
 import com.odysee.app.utils.Comments;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.RingBuffer;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import lombok.Getter;
 import lombok.Setter;
 
 public class ChatMessageListAdapter extends RecyclerView.Adapter<ChatMessageListAdapter.ViewHolder> {
-    protected final List<Comment> items;
+    /**
+     * The number of messages kept in the list. Older messages are removed as new ones arrive.
+     */
+    public static final int MAX_MESSAGES = 500;
+
+    protected final RingBuffer<Comment> items;
     @Setter
     private String streamerClaimId;
     private boolean displayMessages;
@@ -36,7 +42,8 @@ public class ChatMessageListAdapter extends RecyclerView.Adapter<ChatMessageList
     private final Context context;
 
     public ChatMessageListAdapter(List<Comment> items, Context context) {
-        this.items = new ArrayList<>(items);
+        this.items = new RingBuffer<>(MAX_MESSAGES);
+        this.items.addAll(items);
         this.context = context;
         this.scale = context.getResources().getDisplayMetrics().density;
         this.displayMessages = true;
@@ -52,8 +59,21 @@ public class ChatMessageListAdapter extends RecyclerView.Adapter<ChatMessageList
     }
 
     public void addMessage(Comment message) {
-        items.add(message);
-        notifyItemInserted(items.size() - 1);
+        addMessages(Collections.singletonList(message));
+    }
+
+    /**
+     * Appends messages to the end of the list, removing the oldest messages beyond MAX_MESSAGES
+     */
+    public void addMessages(List<Comment> messages) {
+        int added = Math.min(messages.size(), items.capacity());
+        int evicted = items.addAll(messages);
+        if (evicted > 0) {
+            notifyItemRangeRemoved(0, evicted);
+        }
+        if (added > 0) {
+            notifyItemRangeInserted(items.size() - added, added);
+        }
     }
 
     public static class ViewHolder extends RecyclerView.ViewHolder {
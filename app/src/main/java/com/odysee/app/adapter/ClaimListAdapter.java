@@ -2,9 +2,8 @@ package com.odysee.app.adapter;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.content.SharedPreferences;
-import android.icu.text.CompactDecimalFormat;
-import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.ContextMenu;
 import android.view.LayoutInflater;
 import android.view.Menu;
@@ -18,35 +17,31 @@ import android.widget.TextView;
 
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
-import androidx.preference.PreferenceManager;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.bumptech.glide.Glide;
 import com.bumptech.glide.request.RequestOptions;
 import com.google.android.material.snackbar.Snackbar;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import com.odysee.app.R;
-import com.odysee.app.exceptions.LbryUriException;
 import com.odysee.app.listener.SelectionModeListener;
 import com.odysee.app.model.Claim;
+import com.odysee.app.model.ClaimRowModel;
 import com.odysee.app.model.LbryFile;
-import com.odysee.app.utils.FormatTime;
+import com.odysee.app.utils.ClaimListStore;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
-import com.odysee.app.utils.LbryUri;
-import com.odysee.app.utils.Lbryio;
-import com.odysee.app.utils.Utils;
+import com.odysee.app.utils.PlaybackPositionStore;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -69,18 +64,17 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
     @Setter
     private int style;
 
-    private final Map<String, Claim> quickClaimIdMap;
-    private final Map<String, Claim> quickClaimUrlMap;
-    private final Map<String, Boolean> notFoundClaimIdMap;
-    private final Map<String, Boolean> notFoundClaimUrlMap;
-
     @Setter
     private boolean hideFee;
     @Setter
     private boolean canEnterSelectionMode;
     private final Context context;
-    private List<Claim> items;
+    private final ClaimListStore items;
+    // rows prepared off the main thread, by claim ID
+    private final Map<String, ClaimRowModel> rowModels = new ConcurrentHashMap<>();
+    private final Executor diskExecutor;
     private final List<Claim> selectedItems;
+    private Handler mainHandler;
     @Setter
     private ClaimListItemListener listener;
     @Getter
@@ -101,19 +95,12 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
     public ClaimListAdapter(List<Claim> items, int style, Context context) {
         this.context = context;
         this.style = style;
-        List<Claim> sortedItems = Helper.sortingLivestreamingFirst(items);
-        this.items = new ArrayList<>();
-        for (Claim item : sortedItems) {
-            if (item != null) {
-                this.items.add(item);
-            }
-        }
-
         this.selectedItems = new ArrayList<>();
-        quickClaimIdMap = new HashMap<>();
-        quickClaimUrlMap = new HashMap<>();
-        notFoundClaimIdMap = new HashMap<>();
-        notFoundClaimUrlMap = new HashMap<>();
+
+        this.diskExecutor = TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK);
+        this.items = new ClaimListStore(new AdapterListUpdateCallback(this), TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
+        this.items.setPreparer(this::prepareRowModels);
+        this.items.setAll(Helper.sortingLivestreamingFirst(items));
     }
 
     public List<Claim> getSelectedItems() {
@@ -130,122 +117,78 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
     }
 
     public List<Claim> getItems() {
-        return new ArrayList<>(this.items);
+        return items.getItems();
+    }
+
+    /**
+     * @return the claim displayed at the position, eg. the one whose context menu was opened, or null if
+     *         there is no such row anymore
+     */
+    public Claim getItem(int position) {
+        return position >= 0 && position < items.size() ? items.get(position) : null;
     }
 
     public void updateSigningChannelForClaim(Claim resolvedClaim) {
-        for (Claim claim : items) {
-            if (claim.getClaimId().equalsIgnoreCase(resolvedClaim.getClaimId())) {
-                claim.setSigningChannel(resolvedClaim.getSigningChannel());
-            }
+        Claim claim = items.getById(resolvedClaim.getClaimId());
+        if (claim != null) {
+            claim.setSigningChannel(resolvedClaim.getSigningChannel());
+            rowModels.remove(claim.getClaimId());
         }
     }
 
-    public void filterBlockedChannels(List<LbryUri> blockedChannels) {
-        if (blockedChannels.size() == 0) {
-            return;
-        }
-        List<String> blockedChannelClaimIds = new ArrayList<>();
-        for (LbryUri uri : blockedChannels) {
-            blockedChannelClaimIds.add(uri.getClaimId());
-        }
-        for (Claim claim : items) {
-            if (claim.getSigningChannel() != null && blockedChannelClaimIds.contains(claim.getSigningChannel().getClaimId())) {
-                int position = items.indexOf(claim);
-                items.remove(claim);
-                notifyItemRemoved(position);
-            }
+    /**
+     * Displays the claim again after it was changed in place, eg. with its view count
+     */
+    public void notifyClaimUpdated(Claim claim) {
+        if (claim.getClaimId() != null) {
+            rowModels.remove(claim.getClaimId());
         }
+        notifyClaimChanged(claim);
+    }
+
+    /**
+     * Removes the items which the content filter hides, eg. after a channel was blocked
+     */
+    public void applyContentFilter(ContentFilter filter) {
+        items.removeIf(filter::isHidden);
     }
 
     public void clearItems() {
-        int itemsSize = items.size();
         clearSelectedItems();
-        this.items.clear();
-        quickClaimIdMap.clear();
-        quickClaimUrlMap.clear();
-        notFoundClaimIdMap.clear();
-        notFoundClaimUrlMap.clear();
-        notifyItemRangeRemoved(0, itemsSize);
+        items.clear();
+        rowModels.clear();
     }
 
     public Claim getLastItem() {
-        return items.size() > 0 ? items.get(items.size() - 1) : null;
+        return items.getLast();
     }
 
     public void addFeaturedItem(Claim claim) {
-        items.add(0, claim);
-        notifyItemInserted(0);
+        items.addFirst(claim);
     }
 
+    /**
+     * Adds the claims which are not in the list yet. Livestreams are kept at the top of the list.
+     */
     public void addItems(List<Claim> claims) {
-        for (Claim claim : claims) {
-            if (claim != null) {
-                boolean alreadyAdded = items.stream().anyMatch(p -> p.getClaimId() != null && p.getClaimId().equalsIgnoreCase(claim.getClaimId()));
-                if (claim.getLivestreamUrl() != null) {
-                    if (!alreadyAdded) {
-                        // Determine first claim which is not livestreaming
-                        Claim c = items.stream().filter(v -> v != null && v.getLivestreamUrl() == null).findFirst().orElse(null);
-
-                        // Insert livestreaming one before first item which is not a livestream
-                        if (c != null) {
-                            int position = items.indexOf(c);
-                            int positionToInsert = position > 0 ? position - 1 : 0;
-                            items.add(positionToInsert, claim);
-                            notifyItemInserted(positionToInsert);
-                        } else {
-                            // There is no item on the list of items which is not a livestream
-                            items.add(claim);
-                            notifyItemInserted(items.size());
-                        }
-                    }
-                } else {
-                    if (!alreadyAdded) {
-                        items.add(claim);
-                        notifyItemInserted(items.size() - 1);
-                    }
-                }
-            }
-        }
-
-        notFoundClaimUrlMap.clear();
-        notFoundClaimIdMap.clear();
+        items.addAll(claims);
     }
 
     public void setItems(List<Claim> claims) {
-        if (items.size() > 0)
-            notifyItemRangeRemoved(0, items.size());
-
-        items = new ArrayList<>();
-        for (Claim claim : claims) {
-            if (claim != null) {
-                items.add(claim);
-            }
-        }
-        notifyItemRangeInserted(0, items.size());
+        items.setAll(claims);
     }
 
     public void setItem(String claimId, Claim claim) {
-        if (claim != null) {
-            Claim r = this.items.stream().filter(o -> o.getClaimId() != null && o.getClaimId().equalsIgnoreCase(claimId)).findFirst().orElse(null);
-
-            if (r != null) {
-                int position = this.items.indexOf(r);
-                items.set(this.items.indexOf(r), claim);
-                notifyItemChanged(position, claim);
-            }
-        }
+        items.replace(claimId, claim);
     }
+
     public void removeItems(List<Claim> claims) {
         items.removeAll(claims);
-        notifyDataSetChanged();
     }
 
     public void removeItem(Claim claim) {
-        int position = items.indexOf(claim);
         items.remove(claim);
         selectedItems.remove(claim);
-        notifyItemRemoved(position);
     }
 
     public static class ViewHolder extends RecyclerView.ViewHolder implements View.OnCreateContextMenuListener {
@@ -316,7 +259,11 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
             RecyclerView.Adapter<? extends RecyclerView.ViewHolder> adapter = getBindingAdapter();
             if (adapter instanceof ClaimListAdapter) {
                 ClaimListAdapter claimListAdapter = ((ClaimListAdapter) adapter);
-                final Claim original = claimListAdapter.getItems().get(getAbsoluteAdapterPosition());
+                // the displayed row, as the latest submitted list may not be displayed yet
+                final Claim original = claimListAdapter.getItem(getAbsoluteAdapterPosition());
+                if (original == null) {
+                    return;
+                }
                 final Claim item = Claim.TYPE_REPOST.equalsIgnoreCase(original.getValueType()) ?
                         (original.getRepostedClaim() != null ? original.getRepostedClaim() : original): original;
                 if (claimListAdapter.isOwnCollection) {
@@ -333,7 +280,7 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
 
     @Override
     public int getItemCount() {
-        return items != null ? items.size() : 0;
+        return items.size();
     }
 
     @Override
@@ -352,65 +299,45 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
     }
 
     public void updateFileForClaimByIdOrUrl(LbryFile file, String claimId, String url) {
-        updateFileForClaimByIdOrUrl(file, claimId, url,  false);
-    }
-    public void updateFileForClaimByIdOrUrl(LbryFile file, String claimId, String url, boolean skipNotFound) {
-        if (!skipNotFound) {
-            if (notFoundClaimIdMap.containsKey(claimId) && notFoundClaimUrlMap.containsKey(url)) {
-                return;
-            }
-        }
-        if (quickClaimIdMap.containsKey(claimId)) {
-            quickClaimIdMap.get(claimId).setFile(file);
-            notifyDataSetChanged();
-            return;
-        }
-        if (quickClaimUrlMap.containsKey(claimId)) {
-            quickClaimUrlMap.get(claimId).setFile(file);
-            notifyDataSetChanged();
-            return;
-        }
-
-        boolean claimFound = false;
-        for (int i = 0; i < items.size(); i++) {
-            Claim claim = items.get(i);
-            if (claimId.equalsIgnoreCase(claim.getClaimId()) || url.equalsIgnoreCase(claim.getPermanentUrl())) {
-                quickClaimIdMap.put(claimId, claim);
-                quickClaimUrlMap.put(url, claim);
-                claim.setFile(file);
-                notifyItemChanged(i);
-                claimFound = true;
-                break;
-            }
-        }
-
-        if (!claimFound) {
-            notFoundClaimIdMap.put(claimId, true);
-            notFoundClaimUrlMap.put(url, true);
+        Claim claim = items.getByIdOrUrl(claimId, url);
+        if (claim != null) {
+            claim.setFile(file);
+            notifyClaimChanged(claim);
         }
     }
+
     public void clearFileForClaimOrUrl(String outpoint, String url) {
         clearFileForClaimOrUrl(outpoint, url, false);
-        notifyDataSetChanged();
     }
 
-
     public void clearFileForClaimOrUrl(String outpoint, String url, boolean remove) {
-        int claimIndex = -1;
-        for (int i = 0; i < items.size(); i++) {
-            Claim claim = items.get(i);
-            if (outpoint.equalsIgnoreCase(claim.getOutpoint()) || url.equalsIgnoreCase(claim.getPermanentUrl())) {
-                claimIndex = i;
-                claim.setFile(null);
-                break;
+        Claim claim = items.getByIdOrUrl(null, url);
+        if (claim == null) {
+            for (Claim item : items.getItems()) {
+                if (outpoint.equalsIgnoreCase(item.getOutpoint())) {
+                    claim = item;
+                    break;
+                }
             }
         }
-        if (remove && claimIndex > -1) {
-            Claim removed = items.remove(claimIndex);
-            selectedItems.remove(removed);
+        if (claim == null) {
+            return;
+        }
+
+        claim.setFile(null);
+        if (remove) {
+            items.remove(claim);
+            selectedItems.remove(claim);
+        } else {
+            notifyClaimChanged(claim);
         }
+    }
 
-        notifyDataSetChanged();
+    private void notifyClaimChanged(Claim claim) {
+        int position = items.getPosition(claim);
+        if (position != -1) {
+            notifyItemChanged(position);
+        }
     }
 
     @Override
@@ -460,36 +387,12 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
         }
 
         Claim original = items.get(vh.getAbsoluteAdapterPosition());
-        boolean isRepost = Claim.TYPE_REPOST.equalsIgnoreCase(original.getValueType());
-        final Claim item = Claim.TYPE_REPOST.equalsIgnoreCase(original.getValueType()) ?
-                (original.getRepostedClaim() != null ? original.getRepostedClaim() : original): original;
-        Claim.GenericMetadata metadata = item.getValue();
+        ClaimRowModel model = getRowModel(original);
+        boolean isRepost = model.isRepost();
+        final Claim item = isRepost && original.getRepostedClaim() != null ? original.getRepostedClaim() : original;
         Claim signingChannel = item.getSigningChannel();
-        Claim.StreamMetadata streamMetadata = null;
-        if (metadata instanceof Claim.StreamMetadata) {
-            streamMetadata = (Claim.StreamMetadata) metadata;
-        }
-
-        int thumbnailWidth;
-        int thumbnailHeight;
-        int thumbnailQ;
-        if (Claim.TYPE_CHANNEL.equalsIgnoreCase(item.getValueType())) {
-            thumbnailWidth = Utils.CHANNEL_THUMBNAIL_WIDTH;
-            thumbnailHeight = Utils.CHANNEL_THUMBNAIL_HEIGHT;
-            thumbnailQ = Utils.CHANNEL_THUMBNAIL_Q;
-        } else {
-            thumbnailWidth = Utils.STREAM_THUMBNAIL_WIDTH;
-            thumbnailHeight = Utils.STREAM_THUMBNAIL_HEIGHT;
-            thumbnailQ = Utils.STREAM_THUMBNAIL_Q;
-        }
-        String thumbnailUrl = item.getThumbnailUrl(thumbnailWidth, thumbnailHeight, thumbnailQ);
-        long publishTime = (streamMetadata != null && streamMetadata.getReleaseTime() > 0) ? streamMetadata.getReleaseTime() * 1000 : item.getTimestamp() * 1000;
-        int bgColor = Helper.generateRandomColorForValue(item.getClaimId());
-        if (bgColor == 0) {
-            bgColor = Helper.generateRandomColorForValue(item.getName());
-        }
-
-        boolean isPending = item.getConfirmations() == 0;
+        String thumbnailUrl = model.getThumbnailUrl();
+        boolean isPending = model.isPending();
         boolean isSelected = isClaimSelected(original);
         vh.itemView.setSelected(isSelected);
         vh.setContextGroupId(contextGroupId);
@@ -553,7 +456,7 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
         vh.pendingTextView.setVisibility(isPending && !item.isLoadingPlaceholder() ? View.VISIBLE : View.GONE);
         vh.repostInfoView.setVisibility(isRepost ? View.VISIBLE : View.GONE);
         if (type != VIEW_TYPE_FEATURED) {
-            vh.repostChannelView.setText(isRepost && original.getSigningChannel() != null ? original.getSigningChannel().getName() : null);
+            vh.repostChannelView.setText(model.getRepostChannelName());
             vh.repostChannelView.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View view) {
@@ -577,16 +480,14 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
             });
         }
 
-        vh.titleView.setText(Helper.isNullOrEmpty(item.getTitle()) ? item.getName() : item.getTitle());
+        vh.titleView.setText(model.getTitle());
         if (type == VIEW_TYPE_FEATURED) {
-            LbryUri vanityUrl = new LbryUri();
-            vanityUrl.setClaimName(item.getName());
-            vh.vanityUrlView.setText(vanityUrl.toString());
+            vh.vanityUrlView.setText(model.getVanityUrl());
         }
 
         vh.feeContainer.setVisibility(item.isUnresolved() || !Claim.TYPE_STREAM.equalsIgnoreCase(item.getValueType()) ? View.GONE : View.VISIBLE);
         vh.noThumbnailView.setVisibility(Helper.isNullOrEmpty(thumbnailUrl) ? View.VISIBLE : View.GONE);
-        Helper.setIconViewBackgroundColor(vh.noThumbnailView, bgColor, false, context);
+        Helper.setIconViewBackgroundColor(vh.noThumbnailView, model.getBackgroundColor(), false, context);
 
         Helper.setViewVisibility(vh.loadingImagePlaceholder, item.isLoadingPlaceholder() ? View.VISIBLE : View.GONE);
         Helper.setViewVisibility(vh.loadingTextPlaceholder1, item.isLoadingPlaceholder() ? View.VISIBLE : View.GONE);
@@ -601,9 +502,8 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
             vh.publishTimeView.setVisibility(View.GONE);
             vh.thumbnailView.setVisibility(View.GONE);
             vh.titleView.setText("Nothing here. Publish something!");
-            String name = item.getName();
-            if (!Helper.isNullOrEmpty(name)) {
-                vh.alphaView.setText(name.substring(0, Math.min(5, name.length() - 1)));
+            if (model.getAlphaText() != null) {
+                vh.alphaView.setText(model.getAlphaText());
             }
         } else {
             ViewGroup.LayoutParams lp = vh.itemView.getLayoutParams();
@@ -621,7 +521,7 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
 
                 if (vh.publisherThumbnailView != null) {
                     if (item.getSigningChannel() != null) {
-                        String publisherThumbnailUrl = item.getSigningChannel().getThumbnailUrl(Utils.CHANNEL_THUMBNAIL_WIDTH, Utils.CHANNEL_THUMBNAIL_HEIGHT, Utils.CHANNEL_THUMBNAIL_Q);
+                        String publisherThumbnailUrl = model.getPublisherThumbnailUrl();
                         if (!Helper.isNullOrEmpty(publisherThumbnailUrl)) {
                             Glide.with(context.getApplicationContext())
                                     .load(publisherThumbnailUrl)
@@ -637,20 +537,18 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
                     }
                 }
 
-                BigDecimal cost = item.getActualCost(Lbryio.LBCUSDRate);
-                vh.feeContainer.setVisibility(cost.doubleValue() > 0 && !hideFee ? View.VISIBLE : View.GONE);
-                vh.feeView.setText(cost.doubleValue() > 0 ? Helper.shortCurrencyFormat(cost.doubleValue()) : "Paid");
-                vh.alphaView.setText(item.getName().substring(0, Math.min(5, item.getName().length() - 1)));
-                vh.publisherView.setText(signingChannel != null ? signingChannel.getTitleOrName() : context.getString(R.string.anonymous));
-                vh.publishTimeView.setText(FormatTime.fromEpochMillis(publishTime));
+                vh.feeContainer.setVisibility(model.isPaid() && !hideFee ? View.VISIBLE : View.GONE);
+                vh.feeView.setText(model.getFeeText());
+                vh.alphaView.setText(model.getAlphaText());
+                vh.publisherView.setText(model.getPublisherName());
+                vh.publishTimeView.setText(model.getPublishTimeText());
                 if (vh.viewCountView != null) {
-                    vh.viewCountView.setVisibility((item.getViews() != null && item.getViews() != 0) ? View.VISIBLE : View.GONE);
-                    vh.viewCountView.setText(item.getViews() != null ? context.getResources().getQuantityString(
-                                                                   R.plurals.view_count, item.getViews(), compactNumber(item.getViews())) + " •" : null);
+                    vh.viewCountView.setVisibility(model.isHasViews() ? View.VISIBLE : View.GONE);
+                    vh.viewCountView.setText(model.getViewCountText());
                 }
-                long duration = item.getDuration();
+                long duration = model.getDuration();
                 vh.durationView.setVisibility((duration > 0 || item.isHighlightLive() || Claim.TYPE_COLLECTION.equalsIgnoreCase(item.getValueType())) ? View.VISIBLE : View.GONE);
-                long lastPlaybackPosition = loadLastPlaybackPosition(item);
+                long lastPlaybackPosition = PlaybackPositionStore.getInstance().getCachedPosition(item);
                 if (lastPlaybackPosition != -1 && duration > 0) {
                     long lastPlaybackPositionSeconds = lastPlaybackPosition / 1000;
                     vh.thumbnailView.getViewTreeObserver()
@@ -672,17 +570,13 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
                 if (type == VIEW_TYPE_LIVESTREAM) {
                     vh.durationView.setBackgroundColor(ContextCompat.getColor(context, R.color.colorAccent));
 
-                    Date ct = new Date();
-                    Calendar cal = GregorianCalendar.getInstance(); // locale-specific
-                    cal.setTime(ct);
-
-                    long nowTime = cal.getTimeInMillis() / 1000L;
+                    long nowTime = System.currentTimeMillis() / 1000L;
                     String liveText;
-                    if (((Claim.StreamMetadata) item.getValue()).getReleaseTime() > nowTime) {
+                    if (model.getReleaseTime() > nowTime) {
                         liveText = context.getResources().getString(R.string.soon).toUpperCase();
                         vh.durationView.setCompoundDrawablesRelativeWithIntrinsicBounds(0, 0, 0, 0);
                     } else {
-                        liveText = String.valueOf(item.getLivestreamViewers());
+                        liveText = model.getLivestreamViewersText();
                         vh.durationView.setCompoundDrawablesRelativeWithIntrinsicBounds(0, 0, R.drawable.ic_viewerscount, 0);
                         vh.durationView.setCompoundDrawablePadding(8);
                     }
@@ -690,12 +584,10 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
                     vh.durationView.setText(liveText);
                 } else {
                     vh.durationView.setBackgroundColor(ContextCompat.getColor(context, android.R.color.black));
+                    vh.durationView.setText(model.getDurationText());
                     if (!Claim.TYPE_COLLECTION.equalsIgnoreCase(item.getValueType())) {
-                        vh.durationView.setText(Helper.formatDuration(duration));
                         vh.durationView.setCompoundDrawablesRelativeWithIntrinsicBounds(0, 0, 0, 0);
                     } else {
-                        List<String> claimIds = item.getClaimIds() == null ? new ArrayList<>() : item.getClaimIds();
-                        vh.durationView.setText(String.valueOf(claimIds.size()));
                         vh.durationView.setCompoundDrawablesRelativeWithIntrinsicBounds(R.drawable.ic_list_icon, 0, 0, 0);
                         vh.durationView.setCompoundDrawablePadding(8);
                     }
@@ -737,9 +629,9 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
                             apply(RequestOptions.circleCropTransform()).
                             into(vh.thumbnailView);
                 }
-                vh.alphaView.setText(item.getName().substring(1, 2).toUpperCase());
-                vh.publisherView.setText(item.getName());
-                vh.publishTimeView.setText(FormatTime.fromEpochMillis(publishTime));
+                vh.alphaView.setText(model.getAlphaText());
+                vh.publisherView.setText(model.getPublisherName());
+                vh.publishTimeView.setText(model.getPublishTimeText());
                 if (vh.getItemViewType() == VIEW_TYPE_FEATURED) {
                     vh.durationView.setVisibility(View.GONE);
                 }
@@ -770,51 +662,69 @@ public class ClaimListAdapter extends RecyclerView.Adapter<ClaimListAdapter.View
             }
         }
 
-        notifyItemChanged(items.indexOf(claim));
-    }
-
-    private long loadLastPlaybackPosition(Claim claim) {
-        long position = -1;
-        try {
-            String url = !Helper.isNullOrEmpty(claim.getShortUrl()) ? claim.getShortUrl() : claim.getPermanentUrl();
-            String key = String.format("PlayPos_%s", LbryUri.normalize(url));
-            SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(context);
-            position = sp.getLong(key, -1);
-        } catch (LbryUriException ex) {
-            ex.printStackTrace();
-        }
-        return position;
+        notifyClaimChanged(claim);
     }
 
     /**
-     * Modified from NewPipe <a href="https://github.com/TeamNewPipe/NewPipe/blob/dev/app/src/main/java/org/schabi/newpipe/util/Localization.java">Localization.java</a>
+     * @return the row of the claim, which is built right away if it was not prepared yet
      */
-    private String compactNumber(long number) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            return CompactDecimalFormat.getInstance(Locale.getDefault(), CompactDecimalFormat.CompactStyle.SHORT).format(number);
+    private ClaimRowModel getRowModel(Claim claim) {
+        String claimId = claim.getClaimId();
+        ClaimRowModel model = claimId != null ? rowModels.get(claimId) : null;
+        if (model == null || model.getClaim() != claim) {
+            model = new ClaimRowModel(claim, context);
+            if (claimId != null) {
+                rowModels.put(claimId, model);
+            }
         }
+        return model;
+    }
 
-        double value =  (double) number;
-        NumberFormat numberFormat = NumberFormat.getInstance();
-        if (number >= 1000000000) {
-            return numberFormat.format(round(value / 1000000000, 1))
-                    + context.getString(R.string.short_billion);
-        } else if (number >= 1000000) {
-            return numberFormat.format(round(value / 1000000, 1))
-                    + context.getString(R.string.short_million);
-        } else if (number >= 1000) {
-            return numberFormat.format(round(value / 1000, 1))
-                    + context.getString(R.string.short_thousand);
-        } else {
-            return numberFormat.format(value);
+    private void prepareRowModels(List<Claim> claims) {
+        List<Claim> streams = new ArrayList<>(claims.size());
+        // the listed claims by the ID of the stream whose playback position they show
+        Map<String, Claim> claimsByStreamId = new HashMap<>();
+        for (Claim claim : claims) {
+            ClaimRowModel model = getRowModel(claim);
+            Claim stream = model.isRepost() && claim.getRepostedClaim() != null ? claim.getRepostedClaim() : claim;
+            if (stream.getClaimId() != null && PlaybackPositionStore.getInstance().getCachedPosition(stream) == PlaybackPositionStore.NO_POSITION) {
+                streams.add(stream);
+                claimsByStreamId.put(stream.getClaimId().toLowerCase(Locale.ROOT), claim);
+            }
+        }
+        if (streams.isEmpty()) {
+            return;
         }
+
+        // this runs on the CPU pool, so the positions are read on the disk pool. Rows which were displayed
+        // before their playback position was read show it once it is.
+        diskExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<String> claimIdsWithPosition = PlaybackPositionStore.getInstance().load(streams);
+                if (claimIdsWithPosition.isEmpty()) {
+                    return;
+                }
+                getMainHandler().post(new Runnable() {
+                    @Override
+                    public void run() {
+                        for (String claimId : claimIdsWithPosition) {
+                            Claim claim = claimsByStreamId.get(claimId);
+                            if (claim != null) {
+                                notifyClaimChanged(claim);
+                            }
+                        }
+                    }
+                });
+            }
+        });
     }
 
-    /**
-     * Modified from NewPipe <a href="https://github.com/TeamNewPipe/NewPipe/blob/dev/app/src/main/java/org/schabi/newpipe/util/Localization.java">Localization.java</a>
-     */
-    private double round(double value, int places) {
-        return new BigDecimal(value).setScale(places, RoundingMode.HALF_UP).doubleValue();
+    private synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
     }
 
     public interface ClaimListItemListener {
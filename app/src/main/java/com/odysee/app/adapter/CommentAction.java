@@ -22,6 +22,7 @@ import com.odysee.app.model.Comment;
 import com.odysee.app.utils.Comments;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -218,7 +219,7 @@ public enum CommentAction {
         Account        odyseeAccount = Helper.getOdyseeAccount(am.getAccounts());
         final String   authToken     = am.peekAuthToken(odyseeAccount, "auth_token_type");
 
-        final Thread thread = new Thread(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 Comment              createdComment = null;
@@ -276,8 +277,6 @@ public enum CommentAction {
                 }
             }
         });
-
-        thread.start();
     }
 
     private static void onCommentActionTaskError(CommentListAdapter adapter, final CommentActionTaskHandler handler, final Exception error) {
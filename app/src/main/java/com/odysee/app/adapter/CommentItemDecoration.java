@@ -20,8 +20,8 @@ public class CommentItemDecoration extends RecyclerView.ItemDecoration {
         int position = parent.getChildAdapterPosition(view);
         CommentListAdapter adapter =  (CommentListAdapter) parent.getAdapter();
 
-        if (adapter != null) {
-            Comment comment = adapter.items.get(position);
+        if (adapter != null && position != RecyclerView.NO_POSITION && position < adapter.getItemCount()) {
+            Comment comment = adapter.getItem(position);
 
             if (comment.getParentId() != null) {
                 outRect.left = marginInPx;
@@ -15,9 +15,13 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import androidx.annotation.NonNull;
 import androidx.core.content.ContextCompat;
@@ -29,9 +33,10 @@ import com.bumptech.glide.request.RequestOptions;
 import com.odysee.app.MainActivity;
 import com.odysee.app.R;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.ClaimCacheKey;
 import com.odysee.app.model.Comment;
 import com.odysee.app.model.Reactions;
+import com.odysee.app.utils.CommentTree;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.FormatTime;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
@@ -43,7 +48,7 @@ import lombok.Setter;
 
 public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.ViewHolder> {
 
-    protected final List<Comment> items;
+    private final CommentTree tree;
 
     @Getter
     private final Context context;
@@ -54,23 +59,22 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
     @Setter
     private Boolean collapsed = true;
 
-    private List<String> childrenToBeShown;
-
     private final Claim claim;
 
     private final CommentListListener commentListListener;
 
+    /**
+     * @param items the comments in display order, with replies following their parent comment
+     */
     public CommentListAdapter(List<Comment> items, Context context, Claim claim, CommentListListener commentListListener) {
-        this.items = new ArrayList<>(items);
-        this.childrenToBeShown = new ArrayList<>();
+        this.tree = CommentTree.of(items);
         this.context = context;
         this.commentListListener = commentListListener;
 
-        for (Comment item : this.items) {
-            ClaimCacheKey key = new ClaimCacheKey();
-            key.setClaimId(item.getChannelId());
-            if (Lbry.claimCache.containsKey(key)) {
-                item.setPoster(Lbry.claimCache.get(key));
+        for (Comment item : tree.getComments()) {
+            Claim poster = Lbry.claimCache.getByClaimId(item.getChannelId());
+            if (poster != null) {
+                item.setPoster(poster);
             }
         }
 
@@ -81,6 +85,16 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
             public void onChanged() {
                 commentListListener.onListChanged();
             }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                commentListListener.onListChanged();
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                commentListListener.onListChanged();
+            }
         });
     }
 
@@ -92,67 +106,75 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
     }
 
     public void clearItems() {
-        int previousSize = items.size();
-        items.clear();
+        int previousSize = tree.getRowCount();
+        tree.clear();
         notifyItemRangeRemoved(0, previousSize);
     }
 
-
+    /**
+     * @return the position of the comment, or -1 if the comment is not in the list or is a reply which is not expanded
+     */
     public int getPositionForComment(String commentId) {
-        for (int i = 0; i < items.size(); i++) {
-            if (commentId.equalsIgnoreCase(items.get(i).getId())) {
-                return i;
-            }
-        }
-        return -1;
+        return tree.getPosition(commentId);
     }
 
-    private Comment getCommentForId(final String commentId) {
-        final int position = getPositionForComment(commentId);
+    public boolean containsComment(String commentId) {
+        return tree.contains(commentId);
+    }
 
-        if ( position >= 0 ) {
-            return items.get(position);
-        } else {
-            return null;
-        }
+    public Comment getItem(int position) {
+        return tree.getRow(position);
     }
 
     @Override
     public int getItemCount() {
-        return items != null ? items.size() : 0;
+        return tree.getRowCount();
     }
 
     public List<String> getClaimUrlsToResolve() {
-        List<String> urls = new ArrayList<>();
-        for (int i = 0; i < items.size(); i++) {
-            Comment item = items.get(i);
+        Set<String> urls = new LinkedHashSet<>();
+        for (Comment item : tree.getComments()) {
             if (item.getPoster() == null) {
                 LbryUri url = LbryUri.tryParse(String.format("%s#%s", item.getChannelName(), item.getChannelId()));
-                if (url != null && !urls.contains(url.toString())) {
+                if (url != null) {
                     urls.add(url.toString());
                 }
             }
         }
-        return urls;
+        return new ArrayList<>(urls);
     }
 
-    public void filterBlockedChannels(List<LbryUri> blockedChannels) {
-        if (blockedChannels.size() == 0) {
-            return;
+    /**
+     * Removes the comments posted by channels which the content filter hides, along with their replies
+     */
+    public void applyContentFilter(ContentFilter filter) {
+        for (Comment comment : tree.getComments()) {
+            if (comment.getPoster() != null && filter.isHidden(comment.getPoster())) {
+                dispatchRowChanges(tree.remove(comment.getId()));
+            }
         }
-        List<Comment> commentsToRemove = new ArrayList<>();
-        List<String> blockedChannelClaimIds = new ArrayList<>();
-        for (LbryUri uri : blockedChannels) {
-            blockedChannelClaimIds.add(uri.getClaimId());
+    }
+
+    private void dispatchRowChanges(List<CommentTree.RowChange> changes) {
+        for (CommentTree.RowChange change : changes) {
+            dispatchRowChange(change);
         }
-        for (Comment comment : items) {
-            if (comment.getPoster() != null && blockedChannelClaimIds.contains(comment.getPoster().getClaimId())) {
-                commentsToRemove.add(comment);
-            }
+    }
+
+    private void dispatchRowChange(CommentTree.RowChange change) {
+        if (change == null) {
+            return;
         }
-        if (!commentsToRemove.isEmpty()) {
-            items.removeAll(commentsToRemove);
-            notifyDataSetChanged();
+        switch (change.getType()) {
+            case CommentTree.RowChange.INSERTED:
+                notifyItemRangeInserted(change.getPosition(), change.getCount());
+                break;
+            case CommentTree.RowChange.REMOVED:
+                notifyItemRangeRemoved(change.getPosition(), change.getCount());
+                break;
+            case CommentTree.RowChange.CHANGED:
+                notifyItemRangeChanged(change.getPosition(), change.getCount());
+                break;
         }
     }
 
@@ -222,35 +244,59 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
         }
     }
 
+    /**
+     * Inserts a top-level comment
+     * @param index the index among the top-level comments
+     */
     public void insert(int index, Comment comment) {
-        if (!items.contains(comment)) {
-            items.add(index, comment);
-            notifyItemInserted(index);
-        }
+        dispatchRowChange(tree.insertRoot(index, comment));
     }
 
-    public void addReply(Comment comment) {
-        Comment c = items.stream().filter(v -> comment.getParentId().equalsIgnoreCase(v.getId())).findFirst().orElse(null);
+    /**
+     * Appends a page of comments
+     * @param comments the comments in display order, with replies following their parent comment
+     */
+    public void addItems(List<Comment> comments) {
+        for (Comment item : comments) {
+            Claim poster = Lbry.claimCache.getByClaimId(item.getChannelId());
+            if (poster != null) {
+                item.setPoster(poster);
+            }
+        }
+        dispatchRowChanges(tree.appendAll(comments));
+    }
 
-        if (c != null) {
-            int positionToInsert = items.indexOf(c) + 1;
-            items.add(positionToInsert, comment);
-            notifyItemInserted(positionToInsert);
+    /**
+     * Sets the reactions of the comments which are in the map, and rebinds the visible ones
+     * @param reactions the reactions keyed by comment ID
+     */
+    public void updateReactions(Map<String, Reactions> reactions) {
+        for (Map.Entry<String, Reactions> entry : reactions.entrySet()) {
+            Comment item = tree.get(entry.getKey());
+            if (item != null && entry.getValue() != null) {
+                item.setReactions(entry.getValue());
+                notifyCommentChanged(item.getId());
+            }
         }
     }
 
+    public void addReply(Comment comment) {
+        dispatchRowChange(tree.insertReply(comment));
+    }
+
     public void updateReactions(Comment comment, Reactions reactions) {
-        if (items.contains(comment)) {
-            items.get(getPositionForComment(comment.getId())).setReactions(reactions);
-            notifyItemChanged(getPositionForComment(comment.getId()));
+        Comment item = tree.get(comment.getId());
+        if (item != null) {
+            item.setReactions(reactions);
+            notifyCommentChanged(item.getId());
         }
     }
 
     public void updateCommentText(Comment comment, final String text) {
-        if (items.contains(comment)) {
-            final int position = getPositionForComment(comment.getId());
-            items.get(position).setText(text);
-            notifyItemChanged(position);
+        Comment item = tree.get(comment.getId());
+        if (item != null) {
+            item.setText(text);
+            notifyCommentChanged(item.getId());
         }
     }
 
@@ -258,59 +304,45 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
      * Removes the given comment and any children from the tree.
      */
     public void removeComment(final Comment commentToRemove) {
+        dispatchRowChanges(tree.remove(commentToRemove.getId()));
+    }
 
-        if (items.contains(commentToRemove)) {
-
-            for ( int i = items.size()-1; i >= 0; i-- ) {
-                final Comment ith = items.get(i);
-
-                boolean remove = false;
-
-                if ( ith.getId().equals(commentToRemove.getId()) ) {
-                    remove = true;
-                } else {
-                    // Have to travel up the potential reply chain to remove all children.
-                    String parentId = ith.getParentId();
-
-                    while ( parentId != null ) {
-                        final Comment parentComment = getCommentForId(parentId);
-
-                        if ( parentComment != null ) {
-                            if (parentComment.getId().equals(commentToRemove.getId())) {
-                                remove = true;
-                                break;
-                            }
-                        } else {
-                            break;
-                        }
-
-                        parentId = parentComment.getParentId();
-                    }
-                }
+    public void updatePosterForComment(String channelId, Claim channel) {
+        List<Claim> channels = new ArrayList<>(1);
+        channels.add(channel);
+        updatePosters(channels);
+    }
 
-                if (remove) {
-                    items.remove(i);
-                    childrenToBeShown.remove(commentToRemove.getId());
-                }
+    /**
+     * Sets the poster of every comment posted by one of the channels, and rebinds the visible ones
+     */
+    public void updatePosters(Collection<Claim> channels) {
+        Map<String, Claim> channelsById = new HashMap<>();
+        for (Claim channel : channels) {
+            if (channel != null && !Helper.isNullOrEmpty(channel.getClaimId())) {
+                channelsById.put(channel.getClaimId().toLowerCase(Locale.ROOT), channel);
             }
-
-            notifyDataSetChanged();
-
-            /**
-             * For some reason getting out of bounds exception in {@link CommentItemDecoration} so doing the blanket {@link #notifyDataSetChanged()}.
-             */
-//            notifyItemRemoved(indexOfComment);
         }
-    }
+        if (channelsById.isEmpty()) {
+            return;
+        }
 
-    public void updatePosterForComment(String channelId, Claim channel) {
-        for (Comment c : items) {
-            if (channelId.equalsIgnoreCase(c.getChannelId())) {
+        for (Comment c : tree.getComments()) {
+            Claim channel = c.getChannelId() != null ? channelsById.get(c.getChannelId().toLowerCase(Locale.ROOT)) : null;
+            if (channel != null) {
                 c.setPoster(channel);
+                notifyCommentChanged(c.getId());
             }
         }
     }
 
+    private void notifyCommentChanged(String commentId) {
+        int position = tree.getPosition(commentId);
+        if (position != -1) {
+            notifyItemChanged(position);
+        }
+    }
+
     @NonNull
     @Override
     public  ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -328,23 +360,20 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Comment comment = items.get(position);
-
-        switchViewReplies(comment, (TextView) holder.viewReplies);
+        Comment comment = tree.getRow(position);
 
+        // only the visible rows are in the adapter, but the whole list is hidden while the comment area is collapsed
         ViewGroup.LayoutParams lp = holder.itemView.getLayoutParams();
-        if (collapsed || (comment.getParentId() != null && !childrenToBeShown.contains(comment.getParentId()))) {
+        if (collapsed) {
             holder.itemView.setVisibility(View.GONE);
             lp.height = 0;
             lp.width = 0;
             holder.itemView.setLayoutParams(lp);
         } else {
-            if (comment.getParentId() == null || (comment.getParentId() != null && childrenToBeShown.contains(comment.getParentId()))) {
-                lp.height = ViewGroup.LayoutParams.WRAP_CONTENT;
-                lp.width = ViewGroup.LayoutParams.MATCH_PARENT;
-                holder.itemView.setLayoutParams(lp);
-                holder.itemView.setVisibility(View.VISIBLE);
-            }
+            lp.height = ViewGroup.LayoutParams.WRAP_CONTENT;
+            lp.width = ViewGroup.LayoutParams.MATCH_PARENT;
+            holder.itemView.setLayoutParams(lp);
+            holder.itemView.setVisibility(View.VISIBLE);
         }
 
         holder.comment = comment;
@@ -496,30 +525,19 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
             }
         });
 
-        if (holder.getAbsoluteAdapterPosition() != (items.size() - 1)) {
-            String pId = items.get(holder.getAbsoluteAdapterPosition() + 1).getParentId();
-            if (pId != null && pId.equalsIgnoreCase(comment.getId())) {
-                holder.viewReplies.setVisibility(View.VISIBLE);
-                 holder.viewReplies.setOnClickListener(new View.OnClickListener() {
-                    @Override
-                    public void onClick(View v) {
-                        switchRepliesVisibility(comment.getId());
-                        switchViewReplies(comment, (TextView) holder.viewReplies);
-                    }
-                 });
-            } else {
-                holder.viewReplies.setVisibility(View.GONE);
-            }
+        if (tree.hasReplies(position)) {
+            ((TextView) holder.viewReplies).setText(context.getText(
+                    tree.isExpanded(position) ? R.string.comment_hide_replies : R.string.comment_view_replies));
+            holder.viewReplies.setVisibility(View.VISIBLE);
+            holder.viewReplies.setOnClickListener(new View.OnClickListener() {
+                @Override
+                public void onClick(View v) {
+                    switchRepliesVisibility(comment.getId());
+                }
+            });
         } else {
             holder.viewReplies.setVisibility(View.GONE);
-        }
-    }
-
-    private void switchViewReplies(Comment comment, TextView vrt) {
-        if (childrenToBeShown.contains(comment.getId())) {
-            vrt.setText(context.getText(R.string.comment_hide_replies));
-        } else {
-            vrt.setText(context.getText(R.string.comment_view_replies));
+            holder.viewReplies.setOnClickListener(null);
         }
     }
 
@@ -534,122 +552,28 @@ public class CommentListAdapter extends RecyclerView.Adapter<CommentListAdapter.
     public void switchExpandedStateUI(boolean toCollapsed) {
         if (collapsed != toCollapsed) {
             collapsed = toCollapsed;
-            notifyItemRangeChanged(0, items.size());
+            notifyItemRangeChanged(0, tree.getRowCount());
         }
     }
 
     /**
-     * Adds the parent ids for the items which should be shown on the recycler view
-     * @param parentId IDs of Comments which must be visible
+     * Shows or hides the replies of a comment. Only the rows of the replies are inserted or removed.
+     * @param parentId ID of the comment whose replies should be switched
      */
     private void switchRepliesVisibility(String parentId) {
-        int firstChild = - 1;
-        int lastIndex;
-
-        // By calculating the range of items which will be hidden/displayed and then
-        // using it on the notification to the adapter, RecyclerView optimizes the change
-        // and also animates it -for free!!!-
-        Comment parentComment = items.stream().filter(c -> c.getId().equalsIgnoreCase(parentId)).findFirst().orElse(null);
-        int parentPosition = items.indexOf(parentComment);
-
-        List<Comment> directChilds = items.stream().filter(c -> c.getParentId() != null &&  c.getParentId().equalsIgnoreCase(parentId)).collect(Collectors.toList());
-        Comment lastChildCandidate = directChilds.get(directChilds.size() - 1);
-
-        lastIndex = items.indexOf(lastChildCandidate);
-        if (directChilds.size() > 1) {
-            String lastChildCandidateId = lastChildCandidate.getId();
-            List<Comment> lastGlobalChildCandidates = items.stream().filter(c -> {
-                if (c.getParentId() != null && c.getParentId().equalsIgnoreCase(lastChildCandidateId)) {
-                    return true;
-                } else {
-                    return false;
-                }
-            }).collect(Collectors.toList());
-
-            if (lastGlobalChildCandidates.size() > 0) {
-                // Last child candidate has more childs
-                boolean isLast = false;
-                String candidateParentId = lastGlobalChildCandidates.get(lastGlobalChildCandidates.size() - 1).getId();
-
-                while (!isLast) {
-                    String finalCandidateParentId = candidateParentId;
-                    List<Comment> candidates = items.stream().filter(c -> c.getParentId() != null && c.getParentId().equalsIgnoreCase(finalCandidateParentId)).collect(Collectors.toList());
-                    isLast = containsLastChild(candidates);
-
-                    if (!isLast) {
-                        candidateParentId = candidates.get(candidates.size() - 1).getId();
-                    }
-                }
-
-                String finalCandidateId = candidateParentId;
-                Comment lastComment = items.stream().filter(c -> c.getId().equalsIgnoreCase(finalCandidateId)).findFirst().orElse(null);
-                lastIndex = items.indexOf(lastComment);
-            }
-        }
-
-        Comment firstChildComment = items.stream().filter(c -> (c.getParentId() != null && c.getParentId().equalsIgnoreCase(parentId))).findFirst().orElse(null);
-
-        if (firstChildComment != null) {
-            firstChild = items.indexOf(firstChildComment);
-        }
-
-        // childrenToBeShown contains a list of parentIds.
-        // RecyclerView will display any item which parentId was contained on childrenToBeShown
-        if (!childrenToBeShown.contains(parentId)) {
-            childrenToBeShown.add(parentId);
-        } else {
-            childrenToBeShown.remove(parentId);
-
-            // Also remove child parentIds from the list so child replies are also collapsed
-            for (int i = firstChild; i < lastIndex; i++) {
-                childrenToBeShown.remove(items.get(i).getParentId());
-            }
-        }
-        notifyItemRangeChanged(parentPosition, lastIndex - parentPosition + 1);
+        dispatchRowChanges(tree.toggle(parentId));
     }
 
     public boolean isCollapsed() {
         return collapsed;
     }
 
-    private boolean containsLastChild(List<Comment> comments) {
-        return comments.size() == 0;
-    }
-
     /**
      * Expands only the full path of parent comments to the comment with the specified hash
      * @param commentHash Hash of comment of child which needs to be shown
      */
     public void collapseExceptHash(String commentHash) {
-        if (items != null) {
-            childrenToBeShown = getParentIdsToExpand(items, commentHash);
-            notifyItemRangeChanged(0, items.size());
-        }
-    }
-
-    private List<String> getParentIdsToExpand(List<Comment> comments, String commentId) {
-        List<String> commentsToExpandList = new ArrayList<>();
-
-        if (comments != null) {
-            Optional<Comment> opt = comments.stream().filter(p -> p.getId().equalsIgnoreCase(commentId)).findFirst();
-            String cid;
-
-            if (opt.isPresent()) {
-                cid = opt.get().getParentId();
-
-                while (cid != null) {
-                    commentsToExpandList.add(cid);
-                    String finalCid = cid;
-                    Optional<Comment> optional = comments.stream().filter(p -> p.getId().equalsIgnoreCase(finalCid)).findFirst();
-                    if (optional.isPresent()) {
-                        Comment comment = optional.get();
-                        cid = comment.getParentId();
-                    }
-                }
-            }
-
-        }
-        return commentsToExpandList;
+        dispatchRowChanges(tree.expandOnly(commentHash));
     }
 
     public interface CommentListListener {
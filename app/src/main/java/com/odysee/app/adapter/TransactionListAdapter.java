@@ -13,7 +13,9 @@ import androidx.recyclerview.widget.RecyclerView;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.odysee.app.R;
 import com.odysee.app.model.Transaction;
@@ -28,16 +30,19 @@ public class TransactionListAdapter extends RecyclerView.Adapter<TransactionList
 
     private final Context context;
     private final List<Transaction> items;
+    private final Set<String> txids = new HashSet<>();
     @Setter
     private TransactionClickListener listener;
 
     public TransactionListAdapter(List<Transaction> transactions, Context context) {
         this.context = context;
-        this.items = new ArrayList<>(transactions);
+        this.items = new ArrayList<>();
+        addItems(transactions);
     }
 
     public void clear() {
         items.clear();
+        txids.clear();
         notifyDataSetChanged();
     }
 
@@ -45,13 +50,32 @@ public class TransactionListAdapter extends RecyclerView.Adapter<TransactionList
         return new ArrayList<>(items);
     }
 
+    public Transaction getLastItem() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
     public void addTransactions(List<Transaction> transactions) {
+        int start = items.size();
+        addItems(transactions);
+        notifyItemRangeInserted(start, items.size() - start);
+    }
+
+    /**
+     * Replaces the items, eg. when a refresh found new transactions
+     */
+    public void setTransactions(List<Transaction> transactions) {
+        items.clear();
+        txids.clear();
+        addItems(transactions);
+        notifyDataSetChanged();
+    }
+
+    private void addItems(List<Transaction> transactions) {
         for (Transaction tx : transactions) {
-            if (!items.contains(tx)) {
+            if (txids.add(tx.getTxid())) {
                 items.add(tx);
             }
         }
-        notifyDataSetChanged();
     }
 
     public int getItemCount() {
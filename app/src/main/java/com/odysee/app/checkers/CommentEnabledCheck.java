@@ -4,12 +4,10 @@ import android.os.Build;
 
 import com.odysee.app.callable.CommentEnabled;
 import com.odysee.app.supplier.CommentEnabledSupplier;
+import com.odysee.app.utils.TaskRuntime;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 public final class CommentEnabledCheck {
@@ -18,20 +16,19 @@ public final class CommentEnabledCheck {
         if (status == null) {
             throw new IllegalArgumentException("CommentStatus interface cannot be null");
         }
+        ExecutorService executor = TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK);
         if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
             Supplier<Boolean> task = new CommentEnabledSupplier(channelId, channelName);
-            CompletableFuture<Boolean> cf = CompletableFuture.supplyAsync(task);
-            cf.thenAcceptAsync(status::onStatus);
+            CompletableFuture<Boolean> cf = CompletableFuture.supplyAsync(task, executor);
+            cf.thenAccept(status::onStatus);
         } else {
-            new Thread(() -> {
-                ExecutorService service = Executors.newSingleThreadExecutor();
-                Future<Boolean> future = service.submit(new CommentEnabled(channelId, channelName));
+            executor.execute(() -> {
                 try {
-                    status.onStatus(future.get());
-                } catch (ExecutionException | InterruptedException e) {
+                    status.onStatus(new CommentEnabled(channelId, channelName).call());
+                } catch (Exception e) {
                     e.printStackTrace();
                 }
-            }).start();
+            });
         }
     }
 
@@ -6,11 +6,17 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+
+import org.json.JSONException;
+import org.json.JSONObject;
 
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +25,7 @@ import java.util.UUID;
 
 import com.odysee.app.model.OdyseeCollection;
 import com.odysee.app.model.Tag;
+import com.odysee.app.model.Transaction;
 import com.odysee.app.model.UrlSuggestion;
 import com.odysee.app.model.ViewHistory;
 import com.odysee.app.model.lbryinc.LbryNotification;
@@ -27,7 +34,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.LbryUri;
 
 public class DatabaseHelper extends SQLiteOpenHelper {
-    public static final int DATABASE_VERSION = 12;
+    public static final int DATABASE_VERSION = 15;
     public static final String DATABASE_NAME = "LbryApp.db";
     private static DatabaseHelper instance;
 
@@ -38,7 +45,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             "CREATE TABLE url_history (id INTEGER PRIMARY KEY NOT NULL, value TEXT NOT NULL, url TEXT, type INTEGER NOT NULL, timestamp TEXT NOT NULL)",
             // tags (known and followed)
             "CREATE TABLE tags (id INTEGER PRIMARY KEY NOT NULL, name TEXT NOT NULL, is_followed INTEGER NOT NULL)",
-            // view history (stores only stream claims that have resolved)
+            // view history (stores only stream claims that have resolved). timestamp is in milliseconds.
             "CREATE TABLE view_history (" +
                     "  id INTEGER PRIMARY KEY NOT NULL" +
                     ", url TEXT NOT NULL" +
@@ -54,7 +61,8 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                     ", duration INTEGER" +
                     ", release_time INTEGER " +
                     ", device TEXT" +
-                    ", timestamp TEXT NOT NULL)",
+                    ", timestamp INTEGER NOT NULL)",
+            // timestamp is in milliseconds
             "CREATE TABLE notifications (" +
                     "  id INTEGER PRIMARY KEY NOT NULL" +
                     ", remote_id INTEGER NOT NULL" +
@@ -66,11 +74,18 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                     ", rule TEXT" +
                     ", is_read INTEGER DEFAULT 0 NOT NULL" +
                     ", is_seen INTEGER DEFAULT 0 NOT NULL " +
-                    ", timestamp TEXT NOT NULL)",
+                    ", timestamp INTEGER NOT NULL)",
             "CREATE TABLE shuffle_watched (id INTEGER PRIMARY KEY NOT NULL, claim_id TEXT NOT NULL)",
             "CREATE TABLE blocked_channels (claim_id TEXT PRIMARY KEY NOT NULL, name TEXT NOT NULL)",
             "CREATE TABLE collections (id TEXT PRIMARY KEY NOT NULL, name TEXT, type TEXT NOT NULL, updated_at TEXT NOT NULL, visibility INTEGER DEFAULT 1 NOT NULL)",
-            "CREATE TABLE collection_items (collection_id TEXT NOT NULL, url TEXT NOT NULL, item_order INTEGER DEFAULT 1 NOT NULL, PRIMARY KEY(collection_id, url))"
+            "CREATE TABLE collection_items (collection_id TEXT NOT NULL, url TEXT NOT NULL, item_order INTEGER DEFAULT 1 NOT NULL, PRIMARY KEY(collection_id, url))",
+            // last playback position of streams, by claim ID. updated_at is in milliseconds.
+            "CREATE TABLE playback_positions (claim_id TEXT PRIMARY KEY NOT NULL, position INTEGER NOT NULL, updated_at INTEGER NOT NULL)",
+            // playback positions migrated from the shared preferences, which were saved by normalized URL
+            "CREATE TABLE legacy_playback_positions (url TEXT PRIMARY KEY NOT NULL, position INTEGER NOT NULL, updated_at INTEGER NOT NULL)",
+            // wallet transactions, as returned by transaction_list. timestamp is the block time in milliseconds,
+            // which sorts pending transactions first.
+            "CREATE TABLE transactions (txid TEXT PRIMARY KEY NOT NULL, timestamp INTEGER NOT NULL, confirmations INTEGER NOT NULL, data TEXT NOT NULL)"
     };
     private static final String[] SQL_CREATE_INDEXES = {
             "CREATE UNIQUE INDEX idx_subscription_url ON subscriptions (url)",
@@ -79,10 +94,14 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             "CREATE UNIQUE INDEX idx_tag_name ON tags (name)",
             "CREATE UNIQUE INDEX idx_view_history_url_device ON view_history (url, device)",
             "CREATE INDEX idx_view_history_device ON view_history (device)",
+            "CREATE INDEX idx_view_history_timestamp ON view_history (timestamp)",
             "CREATE UNIQUE INDEX idx_notification_remote_id ON notifications (remote_id)",
             "CREATE INDEX idx_notification_timestamp ON notifications (timestamp)",
             "CREATE UNIQUE INDEX idx_shuffle_watched_claim ON shuffle_watched (claim_id)",
-            "CREATE INDEX idx_blocked_channel_name ON blocked_channels (name)"
+            "CREATE INDEX idx_blocked_channel_name ON blocked_channels (name)",
+            "CREATE INDEX idx_playback_position_updated_at ON playback_positions (updated_at)",
+            "CREATE INDEX idx_legacy_playback_position_updated_at ON legacy_playback_positions (updated_at)",
+            "CREATE INDEX idx_transaction_timestamp ON transactions (timestamp, txid)"
     };
 
     private static final String[] SQL_V1_V2_UPGRADE = {
@@ -148,6 +167,63 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     private static final String[] SQL_V11_V12_UPGRADE = {
             "ALTER TABLE view_history ADD COLUMN duration INTEGER"
     };
+    private static final String[] SQL_V12_V13_UPGRADE = {
+            "CREATE TABLE playback_positions (claim_id TEXT PRIMARY KEY NOT NULL, position INTEGER NOT NULL, updated_at INTEGER NOT NULL)",
+            "CREATE TABLE legacy_playback_positions (url TEXT PRIMARY KEY NOT NULL, position INTEGER NOT NULL, updated_at INTEGER NOT NULL)",
+            "CREATE INDEX idx_playback_position_updated_at ON playback_positions (updated_at)",
+            "CREATE INDEX idx_legacy_playback_position_updated_at ON legacy_playback_positions (updated_at)"
+    };
+    // timestamps used to be saved as text in the local time of the device, with ISO_DATE_FORMAT_PATTERN
+    private static final String SQL_TEXT_TO_EPOCH_MILLIS = "CAST(ROUND((julianday(timestamp, 'utc') - 2440587.5) * 86400000) AS INTEGER)";
+    private static final String[] SQL_V13_V14_UPGRADE = {
+            "ALTER TABLE view_history RENAME TO tmp_view_history",
+            "CREATE TABLE view_history (" +
+                    "  id INTEGER PRIMARY KEY NOT NULL" +
+                    ", url TEXT NOT NULL" +
+                    ", claim_id TEXT" +
+                    ", claim_name TEXT" +
+                    ", cost REAL " +
+                    ", currency TEXT " +
+                    ", title TEXT " +
+                    ", publisher_claim_id TEXT" +
+                    ", publisher_name TEXT" +
+                    ", publisher_title TEXT" +
+                    ", thumbnail_url TEXT" +
+                    ", duration INTEGER" +
+                    ", release_time INTEGER " +
+                    ", device TEXT" +
+                    ", timestamp INTEGER NOT NULL)",
+            "INSERT INTO view_history (id, url, claim_id, claim_name, cost, currency, title, publisher_claim_id, publisher_name, publisher_title, thumbnail_url, duration, release_time, device, timestamp) " +
+                    "SELECT id, url, claim_id, claim_name, cost, currency, title, publisher_claim_id, publisher_name, publisher_title, thumbnail_url, duration, release_time, device, " + SQL_TEXT_TO_EPOCH_MILLIS +
+                    " FROM tmp_view_history WHERE julianday(timestamp) IS NOT NULL",
+            "DROP TABLE tmp_view_history",
+            "CREATE UNIQUE INDEX idx_view_history_url_device ON view_history (url, device)",
+            "CREATE INDEX idx_view_history_device ON view_history (device)",
+            "CREATE INDEX idx_view_history_timestamp ON view_history (timestamp)",
+            "ALTER TABLE notifications RENAME TO tmp_notifications",
+            "CREATE TABLE notifications (" +
+                    "  id INTEGER PRIMARY KEY NOT NULL" +
+                    ", remote_id INTEGER NOT NULL" +
+                    ", author_thumbnail_url TEXT" +
+                    ", title TEXT" +
+                    ", description TEXT" +
+                    ", claim_thumbnail_url TEXT" +
+                    ", target_url TEXT" +
+                    ", rule TEXT" +
+                    ", is_read INTEGER DEFAULT 0 NOT NULL" +
+                    ", is_seen INTEGER DEFAULT 0 NOT NULL " +
+                    ", timestamp INTEGER NOT NULL)",
+            "INSERT INTO notifications (id, remote_id, author_thumbnail_url, title, description, claim_thumbnail_url, target_url, rule, is_read, is_seen, timestamp) " +
+                    "SELECT id, remote_id, author_thumbnail_url, title, description, claim_thumbnail_url, target_url, rule, is_read, is_seen, " + SQL_TEXT_TO_EPOCH_MILLIS +
+                    " FROM tmp_notifications WHERE julianday(timestamp) IS NOT NULL",
+            "DROP TABLE tmp_notifications",
+            "CREATE UNIQUE INDEX idx_notification_remote_id ON notifications (remote_id)",
+            "CREATE INDEX idx_notification_timestamp ON notifications (timestamp)"
+    };
+    private static final String[] SQL_V14_V15_UPGRADE = {
+            "CREATE TABLE transactions (txid TEXT PRIMARY KEY NOT NULL, timestamp INTEGER NOT NULL, confirmations INTEGER NOT NULL, data TEXT NOT NULL)",
+            "CREATE INDEX idx_transaction_timestamp ON transactions (timestamp, txid)"
+    };
 
     private static final String SQL_INSERT_SUBSCRIPTION = "REPLACE INTO subscriptions (channel_name, url, is_notifications_disabled) VALUES (?, ?, ?)";
     private static final String SQL_UPDATE_SUBSCRIPTION_NOTIFICATION = "UPDATE subscriptions SET is_notification_disabled = ? WHERE url = ?";
@@ -162,26 +238,36 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
     private static final String SQL_INSERT_NOTIFICATION = "REPLACE INTO notifications (remote_id, author_thumbnail_url, claim_thumbnail_url, title, description, rule, target_url, is_read, is_seen, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
     private static final String SQL_GET_NOTIFICATIONS = "SELECT id, remote_id, author_thumbnail_url, claim_thumbnail_url, title, description, rule, target_url, is_read, is_seen, timestamp FROM notifications ORDER BY timestamp DESC LIMIT 500";
+    private static final String SQL_TRIM_NOTIFICATIONS = "DELETE FROM notifications WHERE id NOT IN (SELECT id FROM notifications ORDER BY timestamp DESC, id DESC LIMIT ?)";
     private static final String SQL_GET_UNREAD_NOTIFICATIONS_COUNT = "SELECT COUNT(id) FROM notifications WHERE is_read <> 1";
     private static final String SQL_GET_UNSEEN_NOTIFICATIONS_COUNT = "SELECT COUNT(id) FROM notifications WHERE is_seen <> 1";
     private static final String SQL_MARK_NOTIFICATIONS_READ = "UPDATE notifications SET is_read = 1 WHERE is_read = 0";
     private static final String SQL_MARK_NOTIFICATIONS_SEEN = "UPDATE notifications SET is_seen = 1 WHERE is_seen = 0";
     private static final String SQL_MARK_NOTIFICATION_READ_AND_SEEN = "UPDATE notifications SET is_read = 1, is_seen = 1 WHERE id = ?";
     private static final String SQL_CLEAR_NOTIFICATIONS = "DELETE FROM notifications";
+    private static final String SQL_DELETE_NOTIFICATION = "DELETE FROM notifications WHERE remote_id = ?";
 
     private static final String SQL_INSERT_SHUFFLE_WATCHED = "REPLACE INTO shuffle_watched (claim_id) VALUES (?)";
     private static final String SQL_GET_SHUFFLE_WATCHED_CLAIMS = "SELECT claim_id FROM shuffle_watched";
 
     private static final String SQL_INSERT_VIEW_HISTORY =
             "REPLACE INTO view_history (url, claim_id, claim_name, cost, currency, title, publisher_claim_id, publisher_name, publisher_title, thumbnail_url, duration, device, release_time, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // pages are read in the order of idx_view_history_timestamp, which is (timestamp, id) since id is the row ID.
+    // Every column is selected on purpose: Claim.fromViewHistory renders all of them in the library list, and
+    // id and timestamp are the paging key. A covering index would copy the whole table, while the plain index
+    // only costs one row lookup for each of the page's rows.
+    private static final String SQL_GET_VIEW_HISTORY_COLUMNS =
+            "SELECT id, url, claim_id, claim_name, cost, currency, title, publisher_claim_id, publisher_name, publisher_title, thumbnail_url, duration, device, release_time, timestamp FROM view_history ";
     private static final String SQL_GET_VIEW_HISTORY =
-            "SELECT url, claim_id, claim_name, cost, currency, title, publisher_claim_id, publisher_name, publisher_title, thumbnail_url, duration, device, release_time, timestamp " +
-            "FROM view_history WHERE '' = ? OR timestamp < ? ORDER BY timestamp DESC LIMIT %d";
+            SQL_GET_VIEW_HISTORY_COLUMNS + "ORDER BY timestamp DESC, id DESC LIMIT %d";
+    private static final String SQL_GET_VIEW_HISTORY_BEFORE =
+            SQL_GET_VIEW_HISTORY_COLUMNS + "WHERE timestamp <= ? AND (timestamp < ? OR id < ?) ORDER BY timestamp DESC, id DESC LIMIT %d";
     private static final String SQL_CLEAR_VIEW_HISTORY = "DELETE FROM view_history";
     private static final String SQL_CLEAR_VIEW_HISTORY_BY_DEVICE = "DELETE FROM view_history WHERE device = ?";
     private static final String SQL_CLEAR_VIEW_HISTORY_BEFORE_TIME = "DELETE FROM view_history WHERE timestamp < ?";
     private static final String SQL_CLEAR_VIEW_HISTORY_BY_DEVICE_BEFORE_TIME = "DELETE FROM view_history WHERE device = ? AND timestamp < ?";
     private static final String SQL_DELETE_VIEW_HISTORY = "DELETE FROM view_history WHERE url = ?";
+    private static final String SQL_TRIM_VIEW_HISTORY = "DELETE FROM view_history WHERE id NOT IN (SELECT id FROM view_history ORDER BY timestamp DESC, id DESC LIMIT ?)";
 
     private static final String SQL_INSERT_TAG = "REPLACE INTO tags (name, is_followed) VALUES (?, ?)";
     private static final String SQL_GET_KNOWN_TAGS = "SELECT name, is_followed FROM tags";
@@ -215,6 +301,31 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     private static final String SQL_GET_COLLECTIONS = "SELECT id, name, type, visibility, updated_at FROM collections";
     private static final String SQL_GET_COLLECTION_ITEMS_FOR_COLLECTION = "SELECT url FROM collection_items WHERE collection_id = ? ORDER BY item_order ASC";
 
+    private static final String SQL_INSERT_PLAYBACK_POSITION = "REPLACE INTO playback_positions (claim_id, position, updated_at) VALUES (?, ?, ?)";
+    private static final String SQL_GET_PLAYBACK_POSITIONS = "SELECT claim_id, position FROM playback_positions WHERE claim_id IN (%s)";
+    private static final String SQL_DELETE_PLAYBACK_POSITIONS_BEFORE_TIME = "DELETE FROM playback_positions WHERE updated_at < ?";
+    private static final String SQL_TRIM_PLAYBACK_POSITIONS =
+            "DELETE FROM playback_positions WHERE claim_id NOT IN (SELECT claim_id FROM playback_positions ORDER BY updated_at DESC LIMIT ?)";
+    private static final String SQL_INSERT_LEGACY_PLAYBACK_POSITION = "REPLACE INTO legacy_playback_positions (url, position, updated_at) VALUES (?, ?, ?)";
+    private static final String SQL_GET_LEGACY_PLAYBACK_POSITIONS = "SELECT url, position FROM legacy_playback_positions WHERE url IN (%s)";
+    private static final String SQL_DELETE_LEGACY_PLAYBACK_POSITION = "DELETE FROM legacy_playback_positions WHERE url = ?";
+    private static final String SQL_DELETE_LEGACY_PLAYBACK_POSITIONS_BEFORE_TIME = "DELETE FROM legacy_playback_positions WHERE updated_at < ?";
+    private static final String SQL_INSERT_TRANSACTION = "REPLACE INTO transactions (txid, timestamp, confirmations, data) VALUES (?, ?, ?, ?)";
+    private static final String SQL_GET_TRANSACTIONS = "SELECT data FROM transactions ORDER BY timestamp DESC, txid DESC LIMIT %d";
+    private static final String SQL_GET_TRANSACTIONS_BEFORE =
+            "SELECT data FROM transactions WHERE timestamp <= ? AND (timestamp < ? OR txid < ?) ORDER BY timestamp DESC, txid DESC LIMIT %d";
+    private static final String SQL_GET_TRANSACTION_CONFIRMATIONS = "SELECT txid, confirmations FROM transactions WHERE txid IN (%s)";
+    private static final String SQL_GET_PENDING_TRANSACTION_IDS = "SELECT txid FROM transactions WHERE confirmations <= 0";
+    private static final String SQL_GET_TRANSACTION_COUNT = "SELECT COUNT(txid) FROM transactions";
+    private static final String SQL_DELETE_PENDING_TRANSACTIONS = "DELETE FROM transactions WHERE confirmations <= 0";
+    private static final String SQL_CLEAR_TRANSACTIONS = "DELETE FROM transactions";
+
+    // lookups are split so that they stay well under the limit of variables in a statement
+    private static final int MAX_LOOKUP_VARIABLES = 500;
+    // at most this many view history items and notifications are kept, the oldest ones are removed at startup
+    private static final int MAX_VIEW_HISTORY_ENTRIES = 5000;
+    private static final int MAX_NOTIFICATION_ENTRIES = 1000;
+
     public DatabaseHelper(Context context) {
         super(context, String.format("%s/%s", context.getFilesDir().getAbsolutePath(), DATABASE_NAME), null, DATABASE_VERSION);
         instance = this;
@@ -222,6 +333,11 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static DatabaseHelper getInstance() {
         return instance;
     }
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        // readers don't wait for a bulk write to finish, and each write transaction is a single append to the log
+        db.enableWriteAheadLogging();
+    }
     public void onCreate(SQLiteDatabase db) {
         for (String sql : SQL_CREATE_TABLES) {
             db.execSQL(sql);
@@ -286,6 +402,21 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 db.execSQL(sql);
             }
         }
+        if (oldVersion < 13) {
+            for (String sql : SQL_V12_V13_UPGRADE) {
+                db.execSQL(sql);
+            }
+        }
+        if (oldVersion < 14) {
+            for (String sql : SQL_V13_V14_UPGRADE) {
+                db.execSQL(sql);
+            }
+        }
+        if (oldVersion < 15) {
+            for (String sql : SQL_V14_V15_UPGRADE) {
+                db.execSQL(sql);
+            }
+        }
     }
     public void onDowngrade(SQLiteDatabase db, int oldVersion, int newVersion) {
 
@@ -342,19 +473,29 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 viewHistory.getDuration(),
                 viewHistory.getDevice(),
                 viewHistory.getReleaseTime(),
-                new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).format(new Date())
+                System.currentTimeMillis()
         });
     }
 
-    public static List<ViewHistory> getViewHistory(String lastTimestamp, int pageLimit, SQLiteDatabase db) {
+    /**
+     * Reads a page of the view history, most recent first
+     * @param before the last item of the previous page, or null for the first page
+     */
+    public static List<ViewHistory> getViewHistory(ViewHistory before, int pageLimit, SQLiteDatabase db) {
         List<ViewHistory> history = new ArrayList<>();
         Cursor cursor = null;
         try {
-            String arg = lastTimestamp == null ? "" : lastTimestamp;
-            cursor = db.rawQuery(String.format(SQL_GET_VIEW_HISTORY, pageLimit), new String[] { arg, arg });
+            if (before == null) {
+                cursor = db.rawQuery(String.format(SQL_GET_VIEW_HISTORY, pageLimit), null);
+            } else {
+                String timestamp = String.valueOf(before.getTimestamp().getTime());
+                cursor = db.rawQuery(String.format(SQL_GET_VIEW_HISTORY_BEFORE, pageLimit),
+                        new String[] { timestamp, timestamp, String.valueOf(before.getId()) });
+            }
             while (cursor.moveToNext()) {
                 ViewHistory item = new ViewHistory();
                 int cursorIndex = 0;
+                item.setId(cursor.getLong(cursorIndex++));
                 item.setUri(LbryUri.tryParse(cursor.getString(cursorIndex++)));
                 item.setClaimId(cursor.getString(cursorIndex++));
                 item.setClaimName(cursor.getString(cursorIndex++));
@@ -368,12 +509,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 item.setDuration(cursor.getLong(cursorIndex++));
                 item.setDevice(cursor.getString(cursorIndex++));
                 item.setReleaseTime(cursor.getLong(cursorIndex++));
-                try {
-                    item.setTimestamp(new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).parse(cursor.getString(cursorIndex)));
-                } catch (ParseException ex) {
-                    // invalid timestamp (which shouldn't happen). Skip this item
-                    continue;
-                }
+                item.setTimestamp(new Date(cursor.getLong(cursorIndex)));
 
                 history.add(item);
             }
@@ -383,6 +519,21 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return history;
     }
 
+    /**
+     * Removes the oldest view history items and notifications, so that the tables stay small enough
+     * for a page to be read without going through more than a few index pages
+     */
+    public static void trimHistory(SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        try {
+            db.execSQL(SQL_TRIM_VIEW_HISTORY, new Object[] { MAX_VIEW_HISTORY_ENTRIES });
+            db.execSQL(SQL_TRIM_NOTIFICATIONS, new Object[] { MAX_NOTIFICATION_ENTRIES });
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
     /**
      * Removes a collection of items from the viewed claims history list
      * @param db
@@ -397,6 +548,27 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static void setAllTagsUnfollowed(SQLiteDatabase db) {
         db.execSQL(SQL_UNFOLLOW_TAGS);
     }
+    /**
+     * Saves the tags in a single transaction
+     * @param unfollowOthers true to mark the tags which are not in the list as not followed
+     */
+    public static void saveTags(Collection<Tag> tags, boolean unfollowOthers, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            if (unfollowOthers) {
+                db.execSQL(SQL_UNFOLLOW_TAGS);
+            }
+            insert = db.compileStatement(SQL_INSERT_TAG);
+            for (Tag tag : tags) {
+                execute(insert, tag.getLowercaseName(), tag.isFollowed() ? 1 : 0);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
     public static List<Tag> getTags(SQLiteDatabase db) {
         List<Tag> tags = new ArrayList<>();
         Cursor cursor = null;
@@ -427,6 +599,41 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static void deleteSubscription(Subscription subscription, SQLiteDatabase db) {
         db.execSQL(SQL_DELETE_SUBSCRIPTION, new Object[] { subscription.getUrl() });
     }
+    /**
+     * Saves the subscriptions in a single transaction
+     * @param replaceAll true to remove the subscriptions which are not in the list
+     */
+    public static void saveSubscriptions(Collection<Subscription> subscriptions, boolean replaceAll, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            if (replaceAll) {
+                db.execSQL(SQL_CLEAR_SUBSCRIPTIONS);
+            }
+            insert = db.compileStatement(SQL_INSERT_SUBSCRIPTION);
+            for (Subscription subscription : subscriptions) {
+                execute(insert, subscription.getChannelName(), subscription.getUrl(), subscription.isNotificationsDisabled() ? 1 : 0);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
+    public static void deleteSubscriptions(Collection<Subscription> subscriptions, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement delete = null;
+        try {
+            delete = db.compileStatement(SQL_DELETE_SUBSCRIPTION);
+            for (Subscription subscription : subscriptions) {
+                execute(delete, subscription.getUrl());
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(delete);
+            db.endTransaction();
+        }
+    }
     public static void clearSubscriptions(SQLiteDatabase db) {
         db.execSQL(SQL_CLEAR_SUBSCRIPTIONS);
     }
@@ -459,9 +666,37 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 notification.getTargetUrl(),
                 notification.isRead() ? 1 : 0,
                 notification.isSeen() ? 1 : 0,
-                new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).format(notification.getTimestamp() != null ? notification.getTimestamp() : new Date())
+                notification.getTimestamp() != null ? notification.getTimestamp().getTime() : System.currentTimeMillis()
         });
     }
+    /**
+     * Saves the notifications in a single transaction
+     */
+    public static void saveNotifications(Collection<LbryNotification> notifications, SQLiteDatabase db) {
+        long now = System.currentTimeMillis();
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            insert = db.compileStatement(SQL_INSERT_NOTIFICATION);
+            for (LbryNotification notification : notifications) {
+                execute(insert,
+                        notification.getRemoteId(),
+                        notification.getAuthorThumbnailUrl(),
+                        notification.getClaimThumbnailUrl(),
+                        notification.getTitle(),
+                        notification.getDescription(),
+                        notification.getRule(),
+                        notification.getTargetUrl(),
+                        notification.isRead() ? 1 : 0,
+                        notification.isSeen() ? 1 : 0,
+                        notification.getTimestamp() != null ? notification.getTimestamp().getTime() : now);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
     public static List<LbryNotification> getNotifications(SQLiteDatabase db) {
         List<LbryNotification> notifications = new ArrayList<>();
         Cursor cursor = null;
@@ -480,12 +715,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 notification.setTargetUrl(cursor.getString(columnIndex++));
                 notification.setRead(cursor.getInt(columnIndex++) == 1);
                 notification.setSeen(cursor.getInt(columnIndex++) == 1);
-                try {
-                    notification.setTimestamp(new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).parse(cursor.getString(columnIndex++)));
-                } catch (ParseException ex) {
-                    // invalid timestamp (which shouldn't happen). Skip this item
-                    continue;
-                }
+                notification.setTimestamp(new Date(cursor.getLong(columnIndex)));
                 notifications.add(notification);
             }
         } finally {
@@ -494,18 +724,18 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return notifications;
     }
     public static void deleteNotifications(List<LbryNotification> notifications, SQLiteDatabase db) {
-        StringBuilder sb = new StringBuilder("DELETE FROM notifications WHERE remote_id IN (");
-        List<Object> remoteIds = new ArrayList<>();
-        String delim = "";
-        for (int i = 0; i < notifications.size(); i++) {
-            remoteIds.add(String.valueOf(notifications.get(i).getRemoteId()));
-            sb.append(delim).append("?");
-            delim = ",";
+        db.beginTransactionNonExclusive();
+        SQLiteStatement delete = null;
+        try {
+            delete = db.compileStatement(SQL_DELETE_NOTIFICATION);
+            for (LbryNotification notification : notifications) {
+                execute(delete, notification.getRemoteId());
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(delete);
+            db.endTransaction();
         }
-        sb.append(")");
-
-        String sql = sb.toString();
-        db.execSQL(sql, remoteIds.toArray());
     }
     public static int getUnreadNotificationsCount(SQLiteDatabase db) {
         int count = 0;
@@ -566,6 +796,24 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         db.execSQL(SQL_INSERT_BLOCKED_CHANNEL, new Object[] { claimId, channelName });
     }
 
+    /**
+     * Saves the blocked channels in a single transaction
+     */
+    public static void saveBlockedChannels(Collection<LbryUri> channels, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            insert = db.compileStatement(SQL_INSERT_BLOCKED_CHANNEL);
+            for (LbryUri channel : channels) {
+                execute(insert, channel.getClaimId(), channel.getClaimName());
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
+
     public static void removeBlockedChannel(String claimId, SQLiteDatabase db) {
         db.execSQL(SQL_REMOVE_BLOCKED_CHANNEL, new Object[] { claimId });
     }
@@ -627,33 +875,47 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     }
 
     public static void saveCollection(OdyseeCollection collection, SQLiteDatabase db) {
-        db.beginTransaction();
-        try {
-            if (collection.getId() == null) {
-                collection.setId(UUID.randomUUID().toString());
-            }
-
-            db.execSQL(SQL_CREATE_COLLECTION, new Object[] {
-                    collection.getId(),
-                    collection.getName(),
-                    collection.getType(),
-                    collection.getVisibility(),
-                    new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).format(collection.getUpdatedAt())
-            });
+        saveCollections(Collections.singletonList(collection), db);
+    }
 
-            db.execSQL(SQL_REMOVE_COLLECTION_ITEMS_FOR_COLLECTION, new Object[] { collection.getId() });
+    /**
+     * Saves the collections with their items in a single transaction, replacing the saved items
+     */
+    @SuppressLint("SimpleDateFormat")
+    public static void saveCollections(Collection<OdyseeCollection> collections, SQLiteDatabase db) {
+        SimpleDateFormat timestampFormat = new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN);
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insertCollection = null;
+        SQLiteStatement removeItems = null;
+        SQLiteStatement insertItem = null;
+        try {
+            insertCollection = db.compileStatement(SQL_CREATE_COLLECTION);
+            removeItems = db.compileStatement(SQL_REMOVE_COLLECTION_ITEMS_FOR_COLLECTION);
+            insertItem = db.compileStatement(SQL_INSERT_COLLECTION_ITEM_FOR_COLLECTION);
+            for (OdyseeCollection collection : collections) {
+                if (collection.getId() == null) {
+                    collection.setId(UUID.randomUUID().toString());
+                }
 
-            List<String> items = new ArrayList<>(collection.getItems());
-            for (int i = 0; i < items.size(); i++)  {
-                db.execSQL(SQL_INSERT_COLLECTION_ITEM_FOR_COLLECTION, new Object[] {
+                execute(insertCollection,
                         collection.getId(),
-                        items.get(i),
-                        (i + 1)  //  item order
-                });
+                        collection.getName(),
+                        collection.getType(),
+                        collection.getVisibility(),
+                        timestampFormat.format(collection.getUpdatedAt()));
+                execute(removeItems, collection.getId());
+
+                List<String> items = new ArrayList<>(collection.getItems());
+                for (int i = 0; i < items.size(); i++)  {
+                    execute(insertItem, collection.getId(), items.get(i), (i + 1)); // item order
+                }
             }
 
             db.setTransactionSuccessful();
         } finally {
+            closeStatement(insertCollection);
+            closeStatement(removeItems);
+            closeStatement(insertItem);
             db.endTransaction();
         }
     }
@@ -814,6 +1076,238 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         }
     }
 
+    /**
+     * Saves playback positions in a single transaction
+     * @param positions the positions in milliseconds, by claim ID
+     */
+    public static void savePlaybackPositions(Map<String, Long> positions, long updatedAt, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            insert = db.compileStatement(SQL_INSERT_PLAYBACK_POSITION);
+            for (Map.Entry<String, Long> entry : positions.entrySet()) {
+                execute(insert, entry.getKey(), entry.getValue(), updatedAt);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * @return the saved positions of the claims, by claim ID. Claims without a saved position are not included.
+     */
+    public static Map<String, Long> getPlaybackPositions(Collection<String> claimIds, SQLiteDatabase db) {
+        return getLongValues(SQL_GET_PLAYBACK_POSITIONS, claimIds, db);
+    }
+
+    /**
+     * Saves positions from the shared preferences, keyed by normalized URL, in a single transaction
+     */
+    public static void saveLegacyPlaybackPositions(Map<String, Long> positionsByUrl, long updatedAt, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            insert = db.compileStatement(SQL_INSERT_LEGACY_PLAYBACK_POSITION);
+            for (Map.Entry<String, Long> entry : positionsByUrl.entrySet()) {
+                execute(insert, entry.getKey(), entry.getValue(), updatedAt);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
+
+    public static Map<String, Long> getLegacyPlaybackPositions(Collection<String> urls, SQLiteDatabase db) {
+        return getLongValues(SQL_GET_LEGACY_PLAYBACK_POSITIONS, urls, db);
+    }
+
+    /**
+     * Moves legacy positions, which were found by URL, to the claim IDs they belong to
+     * @param positions the positions by claim ID
+     * @param legacyUrls the URLs of the legacy positions to remove
+     */
+    public static void replaceLegacyPlaybackPositions(Map<String, Long> positions, Collection<String> legacyUrls, long updatedAt, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        SQLiteStatement delete = null;
+        try {
+            insert = db.compileStatement(SQL_INSERT_PLAYBACK_POSITION);
+            for (Map.Entry<String, Long> entry : positions.entrySet()) {
+                execute(insert, entry.getKey(), entry.getValue(), updatedAt);
+            }
+            delete = db.compileStatement(SQL_DELETE_LEGACY_PLAYBACK_POSITION);
+            for (String url : legacyUrls) {
+                execute(delete, url);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            closeStatement(delete);
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Removes the playback positions which were not updated since the given time, then the oldest positions
+     * beyond the maximum number of entries
+     */
+    public static void trimPlaybackPositions(long updatedBefore, int maxEntries, SQLiteDatabase db) {
+        db.beginTransaction();
+        try {
+            db.execSQL(SQL_DELETE_PLAYBACK_POSITIONS_BEFORE_TIME, new Object[] { updatedBefore });
+            db.execSQL(SQL_DELETE_LEGACY_PLAYBACK_POSITIONS_BEFORE_TIME, new Object[] { updatedBefore });
+            db.execSQL(SQL_TRIM_PLAYBACK_POSITIONS, new Object[] { maxEntries });
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Saves transactions in a single transaction
+     * @param items the transaction_list items, which are kept as they are so that they can be read back as Transaction
+     * @param replacePending true to remove the pending transactions which are not in the items, eg. when the items
+     *                       include all the pending transactions and those which were dropped should go away
+     */
+    public static void saveTransactions(List<JSONObject> items, boolean replacePending, SQLiteDatabase db) {
+        db.beginTransactionNonExclusive();
+        SQLiteStatement insert = null;
+        try {
+            if (replacePending) {
+                db.execSQL(SQL_DELETE_PENDING_TRANSACTIONS);
+            }
+            insert = db.compileStatement(SQL_INSERT_TRANSACTION);
+            for (JSONObject item : items) {
+                Transaction tx = Transaction.fromJSONObject(item);
+                if (tx.getTxid() == null) {
+                    continue;
+                }
+                execute(insert, tx.getTxid(), tx.getSortTimestamp(), tx.getConfirmations(), item.toString());
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            closeStatement(insert);
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Reads a page of the saved transactions, pending first and then the most recent
+     * @param before the last transaction of the previous page, or null for the first page
+     */
+    public static List<Transaction> getTransactions(Transaction before, int pageLimit, SQLiteDatabase db) {
+        List<Transaction> transactions = new ArrayList<>();
+        Cursor cursor = null;
+        try {
+            if (before == null) {
+                cursor = db.rawQuery(String.format(SQL_GET_TRANSACTIONS, pageLimit), null);
+            } else {
+                String timestamp = String.valueOf(before.getSortTimestamp());
+                cursor = db.rawQuery(String.format(SQL_GET_TRANSACTIONS_BEFORE, pageLimit),
+                        new String[] { timestamp, timestamp, before.getTxid() });
+            }
+            while (cursor.moveToNext()) {
+                try {
+                    transactions.add(Transaction.fromJSONObject(new JSONObject(cursor.getString(0))));
+                } catch (JSONException ex) {
+                    // pass
+                }
+            }
+        } finally {
+            Helper.closeCursor(cursor);
+        }
+        return transactions;
+    }
+
+    /**
+     * @return the saved confirmations of the transactions, by txid. Transactions which were not saved are not included.
+     */
+    public static Map<String, Long> getTransactionConfirmations(Collection<String> txids, SQLiteDatabase db) {
+        return getLongValues(SQL_GET_TRANSACTION_CONFIRMATIONS, txids, db);
+    }
+
+    public static List<String> getPendingTransactionIds(SQLiteDatabase db) {
+        List<String> txids = new ArrayList<>();
+        Cursor cursor = null;
+        try {
+            cursor = db.rawQuery(SQL_GET_PENDING_TRANSACTION_IDS, null);
+            while (cursor.moveToNext()) {
+                txids.add(cursor.getString(0));
+            }
+        } finally {
+            Helper.closeCursor(cursor);
+        }
+        return txids;
+    }
+
+    public static int getTransactionCount(SQLiteDatabase db) {
+        int count = 0;
+        Cursor cursor = null;
+        try {
+            cursor = db.rawQuery(SQL_GET_TRANSACTION_COUNT, null);
+            if (cursor.moveToNext()) {
+                count = cursor.getInt(0);
+            }
+        } finally {
+            Helper.closeCursor(cursor);
+        }
+        return count;
+    }
+
+    public static void clearTransactions(SQLiteDatabase db) {
+        db.execSQL(SQL_CLEAR_TRANSACTIONS);
+    }
+
+    private static Map<String, Long> getLongValues(String sql, Collection<String> keys, SQLiteDatabase db) {
+        Map<String, Long> values = new HashMap<>();
+        List<String> keyList = new ArrayList<>(keys);
+        for (int start = 0; start < keyList.size(); start += MAX_LOOKUP_VARIABLES) {
+            List<String> chunk = keyList.subList(start, Math.min(start + MAX_LOOKUP_VARIABLES, keyList.size()));
+            String placeholders = Helper.join(Collections.nCopies(chunk.size(), "?"), ",");
+            Cursor cursor = null;
+            try {
+                cursor = db.rawQuery(String.format(sql, placeholders), chunk.toArray(new String[0]));
+                while (cursor.moveToNext()) {
+                    values.put(cursor.getString(0), cursor.getLong(1));
+                }
+            } finally {
+                Helper.closeCursor(cursor);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Runs a compiled statement with new arguments. Unlike with execSQL, the SQL is only parsed once for
+     * all the rows written with the statement.
+     */
+    private static void execute(SQLiteStatement statement, Object... args) {
+        statement.clearBindings();
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            int index = i + 1;
+            if (arg == null) {
+                statement.bindNull(index);
+            } else if (arg instanceof Long || arg instanceof Integer) {
+                statement.bindLong(index, ((Number) arg).longValue());
+            } else if (arg instanceof Double || arg instanceof Float) {
+                statement.bindDouble(index, ((Number) arg).doubleValue());
+            } else {
+                statement.bindString(index, arg.toString());
+            }
+        }
+        statement.execute();
+    }
+
+    private static void closeStatement(SQLiteStatement statement) {
+        if (statement != null) {
+            statement.close();
+        }
+    }
+
     public static void clearLocalUserData(SQLiteDatabase db) {
         db.beginTransaction();
         try {
@@ -825,6 +1319,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             db.execSQL(SQL_REMOVE_ALL_BLOCKED_CHANNELS);
             db.execSQL(SQL_REMOVE_ALL_COLLECTION_ITEMS);
             db.execSQL(SQL_REMOVE_ALL_CUSTOM_COLLECTIONS);
+            db.execSQL(SQL_CLEAR_TRANSACTIONS);
             db.setTransactionSuccessful();
         } catch (SQLiteException ex) {
             // pass
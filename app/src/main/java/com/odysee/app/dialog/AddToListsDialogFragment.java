@@ -21,6 +21,7 @@ import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 import com.odysee.app.MainActivity;
 import com.odysee.app.R;
+import com.odysee.app.OdyseeApp;
 import com.odysee.app.adapter.CollectionListAdapter;
 import com.odysee.app.data.DatabaseHelper;
 import com.odysee.app.exceptions.ApiCallException;
@@ -28,13 +29,13 @@ import com.odysee.app.model.OdyseeCollection;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Executors;
 
 import lombok.Setter;
 
@@ -97,7 +98,7 @@ public class AddToListsDialogFragment extends BottomSheetDialogFragment {
         if (context instanceof MainActivity) {
             Helper.setViewVisibility(loadProgress, View.VISIBLE);
 
-            Executors.newSingleThreadExecutor().execute(new Runnable() {
+            ((OdyseeApp) context.getApplicationContext()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, this, new Runnable() {
                 @Override
                 public void run() {
                     SQLiteDatabase db = MainActivity.getDatabaseHelper().getReadableDatabase();
@@ -5,7 +5,6 @@ import android.app.Activity;
 import android.app.Dialog;
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.text.Editable;
@@ -39,15 +38,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.odysee.app.MainActivity;
 import com.odysee.app.R;
+import com.odysee.app.OdyseeApp;
 import com.odysee.app.adapter.InlineChannelSpinnerAdapter;
 import com.odysee.app.exceptions.ApiCallException;
 import com.odysee.app.listener.WalletBalanceListener;
@@ -59,6 +55,7 @@ import com.odysee.app.tasks.claim.ClaimListResultHandler;
 import com.odysee.app.tasks.claim.ClaimListTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
+import com.odysee.app.utils.TaskRuntime;
 
 import lombok.Setter;
 
@@ -218,7 +215,7 @@ public class CreateSupportDialogFragment extends BottomSheetDialogFragment imple
 
                 if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
                     Supplier<String> task = new SupportCreateSupplier(options, authToken);
-                    CompletableFuture<String> cf = CompletableFuture.supplyAsync(task);
+                    CompletableFuture<String> cf = CompletableFuture.supplyAsync(task, TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                     cf.thenAccept(result -> {
                         Activity activity = getActivity();
                         if (result == null) {
@@ -235,12 +232,14 @@ public class CreateSupportDialogFragment extends BottomSheetDialogFragment imple
                         }
                     });
                 } else {
-                    Thread supportingThread = new Thread(new Runnable() {
+                    // not bound to the dialog lifecycle, the support should be created even if the dialog goes away
+                    ((OdyseeApp) requireContext().getApplicationContext()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                         @Override
                         public void run() {
                             Callable<Boolean> callable = () -> {
                                 try {
                                     Lbry.authenticatedGenericApiCall(Lbry.METHOD_SUPPORT_CREATE, options, authToken);
+                                    Lbry.removeClaimFromCache(claim.getClaimId());
                                 } catch (ApiCallException ex) {
                                     ex.printStackTrace();
                                     showError(ex.getMessage());
@@ -248,11 +247,8 @@ public class CreateSupportDialogFragment extends BottomSheetDialogFragment imple
                                 }
                                 return true;
                             };
-                            ExecutorService executorService = Executors.newSingleThreadExecutor();
-                            Future<Boolean> future = executorService.submit(callable);
-
                             try {
-                                boolean result = future.get();
+                                boolean result = callable.call();
 
                                 Activity activity = getActivity();
 
@@ -279,12 +275,11 @@ public class CreateSupportDialogFragment extends BottomSheetDialogFragment imple
                                         }
                                     });
                                 }
-                            } catch (InterruptedException | ExecutionException e) {
+                            } catch (Exception e) {
                                 e.printStackTrace();
                             }
                         }
                     });
-                    supportingThread.start();
                 }
             }
         });
@@ -370,7 +365,7 @@ public class CreateSupportDialogFragment extends BottomSheetDialogFragment imple
                 fetchingChannels = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
     private void disableChannelSpinner() {
         Helper.setViewEnabled(channelSpinner, false);
@@ -1,6 +1,5 @@
 package com.odysee.app.dialog;
 
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
@@ -26,6 +25,7 @@ import com.odysee.app.model.Tag;
 import com.odysee.app.tasks.UpdateSuggestedTagsTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class CustomizeTagsDialogFragment extends BottomSheetDialogFragment {
@@ -181,6 +181,6 @@ public class CustomizeTagsDialogFragment extends BottomSheetDialogFragment {
                 checkNoResults();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
     }
 }
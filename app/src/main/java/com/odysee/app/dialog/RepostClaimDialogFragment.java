@@ -3,7 +3,6 @@ package com.odysee.app.dialog;
 import android.app.Dialog;
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -38,6 +37,7 @@ import com.odysee.app.tasks.claim.StreamRepostTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryUri;
+import com.odysee.app.utils.TaskRuntime;
 
 public class RepostClaimDialogFragment extends BottomSheetDialogFragment implements WalletBalanceListener {
     public static final String TAG = "RepostClaimDialog";
@@ -187,7 +187,7 @@ public class RepostClaimDialogFragment extends BottomSheetDialogFragment impleme
                     dismiss();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             loadChannels(Lbry.ownChannels);
         }
@@ -268,7 +268,7 @@ public class RepostClaimDialogFragment extends BottomSheetDialogFragment impleme
                 finishLoading();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void showError(String message) {
@@ -0,0 +1,9 @@
+package com.odysee.app.listener;
+
+public interface TransactionListener {
+    /**
+     * Called on the calling thread after a call which submits a transaction returned a result
+     * @param method the SDK method which was called
+     */
+    void onTransactionSubmitted(String method);
+}
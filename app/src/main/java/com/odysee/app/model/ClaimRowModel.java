@@ -0,0 +1,238 @@
+package com.odysee.app.model;
+
+import android.content.Context;
+import android.icu.text.CompactDecimalFormat;
+import android.os.Build;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import com.odysee.app.R;
+import com.odysee.app.utils.FormatTime;
+import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.LbryUri;
+import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.Utils;
+import lombok.Getter;
+
+/**
+ * The display-ready values of a row of a claim list. They are prepared on a background thread when the
+ * claims are loaded, so binding the row only has to assign them to its views. Values which change while
+ * the row is displayed, such as the download progress or the playback position, are not included.
+ *
+ * A model is kept for as long as its claim is listed, so the relative publish time is kept along with the
+ * minute it was formatted in, and the fee along with the exchange rate it was converted with. They are
+ * only formatted again when read after the minute or the rate changed.
+ */
+public class ClaimRowModel {
+    /**
+     * The claim of the list item, which is the repost for reposted claims
+     */
+    @Getter
+    private final Claim claim;
+    @Getter
+    private final boolean repost;
+    @Getter
+    private final String repostChannelName;
+    @Getter
+    private final boolean pending;
+    @Getter
+    private final String title;
+    /**
+     * The vanity URL of a featured search result
+     */
+    @Getter
+    private final String vanityUrl;
+    @Getter
+    private final String alphaText;
+    @Getter
+    private final String publisherName;
+    private final long publishTime;
+    private volatile FormattedTime formattedTime;
+    @Getter
+    private final String thumbnailUrl;
+    @Getter
+    private final String publisherThumbnailUrl;
+    @Getter
+    private final int backgroundColor;
+    // the claim which is displayed, whose fee is shown
+    private final Claim item;
+    private volatile FormattedFee formattedFee;
+    @Getter
+    private final boolean hasViews;
+    @Getter
+    private final String viewCountText;
+    @Getter
+    private final long duration;
+    /**
+     * The formatted duration, or the number of items for a collection
+     */
+    @Getter
+    private final String durationText;
+    /**
+     * The release time of a livestream in seconds, compared with the current time when the row is bound
+     */
+    @Getter
+    private final long releaseTime;
+    @Getter
+    private final String livestreamViewersText;
+
+    /**
+     * This does not touch any view, so it can be called from a background thread
+     */
+    public ClaimRowModel(Claim original, Context context) {
+        claim = original;
+        repost = Claim.TYPE_REPOST.equalsIgnoreCase(original.getValueType());
+        repostChannelName = repost && original.getSigningChannel() != null ? original.getSigningChannel().getName() : null;
+
+        item = repost && original.getRepostedClaim() != null ? original.getRepostedClaim() : original;
+        Claim signingChannel = item.getSigningChannel();
+        Claim.StreamMetadata streamMetadata = item.getValue() instanceof Claim.StreamMetadata ? (Claim.StreamMetadata) item.getValue() : null;
+        boolean isChannel = Claim.TYPE_CHANNEL.equalsIgnoreCase(item.getValueType());
+        boolean isCollection = Claim.TYPE_COLLECTION.equalsIgnoreCase(item.getValueType());
+        String name = item.getName();
+
+        pending = item.getConfirmations() == 0;
+        title = Helper.isNullOrEmpty(item.getTitle()) ? name : item.getTitle();
+        if (original.isFeatured()) {
+            LbryUri uri = new LbryUri();
+            uri.setClaimName(name);
+            vanityUrl = uri.toString();
+        } else {
+            vanityUrl = null;
+        }
+
+        if (Helper.isNullOrEmpty(name)) {
+            alphaText = null;
+        } else if (isChannel) {
+            alphaText = name.length() > 1 ? name.substring(1, 2).toUpperCase() : name;
+        } else {
+            alphaText = name.substring(0, Math.min(5, name.length() - 1));
+        }
+        if (isChannel) {
+            publisherName = name;
+        } else {
+            publisherName = signingChannel != null ? signingChannel.getTitleOrName() : context.getString(R.string.anonymous);
+        }
+        publishTime = (streamMetadata != null && streamMetadata.getReleaseTime() > 0) ? streamMetadata.getReleaseTime() * 1000 : item.getTimestamp() * 1000;
+
+        if (isChannel) {
+            thumbnailUrl = item.getThumbnailUrl(Utils.CHANNEL_THUMBNAIL_WIDTH, Utils.CHANNEL_THUMBNAIL_HEIGHT, Utils.CHANNEL_THUMBNAIL_Q);
+        } else {
+            thumbnailUrl = item.getThumbnailUrl(Utils.STREAM_THUMBNAIL_WIDTH, Utils.STREAM_THUMBNAIL_HEIGHT, Utils.STREAM_THUMBNAIL_Q);
+        }
+        publisherThumbnailUrl = signingChannel != null ?
+                signingChannel.getThumbnailUrl(Utils.CHANNEL_THUMBNAIL_WIDTH, Utils.CHANNEL_THUMBNAIL_HEIGHT, Utils.CHANNEL_THUMBNAIL_Q) : null;
+        int color = Helper.generateRandomColorForValue(item.getClaimId());
+        backgroundColor = color != 0 ? color : Helper.generateRandomColorForValue(name);
+
+        Integer views = item.getViews();
+        hasViews = views != null && views != 0;
+        viewCountText = views != null ?
+                context.getResources().getQuantityString(R.plurals.view_count, views, compactNumber(views, context)) + " •" : null;
+
+        duration = item.getDuration();
+        if (isCollection) {
+            durationText = String.valueOf(item.getClaimIds() != null ? item.getClaimIds().size() : 0);
+        } else {
+            durationText = Helper.formatDuration(duration);
+        }
+        releaseTime = streamMetadata != null ? streamMetadata.getReleaseTime() : 0;
+        livestreamViewersText = String.valueOf(item.getLivestreamViewers());
+
+        // formatted here, off the main thread, so that binding the row normally doesn't have to
+        getPublishTimeText();
+        getFormattedFee();
+    }
+
+    /**
+     * @return the publish time relative to the current minute
+     */
+    public String getPublishTimeText() {
+        long minute = System.currentTimeMillis() / 60000;
+        FormattedTime time = formattedTime;
+        if (time == null || time.minute != minute) {
+            time = new FormattedTime(minute, FormatTime.fromEpochMillis(publishTime));
+            formattedTime = time;
+        }
+        return time.text;
+    }
+
+    public boolean isPaid() {
+        return getFormattedFee().paid;
+    }
+
+    /**
+     * @return the fee in LBC, converted with the current exchange rate for fees in USD
+     */
+    public String getFeeText() {
+        return getFormattedFee().text;
+    }
+
+    private FormattedFee getFormattedFee() {
+        double usdRate = Lbryio.LBCUSDRate;
+        FormattedFee fee = formattedFee;
+        if (fee == null || fee.usdRate != usdRate) {
+            BigDecimal cost = item.getActualCost(usdRate);
+            boolean paid = cost.doubleValue() > 0;
+            fee = new FormattedFee(usdRate, paid, paid ? Helper.shortCurrencyFormat(cost.doubleValue()) : "Paid");
+            formattedFee = fee;
+        }
+        return fee;
+    }
+
+    private static class FormattedTime {
+        private final long minute;
+        private final String text;
+
+        FormattedTime(long minute, String text) {
+            this.minute = minute;
+            this.text = text;
+        }
+    }
+
+    private static class FormattedFee {
+        private final double usdRate;
+        private final boolean paid;
+        private final String text;
+
+        FormattedFee(double usdRate, boolean paid, String text) {
+            this.usdRate = usdRate;
+            this.paid = paid;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Modified from NewPipe <a href="https://github.com/TeamNewPipe/NewPipe/blob/dev/app/src/main/java/org/schabi/newpipe/util/Localization.java">Localization.java</a>
+     */
+    private static String compactNumber(long number, Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            return CompactDecimalFormat.getInstance(Locale.getDefault(), CompactDecimalFormat.CompactStyle.SHORT).format(number);
+        }
+
+        double value =  (double) number;
+        NumberFormat numberFormat = NumberFormat.getInstance();
+        if (number >= 1000000000) {
+            return numberFormat.format(round(value / 1000000000, 1))
+                    + context.getString(R.string.short_billion);
+        } else if (number >= 1000000) {
+            return numberFormat.format(round(value / 1000000, 1))
+                    + context.getString(R.string.short_million);
+        } else if (number >= 1000) {
+            return numberFormat.format(round(value / 1000, 1))
+                    + context.getString(R.string.short_thousand);
+        } else {
+            return numberFormat.format(value);
+        }
+    }
+
+    /**
+     * Modified from NewPipe <a href="https://github.com/TeamNewPipe/NewPipe/blob/dev/app/src/main/java/org/schabi/newpipe/util/Localization.java">Localization.java</a>
+     */
+    private static double round(double value, int places) {
+        return new BigDecimal(value).setScale(places, RoundingMode.HALF_UP).doubleValue();
+    }
+}
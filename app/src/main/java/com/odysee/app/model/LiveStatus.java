@@ -0,0 +1,26 @@
+package com.odysee.app.model;
+
+import org.json.JSONObject;
+
+import lombok.Getter;
+
+/**
+ * Live status of a channel, as returned by the Odysee Live API
+ */
+public class LiveStatus {
+    @Getter
+    private final String channelId;
+    @Getter
+    private final boolean live;
+    /**
+     * The "data" object of the response, which includes the active and future claims
+     */
+    @Getter
+    private final JSONObject data;
+
+    public LiveStatus(String channelId, boolean live, JSONObject data) {
+        this.channelId = channelId;
+        this.live = live;
+        this.data = data;
+    }
+}
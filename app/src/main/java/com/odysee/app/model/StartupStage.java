@@ -3,9 +3,15 @@ package com.odysee.app.model;
 public class StartupStage {
     public final Integer stage;
     public final Boolean stageDone;
+    public final long durationMs;
 
     public StartupStage(Integer stage, Boolean stageDone) {
+        this(stage, stageDone, 0);
+    }
+
+    public StartupStage(Integer stage, Boolean stageDone, long durationMs) {
         this.stage = stage;
         this.stageDone = stageDone;
+        this.durationMs = durationMs;
     }
 }
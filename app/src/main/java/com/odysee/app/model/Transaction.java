@@ -43,6 +43,14 @@ public class Transaction {
         return null;
     }
 
+    /**
+     * The key which transactions are sorted by, most recent first. Pending transactions don't have a block
+     * time yet, so they are sorted before all the others.
+     */
+    public long getSortTimestamp() {
+        return confirmations > 0 && timestamp > 0 ? timestamp : Long.MAX_VALUE;
+    }
+
     public static Transaction fromJSONObject(JSONObject jsonObject) {
         Transaction transaction = new Transaction();
         transaction.setConfirmations(Helper.getJSONInt("confirmations", -1, jsonObject));
@@ -8,6 +8,10 @@ import lombok.Data;
 
 @Data
 public class ViewHistory {
+    /**
+     * The row ID, which orders items saved at the same time when reading the history by page
+     */
+    private long id;
     private LbryUri uri;
     private String claimId;
     private String claimName;
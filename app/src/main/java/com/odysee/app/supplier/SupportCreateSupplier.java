@@ -20,6 +20,7 @@ public class SupportCreateSupplier implements Supplier<String> {
         String error = null;
         try {
             Lbry.authenticatedGenericApiCall(Lbry.METHOD_SUPPORT_CREATE, options, authToken);
+            Lbry.removeClaimFromCache((String) options.get("claim_id"));
         } catch (ApiCallException ex) {
             ex.printStackTrace();
             return ex.getMessage();
@@ -5,9 +5,8 @@ import android.util.Log;
 
 import org.json.JSONObject;
 
-import java.util.concurrent.TimeUnit;
-
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -48,10 +47,7 @@ public class BufferEventTask extends AsyncTask<Void, Void, Void> {
 
             RequestBody body = RequestBody.create(requestBody.toString(), Helper.JSON_MEDIA_TYPE);
             Request request =  new Request.Builder().url(ENDPOINT).post(body).build();
-            OkHttpClient client = new OkHttpClient.Builder().
-                    writeTimeout(60, TimeUnit.SECONDS).
-                    readTimeout(60, TimeUnit.SECONDS).
-                    build();
+            OkHttpClient client = HttpClients.get(HttpClients.Profile.EVENTS);
 
             Response response = client.newCall(request).execute();
             ResponseBody resBody = response.body();
@@ -1,7 +1,5 @@
 package com.odysee.app.tasks;
 
-import static java.util.stream.Collectors.groupingBy;
-
 import android.os.AsyncTask;
 import android.view.View;
 import android.widget.ProgressBar;
@@ -15,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import com.odysee.app.exceptions.LbryResponseException;
@@ -27,14 +26,25 @@ public class CommentListTask extends AsyncTask<Void, Void, List<Comment>> {
     private final int page;
     private final int pageSize;
     private final String claim;
+    private final Integer sortBy;
     private final ProgressBar progressBar;
     private final CommentListHandler handler;
     private Exception error;
+    // number of comments in the response, before replies without a parent are dropped
+    private int itemCount;
 
     public CommentListTask(int page, int pageSize, String claim, ProgressBar progressBar, CommentListHandler handler) {
+        this(page, pageSize, claim, null, progressBar, handler);
+    }
+
+    /**
+     * @param sortBy one of the Comments.SORT_BY_ values, or null for the default order of the comment server
+     */
+    public CommentListTask(int page, int pageSize, String claim, Integer sortBy, ProgressBar progressBar, CommentListHandler handler) {
         this.page = page;
         this.pageSize = pageSize;
         this.claim = claim;
+        this.sortBy = sortBy;
         this.progressBar = progressBar;
         this.handler = handler;
     }
@@ -52,6 +62,9 @@ public class CommentListTask extends AsyncTask<Void, Void, List<Comment>> {
             options.put("claim_id", claim);
             options.put("page", page);
             options.put("page_size", pageSize);
+            if (sortBy != null) {
+                options.put("sort_by", sortBy);
+            }
             options.put("hidden", false);
             options.put("include_replies", false);
             options.put("is_channel_signature_valid", true);
@@ -62,6 +75,7 @@ public class CommentListTask extends AsyncTask<Void, Void, List<Comment>> {
 
             if (result != null && result.has("items")) {
                 JSONArray items = result.getJSONArray("items");
+                itemCount = items.length();
 
                 List<Comment> children = new ArrayList<>();
                 comments = new ArrayList<>();
@@ -76,16 +90,27 @@ public class CommentListTask extends AsyncTask<Void, Void, List<Comment>> {
                     }
                 }
 
-                // Sort all replies from oldest to newest at once and then group them by its parent comment
+                // Sort all replies from oldest to newest at once and then group them by their parent comment,
+                // so that each comment can be followed by its replies in a single pass
                 Collections.sort(children);
+                Map<String, List<Comment>> repliesByParentId = new HashMap<>();
+                for (Comment child : children) {
+                    String parentId = child.getParentId().toLowerCase(Locale.ROOT);
+                    List<Comment> replies = repliesByParentId.get(parentId);
+                    if (replies == null) {
+                        replies = new ArrayList<>();
+                        repliesByParentId.put(parentId, replies);
+                    }
+                    replies.add(child);
+                }
 
-                Map<String, List<Comment>> groupedChildrenList = children.stream().collect(groupingBy(Comment::getParentId));
-                List<Comment> finalComments = comments;
-                groupedChildrenList.forEach((key, value) -> {
-                    Comment c = finalComments.stream().filter(v -> key.equalsIgnoreCase(v.getId())).findFirst().orElse(null);
-                    finalComments.addAll(finalComments.indexOf(c) + 1, value);
-                });
-                comments = finalComments;
+                if (!repliesByParentId.isEmpty()) {
+                    List<Comment> threadedComments = new ArrayList<>(comments.size() + children.size());
+                    for (Comment comment : comments) {
+                        addWithReplies(comment, repliesByParentId, threadedComments);
+                    }
+                    comments = threadedComments;
+                }
             }
         } catch (JSONException | LbryResponseException | IOException ex) {
             error = ex;
@@ -93,11 +118,21 @@ public class CommentListTask extends AsyncTask<Void, Void, List<Comment>> {
         return comments;
     }
 
+    private static void addWithReplies(Comment comment, Map<String, List<Comment>> repliesByParentId, List<Comment> target) {
+        target.add(comment);
+        List<Comment> replies = repliesByParentId.remove(comment.getId().toLowerCase(Locale.ROOT));
+        if (replies != null) {
+            for (Comment reply : replies) {
+                addWithReplies(reply, repliesByParentId, target);
+            }
+        }
+    }
+
     protected void onPostExecute(List<Comment> comments) {
         Helper.setViewVisibility(progressBar, View.GONE);
         if (handler != null) {
             if (comments != null) {
-                handler.onSuccess(comments, comments.size() < pageSize);
+                handler.onSuccess(comments, itemCount < pageSize);
             } else {
                 handler.onError(error);
             }
@@ -4,6 +4,8 @@ import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.os.AsyncTask;
 
+import java.util.Collections;
+
 import com.odysee.app.MainActivity;
 import com.odysee.app.data.DatabaseHelper;
 import com.odysee.app.model.Tag;
@@ -28,13 +30,13 @@ public class FollowUnfollowTagTask extends AsyncTask<Void, Void, Boolean> {
             if (context instanceof MainActivity) {
                 db = MainActivity.getDatabaseHelper().getWritableDatabase();
                 if (db != null) {
+                    // a tag which isn't known yet is added with its followed state in the same write
+                    tag.setFollowed(!unfollowing);
+                    DatabaseHelper.saveTags(Collections.singletonList(tag), false, db);
                     if (!Lbry.knownTags.contains(tag)) {
-                        DatabaseHelper.createOrUpdateTag(tag, db);
                         Lbry.addKnownTag(tag);
                     }
 
-                    tag.setFollowed(!unfollowing);
-                    DatabaseHelper.createOrUpdateTag(tag, db);
                     if (unfollowing) {
                         Lbry.removeFollowedTag(tag);
                     } else {
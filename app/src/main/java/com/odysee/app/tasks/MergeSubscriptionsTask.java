@@ -51,10 +51,7 @@ public class MergeSubscriptionsTask extends AsyncTask<Void, Void, List<Subscript
             }
             if (db != null) {
                 if (replaceLocal) {
-                    DatabaseHelper.clearSubscriptions(db);
-                    for (Subscription sub : base) {
-                        DatabaseHelper.createOrUpdateSubscription(sub, db);
-                    }
+                    DatabaseHelper.saveSubscriptions(base, true, db);
                 } else {
                     localSubs = DatabaseHelper.getSubscriptions(db);
                     for (Subscription sub : localSubs) {
@@ -9,10 +9,10 @@ import org.json.JSONObject;
 import java.io.IOException;
 
 import java.io.File;
-import java.util.concurrent.TimeUnit;
 
 import com.odysee.app.exceptions.LbryResponseException;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
@@ -52,10 +52,7 @@ public class UploadImageTask extends AsyncTask<Void, Void, String> {
                     addFormDataPart("file-input", fileName, RequestBody.create(file, MediaType.parse(fileType))).
                     build();
             Request request = new Request.Builder().url(UPLOAD_CDN_ENDPOINT).post(body).build();
-            OkHttpClient client = new OkHttpClient.Builder().
-                    writeTimeout(300, TimeUnit.SECONDS).
-                    readTimeout(300, TimeUnit.SECONDS).
-                    build();
+            OkHttpClient client = HttpClients.get(HttpClients.Profile.UPLOAD);
             Response response = client.newCall(request).execute();
             JSONObject json = new JSONObject(response.body().string());
             if (json.has("type") && "success".equalsIgnoreCase(Helper.getJSONString("type", "", json))) {
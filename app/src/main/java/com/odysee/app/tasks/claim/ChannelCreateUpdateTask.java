@@ -78,6 +78,9 @@ public class ChannelCreateUpdateTask extends AsyncTask<Void, Void, Claim> {
         String method = !update ? Lbry.METHOD_CHANNEL_CREATE : Lbry.METHOD_CHANNEL_UPDATE;
         try {
             JSONObject result = (JSONObject) Lbry.authenticatedGenericApiCall(method, options, authToken);
+            if (update) {
+                Lbry.removeClaimFromCache(claim.getClaimId());
+            }
             if (result.has("outputs")) {
                 JSONArray outputs = result.getJSONArray("outputs");
                 for (int i = 0; i < outputs.length(); i++) {
@@ -17,11 +17,20 @@ public class ClaimSearchTask extends AsyncTask<Void, Void, Page> {
     private final String connectionString;
     private final ClaimSearchResultHandler handler;
     private final View progressView;
+    private final boolean allowStale;
     private ApiCallException error;
 
     public ClaimSearchTask(Map<String, Object> options, String connectionString, View progressView, ClaimSearchResultHandler handler) {
+        this(options, connectionString, false, progressView, handler);
+    }
+
+    /**
+     * @param allowStale true to display an expired cached page while it is refreshed, see Lbry.claimSearch
+     */
+    public ClaimSearchTask(Map<String, Object> options, String connectionString, boolean allowStale, View progressView, ClaimSearchResultHandler handler) {
         this.options = options;
         this.connectionString = connectionString;
+        this.allowStale = allowStale;
         this.progressView = progressView;
         this.handler = handler;
     }
@@ -32,7 +41,7 @@ public class ClaimSearchTask extends AsyncTask<Void, Void, Page> {
     @Override
     protected Page doInBackground(Void... params) {
         try {
-            return Lbry.claimSearch(options, connectionString);
+            return Lbry.claimSearch(options, connectionString, allowStale);
         } catch (ApiCallException ex) {
             error = ex;
             return null;
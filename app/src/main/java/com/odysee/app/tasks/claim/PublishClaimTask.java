@@ -87,6 +87,8 @@ public class PublishClaimTask extends AsyncTask<Void, Void, Claim> {
         Claim claimResult = null;
         try {
             JSONObject result = (JSONObject) Lbry.authenticatedGenericApiCall(Lbry.METHOD_PUBLISH, options, authToken);
+            // an edited claim keeps its claim ID
+            Lbry.removeClaimFromCache(claim.getClaimId());
             if (result.has("outputs")) {
                 JSONArray outputs = result.getJSONArray("outputs");
                 for (int i = 0; i < outputs.length(); i++) {
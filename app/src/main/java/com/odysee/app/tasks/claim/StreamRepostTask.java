@@ -47,6 +47,7 @@ public class StreamRepostTask extends AsyncTask<Void, Void, Claim> {
             options.put("channel_id", channelId);
 
             JSONObject result = (JSONObject) Lbry.genericApiCall(Lbry.METHOD_STREAM_REPOST, options);
+            Lbry.removeClaimFromCache(claimId);
             if (result.has("outputs")) {
                 JSONArray outputs = result.getJSONArray("outputs");
                 for (int i = 0; i < outputs.length(); i++) {
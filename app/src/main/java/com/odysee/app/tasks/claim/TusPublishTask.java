@@ -6,6 +6,7 @@ import android.view.View;
 import com.odysee.app.exceptions.LbryResponseException;
 import com.odysee.app.model.Claim;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import com.odysee.app.utils.Lbry;
 
 import org.json.JSONArray;
@@ -22,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import io.tus.java.client.ProtocolException;
 import io.tus.java.client.TusClient;
@@ -137,14 +137,14 @@ public class TusPublishTask extends AsyncTask<Void, Void, Void> {
                     requestBuilder.addHeader("X-Lbry-Auth-Token", authToken);
                     requestBuilder.addHeader("Tus-Resumable", "1.0.0");
                     Request request = requestBuilder.build();
-                    OkHttpClient client  = new OkHttpClient.Builder()
-                            .writeTimeout(300, TimeUnit.SECONDS)
-                            .readTimeout(300, TimeUnit.SECONDS)
-                            .build();
+                    OkHttpClient client = HttpClients.get(HttpClients.Profile.SDK);
 
                     try {
                         Response response = client.newCall(request).execute();
                         JSONObject result = (JSONObject) Lbry.parseResponse(response);
+                        Lbry.onCallSucceeded(Lbry.METHOD_PUBLISH);
+                        // an edited claim keeps its claim ID
+                        Lbry.removeClaimFromCache(claim.getClaimId());
                         if (result.has("outputs")) {
                             JSONArray outputs = result.getJSONArray("outputs");
                             for (int i = 0; i < outputs.length(); i++) {
@@ -63,9 +63,9 @@ public class FetchSubscriptionsTask extends AsyncTask<Void, Void, List<Subscript
                     if (!subscriptions.contains(sub)) {
                         subscriptions.add(sub);
                     }
-                    if (db != null) {
-                        DatabaseHelper.createOrUpdateSubscription(sub, db);
-                    }
+                }
+                if (db != null) {
+                    DatabaseHelper.saveSubscriptions(sharedStateSubs, false, db);
                 }
             }
         } catch (ClassCastException | ApiCallException | JSONException | IllegalStateException ex) {
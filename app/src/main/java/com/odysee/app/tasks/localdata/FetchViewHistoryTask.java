@@ -4,22 +4,22 @@ import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
 import android.os.AsyncTask;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 import com.odysee.app.data.DatabaseHelper;
 import com.odysee.app.model.ViewHistory;
-import com.odysee.app.utils.Helper;
 
 public class FetchViewHistoryTask extends AsyncTask<Void, Void, List<ViewHistory>> {
     private final DatabaseHelper dbHelper;
     private final FetchViewHistoryHandler handler;
     private final int pageSize;
-    private final Date lastDate;
-    public FetchViewHistoryTask(Date lastDate, int pageSize, DatabaseHelper dbHelper, FetchViewHistoryHandler handler) {
-        this.lastDate = lastDate;
+    private final ViewHistory lastItem;
+    /**
+     * @param lastItem the last item of the previous page, or null to fetch the first page
+     */
+    public FetchViewHistoryTask(ViewHistory lastItem, int pageSize, DatabaseHelper dbHelper, FetchViewHistoryHandler handler) {
+        this.lastItem = lastItem;
         this.pageSize = pageSize;
         this.dbHelper = dbHelper;
         this.handler = handler;
@@ -27,8 +27,7 @@ public class FetchViewHistoryTask extends AsyncTask<Void, Void, List<ViewHistory
     protected List<ViewHistory> doInBackground(Void... params) {
         try {
             SQLiteDatabase db = dbHelper.getReadableDatabase();
-            return DatabaseHelper.getViewHistory(
-                    lastDate == null ? null : new SimpleDateFormat(Helper.ISO_DATE_FORMAT_PATTERN).format(lastDate), pageSize, db);
+            return DatabaseHelper.getViewHistory(lastItem, pageSize, db);
         } catch (SQLiteException ex) {
             return new ArrayList<>();
         }
@@ -5,6 +5,7 @@ import android.os.AsyncTask;
 import com.odysee.app.model.TwitterOauth;
 import com.odysee.app.tasks.TwitterOauthHandler;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -28,7 +29,7 @@ public class TwitterAccessTokenTask extends AsyncTask<Void, Void, String> {
             RequestBody body = RequestBody.create(new byte[0]);
             Request request = new Request.Builder().url(url).post(body).build();
 
-            OkHttpClient client = new OkHttpClient.Builder().build();
+            OkHttpClient client = HttpClients.get();
             Response response = client.newCall(request).execute();
             return response.body().string();
         } catch (Exception ex) {
@@ -65,6 +65,7 @@ public class LoadSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
             if (result != null) {
                 // get the built in collections
                 Map<String, OdyseeCollection> allCollections = null;
+                List<OdyseeCollection> collectionsToSave = new ArrayList<>();
                 OdyseeCollection favoritesPlaylist = null;
                 OdyseeCollection watchlaterPlaylist = null;
                 if (db != null) {
@@ -93,10 +94,10 @@ public class LoadSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
                         if (db != null) {
                             if (favoritesPlaylist == null || favoritesCollection.getUpdatedAtTimestamp() > favoritesPlaylist.getUpdatedAtTimestamp()) {
                                 // only replace the locally saved collections if there are items
-                                DatabaseHelper.saveCollection(favoritesCollection, db);
+                                collectionsToSave.add(favoritesCollection);
                             }
                             if (watchlaterPlaylist == null || watchLaterCollection.getUpdatedAtTimestamp() > watchlaterPlaylist.getUpdatedAtTimestamp()) {
-                                DatabaseHelper.saveCollection(watchLaterCollection, db);
+                                collectionsToSave.add(watchLaterCollection);
                             }
                         }
                     }
@@ -120,45 +121,38 @@ public class LoadSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
                             }
 
                             if (shouldSave) {
-                                DatabaseHelper.saveCollection(thisCollection, db);
+                                collectionsToSave.add(thisCollection);
                             }
                         }
                     }
+                    if (db != null && !collectionsToSave.isEmpty()) {
+                        DatabaseHelper.saveCollections(collectionsToSave, db);
+                    }
 
                     subscriptions = loadSubscriptionsFromSharedUserState(shared);
                     if (db != null) {
-                        for (Subscription subscription : subscriptions) {
-                            try {
-                                DatabaseHelper.createOrUpdateSubscription(subscription, db);
-                            } catch (IllegalStateException ex) {
-                                // pass
-                            }
+                        try {
+                            DatabaseHelper.saveSubscriptions(subscriptions, false, db);
+                        } catch (SQLiteException | IllegalStateException ex) {
+                            // pass
                         }
                     }
 
                     if (tags != null) {
-                        if (db != null && tags.length() > 0) {
-                            try {
-                                DatabaseHelper.setAllTagsUnfollowed(db);
-                            } catch (IllegalStateException ex) {
-                                // pass
-                            }
-                        }
-
                         followedTags = new ArrayList<>();
                         for (int i = 0; i < tags.length(); i++) {
                             String tagName = tags.getString(i);
                             Tag tag = new Tag(tagName);
                             tag.setFollowed(true);
                             followedTags.add(tag);
+                        }
 
-                            try {
-                                if (db != null) {
-                                    DatabaseHelper.createOrUpdateTag(tag, db);
-                                }
-                            } catch (SQLiteException | IllegalStateException ex) {
-                                // pass
+                        try {
+                            if (db != null) {
+                                DatabaseHelper.saveTags(followedTags, tags.length() > 0, db);
                             }
+                        } catch (SQLiteException | IllegalStateException ex) {
+                            // pass
                         }
                     }
 
@@ -169,9 +163,9 @@ public class LoadSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
                                 LbryUri uri = LbryUri.tryParse(blocked.getString(i));
                                 if (uri != null) {
                                     blockedChannels.add(uri);
-                                    DatabaseHelper.createOrUpdateBlockedChannel(uri.getClaimId(), uri.getClaimName(), db);
                                 }
                             }
+                            DatabaseHelper.saveBlockedChannels(blockedChannels, db);
                         }
                     }
                 }
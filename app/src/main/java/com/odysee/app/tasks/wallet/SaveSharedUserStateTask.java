@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import com.odysee.app.MainActivity;
 import com.odysee.app.data.DatabaseHelper;
@@ -43,9 +44,17 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
     private Exception error;
     private String authToken;
     private Context context;
-
-    public SaveSharedUserStateTask(String authToken, Context context, SaveSharedUserStateHandler handler) {
+    private final String lastSavedSnapshot;
+    private String snapshot;
+    private boolean changed;
+
+    /**
+     * @param lastSavedSnapshot the snapshot of the local state which was last saved successfully, or null.
+     *                          Nothing is sent if the local state still matches it.
+     */
+    public SaveSharedUserStateTask(String authToken, String lastSavedSnapshot, Context context, SaveSharedUserStateHandler handler) {
         this.authToken = authToken;
+        this.lastSavedSnapshot = lastSavedSnapshot;
         this.handler = handler;
         this.context = context;
     }
@@ -111,6 +120,18 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
             watchlaterPlaylist = allCollections.get(OdyseeCollection.BUILT_IN_ID_WATCHLATER);
         }
 
+        try {
+            if (loadedSubs && loadedBlocked) {
+                snapshot = buildSnapshot(subscriptionUrls, subs, followedTags, blockedChannelUrls, allCollections);
+                if (snapshot.equals(lastSavedSnapshot)) {
+                    // nothing changed locally since the last save
+                    return true;
+                }
+            }
+        } catch (JSONException ex) {
+            snapshot = null;
+        }
+
         // Get the previous saved state
         try {
             boolean isExistingValid = false;
@@ -122,6 +143,7 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
                         && "object".equalsIgnoreCase(shared.getString("type"))
                         && shared.has("value")) {
                     isExistingValid = true;
+                    String existingShared = shared.toString();
                     JSONObject value = shared.getJSONObject("value");
                     if (loadedSubs) {
                         // make sure the subs were actually loaded from the local store before overwriting the data
@@ -184,6 +206,10 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
                     }
 
                     sharedObject = shared;
+                    if (existingShared.equals(shared.toString())) {
+                        // the saved state already has the local changes, eg. they were saved from another device
+                        return true;
+                    }
                 }
             }
 
@@ -232,6 +258,7 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
             options.put("value", sharedObject.toString());
 
             Lbry.authenticatedGenericApiCall(Lbry.METHOD_PREFERENCE_SET, options, authToken);
+            changed = true;
 
             return true;
         } catch (ApiCallException | JSONException ex) {
@@ -241,6 +268,31 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
         return false;
     }
 
+    /**
+     * @return the local state which is saved, to compare it with the state which was last saved
+     */
+    private static String buildSnapshot(List<String> subscriptionUrls,
+                                        List<Subscription> subscriptions,
+                                        List<String> followedTags,
+                                        List<String> blockedChannelUrls,
+                                        Map<String, OdyseeCollection> allCollections) throws JSONException {
+        JSONObject snapshot = new JSONObject();
+        snapshot.put("subscriptions", Helper.jsonArrayFromList(subscriptionUrls));
+        snapshot.put("following", buildUpdatedNotificationsDisabledStates(subscriptions));
+        snapshot.put("tags", Helper.jsonArrayFromList(followedTags));
+        snapshot.put("blocked", Helper.jsonArrayFromList(blockedChannelUrls));
+        JSONObject collections = new JSONObject();
+        if (allCollections != null) {
+            for (Map.Entry<String, OdyseeCollection> entry : new TreeMap<>(allCollections).entrySet()) {
+                JSONObject collection = entry.getValue().toJSONObject();
+                collection.put("visibility", entry.getValue().getVisibility());
+                collections.put(entry.getKey(), collection);
+            }
+        }
+        snapshot.put("collections", collections);
+        return snapshot.toString();
+    }
+
     private static JSONArray buildUpdatedNotificationsDisabledStates(List<Subscription> subscriptions) {
         JSONArray states = new JSONArray();
         for (Subscription subscription : subscriptions) {
@@ -264,7 +316,7 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
     protected void onPostExecute(Boolean result) {
         if (handler != null) {
             if (result) {
-                handler.onSuccess();
+                handler.onSuccess(snapshot, changed);
             } else {
                 handler.onError(error);
             }
@@ -272,7 +324,11 @@ public class SaveSharedUserStateTask extends AsyncTask<Void, Void, Boolean> {
     }
 
     public interface SaveSharedUserStateHandler {
-        void onSuccess();
+        /**
+         * @param snapshot the local state which was saved, or null if it could not be read
+         * @param changed true if the saved state was updated
+         */
+        void onSuccess(String snapshot, boolean changed);
         void onError(Exception error);
     }
 }
@@ -6,6 +6,7 @@ import android.view.View;
 import org.json.JSONObject;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.odysee.app.exceptions.ApiCallException;
@@ -15,6 +16,7 @@ import com.odysee.app.exceptions.WalletException;
 import com.odysee.app.model.WalletSync;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
+import com.odysee.app.utils.LbryBatch;
 import com.odysee.app.utils.Lbryio;
 
 public class SyncGetTask extends AsyncTask<Void, Void, WalletSync> {
@@ -43,7 +45,14 @@ public class SyncGetTask extends AsyncTask<Void, Void, WalletSync> {
     protected WalletSync doInBackground(Void... params) {
         try {
             password = Helper.isNullOrEmpty(password) ? "" : password;
-            JSONObject result = (JSONObject) Lbry.genericApiCall(Lbry.METHOD_WALLET_STATUS, Lbryio.AUTH_TOKEN);
+            // the wallet status and the hash are fetched with a single request, and the hash is fetched
+            // again in the uncommon case where the wallet has to be unlocked first
+            LbryBatch batch = new LbryBatch();
+            int statusIndex = batch.add(Lbry.METHOD_WALLET_STATUS, null);
+            int hashIndex = batch.add(Lbry.METHOD_SYNC_HASH, null);
+            List<LbryBatch.Result> results = batch.execute(Lbry.API_CONNECTION_STRING, Lbryio.AUTH_TOKEN);
+
+            JSONObject result = (JSONObject) results.get(statusIndex).get();
             boolean isLocked = Helper.getJSONBoolean("is_locked", false, result);
             boolean unlockSuccessful =
                     !isLocked || (boolean) Lbry.authenticatedGenericApiCall(
@@ -52,7 +61,9 @@ public class SyncGetTask extends AsyncTask<Void, Void, WalletSync> {
                 throw new WalletException("The wallet could not be unlocked with the provided password.");
             }
 
-            String hash = (String) Lbry.authenticatedGenericApiCall(Lbry.METHOD_SYNC_HASH, null, Lbryio.AUTH_TOKEN);
+            String hash = isLocked ?
+                    (String) Lbry.authenticatedGenericApiCall(Lbry.METHOD_SYNC_HASH, null, Lbryio.AUTH_TOKEN) :
+                    (String) results.get(hashIndex).get();
             try {
                 JSONObject response = (JSONObject) Lbryio.parseResponse(
                         Lbryio.call("sync", "get", Lbryio.buildSingleParam("hash", hash), Helper.METHOD_POST, null));
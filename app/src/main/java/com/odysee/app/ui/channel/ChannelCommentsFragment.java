@@ -4,7 +4,6 @@ import android.accounts.Account;
 import android.accounts.AccountManager;
 import android.app.Activity;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -59,17 +58,18 @@ import com.odysee.app.model.Claim;
 import com.odysee.app.model.Comment;
 import com.odysee.app.model.lbryinc.CreatorSetting;
 import com.odysee.app.tasks.CommentCreateTask;
-import com.odysee.app.tasks.CommentListHandler;
-import com.odysee.app.tasks.CommentListTask;
 import com.odysee.app.tasks.claim.*;
 import com.odysee.app.tasks.lbryinc.LogPublishTask;
 import com.odysee.app.ui.BaseFragment;
+import com.odysee.app.utils.CommentPager;
 import com.odysee.app.utils.Comments;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 import com.odysee.app.checkers.CommentEnabledCheck;
 
@@ -89,6 +89,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
 
     @Getter
     private CommentListAdapter commentListAdapter;
+    private CommentPager commentPager;
     private CommentEnabledCheck commentEnabledCheck;
     private CreatorSetting creatorSetting;
 
@@ -166,7 +167,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
 
         fetchChannels();
         checkAndLoadComments();
-        applyFilterForBlockedChannels(Lbryio.blockedChannels);
+        applyFilterForBlockedChannels();
     }
 
     @Override
@@ -174,6 +175,15 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
         super.onStop();
     }
 
+    @Override
+    public void onDestroyView() {
+        if (commentPager != null) {
+            commentPager.detach();
+            commentPager = null;
+        }
+        super.onDestroyView();
+    }
+
     private void checkAndLoadComments() {
         View root = getView();
         if (root != null) {
@@ -221,13 +231,32 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
         View root = getView();
         if (claim != null && root != null) {
             ProgressBar relatedLoading = root.findViewById(R.id.channel_comments_progress);
-            CommentListTask task = new CommentListTask(1, 200, claim.getClaimId(), relatedLoading, new CommentListHandler() {
+            if (commentPager != null) {
+                commentPager.detach();
+            }
+            commentPager = new CommentPager(claim.getClaimId(), null, relatedLoading, new CommentPager.PageListener() {
                 @Override
-                public void onSuccess(List<Comment> comments, boolean hasReachedEnd) {
+                public void onPageLoaded(List<Comment> comments, int page, boolean hasReachedEnd) {
                     Context ctx = getContext();
                     View root = getView();
                     if (ctx != null && root != null) {
-                        ensureCommentListAdapterCreated(comments);
+                        boolean hashPending = isCommentHashPending();
+                        if (commentListAdapter == null) {
+                            ensureCommentListAdapterCreated(comments);
+                        } else if (page == 1) {
+                            showFirstCommentPage(comments);
+                        } else {
+                            commentListAdapter.addItems(comments);
+                            resolveCommentPosters();
+                            if (hashPending && !isCommentHashPending()) {
+                                scrollToCommentHash();
+                            }
+                        }
+
+                        // the linked comment may be on a later page, so keep loading pages until it turns up
+                        if (isCommentHashPending() && !hasReachedEnd && commentPager != null) {
+                            commentPager.loadNextPage();
+                        }
                     }
                 }
 
@@ -236,7 +265,8 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                     // pass
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            commentPager.attach(root.findViewById(R.id.channel_comments_list));
+            commentPager.loadNextPage();
         }
     }
 
@@ -276,7 +306,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
             int marginInPx = Math.round(40 * ((float) ctx.getResources().getDisplayMetrics().densityDpi / DisplayMetrics.DENSITY_DEFAULT));
             commentList.addItemDecoration(new CommentItemDecoration(marginInPx));
             commentList.setAdapter(commentListAdapter);
-            commentListAdapter.notifyItemRangeInserted(0, comments.size());
+            commentListAdapter.notifyItemRangeInserted(0, commentListAdapter.getItemCount());
             commentListAdapter.setCollapsed(false);
 
             checkNoComments();
@@ -285,13 +315,34 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
         }
     }
 
+    private void showFirstCommentPage(List<Comment> comments) {
+        // the adapter outlives the list when the comments are loaded again, so replace its comments
+        commentListAdapter.clearItems();
+        commentListAdapter.addItems(comments);
+        View root = getView();
+        if (root != null) {
+            RecyclerView commentList = root.findViewById(R.id.channel_comments_list);
+            if (commentList.getAdapter() == null) {
+                commentList.setAdapter(commentListAdapter);
+            }
+        }
+        checkNoComments();
+        resolveCommentPosters();
+        scrollToCommentHash();
+    }
+
+    private boolean isCommentHashPending() {
+        return !Helper.isNullOrEmpty(commentHash) && commentListAdapter != null && !commentListAdapter.containsComment(commentHash);
+    }
+
     private void scrollToCommentHash() {
         View root = getView();
         // check for the position of commentHash if set
         if (root != null && !Helper.isNullOrEmpty(commentHash) && commentListAdapter != null && commentListAdapter.getItemCount() > 0) {
             RecyclerView commentList = root.findViewById(R.id.channel_comments_list);
-            int position = commentListAdapter.getPositionForComment(commentHash);
-            if (position > -1 && commentList.getLayoutManager() != null) {
+            if (commentListAdapter.containsComment(commentHash) && commentList.getLayoutManager() != null) {
+                commentListAdapter.collapseExceptHash(commentHash);
+                int position = commentListAdapter.getPositionForComment(commentHash);
                 NestedScrollView scrollView = root.findViewById(R.id.channel_comments_area);
                 scrollView.requestChildFocus(commentList, commentList);
                 commentList.getLayoutManager().scrollToPosition(position);
@@ -307,15 +358,8 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                     @Override
                     public void onSuccess(List<Claim> claims) {
                         if (commentListAdapter != null) {
-                            for (Claim claim : claims) {
-                                if (claim.getClaimId() != null) {
-                                    commentListAdapter.updatePosterForComment(claim.getClaimId(), claim);
-                                }
-                            }
-
-                            commentListAdapter.filterBlockedChannels(Lbryio.blockedChannels);
-
-                            commentListAdapter.notifyDataSetChanged();
+                            commentListAdapter.updatePosters(claims);
+                            commentListAdapter.applyContentFilter(ContentFilter.get());
                         }
                     }
 
@@ -324,7 +368,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                         // pass
                     }
                 });
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         }
     }
@@ -353,7 +397,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                 fetchingChannels = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
     private void disableChannelSpinner() {
         Helper.setViewEnabled(commentChannelSpinner, false);
@@ -662,7 +706,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                 afterPostComment();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void checkNoComments() {
@@ -673,9 +717,9 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
         }
     }
 
-    public void applyFilterForBlockedChannels(List<LbryUri> blockedChannels) {
+    public void applyFilterForBlockedChannels() {
         if (commentListAdapter != null) {
-            commentListAdapter.filterBlockedChannels(blockedChannels);
+            commentListAdapter.applyContentFilter(ContentFilter.get());
         }
     }
 
@@ -760,7 +804,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                     public void onSuccess(Claim claimResult) {
                         if (!BuildConfig.DEBUG) {
                             LogPublishTask logPublishTask = new LogPublishTask(claimResult);
-                            logPublishTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                            logPublishTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                         }
 
                         // channel created
@@ -792,7 +836,7 @@ public class ChannelCommentsFragment extends BaseFragment implements ChannelCrea
                         showError(error.getMessage());
                     }
                 });
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         });
 
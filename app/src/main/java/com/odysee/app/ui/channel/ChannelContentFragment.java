@@ -3,7 +3,6 @@ package com.odysee.app.ui.channel;
 import android.app.Activity;
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -46,9 +45,11 @@ import com.odysee.app.model.Claim;
 import com.odysee.app.model.LbryFile;
 import com.odysee.app.model.Page;
 import com.odysee.app.tasks.lbryinc.FetchStatCountTask;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class ChannelContentFragment extends Fragment implements DownloadActionListener, SharedPreferences.OnSharedPreferenceChangeListener {
@@ -288,11 +289,12 @@ public class ChannelContentFragment extends Fragment implements DownloadActionLi
             callables.add(() -> Lbry.claimSearch(claimSearchOptions, Lbry.API_CONNECTION_STRING));
 
             getLoadingView().setVisibility(View.VISIBLE);
-            Thread t = new Thread(new Runnable() {
+            TaskRuntime runtime = ((OdyseeApp) a.getApplication()).getTaskRuntime();
+            runtime.execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
                 @Override
                 public void run() {
                     try {
-                        List<Future<Page>> results = ((OdyseeApp) a.getApplication()).getExecutor().invokeAll(callables);
+                        List<Future<Page>> results = runtime.invokeAll(TaskRuntime.Pool.NETWORK, callables);
 
                         List<Claim> items = new ArrayList<>();
 
@@ -336,7 +338,7 @@ public class ChannelContentFragment extends Fragment implements DownloadActionLi
                         loadViewCounts(regularItems);
 
                         items = Stream.concat(liveItems.stream(), regularItems.stream()).collect(Collectors.toList());
-                        items = Helper.sortingLivestreamingFirst(Helper.filterClaimsByOutpoint(items));
+                        items = Helper.sortingLivestreamingFirst(ContentFilter.get().filterListedClaims(items));
 
                         List<Claim> finalItems = items;
                         a.runOnUiThread(new Runnable() {
@@ -381,7 +383,6 @@ public class ChannelContentFragment extends Fragment implements DownloadActionLi
                     }
                 }
             });
-            t.start();
         }
     }
 
@@ -469,7 +470,7 @@ public class ChannelContentFragment extends Fragment implements DownloadActionLi
             public void onSuccess(List<Integer> counts) {
                 for (int i = 0; i < counts.size(); i++) {
                     claims.get(i).setViews(counts.get(i));
-                    contentListAdapter.notifyItemChanged(i);
+                    contentListAdapter.notifyClaimUpdated(claims.get(i));
                 }
             }
 
@@ -478,7 +479,7 @@ public class ChannelContentFragment extends Fragment implements DownloadActionLi
                 // pass
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void onSharedPreferenceChanged(SharedPreferences sp, String key) {
@@ -1,7 +1,6 @@
 package com.odysee.app.ui.channel;
 
 import android.accounts.AccountManager;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -22,13 +21,10 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
+import com.odysee.app.utils.TaskRuntime;
 
 import java.math.BigDecimal;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 public class ChannelCreateDialogFragment extends BottomSheetDialogFragment {
     ChannelCreateListener listener;
@@ -117,19 +113,16 @@ public class ChannelCreateDialogFragment extends BottomSheetDialogFragment {
                 Helper.setViewVisibility(progressView, View.VISIBLE);
 
                 Callable<Claim> c = new ChannelCreateUpdate(claimToSave, new BigDecimal(depositString), false, authToken);
-                ExecutorService executor = Executors.newSingleThreadExecutor();
-                Future<Claim> future = executor.submit(c);
-
-                Thread t = new Thread(new Runnable() {
+                TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                     @Override
                     public void run() {
                         try {
-                            Claim result = future.get();
+                            Claim result = c.call();
 
                             if (result != null) {
                                 if (!BuildConfig.DEBUG) {
                                     LogPublishTask logPublishTask = new LogPublishTask(result);
-                                    logPublishTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                                    logPublishTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                                 }
 
                                 // channel created
@@ -149,12 +142,8 @@ public class ChannelCreateDialogFragment extends BottomSheetDialogFragment {
                                     });
                                 }
                             }
-                        } catch (ExecutionException ex) {
-                            Throwable cause = ex.getCause();
-
-                            if (cause instanceof ApiCallException) {
-                                showError(cause.getMessage());
-                            }
+                        } catch (ApiCallException ex) {
+                            showError(ex.getMessage());
                         } catch (Exception ex) {
                             ex.printStackTrace();
                         } finally {
@@ -173,7 +162,6 @@ public class ChannelCreateDialogFragment extends BottomSheetDialogFragment {
                         }
                     }
                 });
-                t.start();
             }
         });
 
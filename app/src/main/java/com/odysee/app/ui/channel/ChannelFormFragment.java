@@ -5,7 +5,6 @@ import android.accounts.AccountManager;
 import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
@@ -51,6 +50,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 import com.odysee.app.views.CreditsBalanceView;
 
@@ -347,7 +347,7 @@ public class ChannelFormFragment extends BaseFragment implements
                 // Run the logPublish task
                 if (!BuildConfig.DEBUG) {
                     LogPublishTask logPublish = new LogPublishTask(claimResult);
-                    logPublish.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    logPublish.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
 
                 if (!editMode) {
@@ -371,7 +371,7 @@ public class ChannelFormFragment extends BaseFragment implements
                 postSave();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void checkPermissionsAndLaunchFilePicker(boolean isCover) {
@@ -474,7 +474,7 @@ public class ChannelFormFragment extends BaseFragment implements
                     uploading = false;
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             coverFilePickerActive = false;
             thumbnailFilePickerActive = false;
@@ -628,7 +628,7 @@ public class ChannelFormFragment extends BaseFragment implements
                 checkNoTagResults();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
     }
 
     private Claim buildChannelClaimToSave() {
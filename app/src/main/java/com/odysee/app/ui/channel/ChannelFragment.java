@@ -5,7 +5,6 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.content.Intent;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -35,19 +34,15 @@ import java.text.NumberFormat;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.odysee.app.MainActivity;
+import com.odysee.app.OdyseeApp;
 import com.odysee.app.R;
 import com.odysee.app.callable.ChannelLiveStatus;
 import com.odysee.app.dialog.CreateSupportDialogFragment;
 import com.odysee.app.exceptions.LbryUriException;
 import com.odysee.app.listener.FetchChannelsListener;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.ClaimCacheKey;
 import com.odysee.app.model.UrlSuggestion;
 import com.odysee.app.model.lbryinc.Subscription;
 import com.odysee.app.tasks.claim.AbandonChannelTask;
@@ -65,6 +60,7 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 import lombok.SneakyThrows;
 import org.json.JSONArray;
@@ -356,7 +352,7 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
             public void onError(Exception exception) {
                 view.setEnabled(true);
             }
-        }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        }).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void doFollowUnfollow(boolean isFollowing, View view) {
@@ -389,7 +385,7 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
                 buttonFollowUnfollow.setEnabled(true);
                 subscribing = false;
             }
-        }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        }).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void deleteCurrentClaim() {
@@ -413,7 +409,7 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
                     }
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -535,10 +531,9 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
             resetSubCount();
             if (!Helper.isNullOrEmpty(currentUrl)) {
                 // check if the claim is already cached
-                ClaimCacheKey key = new ClaimCacheKey();
-                key.setUrl(currentUrl);
-                if (Lbry.claimCache.containsKey(key)) {
-                    claim = Lbry.claimCache.get(key);
+                Claim cachedClaim = Lbry.claimCache.getByUrl(currentUrl);
+                if (cachedClaim != null) {
+                    claim = cachedClaim;
                 } else {
                     resolveUrl();
                 }
@@ -581,7 +576,7 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
                 renderNothingAtLocation();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void renderNothingAtLocation() {
@@ -641,15 +636,16 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
         }
 
         Activity a = getActivity();
-        Thread t = new Thread(new Runnable() {
+        if (a == null) {
+            return;
+        }
+        ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
             @Override
             public void run() {
-                ExecutorService executorService = Executors.newSingleThreadExecutor();
                 try {
                     final boolean hasScheduledStreams;
-                    Future<Map<String, JSONObject>> isLiveFuture = executorService.submit(new ChannelLiveStatus(Collections.singletonList(claim.getClaimId()), false));
-
-                    Map<String, JSONObject> livestreamingChannels = isLiveFuture.get();
+                    Map<String, JSONObject> livestreamingChannels =
+                            new ChannelLiveStatus(Collections.singletonList(claim.getClaimId()), false).call();
 
                     if (livestreamingChannels.size() > 0 && livestreamingChannels.containsKey(claim.getClaimId())) {
                         JSONObject channelData = livestreamingChannels.get(claim.getClaimId());
@@ -705,15 +701,12 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
                             }
                         });
                     }
-                } catch (ExecutionException | InterruptedException | IllegalStateException ex) {
+                } catch (Exception ex) {
                     // TODO: Fix why this is happening
                     ex.printStackTrace();
-                } finally {
-                    executorService.shutdown();
                 }
             }
         });
-        t.start();
     }
 
     public void checkChannelBlocked() {
@@ -752,15 +745,15 @@ public class ChannelFragment extends BaseFragment implements FetchChannelsListen
                     // pass
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
-    public void applyFilterForBlockedChannels(List<LbryUri> blockedChannels) {
+    public void applyFilterForBlockedChannels() {
         if (tabPager != null && tabPager.getAdapter() != null) {
             Fragment commentsFragment = ((ChannelPagerAdapter) tabPager.getAdapter()).getCommentsFragment();
             if (commentsFragment instanceof ChannelCommentsFragment) {
-                ((ChannelCommentsFragment) commentsFragment).applyFilterForBlockedChannels(blockedChannels);
+                ((ChannelCommentsFragment) commentsFragment).applyFilterForBlockedChannels();
             }
         }
 
@@ -4,7 +4,6 @@ import android.accounts.Account;
 import android.accounts.AccountManager;
 import android.content.Context;
 import android.content.DialogInterface;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.view.LayoutInflater;
@@ -47,6 +46,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 public class ChannelManagerFragment extends BaseFragment implements ActionMode.Callback, SelectionModeListener {
 
@@ -138,7 +138,7 @@ public class ChannelManagerFragment extends BaseFragment implements ActionMode.C
         if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
             progressView.setVisibility(View.VISIBLE);
             Supplier<List<Claim>> s = new ClaimListSupplier(Collections.singletonList(Claim.TYPE_CHANNEL), authToken);
-            CompletableFuture<List<Claim>> cf = CompletableFuture.supplyAsync(s);
+            CompletableFuture<List<Claim>> cf = CompletableFuture.supplyAsync(s, TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             cf.whenComplete((result, e) -> {
                 if (e != null && activity != null) {
                     activity.runOnUiThread(new Runnable() {
@@ -227,7 +227,7 @@ public class ChannelManagerFragment extends BaseFragment implements ActionMode.C
                     checkNoChannels();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -353,6 +353,6 @@ public class ChannelManagerFragment extends BaseFragment implements ActionMode.C
                 checkNoChannels();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
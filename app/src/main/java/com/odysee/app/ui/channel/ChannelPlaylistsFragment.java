@@ -2,7 +2,6 @@ package com.odysee.app.ui.channel;
 
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -20,9 +19,11 @@ import com.odysee.app.adapter.ClaimListAdapter;
 import com.odysee.app.model.Claim;
 import com.odysee.app.tasks.claim.ClaimSearchResultHandler;
 import com.odysee.app.tasks.claim.ClaimSearchTask;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -141,7 +142,7 @@ public class ChannelPlaylistsFragment extends Fragment implements SharedPreferen
         ClaimSearchTask playlistsClaimSearchTask = new ClaimSearchTask(claimSearchOptions, Lbry.API_CONNECTION_STRING, getLoadingView(), new ClaimSearchResultHandler() {
             @Override
             public void onSuccess(List<Claim> claims, boolean hasReachedEnd) {
-                claims = Helper.filterClaimsByOutpoint(claims);
+                claims = ContentFilter.get().filterListedClaims(claims);
 
                 if (playlistsListAdapter == null) {
                     Context context = getContext();
@@ -177,7 +178,7 @@ public class ChannelPlaylistsFragment extends Fragment implements SharedPreferen
                 checkNoPlaylists();
             }
         });
-        playlistsClaimSearchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        playlistsClaimSearchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void checkNoPlaylists() {
@@ -18,16 +18,17 @@ import com.odysee.app.adapter.ClaimListAdapter;
 import com.odysee.app.callable.ChannelLiveStatus;
 import com.odysee.app.callable.Search;
 import com.odysee.app.model.Claim;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 public class ChannelScheduledLivestreamsFragment extends Fragment implements SharedPreferences.OnSharedPreferenceChangeListener {
     @Setter
@@ -143,7 +144,7 @@ public class ChannelScheduledLivestreamsFragment extends Fragment implements Sha
         Helper.setViewVisibility(noLivestreamsView, View.GONE);
         Helper.setViewVisibility(getLoadingView(), View.VISIBLE);
         // channel claim
-        Thread t = new Thread(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
             @Override
             public void run() {
                 List<Claim> scheduledClaims = findScheduledLivestreams();
@@ -159,7 +160,7 @@ public class ChannelScheduledLivestreamsFragment extends Fragment implements Sha
                     });
                 }
                 if (scheduledClaims != null && scheduledClaims.size() > 0) {
-                    scheduledClaims = Helper.filterClaimsByOutpoint(scheduledClaims);
+                    scheduledClaims = ContentFilter.get().filterListedClaims(scheduledClaims);
 
                     if (a != null) {
                         List<Claim> finalScheduledClaims = scheduledClaims;
@@ -205,16 +206,12 @@ public class ChannelScheduledLivestreamsFragment extends Fragment implements Sha
                 }
             }
         });
-        t.start();
     }
 
     private List<Claim> findScheduledLivestreams() {
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         try {
             List<Claim> upcomingClaims = null;
-            Callable<Map<String, JSONObject>> callable = new ChannelLiveStatus(Collections.singletonList(channelId), true);
-            Future<Map<String, JSONObject>> futureUpcoming = executor.submit(callable);
-            Map<String, JSONObject> upcomingJsonData = futureUpcoming.get();
+            Map<String, JSONObject> upcomingJsonData = new ChannelLiveStatus(Collections.singletonList(channelId), true).call();
 
             if (upcomingJsonData.size() > 0) {
                 if (upcomingJsonData.containsKey(channelId)) {
@@ -234,9 +231,7 @@ public class ChannelScheduledLivestreamsFragment extends Fragment implements Sha
                             claimSearchOptions.put("claim_type", Collections.singletonList(Claim.TYPE_STREAM));
                             claimSearchOptions.put("has_no_source", true);
                             claimSearchOptions.put("claim_ids", claimIds);
-                            Future<List<Claim>> upcomingFuture = executor.submit(new Search(claimSearchOptions));
-
-                            upcomingClaims = upcomingFuture.get();
+                            upcomingClaims = new Search(claimSearchOptions).call();
                             if (channelData.has("ActiveClaim")) {
                                 // Extract active livestream's claimId to compare with future ones
                                 JSONObject activeClaimIdJSON = (JSONObject) channelData.get("ActiveClaim");
@@ -255,18 +250,10 @@ public class ChannelScheduledLivestreamsFragment extends Fragment implements Sha
                 }
             }
 
-            executor.shutdown();
             return upcomingClaims;
-        } catch (InterruptedException | ExecutionException | JSONException e) {
-            Throwable cause = e.getCause();
-            if (cause != null) {
-                cause.printStackTrace();
-            }
+        } catch (Exception e) {
+            e.printStackTrace();
             return null;
-        } finally {
-            if (!executor.isShutdown()) {
-                executor.shutdown();
-            }
         }
     }
 
@@ -2,7 +2,6 @@ package com.odysee.app.ui.findcontent;
 
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.MenuItem;
@@ -40,22 +39,25 @@ import com.odysee.app.listener.TagListener;
 import com.odysee.app.model.Claim;
 import com.odysee.app.model.LbryFile;
 import com.odysee.app.model.OdyseeCollection;
+import com.odysee.app.model.Page;
 import com.odysee.app.model.Tag;
 import com.odysee.app.tasks.claim.ClaimSearchResultHandler;
 import com.odysee.app.tasks.claim.ClaimSearchTask;
 import com.odysee.app.tasks.FollowUnfollowTagTask;
 import com.odysee.app.ui.BaseFragment;
+import com.odysee.app.utils.ClaimSearchCache;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.ContentSources;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
-import com.odysee.app.utils.LbryUri;
-import com.odysee.app.utils.Lbryio;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Getter;
 
 // TODO: Similar code to FollowingFragment and Channel page fragment. Probably make common operations (sorting/filtering) into a control
-public class AllContentFragment extends BaseFragment implements DownloadActionListener, SharedPreferences.OnSharedPreferenceChangeListener {
+public class AllContentFragment extends BaseFragment implements DownloadActionListener, SharedPreferences.OnSharedPreferenceChangeListener,
+        ClaimSearchCache.RefreshListener {
 
     public static int ALL_CONTENT_CONTEXT_GROUP_ID = 1;
 
@@ -299,7 +301,7 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
                 // heavy-lifting
                 // save to local, save to wallet and then sync
                 FollowUnfollowTagTask task = new FollowUnfollowTagTask(tag, false, getContext(), followUnfollowHandler);
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
 
             @Override
@@ -307,7 +309,7 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
                 // heavy-lifting
                 // save to local, save to wallet and then sync
                 FollowUnfollowTagTask task = new FollowUnfollowTagTask(tag, true, getContext(), followUnfollowHandler);
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         });
         Context context = getContext();
@@ -419,10 +421,12 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
             updateSortByLinkText();
         }
 
-        applyFilterForBlockedChannels(Lbryio.blockedChannels);
+        applyFilterForBlockedChannels();
+        Lbry.claimSearchCache.addRefreshListener(this);
     }
 
     public void onPause() {
+        Lbry.claimSearchCache.removeRefreshListener(this);
         Context context = getContext();
         if (context != null) {
             ((MainActivity) context).removeDownloadActionListener(this);
@@ -497,11 +501,10 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
         contentClaimSearchLoading = true;
         Helper.setViewVisibility(noContentView, View.GONE);
         Map<String, Object> claimSearchOptions = buildContentOptions();
-        contentClaimSearchTask = new ClaimSearchTask(claimSearchOptions, Lbry.API_CONNECTION_STRING, getLoadingView(), new ClaimSearchResultHandler() {
+        contentClaimSearchTask = new ClaimSearchTask(claimSearchOptions, Lbry.API_CONNECTION_STRING, true, getLoadingView(), new ClaimSearchResultHandler() {
             @Override
             public void onSuccess(List<Claim> claims, boolean hasReachedEnd) {
-                claims = Helper.filterClaimsByOutpoint(claims);
-                claims = Helper.filterClaimsByBlockedChannels(claims, Lbryio.blockedChannels);
+                claims = ContentFilter.get().filterClaims(claims);
 
                 if (contentListAdapter == null) {
                     Context context = getContext();
@@ -543,7 +546,7 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
                 checkNoContent();
             }
         });
-        contentClaimSearchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        contentClaimSearchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void checkNoContent() {
@@ -551,6 +554,14 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
         Helper.setViewVisibility(noContentView, noContent ? View.VISIBLE : View.GONE);
     }
 
+    @Override
+    public void onClaimSearchRefreshed(Map<String, Object> options, Page claimsPage) {
+        // only re-render when the first page currently on screen was served from a stale cache entry
+        if (!contentClaimSearchLoading && currentClaimSearchPage <= 1 && options.equals(buildContentOptions())) {
+            fetchClaimSearchContent(true);
+        }
+    }
+
     public void onSharedPreferenceChanged(SharedPreferences sp, String key) {
         if (key.equalsIgnoreCase(MainActivity.PREFERENCE_KEY_SHOW_MATURE_CONTENT)) {
             fetchClaimSearchContent(true);
@@ -583,7 +594,7 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
         if (item.getGroupId() == ALL_CONTENT_CONTEXT_GROUP_ID && item.getItemId() == R.id.action_block) {
             if (contentListAdapter != null) {
                 int position = contentListAdapter.getPosition();
-                Claim claim = contentListAdapter.getItems().get(position);
+                Claim claim = contentListAdapter.getItem(position);
                 if (claim != null && claim.getSigningChannel() != null) {
                     Claim channel = claim.getSigningChannel();
                     Context context = getContext();
@@ -598,11 +609,11 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
         if (item.getGroupId() ==  ALL_CONTENT_CONTEXT_GROUP_ID)  {
             if (contentListAdapter != null) {
                 int position = contentListAdapter.getPosition();
-                Claim claim = contentListAdapter.getItems().get(position);
-                String url = claim.getPermanentUrl();
+                Claim claim = contentListAdapter.getItem(position);
+                String url = claim != null ? claim.getPermanentUrl() : null;
 
                 Context context = getContext();
-                if (context instanceof MainActivity) {
+                if (url != null && context instanceof MainActivity) {
                     MainActivity activity = (MainActivity) context;
                     if (item.getItemId() == R.id.action_add_to_watch_later) {
                         activity.handleAddUrlToList(url, OdyseeCollection.BUILT_IN_ID_WATCHLATER);
@@ -622,9 +633,9 @@ public class AllContentFragment extends BaseFragment implements DownloadActionLi
         buildAndDisplayContentCategories();
     }
 
-    public void applyFilterForBlockedChannels(List<LbryUri> blockedChannels) {
+    public void applyFilterForBlockedChannels() {
         if (contentListAdapter != null) {
-            contentListAdapter.filterBlockedChannels(blockedChannels);
+            contentListAdapter.applyContentFilter(ContentFilter.get());
         }
     }
 }
@@ -108,8 +108,6 @@ import org.commonmark.renderer.html.AttributeProvider;
 import org.commonmark.renderer.html.AttributeProviderContext;
 import org.commonmark.renderer.html.AttributeProviderFactory;
 import org.commonmark.renderer.html.HtmlRenderer;
-import org.java_websocket.client.WebSocketClient;
-import org.java_websocket.handshake.ServerHandshake;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONException;
@@ -119,7 +117,6 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
-import java.net.URI;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
@@ -134,7 +131,6 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -145,8 +141,6 @@ import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -214,21 +208,26 @@ import com.odysee.app.tasks.lbryinc.FetchStatCountTask;
 import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.ui.channel.ChannelCreateDialogFragment;
 import com.odysee.app.ui.controls.SolidIconView;
+import com.odysee.app.utils.ChatMessageBatcher;
+import com.odysee.app.utils.CommentPager;
 import com.odysee.app.utils.Comments;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.HttpClients;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.PlaybackPositionStore;
 import com.odysee.app.utils.PlayerManager;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
+import com.odysee.app.utils.WebSocketManager;
 import com.odysee.app.checkers.CommentEnabledCheck;
 import com.odysee.app.views.MediaRelativeLayout;
 
-import javax.net.ssl.SSLParameters;
 
-import lombok.SneakyThrows;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -271,6 +270,7 @@ public class FileViewFragment extends BaseFragment implements
     private ClaimListAdapter relatedContentAdapter;
     private CommentEnabledCheck commentEnabledCheck;
     private CommentListAdapter commentListAdapter;
+    private CommentPager commentPager;
     private Player.Listener fileViewPlayerListener;
     private View commentLoadingArea;
 
@@ -354,8 +354,7 @@ public class FileViewFragment extends BaseFragment implements
     private TextView labelTipCredits;
     private TextInputEditText inputTipAmount;
 
-    private boolean leavingFileView;
-    private WebSocketClient webSocketClient;
+    private WebSocketManager.Subscription chatSubscription;
 
     // if this is set, scroll to the specific comment on load
     private String commentHash;
@@ -463,10 +462,7 @@ public class FileViewFragment extends BaseFragment implements
                         logPlay(currentUrl, startTimeMillis);
                         playbackStarted = true;
 
-                        long lastPosition = loadLastPlaybackPosition();
-                        if (lastPosition > -1) {
-                            currentPlayer.seekTo(lastPosition);
-                        }
+                        seekToLastPlaybackPosition();
                     }
                     renderTotalDuration();
                     scheduleElapsedPlayback();
@@ -669,12 +665,8 @@ public class FileViewFragment extends BaseFragment implements
                 if (fileClaim == null && !Helper.isNullOrEmpty(newUrl)) {
                     // check if the claim is already cached
                     currentUrl = newUrl;
-                    ClaimCacheKey key = new ClaimCacheKey();
-                    key.setUrl(currentUrl);
                     onNewClaim(currentUrl);
-                    if (Lbry.claimCache.containsKey(key)) {
-                        fileClaim = Lbry.claimCache.get(key);
-                    }
+                    fileClaim = Lbry.claimCache.getByUrl(currentUrl);
                 }
                 if (fileClaim != null && Claim.TYPE_REPOST.equalsIgnoreCase(fileClaim.getValueType())) {
                     fileClaim = fileClaim.getRepostedClaim();
@@ -721,17 +713,10 @@ public class FileViewFragment extends BaseFragment implements
                     Helper.saveViewHistory(currentUrl, actualClaim);
                 }
 
-                CustomBlockRule.CustomBlockStatus status = null;
-                if (context instanceof MainActivity) {
-                    MainActivity activity = (MainActivity) context;
-                    status = Helper.getCustomBlockedStatus(
-                            actualClaim.getClaimId(),
-                            activity.getCustomBlockingRulesMap(),
-                            activity.getOdyseeLocale());
-                }
-
-                if ((status != null && status.isBlocked()) || Helper.isClaimBlocked(actualClaim)) {
-                    renderClaimBlocked(status.getMessage());
+                ContentFilter contentFilter = ContentFilter.get();
+                CustomBlockRule.CustomBlockStatus status = contentFilter.getCustomBlockedStatus(actualClaim.getClaimId());
+                if ((status != null && status.isBlocked()) || contentFilter.isBlocked(actualClaim)) {
+                    renderClaimBlocked(status != null ? status.getMessage() : null);
                 } else {
                     checkAndLoadChannelSettings();
                     checkAndLoadRelatedContent();
@@ -903,6 +888,10 @@ public class FileViewFragment extends BaseFragment implements
             if (relatedContentAdapter != null) {
                 relatedContentAdapter.clearItems();
             }
+            if (commentPager != null) {
+                commentPager.detach();
+                commentPager = null;
+            }
             if (commentListAdapter != null) {
                 commentListAdapter.clearItems();
             }
@@ -950,7 +939,7 @@ public class FileViewFragment extends BaseFragment implements
 //                initialFileLoadDone = true;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 /*
     public void openClaimUrl(String url) {
@@ -978,7 +967,7 @@ public class FileViewFragment extends BaseFragment implements
 
         if (claim != null) {
             Helper.saveViewHistory(url, claim);
-            if (Helper.isClaimBlocked(claim)) {
+            if (ContentFilter.get().isBlocked(claim)) {
                 renderClaimBlocked();
             } else {
                 checkAndLoadRelatedContent();
@@ -1006,7 +995,6 @@ public class FileViewFragment extends BaseFragment implements
     public void onResume() {
         super.onResume();
         checkParams();
-        leavingFileView = false;
 
         if (initialChatLoaded) {
             checkWebSocketClient();
@@ -1048,7 +1036,7 @@ public class FileViewFragment extends BaseFragment implements
 
         checkOwnClaim();
         fetchChannels();
-        applyFilterForBlockedChannels(Lbryio.blockedChannels);
+        applyFilterForBlockedChannels();
     }
 
     @Override
@@ -1060,10 +1048,14 @@ public class FileViewFragment extends BaseFragment implements
         if (context instanceof MainActivity) {
             ((MainActivity) context).updateMiniPlayerMargins(true);
         }
-        leavingFileView = true;
-        if (webSocketClient != null) {
-            webSocketClient.close();
+        if (chatSubscription != null) {
+            chatSubscription.unsubscribe();
+            chatSubscription = null;
+        }
+        if (chatMessageBatcher != null) {
+            chatMessageBatcher.cancel();
         }
+        PlaybackPositionStore.getInstance().flush();
         super.onPause();
     }
 
@@ -1092,6 +1084,15 @@ public class FileViewFragment extends BaseFragment implements
         purgeScheduledTasks();
     }
 
+    @Override
+    public void onDestroyView() {
+        if (commentPager != null) {
+            commentPager.detach();
+            commentPager = null;
+        }
+        super.onDestroyView();
+    }
+
     /**
      * Cancels scheduled futures
      */
@@ -1192,7 +1193,7 @@ public class FileViewFragment extends BaseFragment implements
                     public void onError(Exception exception) {
                         view.setEnabled(true);
                     }
-                }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                }).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         }
     };
@@ -1264,7 +1265,7 @@ public class FileViewFragment extends BaseFragment implements
                 public void onError(Exception exception) {
                     view.setEnabled(true);
                 }
-            }).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            }).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -1308,18 +1309,10 @@ public class FileViewFragment extends BaseFragment implements
                         Helper.saveViewHistory(url, fileClaim);
                     }
 
-                    CustomBlockRule.CustomBlockStatus status = null;
-                    Context context = getContext();
-                    if (context instanceof MainActivity) {
-                        MainActivity activity = (MainActivity) context;
-                        status = Helper.getCustomBlockedStatus(
-                                fileClaim.getClaimId(),
-                                activity.getCustomBlockingRulesMap(),
-                                activity.getOdyseeLocale());
-                    }
-
-                    if ((status != null && status.isBlocked()) || Helper.isClaimBlocked(fileClaim)) {
-                        renderClaimBlocked(status.getMessage());
+                    ContentFilter contentFilter = ContentFilter.get();
+                    CustomBlockRule.CustomBlockStatus status = contentFilter.getCustomBlockedStatus(fileClaim.getClaimId());
+                    if ((status != null && status.isBlocked()) || contentFilter.isBlocked(fileClaim)) {
+                        renderClaimBlocked(status != null ? status.getMessage() : null);
                     } else {
                         loadFile();
                         checkAndLoadChannelSettings();
@@ -1338,7 +1331,7 @@ public class FileViewFragment extends BaseFragment implements
 //                resolving = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     @SuppressWarnings("ClickableViewAccessibility")
@@ -1841,6 +1834,7 @@ public class FileViewFragment extends BaseFragment implements
                                         tipOptions.put("channel_id", channel.getClaimId());
 
                                         JSONObject response = (JSONObject) Lbry.authenticatedGenericApiCall(Lbry.METHOD_SUPPORT_CREATE, tipOptions, Lbryio.AUTH_TOKEN);
+                                        Lbry.removeClaimFromCache(actualClaim.getClaimId());
                                         supportTxId = Helper.getJSONString("txid", null, response);
                                         // TODO: show a successful tip message or no?
                                     }
@@ -2072,7 +2066,7 @@ public class FileViewFragment extends BaseFragment implements
                     }
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -2189,7 +2183,7 @@ public class FileViewFragment extends BaseFragment implements
                     }
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -2583,6 +2577,7 @@ public class FileViewFragment extends BaseFragment implements
         }
 
         Claim claimToPlay = collectionClaimItem != null ? collectionClaimItem : fileClaim;
+        PlaybackPositionStore.getInstance().preload(claimToPlay);
 
         View root = getView();
         if (root != null) {
@@ -2686,7 +2681,7 @@ public class FileViewFragment extends BaseFragment implements
                         currentMediaSourceUrl = sourceUrl;
 
                         // Get the stream type
-                        OkHttpClient client = new OkHttpClient();
+                        OkHttpClient client = HttpClients.get();
                         Request request = new Request.Builder()
                                 .url(sourceUrl)
                                 .head()
@@ -2734,11 +2729,9 @@ public class FileViewFragment extends BaseFragment implements
         if (a != null) {
             try {
                 ChannelLiveStatus callable = new ChannelLiveStatus(Collections.singletonList(fileClaim.getSigningChannel().getClaimId()));
-                Future<Map<String, JSONObject>> future = ((OdyseeApp) a.getApplication()).getExecutor().submit(callable);
-
-                jsonData = future.get();
+                jsonData = callable.call();
                 jsonDataUrl = getLivestreamUrl(jsonData.get(fileClaim.getSigningChannel().getClaimId()));
-            } catch (InterruptedException | ExecutionException e) {
+            } catch (Exception e) {
                 e.printStackTrace();
             }
         }
@@ -2865,7 +2858,7 @@ public class FileViewFragment extends BaseFragment implements
                     // pass
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -2873,8 +2866,11 @@ public class FileViewFragment extends BaseFragment implements
         Claim claimToView = collectionClaimItem != null ? collectionClaimItem : fileClaim;
         String mediaType = claimToView.getMediaType();
         View root = getView();
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
+        Activity a = getActivity();
+        if (a == null) {
+            return;
+        }
+        ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, () -> {
             try {
                 // Get the streaming URL
                 Map<String, Object> params = new HashMap<>();
@@ -2894,7 +2890,7 @@ public class FileViewFragment extends BaseFragment implements
                         container.setVisibility(View.VISIBLE);
                     });
                 } else if (Arrays.asList("text/markdown", "text/md").contains(mediaType.toLowerCase())) {
-                    OkHttpClient client = new OkHttpClient();
+                    OkHttpClient client = HttpClients.get();
                     Request request = new Request.Builder()
                             .url(sourceUrl)
                             .build();
@@ -3037,7 +3033,8 @@ public class FileViewFragment extends BaseFragment implements
                 commentIds.add(c.getId());
             }
 
-            Future<Map<String, Reactions>> future = ((OdyseeApp) a.getApplication()).getExecutor().submit(() -> {
+            // always called from a worker thread, so the request is made inline instead of waiting on another pool thread
+            Callable<Map<String, Reactions>> request = () -> {
                 Comments.checkCommentsEndpointStatus();
                 JSONObject jsonParams = new JSONObject();
                 jsonParams.put("comment_ids", TextUtils.join(",", commentIds));
@@ -3101,11 +3098,11 @@ public class FileViewFragment extends BaseFragment implements
                     e.printStackTrace();
                 }
                 return result;
-            });
+            };
 
             try {
-                return future.get();
-            } catch (InterruptedException | ExecutionException e ) {
+                return request.call();
+            } catch (Exception e) {
                 e.printStackTrace();
                 return null;
             }
@@ -3189,7 +3186,7 @@ public class FileViewFragment extends BaseFragment implements
                     restoreMainActionButton();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -3258,7 +3255,7 @@ public class FileViewFragment extends BaseFragment implements
                     checkStoragePermissionAndFileGet();
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -3289,11 +3286,12 @@ public class FileViewFragment extends BaseFragment implements
             callables.add(() -> Lbry.claimSearch(optionsClone, Lbry.API_CONNECTION_STRING).getClaims());
         }
 
-        Thread t = new Thread(new Runnable() {
+        TaskRuntime runtime = app.getTaskRuntime();
+        runtime.execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
             @Override
             public void run() {
                 try {
-                    List<Future<List<Claim>>> results = app.getExecutor().invokeAll(callables);
+                    List<Future<List<Claim>>> results = runtime.invokeAll(TaskRuntime.Pool.NETWORK, callables);
                     List<Claim> claims = new ArrayList<>();
                     for (Future<List<Claim>> f : results) {
                         if (!f.isCancelled()) {
@@ -3358,7 +3356,6 @@ public class FileViewFragment extends BaseFragment implements
                 }
             }
         });
-        t.start();
     }
 
     private void handleMainActionForClaim() {
@@ -3418,7 +3415,7 @@ public class FileViewFragment extends BaseFragment implements
                 }
             }
         });
-        getFileTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        getFileTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void playOrViewMedia() {
@@ -3482,41 +3479,24 @@ public class FileViewFragment extends BaseFragment implements
         }
     }
 
-    private long loadLastPlaybackPosition() {
-        long position = -1;
+    private void seekToLastPlaybackPosition() {
         Claim actualClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
-        if (actualClaim != null) {
-            try {
-                String url = !Helper.isNullOrEmpty(actualClaim.getShortUrl()) ? actualClaim.getShortUrl() : actualClaim.getPermanentUrl();
-                String key = String.format("PlayPos_%s", LbryUri.normalize(url));
-                Context context = getContext();
-                if (context != null) {
-                    SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(context);
-                    position = sp.getLong(key, -1);
-                }
-            } catch (LbryUriException ex) {
-                ex.printStackTrace();
+        // preloaded when playback was started, so this normally doesn't have to wait for the database
+        PlaybackPositionStore.getInstance().getPosition(actualClaim, position -> {
+            Player currentPlayer = MainActivity.playerManager.getCurrentPlayer();
+            Claim playingClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
+            // another claim may have been opened while the position was read
+            if (position != PlaybackPositionStore.NO_POSITION && currentPlayer != null && playingClaim == actualClaim) {
+                currentPlayer.seekTo(position);
             }
-        }
-        return position;
+        });
     }
 
     private void savePlaybackPosition() {
         Claim actualClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
         Player currentPlayer = MainActivity.playerManager.getCurrentPlayer();
         if (currentPlayer != null && actualClaim != null) {
-            try {
-                String url = !Helper.isNullOrEmpty(actualClaim.getShortUrl()) ? actualClaim.getShortUrl() : actualClaim.getPermanentUrl();
-                String key = String.format("PlayPos_%s", LbryUri.normalize(url));
-                long position = currentPlayer.getCurrentPosition();
-                Context context = getContext();
-                if (context != null) {
-                    SharedPreferences sp = PreferenceManager.getDefaultSharedPreferences(context);
-                    sp.edit().putLong(key, position).apply();
-                }
-            } catch (LbryUriException ex) {
-                ex.printStackTrace();
-            }
+            PlaybackPositionStore.getInstance().savePosition(actualClaim, currentPlayer.getCurrentPosition());
         }
     }
 
@@ -3535,7 +3515,7 @@ public class FileViewFragment extends BaseFragment implements
                 showError(error.getMessage());
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
     }
 
     private String buildMarkdownHtml(String markdown) {
@@ -3640,20 +3620,16 @@ public class FileViewFragment extends BaseFragment implements
                 // Making a request which explicitly uses a certain value form the amount of results needed
                 // and no processing any possible exception, so using a callable instead of an AsyncTask
                 // makes sense for all Android API Levels
-                Thread t = new Thread(new Runnable() {
+                ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
                     @Override
                     public void run() {
                         LighthouseSearch callable = new LighthouseSearch(title, RELATED_CONTENT_SIZE, 0,
                                 nsfw, claimId, null, null, null, null);
-                        Future<List<String>> future = ((OdyseeApp) a.getApplication()).getExecutor().submit(callable);
 
                         try {
-                            List<String> urls = future.get();
-
-                            Callable<List<Claim>> resolveCallable = () -> Lbry.resolve(urls, Lbry.API_CONNECTION_STRING);
-                            Future<List<Claim>> resolveFuture = ((OdyseeApp) a.getApplication()).getExecutor().submit(resolveCallable);
-
-                            List<Claim> result = resolveFuture.get().stream().filter(c -> c != null).collect(Collectors.toList());
+                            // the search and the resolve are sequential, so both run on this task's thread
+                            List<String> urls = callable.call();
+                            List<Claim> result = Lbry.resolve(urls, Lbry.API_CONNECTION_STRING).stream().filter(c -> c != null).collect(Collectors.toList());
                             if (!urls.contains("")) {
                                 urls.add(""); // Explicit empty string as catch-all for LbryUri.normalize errors
                             }
@@ -3673,12 +3649,11 @@ public class FileViewFragment extends BaseFragment implements
                                     relatedLoading.setVisibility(View.GONE);
                                 }
                             });
-                        } catch (InterruptedException | ExecutionException e) {
+                        } catch (Exception e) {
                             e.printStackTrace();
                         }
                     }
                 });
-                t.start();
             } else {
                 // TODO: This code is never reached (should be called in resolveUrl)
                 TextView relatedOrPlayList = root.findViewById(R.id.related_or_playlist);
@@ -3745,7 +3720,7 @@ public class FileViewFragment extends BaseFragment implements
         List<Claim> filteredClaims = claims.stream().filter(c -> !c.getClaimId().equalsIgnoreCase(actualClaim.getClaimId()))
                                            .collect(Collectors.toList());
 
-        filteredClaims = Helper.filterClaimsByBlockedChannels(filteredClaims, Lbryio.blockedChannels);
+        filteredClaims = ContentFilter.get().filterClaims(filteredClaims);
 
         Context ctx = getContext();
         if (ctx != null) {
@@ -3796,30 +3771,51 @@ public class FileViewFragment extends BaseFragment implements
         View root = getView();
         if (root != null && actualClaim != null) {
             ProgressBar commentsLoading = root.findViewById(R.id.file_view_comments_progress);
-            CommentListTask task = new CommentListTask(1, 200, actualClaim.getClaimId(), commentsLoading, new CommentListHandler() {
+            if (commentPager != null) {
+                commentPager.detach();
+            }
+
+            // Comments are requested by popularity, so the first one of the first page is the one to be
+            // displayed as the collapsed single comment, and every page can be shown as soon as it arrives.
+            commentPager = new CommentPager(actualClaim.getClaimId(), Comments.SORT_BY_POPULARITY, commentsLoading, new CommentPager.PageListener() {
                 @Override
-                public void onSuccess(List<Comment> comments, boolean hasReachedEnd) {
-                    if (!comments.isEmpty()) {
-                        // Load and process comments reactions on a different thread so main thread is not blocked
-                        Helper.setViewVisibility(commentsLoading, View.VISIBLE);
-                        new Thread(new Runnable() {
-                            @Override
-                            public void run() {
-                                Map<String, Reactions> commentReactions = loadReactions(comments);
-                                Activity activity = getActivity();
-                                if (activity != null) {
-                                    activity.runOnUiThread(new Runnable() {
-                                        @Override
-                                        public void run() {
-                                            Helper.setViewVisibility(commentsLoading, View.GONE);
-                                            processCommentReactions(comments, commentReactions);
-                                        }
-                                    });
-                                }
-                            }
-                        }).start();
-                    } else {
+                public void onPageLoaded(List<Comment> comments, int page, boolean hasReachedEnd) {
+                    Context ctx = getContext();
+                    View root = getView();
+                    if (ctx == null || root == null) {
+                        return;
+                    }
+                    if (comments.isEmpty()) {
                         checkNoComments();
+                        return;
+                    }
+
+                    for (Comment c : comments) {
+                        // shown until the reactions of the page are loaded
+                        c.setReactions(new Reactions(0, 0, false, false));
+                    }
+
+                    boolean hashPending = isCommentHashPending();
+                    if (page == 1) {
+                        for (Comment c : comments) {
+                            if (c.getParentId() == null) {
+                                renderSingleComment(c);
+                                break;
+                            }
+                        }
+                        showFirstCommentPage(comments);
+                    } else if (commentListAdapter != null) {
+                        commentListAdapter.addItems(comments);
+                        resolveCommentPosters();
+                        if (hashPending && !isCommentHashPending()) {
+                            scrollToCommentHash();
+                        }
+                    }
+                    loadCommentReactions(comments);
+
+                    // the linked comment may be on a later page, so keep loading pages until it turns up
+                    if (isCommentHashPending() && !hasReachedEnd && commentPager != null) {
+                        commentPager.loadNextPage();
                     }
                 }
 
@@ -3830,103 +3826,97 @@ public class FileViewFragment extends BaseFragment implements
                     }
                     checkNoComments();
                 }
+            });
+            commentPager.attach(root.findViewById(R.id.file_view_comments_list));
+            commentPager.loadNextPage();
+        }
+    }
 
-                private void processCommentReactions(List<Comment> comments, Map<String, Reactions> commentReactions) {
-                    for (Comment c: comments) {
-                        if (commentReactions != null) {
-                            c.setReactions(commentReactions.get(c.getId()));
-                        } else {
-                            c.setReactions(new Reactions(0, 0, false, false));
-                        }
-                    }
-
-                    List<Comment> rootComments = new ArrayList<>();
-
-                    for (Comment c : comments) {
-                        if (c.getParentId() == null) {
-                            rootComments.add(c);
-                        }
-                    }
-
-                    // Now we have level 0 comments to content
-
-                    if (commentReactions != null) {
-                        Collections.sort(rootComments, new Comparator<Comment>() {
-                            @Override
-                            public int compare(Comment o1, Comment o2) {
-                                int o1SelfLiked = (Lbryio.isSignedIn() &&  o1.getReactions() != null && o1.getReactions().isLiked()) ? 1 : 0;
-                                int o2SelfLiked = (Lbryio.isSignedIn() && o2.getReactions() != null && o2.getReactions().isLiked()) ? 1 : 0;
-
-                                int o1OtherLikes = o1.getReactions() != null ? o1.getReactions().getOthersLikes() : 0;
-                                int o2OtherLikes = o2.getReactions() != null ? o2.getReactions().getOthersLikes() : 0;
-
-                                return (o2OtherLikes + o2SelfLiked) - (o1OtherLikes + o1SelfLiked);
+    /**
+     * Loads the reactions for a page of comments in the background, and merges them into the comment list
+     */
+    private void loadCommentReactions(List<Comment> comments) {
+        Activity activity = getActivity();
+        if (activity == null) {
+            return;
+        }
+        ((OdyseeApp) activity.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
+            @Override
+            public void run() {
+                Map<String, Reactions> commentReactions = loadReactions(comments);
+                if (commentReactions != null) {
+                    activity.runOnUiThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (commentListAdapter != null) {
+                                commentListAdapter.updateReactions(commentReactions);
                             }
-                        });
-                    }
-
-                    // Direct comments are now sorted by their amount of likes. We can now pick the
-                    // one to be displayed as the collapsed single comment.
-                    Comment singleComment = rootComments.get(0);
-
-                    TextView commentText = singleCommentRoot.findViewById(R.id.comment_text);
-                    ImageView thumbnailView = singleCommentRoot.findViewById(R.id.comment_thumbnail);
-                    View noThumbnailView = singleCommentRoot.findViewById(R.id.comment_no_thumbnail);
-                    TextView alphaView = singleCommentRoot.findViewById(R.id.comment_thumbnail_alpha);
+                        }
+                    });
+                }
+            }
+        });
+    }
 
-                    commentText.setText(singleComment.getText());
-                    commentText.setMaxLines(3);
-                    commentText.setEllipsize(TextUtils.TruncateAt.END);
-                    commentText.setClickable(true);
-                    commentText.setTextIsSelectable(false);
+    private void showFirstCommentPage(List<Comment> comments) {
+        if (commentListAdapter == null) {
+            ensureCommentListAdapterCreated(comments);
+            return;
+        }
 
-                    boolean hasThumbnail = singleComment.getPoster() != null && !Helper.isNullOrEmpty(singleComment.getPoster().getThumbnailUrl());
-                    thumbnailView.setVisibility(hasThumbnail ? View.VISIBLE : View.INVISIBLE);
-                    noThumbnailView.setVisibility(!hasThumbnail ? View.VISIBLE : View.INVISIBLE);
+        // the adapter is kept when switching to another claim, so replace its comments
+        commentListAdapter.clearItems();
+        commentListAdapter.addItems(comments);
+        View root = getView();
+        if (root != null) {
+            RecyclerView commentsList = root.findViewById(R.id.file_view_comments_list);
+            if (commentsList.getAdapter() == null) {
+                commentsList.setAdapter(commentListAdapter);
+            }
+        }
+        scrollToCommentHash();
+        checkNoComments();
+        resolveCommentPosters();
+    }
 
-                    int bgColor = Helper.generateRandomColorForValue(singleComment.getChannelId());
-                    Helper.setIconViewBackgroundColor(noThumbnailView, bgColor, false, getContext());
-                    if (hasThumbnail) {
-                        Context ctx = getContext();
-                        if (ctx != null) {
-                            Context appCtx = ctx.getApplicationContext();
-                            Glide.with(appCtx).asBitmap().load(singleComment.getPoster().getThumbnailUrl()).
-                                    apply(RequestOptions.circleCropTransform()).into(thumbnailView);
-                        }
-                    }
-                    alphaView.setText(singleComment.getChannelName() != null ? singleComment.getChannelName().substring(1, 2).toUpperCase() : null);
-                    singleCommentRoot.findViewById(R.id.comment_actions_area).setVisibility(View.GONE);
-                    singleCommentRoot.findViewById(R.id.comment_time).setVisibility(View.GONE);
-                    singleCommentRoot.findViewById(R.id.comment_channel_name).setVisibility(View.GONE);
-                    singleCommentRoot.findViewById(R.id.comment_more_options).setVisibility(View.GONE);
+    private void renderSingleComment(Comment singleComment) {
+        TextView commentText = singleCommentRoot.findViewById(R.id.comment_text);
+        ImageView thumbnailView = singleCommentRoot.findViewById(R.id.comment_thumbnail);
+        View noThumbnailView = singleCommentRoot.findViewById(R.id.comment_no_thumbnail);
+        TextView alphaView = singleCommentRoot.findViewById(R.id.comment_thumbnail_alpha);
 
-                    singleCommentRoot.setOnClickListener(new View.OnClickListener() {
-                        @Override
-                        public void onClick(View v) {
-                            expandButton.performClick();
-                        }
-                    });
+        commentText.setText(singleComment.getText());
+        commentText.setMaxLines(3);
+        commentText.setEllipsize(TextUtils.TruncateAt.END);
+        commentText.setClickable(true);
+        commentText.setTextIsSelectable(false);
 
-                    for (Comment c : comments) {
-                        if (!rootComments.contains(c)) {
-                            if (c.getParentId() != null) {
-                                rootComments.stream().filter(v -> c.getParentId().equalsIgnoreCase(v.getId()))
-                                                     .findFirst()
-                                                     .ifPresent(item -> rootComments.add(rootComments.indexOf(item) + 1, c));
-                            }
-                        }
-                    }
-                    comments = rootComments;
+        boolean hasThumbnail = singleComment.getPoster() != null && !Helper.isNullOrEmpty(singleComment.getPoster().getThumbnailUrl());
+        thumbnailView.setVisibility(hasThumbnail ? View.VISIBLE : View.INVISIBLE);
+        noThumbnailView.setVisibility(!hasThumbnail ? View.VISIBLE : View.INVISIBLE);
 
-                    Context ctx = getContext();
-                    View root = getView();
-                    if (ctx != null && root != null) {
-                        ensureCommentListAdapterCreated(comments);
-                    }
-                }
-            });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        int bgColor = Helper.generateRandomColorForValue(singleComment.getChannelId());
+        Helper.setIconViewBackgroundColor(noThumbnailView, bgColor, false, getContext());
+        if (hasThumbnail) {
+            Context ctx = getContext();
+            if (ctx != null) {
+                Context appCtx = ctx.getApplicationContext();
+                Glide.with(appCtx).asBitmap().load(singleComment.getPoster().getThumbnailUrl()).
+                        apply(RequestOptions.circleCropTransform()).into(thumbnailView);
+            }
         }
+        alphaView.setText(singleComment.getChannelName() != null ? singleComment.getChannelName().substring(1, 2).toUpperCase() : null);
+        singleCommentRoot.findViewById(R.id.comment_actions_area).setVisibility(View.GONE);
+        singleCommentRoot.findViewById(R.id.comment_time).setVisibility(View.GONE);
+        singleCommentRoot.findViewById(R.id.comment_channel_name).setVisibility(View.GONE);
+        singleCommentRoot.findViewById(R.id.comment_more_options).setVisibility(View.GONE);
+
+        singleCommentRoot.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                expandButton.performClick();
+            }
+        });
     }
 
     private void ensureCommentListAdapterCreated(final List<Comment> comments) {
@@ -3978,7 +3968,7 @@ public class FileViewFragment extends BaseFragment implements
             int marginInPx = Math.round(40 * ((float) androidContext.getResources().getDisplayMetrics().densityDpi / DisplayMetrics.DENSITY_DEFAULT));
             commentsList.addItemDecoration(new CommentItemDecoration(marginInPx));
             commentsList.setAdapter(commentListAdapter);
-            commentListAdapter.notifyItemRangeInserted(0, comments.size());
+            commentListAdapter.notifyItemRangeInserted(0, commentListAdapter.getItemCount());
 
             scrollToCommentHash();
             checkNoComments();
@@ -3986,6 +3976,10 @@ public class FileViewFragment extends BaseFragment implements
         }
     }
 
+    private boolean isCommentHashPending() {
+        return !Helper.isNullOrEmpty(commentHash) && commentListAdapter != null && !commentListAdapter.containsComment(commentHash);
+    }
+
     @MainThread
     private void scrollToCommentHash() {
         if (!Helper.isNullOrEmpty(commentHash)) {
@@ -3999,12 +3993,13 @@ public class FileViewFragment extends BaseFragment implements
         // check for the position of commentHash if set
         if (root != null && !Helper.isNullOrEmpty(hash) && commentListAdapter != null && commentListAdapter.getItemCount() > 0) {
             RecyclerView commentList = root.findViewById(R.id.file_view_comments_list);
-            int position = commentListAdapter.getPositionForComment(hash);
             RecyclerView.LayoutManager listLayoutManager = commentList.getLayoutManager();
-            if (position > -1 && listLayoutManager != null) {
+            if (commentListAdapter.containsComment(hash) && listLayoutManager != null) {
                 switchCommentListVisibility(true);
                 commentListAdapter.switchExpandedStateUI(false);
+                // the comment only has a position once the replies leading to it are expanded
                 commentListAdapter.collapseExceptHash(hash);
+                int position = commentListAdapter.getPositionForComment(hash);
 
                 NestedScrollView scrollView = root.findViewById(R.id.file_view_scroll_view);
                 scrollView.requestChildFocus(commentList, commentList);
@@ -4038,16 +4033,10 @@ public class FileViewFragment extends BaseFragment implements
                     @Override
                     public void onSuccess(List<Claim> claims) {
                         if (commentListAdapter != null) {
-                            for (Claim claim : claims) {
-                                if (claim.getClaimId() != null) {
-                                    commentListAdapter.updatePosterForComment(claim.getClaimId(), claim);
-                                }
-                            }
+                            commentListAdapter.updatePosters(claims);
 
                             // filter for blocked comments
-                            commentListAdapter.filterBlockedChannels(Lbryio.blockedChannels);
-
-                            commentListAdapter.notifyDataSetChanged();
+                            commentListAdapter.applyContentFilter(ContentFilter.get());
                         }
                     }
 
@@ -4056,7 +4045,7 @@ public class FileViewFragment extends BaseFragment implements
                         // pass
                     }
                 });
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         }
     }
@@ -4309,7 +4298,7 @@ public class FileViewFragment extends BaseFragment implements
                     }
                 };
 
-                CompletableFuture<Boolean> cf = CompletableFuture.supplyAsync(s);
+                CompletableFuture<Boolean> cf = CompletableFuture.supplyAsync(s, TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 cf.whenComplete((result, ex) -> {
                     if (result) {
                         if (activity != null) {
@@ -4333,7 +4322,7 @@ public class FileViewFragment extends BaseFragment implements
                     }
                 });
             } else {
-                Thread t = new Thread(new Runnable() {
+                TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                     @Override
                     public void run() {
                         try {
@@ -4358,7 +4347,6 @@ public class FileViewFragment extends BaseFragment implements
                         }
                     }
                 });
-                t.start();
             }
         }
     }
@@ -4388,8 +4376,8 @@ public class FileViewFragment extends BaseFragment implements
         final String authToken = Lbryio.AUTH_TOKEN;
         ClaimRewardTask firstStreamTask = new ClaimRewardTask(Reward.TYPE_FIRST_STREAM, null, authToken, eligibleRewardHandler);
         ClaimRewardTask dailyViewTask = new ClaimRewardTask(Reward.TYPE_DAILY_VIEW, null, authToken, eligibleRewardHandler);
-        firstStreamTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
-        dailyViewTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        firstStreamTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
+        dailyViewTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private final ClaimRewardTask.ClaimRewardHandler eligibleRewardHandler = new ClaimRewardTask.ClaimRewardHandler() {
@@ -4537,7 +4525,7 @@ public class FileViewFragment extends BaseFragment implements
         if (item.getGroupId() == FILE_CONTEXT_GROUP_ID && item.getItemId() == R.id.action_block) {
             if (relatedContentAdapter != null) {
                 int position = relatedContentAdapter.getPosition();
-                Claim claim = relatedContentAdapter.getItems().get(position);
+                Claim claim = relatedContentAdapter.getItem(position);
                 if (claim != null && claim.getSigningChannel() != null) {
                     Claim channel = claim.getSigningChannel();
                     Context context = getContext();
@@ -4638,7 +4626,7 @@ public class FileViewFragment extends BaseFragment implements
                 fetchingChannels = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
     private void disableChannelSpinner() {
         Helper.setViewEnabled(commentChannelSpinner, false);
@@ -4993,7 +4981,7 @@ public class FileViewFragment extends BaseFragment implements
                 afterPostComment();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void react(Comment comment, boolean like) {
@@ -5028,20 +5016,14 @@ public class FileViewFragment extends BaseFragment implements
 
         Activity a = getActivity();
         if (a != null) {
-            Thread thread = new Thread(new Runnable() {
+            ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                 @Override
                 public void run() {
                     // This makes a network connection, so it needs to be executed on a different thread than main.
                     if (Lbry.ownChannels.size() > 0) {
                         try {
-                            // This makes a network connection, so it needs to be executed on a different thread than main.
-                            Callable<JSONObject> optionsCallable = new BuildCommentReactOptions(options);
-                            Future<JSONObject> optionsFuture = ((OdyseeApp) a.getApplication()).getExecutor().submit(optionsCallable);
-
-                            JSONObject opt = optionsFuture.get();
-
-                            Future<?> futureReactions = ((OdyseeApp) a.getApplication()).getExecutor().submit(new ReactToComment(opt));
-                            futureReactions.get();
+                            JSONObject opt = new BuildCommentReactOptions(options).call();
+                            new ReactToComment(opt).run();
 
                             refreshCommentAfterReacting(comment);
                         } catch (Exception e) {
@@ -5050,7 +5032,6 @@ public class FileViewFragment extends BaseFragment implements
                     }
                 }
             });
-            thread.start();
         }
     }
 
@@ -5107,24 +5088,21 @@ public class FileViewFragment extends BaseFragment implements
             }
         };
 
-        try {
-            new Thread(runnable).start();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, runnable);
     }
 
-    public void applyFilterForBlockedChannels(List<LbryUri> blockedChannels) {
+    public void applyFilterForBlockedChannels() {
         if (relatedContentAdapter != null) {
-            relatedContentAdapter.filterBlockedChannels(blockedChannels);
+            relatedContentAdapter.applyContentFilter(ContentFilter.get());
         }
         if (commentListAdapter != null) {
-            commentListAdapter.filterBlockedChannels(blockedChannels);
+            commentListAdapter.applyContentFilter(ContentFilter.get());
         }
     }
 
     private boolean initialChatLoaded;
     private ChatMessageListAdapter chatMessageListAdapter;
+    private ChatMessageBatcher chatMessageBatcher;
 
     private void initLivestreamChat() {
         Claim actualClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
@@ -5160,156 +5138,138 @@ public class FileViewFragment extends BaseFragment implements
                 // pass
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
-    @SneakyThrows
     private void checkWebSocketClient() {
         Claim actualClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
-        if ((webSocketClient == null || webSocketClient.isClosed()) && actualClaim != null && !actualClaim.hasSource()) {
+        if (actualClaim != null && !actualClaim.hasSource()) {
             String signingChannelShort = String.valueOf(LbryUri.parse(actualClaim.getSigningChannel().getCanonicalUrl()).getClaimId());
             String livechatUrl = String.format("%s%s", Lbryio.WS_COMMENT_BASE_URL, actualClaim.getClaimId());
             livechatUrl = livechatUrl.concat("&category=").concat(actualClaim.getSigningChannel().getNormalizedName())
                                      .concat(":").concat(signingChannelShort)
                                      .concat("&sub_category=viewer");
-            webSocketClient = new WebSocketClient(new URI(livechatUrl)) {
-                @Override
-                public void onOpen(ServerHandshake handshakedata) { }
+            if (chatSubscription != null && !chatSubscription.getUrl().equals(livechatUrl)) {
+                chatSubscription.unsubscribe();
+                chatSubscription = null;
+            }
+            if (chatSubscription != null) {
+                return;
+            }
 
+            if (chatMessageBatcher == null) {
+                chatMessageBatcher = new ChatMessageBatcher(ChatMessageListAdapter.MAX_MESSAGES, this::onChatMessagesReceived);
+            }
+            final ChatMessageBatcher batcher = chatMessageBatcher;
+            // reconnections are handled by the websocket manager for as long as the subscription is kept
+            chatSubscription = WebSocketManager.getInstance().subscribe(livechatUrl, "livechat", new WebSocketManager.MessageListener() {
                 @Override
-                public void onMessage(String message) {
-                    Log.i(TAG, "onMessage: ".concat(message));
+                public void onMessage(String type, JSONObject json) {
+                    if (json == null) {
+                        return;
+                    }
                     try {
-                        JSONObject json = new JSONObject(message);
-                        String type = Helper.getJSONString("type", null, json);
-
-                        if ("delta".equalsIgnoreCase(type) || "viewers".equalsIgnoreCase(type) || "livestream".equalsIgnoreCase(type)) {
-                            JSONObject data = Helper.getJSONObject("data", json);
-
-                            Activity a = getActivity();
-                            if (data != null && "delta".equalsIgnoreCase(type)) {
-                                JSONObject commentJson = Helper.getJSONObject("comment", data);
-                                if (commentJson != null) {
-                                    Comment comment = new Comment();
-                                    comment.setHandler(chatMemberClickHandler);
-                                    if (a != null) {
-                                        a.runOnUiThread(new Runnable() {
+                        JSONObject data = Helper.getJSONObject("data", json);
+
+                        Activity a = getActivity();
+                        if (data != null && "delta".equalsIgnoreCase(type)) {
+                            JSONObject commentJson = Helper.getJSONObject("comment", data);
+                            if (commentJson != null) {
+                                // parsed on the socket thread, and added to the list with the rest of the messages of the frame
+                                Comment comment = new Comment();
+                                comment.setHandler(chatMemberClickHandler);
+                                comment.setText(Helper.getJSONString("comment", "", commentJson));
+                                comment.setChannelName(Helper.getJSONString("channel_name", "", commentJson));
+                                if (!Helper.isNullOrEmpty(comment.getChannelName())) {
+                                    batcher.offer(comment);
+                                }
+                            }
+                        } else if (data != null && "viewers".equalsIgnoreCase(type)) {
+                            int connectedViewers = data.getInt("connected");
+
+                            if (a != null) {
+                                a.runOnUiThread(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        try {
+                                            Context context = a.getApplicationContext();
+                                            String displayText = context.getResources().getString(R.string.livestream_view_count, String.valueOf(connectedViewers));
+                                            View root = getView();
+                                            if (root != null) {
+                                                TextView textViewCount = root.findViewById(R.id.file_view_view_count);
+                                                Helper.setViewText(textViewCount, displayText);
+                                                Helper.setViewVisibility(textViewCount, View.VISIBLE);
+                                            }
+                                            if (livestreamStartingMillis != 0) {
+                                                updatePublishTime(null, null);
+                                            } else { // Broadcast has not started or has finished
+                                                updatePublishTime((Claim.StreamMetadata) actualClaim.getValue(), actualClaim);
+                                            }
+                                        } catch (IllegalStateException ex) {
+                                            ex.printStackTrace();
+                                        }
+                                    }
+                                });
+                            }
+                        } else if (data != null && "livestream".equalsIgnoreCase(type)) {
+                            DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+                            String liveTime = data.getString("live_time");
+                            String endTime = data.getString("end_time");
+
+                            if (a != null) {
+                                ZonedDateTime zonedEnd = ZonedDateTime.parse(endTime, dtf);
+                                ZonedDateTime zonedStart = ZonedDateTime.parse(liveTime, dtf);
+
+                                if (zonedEnd != null && zonedStart != null) {
+                                    OdyseeApp app = (OdyseeApp) a.getApplication();
+
+                                    Date timeNow = new Date();
+
+                                    long millisecondsEnd = zonedEnd.toInstant().toEpochMilli();
+                                    long deltaEnd = millisecondsEnd - timeNow.getTime();
+
+                                    if (deltaEnd > 0) {
+                                        scheduledStopPlaying = app.getScheduledExecutor().schedule(new Runnable() {
                                             @Override
                                             public void run() {
-                                                comment.setText(Helper.getJSONString("comment", "", commentJson));
-                                                comment.setChannelName(Helper.getJSONString("channel_name", "", commentJson));
-                                                if (!Helper.isNullOrEmpty(comment.getChannelName())) {
-                                                    if (chatMessageListAdapter == null) {
-                                                        chatMessageListAdapter = new ChatMessageListAdapter(Collections.singletonList(comment), getContext());
-                                                        if (actualClaim.getSigningChannel() != null) {
-                                                            chatMessageListAdapter.setStreamerClaimId(actualClaim.getSigningChannel().getClaimId());
-                                                        }
-                                                        chatMessageList.setAdapter(chatMessageListAdapter);
-                                                    } else {
-                                                        final boolean wasAtBottom = isChatMessageListAtBottom();
-                                                        chatMessageListAdapter.addMessage(comment);
-                                                        if (wasAtBottom) {
-                                                            // only scroll to the end if the scrollview was previously at the bottom
-                                                            ((OdyseeApp) a.getApplication()).getScheduledExecutor().schedule(new Runnable() {
-                                                                @Override
-                                                                public void run() {
-                                                                    smoothScrollToLastChatMessage();
-                                                                }
-                                                            }, 100, TimeUnit.MILLISECONDS);
-                                                        }
+                                                a.runOnUiThread(new Runnable() {
+                                                    @Override
+                                                    public void run() {
+                                                        MainActivity.playerManager.getCurrentPlayer().stop();
+                                                        livestreamStartingMillis = 0;
+                                                        renderPublisherNotBroadcasting(actualClaim);
                                                     }
-                                                }
+                                                });
                                             }
-                                        });
+                                        }, deltaEnd, TimeUnit.MILLISECONDS);
                                     }
-                                }
-                            } else if (data != null && "viewers".equalsIgnoreCase(type)) {
-                                int connectedViewers = data.getInt("connected");
-
-                                if (a != null) {
-                                    a.runOnUiThread(new Runnable() {
-                                        @Override
-                                        public void run() {
-                                            try {
-                                                Context context = a.getApplicationContext();
-                                                String displayText = context.getResources().getString(R.string.livestream_view_count, String.valueOf(connectedViewers));
-                                                View root = getView();
-                                                if (root != null) {
-                                                    TextView textViewCount = root.findViewById(R.id.file_view_view_count);
-                                                    Helper.setViewText(textViewCount, displayText);
-                                                    Helper.setViewVisibility(textViewCount, View.VISIBLE);
-                                                }
-                                                if (livestreamStartingMillis != 0) {
-                                                    updatePublishTime(null, null);
-                                                } else { // Broadcast has not started or has finished
-                                                    updatePublishTime((Claim.StreamMetadata) actualClaim.getValue(), actualClaim);
-                                                }
-                                            } catch (IllegalStateException ex) {
-                                                ex.printStackTrace();
-                                            }
-                                        }
-                                    });
-                                }
-                            } else if (data != null && "livestream".equalsIgnoreCase(type)) {
-                                DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
-                                String liveTime = data.getString("live_time");
-                                String endTime = data.getString("end_time");
-
-                                if (a != null) {
-                                    ZonedDateTime zonedEnd = ZonedDateTime.parse(endTime, dtf);
-                                    ZonedDateTime zonedStart = ZonedDateTime.parse(liveTime, dtf);
-
-                                    if (zonedEnd != null && zonedStart != null) {
-                                        OdyseeApp app = (OdyseeApp) a.getApplication();
-
-                                        Date timeNow = new Date();
-
-                                        long millisecondsEnd = zonedEnd.toInstant().toEpochMilli();
-                                        long deltaEnd = millisecondsEnd - timeNow.getTime();
-
-                                        if (deltaEnd > 0) {
-                                            scheduledStopPlaying = app.getScheduledExecutor().schedule(new Runnable() {
-                                                @Override
-                                                public void run() {
-                                                    a.runOnUiThread(new Runnable() {
-                                                        @Override
-                                                        public void run() {
-                                                            MainActivity.playerManager.getCurrentPlayer().stop();
-                                                            livestreamStartingMillis = 0;
-                                                            renderPublisherNotBroadcasting(actualClaim);
-                                                        }
-                                                    });
-                                                }
-                                            }, deltaEnd, TimeUnit.MILLISECONDS);
-                                        }
 
-                                        long millisecondsStart = zonedStart.toInstant().toEpochMilli();
-                                        livestreamStartingMillis = millisecondsStart;
-                                        updatePublishTime(null, null);
-                                        long deltaStart = millisecondsStart - timeNow.getTime();
-
-                                        if (deltaStart > 0) {
-                                            scheduledStartPlaying = app.getScheduledExecutor().schedule(new Runnable() {
-                                                @Override
-                                                public void run() {
-                                                    a.runOnUiThread(new Runnable() {
-                                                        @Override
-                                                        public void run() {
-                                                            JSONObject jsonResult = jsonData.get(fileClaim.getSigningChannel().getClaimId());
-                                                            if (jsonResult != null && jsonResult.has("VideoURL")) {
-                                                                try {
-                                                                    claimLivestreamUrl = jsonResult.getString("VideoURL");
-                                                                    renderPublisherBroadcasting();
-                                                                    playMedia();
-                                                                } catch (JSONException e) {
-                                                                    e.printStackTrace();
-                                                                }
+                                    long millisecondsStart = zonedStart.toInstant().toEpochMilli();
+                                    livestreamStartingMillis = millisecondsStart;
+                                    updatePublishTime(null, null);
+                                    long deltaStart = millisecondsStart - timeNow.getTime();
+
+                                    if (deltaStart > 0) {
+                                        scheduledStartPlaying = app.getScheduledExecutor().schedule(new Runnable() {
+                                            @Override
+                                            public void run() {
+                                                a.runOnUiThread(new Runnable() {
+                                                    @Override
+                                                    public void run() {
+                                                        JSONObject jsonResult = jsonData.get(fileClaim.getSigningChannel().getClaimId());
+                                                        if (jsonResult != null && jsonResult.has("VideoURL")) {
+                                                            try {
+                                                                claimLivestreamUrl = jsonResult.getString("VideoURL");
+                                                                renderPublisherBroadcasting();
+                                                                playMedia();
+                                                            } catch (JSONException e) {
+                                                                e.printStackTrace();
                                                             }
                                                         }
-                                                    });
-                                                }
-                                            }, deltaStart, TimeUnit.MILLISECONDS);
-                                        }
+                                                    }
+                                                });
+                                            }
+                                        }, deltaStart, TimeUnit.MILLISECONDS);
                                     }
                                 }
                             }
@@ -5318,30 +5278,33 @@ public class FileViewFragment extends BaseFragment implements
                         ex.printStackTrace();
                     }
                 }
+            }, WebSocketManager.TOPIC_COMMENT_DELTA, WebSocketManager.TOPIC_VIEWERS, WebSocketManager.TOPIC_LIVESTREAM);
+        }
+    }
 
-                @Override
-                public void onClose(int code, String reason, boolean remote) {
-                    Context context = getContext();
-                    if (context instanceof MainActivity) {
-                        MainActivity activity = (MainActivity) context;
-                        if (!activity.isShuttingDown() && !leavingFileView) {
-                            // attempt to re-establish the connection if the app isn't being closed
-                            checkWebSocketClient();
-                        }
-                    }
-                }
-
-                @Override
-                public void onError(Exception ex) { }
+    /**
+     * Adds the chat messages received during the last frame to the chat list, in a single update
+     */
+    private void onChatMessagesReceived(List<Comment> messages) {
+        Context context = getContext();
+        if (context == null || chatMessageList == null) {
+            return;
+        }
 
-                protected void onSetSSLParameters(SSLParameters sslParameters) {
-                    // don't call setEndpointIdentificationAlgorithm for API level < 24
-                    if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
-                        sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
-                    }
-                }
-            };
-            webSocketClient.connect();
+        if (chatMessageListAdapter == null) {
+            Claim actualClaim = collectionClaimItem != null ? collectionClaimItem : fileClaim;
+            chatMessageListAdapter = new ChatMessageListAdapter(messages, context);
+            if (actualClaim != null && actualClaim.getSigningChannel() != null) {
+                chatMessageListAdapter.setStreamerClaimId(actualClaim.getSigningChannel().getClaimId());
+            }
+            chatMessageList.setAdapter(chatMessageListAdapter);
+        } else {
+            final boolean wasAtBottom = isChatMessageListAtBottom();
+            chatMessageListAdapter.addMessages(messages);
+            if (wasAtBottom) {
+                // only scroll to the end if the list was previously at the bottom. Posted so that it runs after layout.
+                chatMessageList.post(this::smoothScrollToLastChatMessage);
+            }
         }
     }
 
@@ -32,7 +32,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -44,7 +43,6 @@ import com.odysee.app.R;
 import com.odysee.app.adapter.ChannelFilterListAdapter;
 import com.odysee.app.adapter.ClaimListAdapter;
 import com.odysee.app.adapter.SuggestedChannelGridAdapter;
-import com.odysee.app.callable.ChannelLiveStatus;
 import com.odysee.app.callable.Search;
 import com.odysee.app.dialog.ContentFromDialogFragment;
 import com.odysee.app.dialog.ContentSortDialogFragment;
@@ -53,6 +51,8 @@ import com.odysee.app.exceptions.LbryUriException;
 import com.odysee.app.listener.DownloadActionListener;
 import com.odysee.app.model.Claim;
 import com.odysee.app.model.LbryFile;
+import com.odysee.app.model.LiveStatus;
+import com.odysee.app.model.Page;
 import com.odysee.app.model.lbryinc.Subscription;
 import com.odysee.app.tasks.claim.ClaimSearchResultHandler;
 import com.odysee.app.tasks.claim.ResolveResultHandler;
@@ -62,19 +62,24 @@ import com.odysee.app.tasks.claim.ResolveTask;
 import com.odysee.app.listener.ChannelItemSelectionListener;
 import com.odysee.app.tasks.lbryinc.FetchSubscriptionsTask;
 import com.odysee.app.ui.BaseFragment;
+import com.odysee.app.utils.ClaimSearchCache;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.ContentSources;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.LiveStatusService;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 
 public class FollowingFragment extends BaseFragment implements
         FetchSubscriptionsTask.FetchSubscriptionsHandler,
         ChannelItemSelectionListener,
         DownloadActionListener,
-        SharedPreferences.OnSharedPreferenceChangeListener {
+        SharedPreferences.OnSharedPreferenceChangeListener,
+        ClaimSearchCache.RefreshListener {
 
     public static boolean resetClaimSearchContent;
     private static final int SUGGESTED_PAGE_SIZE = 45;
@@ -383,6 +388,7 @@ public class FollowingFragment extends BaseFragment implements
             LbryAnalytics.setCurrentScreen(activity, "Subscriptions", "Subscriptions");
             activity.addDownloadActionListener(this);
         }
+        Lbry.claimSearchCache.addRefreshListener(this);
 
         // check if subscriptions exist
         if (suggestedChannelAdapter != null) {
@@ -400,6 +406,7 @@ public class FollowingFragment extends BaseFragment implements
         }
     }
     public void onPause() {
+        Lbry.claimSearchCache.removeRefreshListener(this);
         Context context = getContext();
         if (context instanceof MainActivity) {
             ((MainActivity) context).removeDownloadActionListener(this);
@@ -436,7 +443,7 @@ public class FollowingFragment extends BaseFragment implements
 
     private void fetchSubscriptions() {
         FetchSubscriptionsTask task = new FetchSubscriptionsTask(getContext(), channelListLoading, Lbryio.AUTH_TOKEN, this);
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private Map<String, Object> buildSuggestedOptions() {
@@ -574,7 +581,7 @@ public class FollowingFragment extends BaseFragment implements
                     handler.postDelayed(FollowingFragment.this::fetchAndResolveChannelList, 5_000);
                 }
             });
-            resolveSubscribedTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            resolveSubscribedTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
 
             fetchClaimSearchContent();
         }
@@ -657,13 +664,15 @@ public class FollowingFragment extends BaseFragment implements
 
         Collection<Callable<List<Claim>>> callables = new ArrayList<>(2);
         callables.add(() -> fetchActiveLivestreams());
-        callables.add(() -> Lbry.claimSearch(claimSearchOptions, Lbry.API_CONNECTION_STRING).getClaims());
+        // the stale page is displayed again in onClaimSearchRefreshed when it is refreshed
+        callables.add(() -> Lbry.claimSearch(claimSearchOptions, Lbry.API_CONNECTION_STRING, true).getClaims());
 
-        Thread t = new Thread(new Runnable() {
+        TaskRuntime runtime = app.getTaskRuntime();
+        runtime.execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
             @Override
             public void run() {
                 try {
-                    List<Future<List<Claim>>> results = app.getExecutor().invokeAll(callables);
+                    List<Future<List<Claim>>> results = runtime.invokeAll(TaskRuntime.Pool.NETWORK, callables);
 
                     List<Claim> items = new ArrayList<>();
 
@@ -695,8 +704,7 @@ public class FollowingFragment extends BaseFragment implements
                         return metadata instanceof Claim.StreamMetadata && (((Claim.StreamMetadata) metadata).getReleaseTime()) > (cal.getTimeInMillis() / 1000L);
                     });
 
-                    items = Helper.filterClaimsByOutpoint(items);
-                    items = Helper.filterClaimsByBlockedChannels(items, Lbryio.blockedChannels);
+                    items = ContentFilter.get().filterClaims(items);
 
                     if (a != null) {
                         List<Claim> finalClaims = items;
@@ -752,7 +760,6 @@ public class FollowingFragment extends BaseFragment implements
                 }
             }
         });
-        t.start();
     }
 
     /**
@@ -761,36 +768,26 @@ public class FollowingFragment extends BaseFragment implements
      */
     private List<Claim> fetchActiveLivestreams() {
         List<Claim> mostRecentClaims = new ArrayList<>();
-        Map<String, JSONObject> livestreamingChannels;
         try {
-            Activity a = getActivity();
-            OdyseeApp odyseeApp = (OdyseeApp) a.getApplication();
-            Future<Map<String, JSONObject>> isLiveFuture = odyseeApp.getExecutor().submit(new ChannelLiveStatus(getChannelIds(), false));
-
-            livestreamingChannels = isLiveFuture.get();
+            Map<String, LiveStatus> liveStatuses = LiveStatusService.getInstance().getLiveStatuses(getChannelIds());
 
             List<Claim> activeClaims = new ArrayList<>();
-            if (livestreamingChannels != null) {
+            if (liveStatuses != null) {
                 List<String> activeClaimIds = new ArrayList<>();
 
-                Iterator<Map.Entry<String, JSONObject>> it = livestreamingChannels.entrySet().iterator();
-                while (it.hasNext()) {
-                    Map.Entry<String, JSONObject> pair = it.next();
-                    JSONObject j = pair.getValue();
-                    String activeClaimId;
-                    if (j.has("ActiveClaim")) {
+                for (LiveStatus status : liveStatuses.values()) {
+                    JSONObject j = status.getData();
+                    if (status.isLive() && j != null && j.has("ActiveClaim")) {
                         JSONObject activeJson = (JSONObject) j.get("ActiveClaim");
-                        activeClaimId = activeJson.getString("ClaimID");
+                        String activeClaimId = activeJson.getString("ClaimID");
                         String livestreamUrl = j.getString("VideoURL");
                         int viewersCount = j.getInt("ViewerCount");
                         String startTime = j.getString("Start");
-                        System.out.println(pair.getKey() + " = " + pair.getValue());
                         if (!activeClaimId.equalsIgnoreCase("Confirming")) {
                             activeClaims.add(Claim.fromLiveStatus(activeClaimId, livestreamUrl, viewersCount, startTime));
                             activeClaimIds.add(activeClaimId);
                         }
                     }
-                    it.remove(); // avoids a ConcurrentModificationException
                 }
 
                 if (activeClaimIds.size() > 0) {
@@ -799,9 +796,8 @@ public class FollowingFragment extends BaseFragment implements
                     claimSearchOptions.put("claim_type", Collections.singletonList(Claim.TYPE_STREAM));
                     claimSearchOptions.put("has_no_source", true);
                     claimSearchOptions.put("claim_ids", activeClaimIds);
-                    Future<List<Claim>> mostRecentsFuture = odyseeApp.getExecutor().submit(new Search(claimSearchOptions));
-
-                    mostRecentClaims = mostRecentsFuture.get();
+                    // already running on a network pool thread, so search inline instead of waiting on the same pool
+                    mostRecentClaims = new Search(claimSearchOptions).call();
                 }
             }
 
@@ -822,11 +818,8 @@ public class FollowingFragment extends BaseFragment implements
                     }
                 });
             }
-        } catch (InterruptedException | ExecutionException | JSONException e) {
-            Throwable cause = e.getCause();
-            if (cause != null) {
-                cause.printStackTrace();
-            }
+        } catch (Exception e) {
+            e.printStackTrace();
         }
 
         return mostRecentClaims;
@@ -896,7 +889,7 @@ public class FollowingFragment extends BaseFragment implements
                     }
                 });
 
-        suggestedChannelClaimSearchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        suggestedChannelClaimSearchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     // handler methods
@@ -942,7 +935,7 @@ public class FollowingFragment extends BaseFragment implements
             @Override
             public void onError(Exception error) { }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         updateSuggestedDoneButtonText();
     }
     public void onChannelItemDeselected(Claim claim) {
@@ -965,7 +958,7 @@ public class FollowingFragment extends BaseFragment implements
 
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         updateSuggestedDoneButtonText();
     }
     public void onChannelSelectionCleared() {
@@ -985,6 +978,14 @@ public class FollowingFragment extends BaseFragment implements
         }
     }
 
+    @Override
+    public void onClaimSearchRefreshed(Map<String, Object> options, Page claimsPage) {
+        // only re-render when the first page currently on screen was served from a stale cache entry
+        if (!contentClaimSearchLoading && currentClaimSearchPage <= 1 && options.equals(buildContentOptions())) {
+            fetchClaimSearchContent(true);
+        }
+    }
+
     public void onSharedPreferenceChanged(SharedPreferences sp, String key) {
         if (key.equalsIgnoreCase(MainActivity.PREFERENCE_KEY_SHOW_MATURE_CONTENT)) {
             fetchClaimSearchContent(true);
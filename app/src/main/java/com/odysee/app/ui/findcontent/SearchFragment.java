@@ -3,7 +3,6 @@ package com.odysee.app.ui.findcontent;
 import android.app.Activity;
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.MenuItem;
@@ -33,9 +32,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import com.odysee.app.MainActivity;
@@ -44,16 +40,16 @@ import com.odysee.app.adapter.ClaimListAdapter;
 import com.odysee.app.exceptions.LbryUriException;
 import com.odysee.app.listener.DownloadActionListener;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.ClaimCacheKey;
 import com.odysee.app.model.LbryFile;
 import com.odysee.app.tasks.claim.ResolveResultHandler;
 import com.odysee.app.tasks.claim.ResolveTask;
 import com.odysee.app.ui.BaseFragment;
+import com.odysee.app.utils.ContentFilter;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
-import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import lombok.Setter;
 
@@ -261,7 +257,7 @@ public class SearchFragment extends BaseFragment implements
         if (item.getGroupId() == SEARCH_CONTEXT_GROUP_ID && item.getItemId() == R.id.action_block) {
             if (resultListAdapter != null) {
                 int position = resultListAdapter.getPosition();
-                Claim claim = resultListAdapter.getItems().get(position);
+                Claim claim = resultListAdapter.getItem(position);
                 if (claim != null && claim.getSigningChannel() != null) {
                     Claim channel = claim.getSigningChannel();
                     Context context = getContext();
@@ -299,7 +295,7 @@ public class SearchFragment extends BaseFragment implements
             explainerView.setVisibility(View.VISIBLE);
         }
 
-        applyFilterForBlockedChannels(Lbryio.blockedChannels);
+        applyFilterForBlockedChannels();
     }
 
     public void onPause() {
@@ -381,8 +377,7 @@ public class SearchFragment extends BaseFragment implements
             public void onSuccess(List<Claim> claims) {
                 // Add resolved claim(s) to cache
                 for (Claim claim : claims) {
-                    final ClaimCacheKey key = ClaimCacheKey.fromClaim(claim);
-                    Lbry.claimCache.put(key, claim);
+                    Lbry.addClaimToCache(claim);
                 }
 
                 if (claims.size() > 0) {
@@ -419,7 +414,7 @@ public class SearchFragment extends BaseFragment implements
                 error.printStackTrace();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void setMediaTypes(
@@ -517,18 +512,12 @@ public class SearchFragment extends BaseFragment implements
                 }
             });
 
-            Thread t = new Thread(new Runnable() {
+            ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
                 @Override
                 public void run() {
-                    Future<List<String>> future = ((OdyseeApp) a.getApplication()).getExecutor().submit(c);
-
                     try {
-                        List<String> urls = future.get();
-
-                        Callable<List<Claim>> resolveCallable = () -> Lbry.resolve(urls, Lbry.API_CONNECTION_STRING);
-                        Future<List<Claim>> resolveFuture = ((OdyseeApp) a.getApplication()).getExecutor().submit(resolveCallable);
-
-                        List<Claim> results = resolveFuture.get();
+                        List<String> urls = c.call();
+                        List<Claim> results = Lbry.resolve(urls, Lbry.API_CONNECTION_STRING);
                         int size = results.size();
                         results.removeIf(Objects::isNull);
                         int removedCount = size - results.size();
@@ -565,7 +554,7 @@ public class SearchFragment extends BaseFragment implements
                                         resultListAdapter.addItems(sanitizedClaims);
                                     }
 
-                                    resultListAdapter.filterBlockedChannels(Lbryio.blockedChannels);
+                                    resultListAdapter.applyContentFilter(ContentFilter.get());
                                     checkNothingToBeShown();
                                 }
                             }
@@ -592,13 +581,12 @@ public class SearchFragment extends BaseFragment implements
                                 }
                             }
                         });
-                    } catch (ExecutionException | InterruptedException e) {
+                    } catch (Exception e) {
                         searchLoading = false;
                         e.printStackTrace();
                     }
                 }
             });
-            t.start();
         }
     }
 
@@ -641,9 +629,9 @@ public class SearchFragment extends BaseFragment implements
         }
     }
 
-    public void applyFilterForBlockedChannels(List<LbryUri> blockedChannels) {
+    public void applyFilterForBlockedChannels() {
         if (resultListAdapter != null) {
-            resultListAdapter.filterBlockedChannels(blockedChannels);
+            resultListAdapter.applyContentFilter(ContentFilter.get());
         }
     }
 
@@ -8,7 +8,6 @@ import android.app.Activity;
 import android.content.Context;
 import android.content.Intent;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -55,6 +54,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 
 import org.json.JSONObject;
@@ -65,7 +65,6 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -539,8 +538,7 @@ public class SignInFragment extends Fragment {
         updateControlsBeforeRequest();
         requestInProgress = true;
 
-        ExecutorService executorService = Executors.newSingleThreadExecutor();
-        executorService.execute(new Runnable() {
+        executor.execute(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -639,7 +637,7 @@ public class SignInFragment extends Fragment {
                 finishWithWalletSync();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void runWalletSync(String password) {
@@ -687,7 +685,7 @@ public class SignInFragment extends Fragment {
                 walletSyncStarted = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void finishWithWalletSync() {
@@ -748,7 +746,7 @@ public class SignInFragment extends Fragment {
                 // check if local and remote hash are different, and then run sync set
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, "", getContext(), Lbry.KEYSTORE);
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
 
                 finishSignIn();
@@ -765,7 +763,7 @@ public class SignInFragment extends Fragment {
                 walletSyncStarted = false;
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processExistingWalletWithPassword(String password) {
@@ -786,7 +784,7 @@ public class SignInFragment extends Fragment {
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, password, getContext(), Lbry.KEYSTORE);
                 // check if local and remote hash are different, and then run sync set
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
 
                 finishSignIn();
@@ -803,7 +801,7 @@ public class SignInFragment extends Fragment {
                 walletSyncStarted = false;
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processNewWallet() {
@@ -819,7 +817,7 @@ public class SignInFragment extends Fragment {
                 walletSyncStarted = false;
             }
         });
-        fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        fetchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void createNewRemoteSync(String hash, String data) {
@@ -840,6 +838,6 @@ public class SignInFragment extends Fragment {
                 walletSyncStarted = false;
             }
         });
-        setTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        setTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
@@ -5,7 +5,6 @@ import android.content.Context;
 import android.content.DialogInterface;
 import android.database.sqlite.SQLiteDatabase;
 import android.graphics.Typeface;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -39,11 +38,8 @@ import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import com.odysee.app.MainActivity;
 import com.odysee.app.R;
@@ -69,6 +65,7 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 public class LibraryFragment extends BaseFragment implements
         ActionMode.Callback, DownloadActionListener, SelectionModeListener {
@@ -90,7 +87,7 @@ public class LibraryFragment extends BaseFragment implements
     private View layoutListEmpty;
     private TextView textListEmpty;
     private int currentPage;
-    private Date lastDate;
+    private ViewHistory lastHistoryItem;
     private boolean listReachedEnd;
     private boolean contentListLoading;
     private boolean initialOwnClaimsFetched;
@@ -288,8 +285,13 @@ public class LibraryFragment extends BaseFragment implements
     }
 
     public void loadPlaylists() {
+        Activity activity = getActivity();
+        if (activity == null) {
+            return;
+        }
         Helper.setViewVisibility(playlistsLoading, View.VISIBLE);
-        Executors.newSingleThreadExecutor().execute(new Runnable() {
+        // loads the private lists from the database and the public lists from the SDK
+        ((OdyseeApp) activity.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
             @Override
             public void run() {
                 Context context = getContext();
@@ -425,7 +427,7 @@ public class LibraryFragment extends BaseFragment implements
                 checkStatsLink();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void showPurchases() {
@@ -458,7 +460,7 @@ public class LibraryFragment extends BaseFragment implements
         cardStats.setVisibility(View.GONE);
         checkStatsLink();
 
-        lastDate = null;
+        lastHistoryItem = null;
         loadRecent();
     }
 
@@ -545,7 +547,7 @@ public class LibraryFragment extends BaseFragment implements
                 contentListLoading = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void fetchPurchases() {
@@ -575,7 +577,7 @@ public class LibraryFragment extends BaseFragment implements
                 contentListLoading = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void loadRecent() {
@@ -583,12 +585,12 @@ public class LibraryFragment extends BaseFragment implements
         Helper.setViewVisibility(layoutListEmpty, View.GONE);
         DatabaseHelper dbHelper = DatabaseHelper.getInstance();
         if (dbHelper != null) {
-            FetchViewHistoryTask task = new FetchViewHistoryTask(lastDate, PAGE_SIZE, dbHelper, new FetchViewHistoryTask.FetchViewHistoryHandler() {
+            FetchViewHistoryTask task = new FetchViewHistoryTask(lastHistoryItem, PAGE_SIZE, dbHelper, new FetchViewHistoryTask.FetchViewHistoryHandler() {
                 @Override
                 public void onSuccess(List<ViewHistory> history, boolean hasReachedEnd) {
                     listReachedEnd = hasReachedEnd;
                     if (history.size() > 0) {
-                        lastDate = history.get(history.size() - 1).getTimestamp();
+                        lastHistoryItem = history.get(history.size() - 1);
                     }
                     List<Claim> claims = Helper.claimsFromViewHistory(history);
                     if (contentListAdapter == null) {
@@ -601,7 +603,7 @@ public class LibraryFragment extends BaseFragment implements
                     contentListLoading = false;
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
         } else {
             checkListEmpty();
             contentListLoading = false;
@@ -621,7 +623,7 @@ public class LibraryFragment extends BaseFragment implements
             LbryFile claimFile = LbryFile.fromJSONObject(fileInfo);
             String claimId = claimFile.getClaimId();
             if (contentListAdapter != null) {
-                contentListAdapter.updateFileForClaimByIdOrUrl(claimFile, claimId, uri, true);
+                contentListAdapter.updateFileForClaimByIdOrUrl(claimFile, claimId, uri);
             }
         } catch (JSONException ex) {
             // invalid file info for download
@@ -797,7 +799,7 @@ public class LibraryFragment extends BaseFragment implements
         }
 
         if (currentFilter == FILTER_DOWNLOADS) {
-            new BulkDeleteFilesTask(claimIds).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            new BulkDeleteFilesTask(claimIds).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             Lbry.unsetFilesForCachedClaims(claimIds);
             contentListAdapter.removeItems(selectedClaims);
 
@@ -818,14 +820,12 @@ public class LibraryFragment extends BaseFragment implements
                        .setPositiveButton(R.string.yes, new DialogInterface.OnClickListener() {
                            @Override
                            public void onClick(DialogInterface dialogInterface, int i) {
-                               Thread t = new Thread(new Runnable() {
+                               ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, new Runnable() {
                                    @Override
                                    public void run() {
                                        for (Claim c : selectedClaims) {
                                            try {
-                                               Runnable r = new DeleteViewHistoryItem(c.getPermanentUrl());
-                                               Future<?> f = ((OdyseeApp) a.getApplication()).getExecutor().submit(r);
-                                               f.get();
+                                               new DeleteViewHistoryItem(c.getPermanentUrl()).run();
                                                a.runOnUiThread(new Runnable() {
                                                    @Override
                                                    public void run() {
@@ -847,7 +847,6 @@ public class LibraryFragment extends BaseFragment implements
                                        });
                                    }
                                });
-                               t.start();
                            }
                        })
                        .setNegativeButton(R.string.no, null);
@@ -896,7 +895,7 @@ public class LibraryFragment extends BaseFragment implements
 
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -3,7 +3,6 @@ package com.odysee.app.ui.library;
 import android.content.Context;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -25,6 +24,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.button.MaterialButton;
 import com.odysee.app.MainActivity;
 import com.odysee.app.R;
+import com.odysee.app.OdyseeApp;
 import com.odysee.app.adapter.ClaimListAdapter;
 import com.odysee.app.data.DatabaseHelper;
 import com.odysee.app.listener.DownloadActionListener;
@@ -37,12 +37,12 @@ import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryUri;
+import com.odysee.app.utils.TaskRuntime;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
 
 public class PlaylistFragment extends BaseFragment implements
         ActionMode.Callback, DownloadActionListener, SelectionModeListener {
@@ -105,7 +105,7 @@ public class PlaylistFragment extends BaseFragment implements
         } else {
             Context context = getContext();
             if (context instanceof MainActivity) {
-                Executors.newSingleThreadExecutor().execute(new Runnable() {
+                ((OdyseeApp) context.getApplicationContext()).getTaskRuntime().execute(TaskRuntime.Pool.DISK, this, new Runnable() {
                     @Override
                     public void run() {
                         try {
@@ -183,7 +183,7 @@ public class PlaylistFragment extends BaseFragment implements
                 showError(getString(R.string.could_not_load_playlist));
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     @Override
@@ -252,7 +252,10 @@ public class PlaylistFragment extends BaseFragment implements
         if (currentCollection != null && item.getItemId() == R.id.action_remove_from_list) {
             String id = currentCollection.getId();
             int position = adapter.getPosition();
-            Claim claim = adapter.getItems().get(position);
+            Claim claim = adapter.getItem(position);
+            if (claim == null) {
+                return super.onContextItemSelected(item);
+            }
             String url = claim.getPermanentUrl();
 
             DatabaseHelper.removeCollectionItem(id, url, DatabaseHelper.getInstance().getWritableDatabase());
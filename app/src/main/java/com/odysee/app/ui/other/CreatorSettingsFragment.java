@@ -1,7 +1,6 @@
 package com.odysee.app.ui.other;
 
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
@@ -41,6 +40,7 @@ import com.odysee.app.utils.Comments;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -52,8 +52,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -252,8 +250,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         requestInProgress = true;
         Helper.setViewVisibility(loadingProgress, View.VISIBLE);
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -296,8 +293,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         requestInProgress = true;
         Helper.setViewVisibility(loadingProgress, View.VISIBLE);
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -340,8 +336,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         requestInProgress = true;
         Helper.setViewVisibility(loadingProgress, View.VISIBLE);
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -390,8 +385,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         }
 
         final int actualValue = intValue;
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -448,8 +442,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         }
 
         final BigDecimal actualValue = bd;
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -530,8 +523,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         }
 
         final int actualValue = numMinutes;
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -580,8 +572,7 @@ public class CreatorSettingsFragment extends BaseFragment {
         }
 
         final BigDecimal actualValue = bd;
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -643,7 +634,7 @@ public class CreatorSettingsFragment extends BaseFragment {
                 returnToMain();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void toggleControlsEnabled(boolean enabled) {
@@ -687,8 +678,7 @@ public class CreatorSettingsFragment extends BaseFragment {
             mutedWordsAdapter.clear();
         }
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
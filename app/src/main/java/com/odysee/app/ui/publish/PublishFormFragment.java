@@ -84,6 +84,7 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Predefined;
+import com.odysee.app.utils.TaskRuntime;
 import com.odysee.app.utils.Utils;
 import lombok.Data;
 import lombok.Getter;
@@ -679,7 +680,7 @@ public class PublishFormFragment extends BaseFragment implements
                 }
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
     }
 
     private void uploadThumbnail(String thumbnailPath) {
@@ -717,7 +718,7 @@ public class PublishFormFragment extends BaseFragment implements
                 uploading = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void probeVideo(String filePath) {
@@ -727,7 +728,7 @@ public class PublishFormFragment extends BaseFragment implements
                 checkAndTranscodeVideo(filePath, result);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
 
     }
 
@@ -818,7 +819,7 @@ public class PublishFormFragment extends BaseFragment implements
             });
 
             transcodeStartTime = System.currentTimeMillis();
-            videoTranscodeTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            videoTranscodeTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
         }
     }
 
@@ -888,7 +889,7 @@ public class PublishFormFragment extends BaseFragment implements
                 fetchingChannels = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
     private void disableChannelSpinner() {
         Helper.setViewEnabled(channelSpinner, false);
@@ -1066,7 +1067,7 @@ public class PublishFormFragment extends BaseFragment implements
                 if (!BuildConfig.DEBUG) {
                     claimResult.setSigningChannel(claim.getSigningChannel());
                     LogPublishTask logPublish = new LogPublishTask(claimResult);
-                    logPublish.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    logPublish.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
 
                 // publish done
@@ -1089,7 +1090,7 @@ public class PublishFormFragment extends BaseFragment implements
                 postSave();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void preSave() {
@@ -1224,7 +1225,7 @@ public class PublishFormFragment extends BaseFragment implements
                 checkNoTagResults();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.CPU));
     }
 
     @Override
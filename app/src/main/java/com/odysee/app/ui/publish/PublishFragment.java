@@ -6,7 +6,6 @@ import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -45,6 +44,7 @@ import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
+import com.odysee.app.utils.TaskRuntime;
 
 public class PublishFragment extends BaseFragment implements
         CameraPermissionListener, FilePickerListener, StoragePermissionListener {
@@ -322,7 +322,7 @@ public class PublishFragment extends BaseFragment implements
                 checkNoVideosLoaded();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
     }
 
     public void checkNoVideosLoaded() {
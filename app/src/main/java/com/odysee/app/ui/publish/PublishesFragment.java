@@ -3,7 +3,6 @@ package com.odysee.app.ui.publish;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.Menu;
@@ -41,6 +40,7 @@ import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 public class PublishesFragment extends BaseFragment implements ActionMode.Callback, SelectionModeListener {
 
@@ -178,7 +178,7 @@ public class PublishesFragment extends BaseFragment implements ActionMode.Callba
                         checkNoPublishes();
                     }
                 });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void onEnterSelectionMode() {
@@ -299,6 +299,6 @@ public class PublishesFragment extends BaseFragment implements ActionMode.Callba
                 checkNoPublishes();
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
@@ -1,7 +1,6 @@
 package com.odysee.app.ui.rewards;
 
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.text.Html;
 import android.text.method.LinkMovementMethod;
@@ -32,6 +31,7 @@ import com.odysee.app.utils.FirstRunStepHandler;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -206,7 +206,7 @@ public class RewardVerificationFragment extends Fragment implements Verification
                 }
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void showFetchUserError(String message) {
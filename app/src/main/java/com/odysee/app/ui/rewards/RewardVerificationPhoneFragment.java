@@ -3,7 +3,6 @@ package com.odysee.app.ui.rewards;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -26,6 +25,7 @@ import com.odysee.app.listener.VerificationListener;
 import com.odysee.app.tasks.GenericTaskHandler;
 import com.odysee.app.tasks.verification.PhoneNewVerifyTask;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class RewardVerificationPhoneFragment extends Fragment {
@@ -146,7 +146,7 @@ public class RewardVerificationPhoneFragment extends Fragment {
                 Helper.setViewVisibility(continueButton, View.VISIBLE);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void verifyPhoneNumber(String verificationCode) {
@@ -176,6 +176,6 @@ public class RewardVerificationPhoneFragment extends Fragment {
                 Helper.setViewEnabled(editButton, true);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
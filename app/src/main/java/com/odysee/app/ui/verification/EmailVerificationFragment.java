@@ -3,7 +3,6 @@ package com.odysee.app.ui.verification;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -32,6 +31,7 @@ import com.odysee.app.tasks.verification.CheckUserEmailVerifiedTask;
 import com.odysee.app.tasks.verification.EmailNewTask;
 import com.odysee.app.tasks.verification.EmailResendTask;
 import com.odysee.app.utils.Helper;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class EmailVerificationFragment extends Fragment {
@@ -153,7 +153,7 @@ public class EmailVerificationFragment extends Fragment {
                 Helper.setViewVisibility(buttonContinue, View.VISIBLE);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void scheduleEmailVerify() {
@@ -182,7 +182,7 @@ public class EmailVerificationFragment extends Fragment {
                 layoutVerify.setVisibility(View.GONE);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void editEmail() {
@@ -224,6 +224,6 @@ public class EmailVerificationFragment extends Fragment {
                 Helper.setViewEnabled(buttonResend, true);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
@@ -2,7 +2,6 @@ package com.odysee.app.ui.verification;
 
 import android.content.Context;
 import android.graphics.Color;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.Gravity;
 import android.view.LayoutInflater;
@@ -32,6 +31,7 @@ import com.odysee.app.tasks.lbryinc.TwitterVerifyTask;
 import com.odysee.app.tasks.verification.TwitterAccessTokenTask;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class ManualVerificationFragment extends Fragment {
@@ -151,7 +151,7 @@ public class ManualVerificationFragment extends Fragment {
                 handleFlowError(null);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
 */
@@ -242,7 +242,7 @@ public class ManualVerificationFragment extends Fragment {
                 handleFlowError(null);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void twitterVerify(TwitterOauth twitterOauth) {
@@ -286,7 +286,7 @@ public class ManualVerificationFragment extends Fragment {
                     handleFlowError(error != null ? error.getMessage() : null);
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         } else {
             twitterOauthInProgress = false;
             if (listener != null) {
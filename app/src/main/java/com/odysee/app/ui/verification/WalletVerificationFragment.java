@@ -2,7 +2,6 @@ package com.odysee.app.ui.verification;
 
 import android.app.Activity;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -25,6 +24,7 @@ import com.odysee.app.tasks.wallet.SyncSetTask;
 import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 import lombok.Setter;
 
 public class WalletVerificationFragment extends BaseFragment {
@@ -126,7 +126,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 }
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
 */
     }
 
@@ -139,7 +139,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 // check if local and remote hash are different, and then run sync set
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, "", getContext(), Lbry.KEYSTORE);
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
                 if (listener != null) {
                     listener.onWalletSyncEnabled();
@@ -158,7 +158,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 }
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processExistingWalletWithPassword(String password) {
@@ -180,7 +180,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 Utils.setSecureValue(MainActivity.SECURE_VALUE_KEY_SAVED_PASSWORD, password, getContext(), Lbry.KEYSTORE);
                 // check if local and remote hash are different, and then run sync set
                 if (!hash.equalsIgnoreCase(Lbryio.lastRemoteHash) && !Helper.isNullOrEmpty(Lbryio.lastRemoteHash)) {
-                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                    new SyncSetTask(Lbryio.lastRemoteHash, hash, data, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
                 }
                 if (listener != null) {
                     listener.onWalletSyncEnabled();
@@ -200,7 +200,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 }
             }
         });
-        applyTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        applyTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     public void processNewWallet() {
@@ -217,7 +217,7 @@ public class WalletVerificationFragment extends BaseFragment {
                 }
             }
         });
-        fetchTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        fetchTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void createNewRemoteSync(String hash, String data) {
@@ -240,6 +240,6 @@ public class WalletVerificationFragment extends BaseFragment {
                 }
             }
         });
-        setTask.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        setTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 }
@@ -4,7 +4,6 @@ import android.accounts.AccountManager;
 import android.content.ClipData;
 import android.content.ClipboardManager;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextWatcher;
@@ -51,6 +50,7 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 public class InvitesFragment extends BaseFragment implements WalletBalanceListener, ChannelCreateDialogFragment.ChannelCreateListener {
 
@@ -174,7 +174,7 @@ public class InvitesFragment extends BaseFragment implements WalletBalanceListen
                         Helper.setViewEnabled(buttonInviteByEmail, true);
                     }
                 });
-                task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+                task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             }
         });
 
@@ -353,7 +353,7 @@ public class InvitesFragment extends BaseFragment implements WalletBalanceListen
                 // pass
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void disableChannelSpinner() {
@@ -397,7 +397,7 @@ public class InvitesFragment extends BaseFragment implements WalletBalanceListen
                 fetchingChannels = false;
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void fetchInviteStatus() {
@@ -425,7 +425,7 @@ public class InvitesFragment extends BaseFragment implements WalletBalanceListen
                 );
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     @Override
@@ -5,7 +5,6 @@ import android.accounts.AccountManager;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Typeface;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Bundle;
 import android.view.LayoutInflater;
@@ -28,9 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import com.odysee.app.MainActivity;
@@ -49,6 +46,7 @@ import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -108,7 +106,7 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
                 onFinishRewardsApprovedCheck(false);
             }
         });
-        task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
     }
 
     private void onFinishRewardsApprovedCheck(boolean isApproved) {
@@ -233,7 +231,7 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
                     });
                 });
             } else {
-                Thread t = new Thread(new Runnable() {
+                executorService.execute(new Runnable() {
                     @Override
                     public void run() {
                         Callable<List<Reward>> callable = new Callable<List<Reward>>() {
@@ -261,10 +259,8 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
                             }
                         };
 
-                        Future<List<Reward>> future = executorService.submit(callable);
-
                         try {
-                            List<Reward> rewards = future.get();
+                            List<Reward> rewards = callable.call();
 
                             if (rewards != null) {
                                 Lbryio.updateRewardsLists(rewards);
@@ -285,12 +281,11 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
                                     }
                                 });
                             }
-                        } catch (InterruptedException | ExecutionException e) {
+                        } catch (Exception e) {
                             e.printStackTrace();
                         }
                     }
                 });
-                t.start();
             }
         }
     }
@@ -356,7 +351,7 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
 
         if (Build.VERSION.SDK_INT > Build.VERSION_CODES.M) {
             Supplier<JSONObject> s = new ClaimRewardSupplier(type, code, authToken);
-            CompletableFuture<JSONObject> cf = CompletableFuture.supplyAsync(s);
+            CompletableFuture<JSONObject> cf = CompletableFuture.supplyAsync(s, TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
             cf.whenComplete((result, e) -> afterClaimingReward(inputClaimCode, buttonClaim, loadingView, activity, result, e));
         } else {
             ClaimRewardTask task = new ClaimRewardTask(type, code, authToken, new ClaimRewardTask.ClaimRewardHandler() {
@@ -385,7 +380,7 @@ public class RewardsFragment extends BaseFragment implements RewardListAdapter.R
                     rewardClaimInProgress = false;
                 }
             });
-            task.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
         }
     }
 
@@ -15,20 +15,19 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 
 import com.odysee.app.MainActivity;
 import com.odysee.app.OdyseeApp;
 import com.odysee.app.R;
 import com.odysee.app.adapter.TransactionListAdapter;
-import com.odysee.app.callable.TransactionList;
 import com.odysee.app.model.Transaction;
 import com.odysee.app.ui.BaseFragment;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
+import com.odysee.app.utils.TransactionHistoryStore;
 
 public class TransactionHistoryFragment extends BaseFragment implements TransactionListAdapter.TransactionClickListener {
 
@@ -39,7 +38,6 @@ public class TransactionHistoryFragment extends BaseFragment implements Transact
     private RecyclerView transactionList;
     private TransactionListAdapter adapter;
     private View noTransactionsView;
-    private int currentTransactionPage;
 
     @Override
     public View onCreateView(LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -74,9 +72,7 @@ public class TransactionHistoryFragment extends BaseFragment implements Transact
                     int pastVisibleItems = lm.findFirstVisibleItemPosition();
                     if (pastVisibleItems + visibleItemCount >= totalItemCount) {
                         if (!transactionsHaveReachedEnd) {
-                            // load more
-                            currentTransactionPage++;
-                            loadTransactions();
+                            loadMoreTransactions();
                         }
                     }
                 }
@@ -105,59 +101,100 @@ public class TransactionHistoryFragment extends BaseFragment implements Transact
         Helper.setViewVisibility(noTransactionsView, adapter == null || adapter.getItemCount() == 0 ? View.VISIBLE : View.GONE);
     }
 
+    /**
+     * Displays the saved transactions, then refreshes them and displays them again if there were new ones
+     */
     private void loadTransactions() {
-        currentTransactionPage = currentTransactionPage == 0 ? 1 : currentTransactionPage;
+        Activity a = getActivity();
+        if (a == null) {
+            return;
+        }
         transactionsLoading = true;
+        loading.setVisibility(View.VISIBLE);
+
+        final String authToken = Lbryio.AUTH_TOKEN;
+        // as many transactions as are displayed are loaded again, so that the list doesn't shrink
+        final int limit = Math.max(TRANSACTION_PAGE_LIMIT, adapter != null ? adapter.getItemCount() : 0);
+        ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
+            @Override
+            public void run() {
+                TransactionHistoryStore store = TransactionHistoryStore.getInstance();
+                List<Transaction> saved = store.getSavedPage(null, limit);
+                if (!saved.isEmpty()) {
+                    a.runOnUiThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            displayTransactions(saved);
+                        }
+                    });
+                }
+
+                boolean changed = store.refresh(authToken, false);
+                List<Transaction> transactions = changed || saved.size() < limit ? store.loadPage(null, limit, authToken) : saved;
+                a.runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (transactions != saved) {
+                            displayTransactions(transactions);
+                        }
+                        transactionsHaveReachedEnd = transactions.size() < limit;
+                        onTransactionsLoaded();
+                    }
+                });
+            }
+        });
+    }
 
+    private void loadMoreTransactions() {
         Activity a = getActivity();
-        if (a != null) {
-            loading.setVisibility(View.VISIBLE);
-
-            Thread t = new Thread(new Runnable() {
-                @Override
-                public void run() {
-                    Future<List<Transaction>> f = ((OdyseeApp) a.getApplication()).getExecutor().submit(new TransactionList(currentTransactionPage, TRANSACTION_PAGE_LIMIT, Lbryio.AUTH_TOKEN));
-
-                    try {
-                        List<Transaction> resultList = f.get();
-
-                        a.runOnUiThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                Context context = getContext();
-
-                                transactionsLoading = false;
-                                transactionsHaveReachedEnd = resultList.size() < TRANSACTION_PAGE_LIMIT;
-                                if (context != null) {
-                                    if (adapter == null) {
-                                        adapter = new TransactionListAdapter(resultList, context);
-                                        adapter.setListener(TransactionHistoryFragment.this);
-                                        if (transactionList != null) {
-                                            transactionList.setAdapter(adapter);
-                                        }
-                                    } else {
-                                        adapter.addTransactions(resultList);
-                                    }
-                                }
-                            }
-                        });
-                    } catch (ExecutionException | InterruptedException e) {
-                        e.printStackTrace();
-                    } finally {
-                        a.runOnUiThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                loading.setVisibility(View.GONE);
-                                checkNoTransactions();
-                            }
-                        });
+        if (a == null || adapter == null) {
+            return;
+        }
+        transactionsLoading = true;
+        loading.setVisibility(View.VISIBLE);
+
+        final String authToken = Lbryio.AUTH_TOKEN;
+        final Transaction lastItem = adapter.getLastItem();
+        ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
+            @Override
+            public void run() {
+                List<Transaction> transactions = TransactionHistoryStore.getInstance().loadPage(lastItem, TRANSACTION_PAGE_LIMIT, authToken);
+                a.runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (adapter != null) {
+                            adapter.addTransactions(transactions);
+                        }
+                        transactionsHaveReachedEnd = transactions.size() < TRANSACTION_PAGE_LIMIT;
+                        onTransactionsLoaded();
                     }
-                }
-            });
-            t.start();
+                });
+            }
+        });
+    }
+
+    private void displayTransactions(List<Transaction> transactions) {
+        Context context = getContext();
+        if (context == null) {
+            return;
+        }
+        if (adapter == null) {
+            adapter = new TransactionListAdapter(transactions, context);
+            adapter.setListener(TransactionHistoryFragment.this);
+            if (transactionList != null) {
+                transactionList.setAdapter(adapter);
+            }
+        } else {
+            adapter.setTransactions(transactions);
         }
     }
 
+    private void onTransactionsLoaded() {
+        transactionsLoading = false;
+        Helper.setViewVisibility(loading, View.GONE);
+        checkNoTransactions();
+    }
+
     @Override
     public void onStart() {
         super.onStart();
@@ -55,8 +55,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import javax.crypto.Mac;
@@ -67,7 +65,6 @@ import com.odysee.app.OdyseeApp;
 import com.odysee.app.R;
 import com.odysee.app.adapter.TransactionListAdapter;
 import com.odysee.app.adapter.WalletDetailAdapter;
-import com.odysee.app.callable.TransactionList;
 import com.odysee.app.callable.WalletGetUnusedAddress;
 import com.odysee.app.supplier.WalletGetUnusedAddressSupplier;
 import com.odysee.app.exceptions.ApiCallException;
@@ -81,10 +78,13 @@ import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.LbryAnalytics;
 import com.odysee.app.utils.LbryUri;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
+import com.odysee.app.utils.TransactionHistoryStore;
 import com.odysee.app.views.CreditsBalanceView;
 
 public class WalletFragment extends BaseFragment implements WalletBalanceListener {
 
+    private static final int RECENT_TRANSACTIONS_LIMIT = 5;
     private static final String MOONPAY_KEY = "c2tfbGl2ZV9ueVJqVXNDbE5pcnVSdnlCMkJLWW5JcFA5VnA3dWU=";
     private static final String MOONPAY_URL_FORMAT =
             "https://buy.moonpay.io?apiKey=pk_live_xNFffrN5NWKy6fu0ggbV8VQIwRieRzy&colorCode=%%23E50054&currencyCode=LBC&showWalletAddressForm=true&walletAddress=%s&externalCustomerId=%s";
@@ -195,58 +195,73 @@ public class WalletFragment extends BaseFragment implements WalletBalanceListene
         final Activity a = getActivity();
 
         if (a != null) {
-            Thread t = new Thread(new Runnable() {
+            // the saved transactions are displayed right away, and again if the refresh found new ones
+            ((OdyseeApp) a.getApplication()).getTaskRuntime().execute(TaskRuntime.Pool.NETWORK, this, new Runnable() {
                 @Override
                 public void run() {
-                    Future<List<Transaction>> f = ((OdyseeApp) a.getApplication()).getExecutor().submit(new TransactionList(1, 5, authToken));
-
-                    try {
-                        List<Transaction> resultList = f.get();
-
-                        a.runOnUiThread(new Runnable() {
-                            @Override
-                            public void run() {
-                                hasFetchedRecentTransactions = true;
-                                recentTransactionsAdapter = new TransactionListAdapter(resultList, getContext());
-                                recentTransactionsAdapter.setListener(new TransactionListAdapter.TransactionClickListener() {
-                                    @Override
-                                    public void onTransactionClicked(Transaction transaction) {
-
-                                    }
-
-                                    @Override
-                                    public void onClaimUrlClicked(LbryUri uri) {
-                                        Context context = getContext();
-                                        if (uri != null && context instanceof MainActivity) {
-                                            MainActivity activity = (MainActivity) context;
-                                            if (uri.isChannel()) {
-                                                activity.openChannelUrl(uri.toString());
-                                            } else {
-                                                activity.openFileUrl(uri.toString());
-                                            }
-                                        }
-                                    }
-                                });
-                            }
-                        });
-                    } catch (ExecutionException | InterruptedException e) {
-                        e.printStackTrace();
-                    } finally {
+                    TransactionHistoryStore store = TransactionHistoryStore.getInstance();
+                    List<Transaction> saved = store.getSavedPage(null, RECENT_TRANSACTIONS_LIMIT);
+                    if (!saved.isEmpty()) {
                         a.runOnUiThread(new Runnable() {
                             @Override
                             public void run() {
-                                recentTransactionsList.setAdapter(recentTransactionsAdapter);
-                                displayNoRecentTransactions();
-                                loadingRecentContainer.setVisibility(View.GONE);
+                                displayRecentTransactions(saved);
                             }
                         });
                     }
+
+                    boolean changed = store.refresh(authToken, false);
+                    List<Transaction> transactions = changed || saved.size() < RECENT_TRANSACTIONS_LIMIT ?
+                            store.loadPage(null, RECENT_TRANSACTIONS_LIMIT, authToken) : saved;
+                    a.runOnUiThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            if (transactions != saved || recentTransactionsAdapter == null) {
+                                displayRecentTransactions(transactions);
+                            }
+                            loadingRecentContainer.setVisibility(View.GONE);
+                        }
+                    });
                 }
             });
-            t.start();
         }
     }
 
+    private void displayRecentTransactions(List<Transaction> transactions) {
+        hasFetchedRecentTransactions = true;
+        if (recentTransactionsAdapter != null) {
+            recentTransactionsAdapter.setTransactions(transactions);
+            displayNoRecentTransactions();
+            return;
+        }
+        Context context = getContext();
+        if (context == null) {
+            return;
+        }
+        recentTransactionsAdapter = new TransactionListAdapter(transactions, context);
+        recentTransactionsAdapter.setListener(new TransactionListAdapter.TransactionClickListener() {
+            @Override
+            public void onTransactionClicked(Transaction transaction) {
+
+            }
+
+            @Override
+            public void onClaimUrlClicked(LbryUri uri) {
+                Context context = getContext();
+                if (uri != null && context instanceof MainActivity) {
+                    MainActivity activity = (MainActivity) context;
+                    if (uri.isChannel()) {
+                        activity.openChannelUrl(uri.toString());
+                    } else {
+                        activity.openFileUrl(uri.toString());
+                    }
+                }
+            }
+        });
+        recentTransactionsList.setAdapter(recentTransactionsAdapter);
+        displayNoRecentTransactions();
+    }
+
     private void displayNoRecentTransactions() {
         boolean showNoTransactionsView = hasFetchedRecentTransactions &&
                 (recentTransactionsAdapter == null || recentTransactionsAdapter.getItemCount() == 0);
@@ -587,11 +602,8 @@ public class WalletFragment extends BaseFragment implements WalletBalanceListene
                 return;
             }
 
-            // When device is in Battery Saver mode, the scheduled wallet update will no perform the job.
-            // In order to show user the update balance, let's request it explicitly when user opens the Wallet fragment
-            if (activity.isBatterySaverMode()) {
-                activity.updateWalletBalance();
-            }
+            // the balance is not polled, so make sure it is up to date when the user opens the wallet
+            activity.updateWalletBalance();
 
             activity.syncWalletAndLoadPreferences();
             LbryAnalytics.setCurrentScreen(activity, "Wallet", "Wallet");
@@ -644,16 +656,15 @@ public class WalletFragment extends BaseFragment implements WalletBalanceListene
                     }
                 });
             } else {
-                Thread thread = new Thread(new Runnable() {
+                ((OdyseeApp) a.getApplication()).getExecutor().execute(new Runnable() {
                     @Override
                     public void run() {
                         AccountManager am = AccountManager.get(getContext());
                         String authToken = am.peekAuthToken(am.getAccounts()[0], "auth_token_type");
 
                         Callable<String> callable = new WalletGetUnusedAddress(authToken);
-                        Future<String> future = ((OdyseeApp) a.getApplication()).getExecutor().submit(callable);
                         try {
-                            String addr = future.get();
+                            String addr = callable.call();
 
                             if (!Helper.isNullOrEmpty(addr)) {
                                 Context context = getContext();
@@ -668,13 +679,11 @@ public class WalletFragment extends BaseFragment implements WalletBalanceListene
                                     });
                                 }
                             }
-                        } catch (InterruptedException | ExecutionException e) {
+                        } catch (Exception e) {
                             e.printStackTrace();
                         }
                     }
                 });
-
-                thread.start();
             }
         }
     }
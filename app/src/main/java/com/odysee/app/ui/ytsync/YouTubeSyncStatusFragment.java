@@ -35,6 +35,7 @@ import com.odysee.app.model.lbryinc.User;
 import com.odysee.app.utils.Helper;
 import com.odysee.app.utils.Lbry;
 import com.odysee.app.utils.Lbryio;
+import com.odysee.app.utils.TaskRuntime;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -45,10 +46,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executor;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -72,7 +69,6 @@ public class YouTubeSyncStatusFragment extends Fragment {
     private RecyclerView listView;
 
     private boolean refreshScheduled;
-    private ScheduledExecutorService scheduler;
     private ScheduledFuture<?> future;
 
     public View onCreateView(@NonNull LayoutInflater inflater,
@@ -133,8 +129,7 @@ public class YouTubeSyncStatusFragment extends Fragment {
         loadProgress.setVisibility(View.VISIBLE);
         cancelRefreshSchedule();
 
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -214,10 +209,6 @@ public class YouTubeSyncStatusFragment extends Fragment {
             future.cancel(true);
             future = null;
         }
-        if (scheduler != null) {
-            scheduler.shutdownNow();
-            scheduler = null;
-        }
         refreshScheduled = false;
     }
 
@@ -229,8 +220,7 @@ public class YouTubeSyncStatusFragment extends Fragment {
             }
         });
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -302,8 +292,7 @@ public class YouTubeSyncStatusFragment extends Fragment {
     }
 
     private void scheduleRefreshStatus() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
-        future = scheduler.scheduleAtFixedRate(new Runnable() {
+        future = TaskRuntime.getInstance().getScheduledExecutor().scheduleAtFixedRate(new Runnable() {
             @Override
             public void run() {
                 try {
@@ -321,8 +310,7 @@ public class YouTubeSyncStatusFragment extends Fragment {
             channelClaimIds.add(item.getChannel().getChannelClaimId());
         }
 
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        executor.execute(new Runnable() {
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
             @Override
             public void run() {
                 try {
@@ -0,0 +1,96 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.odysee.app.model.Comment;
+
+/**
+ * Collects live chat messages as they are received, from any thread, and hands them over to the main
+ * thread at most once per frame. However fast messages arrive, the chat list is updated once per frame
+ * with everything received since the previous one. Messages waiting for the next frame are bounded by the
+ * capacity: when more arrive in a single frame, the oldest are dropped, as they could not be kept anyway.
+ */
+public class ChatMessageBatcher implements Choreographer.FrameCallback {
+    private final int capacity;
+    private final BatchListener listener;
+    private final Object lock = new Object();
+    private final ArrayDeque<Comment> pending = new ArrayDeque<>();
+    private boolean flushScheduled;
+    private Handler mainHandler;
+
+    // frame callbacks have to be registered on the main thread, which owns the Choreographer used for the UI
+    private final Runnable scheduleFlush = new Runnable() {
+        @Override
+        public void run() {
+            Choreographer.getInstance().postFrameCallback(ChatMessageBatcher.this);
+        }
+    };
+
+    public interface BatchListener {
+        /**
+         * Called on the main thread with the messages received since the last batch, oldest first
+         */
+        void onMessages(List<Comment> messages);
+    }
+
+    public ChatMessageBatcher(int capacity, BatchListener listener) {
+        this.capacity = capacity;
+        this.listener = listener;
+    }
+
+    /**
+     * Queues a message for the next frame. This can be called from any thread.
+     */
+    public void offer(Comment message) {
+        boolean schedule;
+        synchronized (lock) {
+            if (pending.size() == capacity) {
+                pending.removeFirst();
+            }
+            pending.addLast(message);
+            schedule = !flushScheduled;
+            flushScheduled = true;
+        }
+        if (schedule) {
+            getMainHandler().post(scheduleFlush);
+        }
+    }
+
+    /**
+     * Drops the messages which have not been handed over yet. This must be called from the main thread.
+     */
+    public void cancel() {
+        synchronized (lock) {
+            pending.clear();
+            flushScheduled = false;
+        }
+        getMainHandler().removeCallbacks(scheduleFlush);
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        List<Comment> batch;
+        synchronized (lock) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+            flushScheduled = false;
+        }
+        if (!batch.isEmpty()) {
+            listener.onMessages(batch);
+        }
+    }
+
+    private synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+}
@@ -0,0 +1,286 @@
+package com.odysee.app.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.odysee.app.model.Claim;
+import com.odysee.app.model.ClaimCacheKey;
+
+/**
+ * Bounded, thread-safe claim store. Claims are indexed once by claim ID (the primary index, kept in
+ * least-recently-used order) and the normalized short, permanent and canonical URLs are secondary
+ * indexes which point at the claim ID. Eviction happens when either the entry count or the
+ * estimated memory footprint exceeds the configured limit.
+ */
+public class ClaimCache {
+    public static final int DEFAULT_MAX_ENTRIES = 2000;
+    public static final long DEFAULT_MAX_WEIGHT_BYTES = 8 * 1024 * 1024;
+
+    // rough per-claim overhead for the object graph (metadata, meta, strings that aren't measured)
+    private static final int BASE_CLAIM_WEIGHT = 2048;
+
+    private final Object lock = new Object();
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    private final LinkedHashMap<String, Entry> claimsById = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, String> claimIdsByUrl = new HashMap<>();
+    private long currentWeight;
+
+    // guarded by lock
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public ClaimCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_WEIGHT_BYTES);
+    }
+
+    public ClaimCache(int maxEntries, long maxWeightBytes) {
+        this.maxEntries = maxEntries;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public void put(Claim claim) {
+        if (claim == null || Helper.isNullOrEmpty(claim.getClaimId())) {
+            return;
+        }
+
+        String claimId = normalizeClaimId(claim.getClaimId());
+        List<String> urlKeys = buildUrlKeys(claim);
+        synchronized (lock) {
+            Entry previous = claimsById.remove(claimId);
+            if (previous != null) {
+                removeUrlKeys(claimId, previous);
+                currentWeight -= previous.weight;
+                if (claim.getFile() == null && previous.claim.getFile() != null) {
+                    // don't lose the file info when a claim is re-resolved
+                    claim.setFile(previous.claim.getFile());
+                }
+            }
+
+            Entry entry = new Entry(claim, urlKeys, estimateWeight(claim), System.currentTimeMillis());
+            claimsById.put(claimId, entry);
+            for (String urlKey : urlKeys) {
+                claimIdsByUrl.put(urlKey, claimId);
+            }
+            currentWeight += entry.weight;
+            trimToSize();
+        }
+    }
+
+    /**
+     * Looks up a claim by its claim ID first, and then by its URL if the key has one.
+     * @param key the key to look up
+     * @return the cached claim, or null if there is no cached claim for the key
+     */
+    public Claim get(ClaimCacheKey key) {
+        return get(key, 0);
+    }
+
+    /**
+     * Looks up a claim which was cached no longer than maxAgeMillis ago.
+     * @param key the key to look up
+     * @param maxAgeMillis the maximum age of the cached claim, or 0 to accept any age
+     * @return the cached claim, or null if there is no cached claim for the key or if it is too old
+     */
+    public Claim get(ClaimCacheKey key, long maxAgeMillis) {
+        if (key == null) {
+            return null;
+        }
+
+        String claimId = key.getClaimId();
+        String urlKey = normalizeUrl(key.getUrl());
+        long minCachedAt = maxAgeMillis > 0 ? System.currentTimeMillis() - maxAgeMillis : 0;
+        synchronized (lock) {
+            Entry entry = null;
+            if (!Helper.isNullOrEmpty(claimId)) {
+                entry = claimsById.get(normalizeClaimId(claimId));
+            }
+            if (entry == null && urlKey != null) {
+                String mappedClaimId = claimIdsByUrl.get(urlKey);
+                if (mappedClaimId != null) {
+                    entry = claimsById.get(mappedClaimId);
+                }
+            }
+
+            Claim claim = entry != null && entry.cachedAt >= minCachedAt ? entry.claim : null;
+            if (claim != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+            return claim;
+        }
+    }
+
+    public Claim getByClaimId(String claimId) {
+        ClaimCacheKey key = new ClaimCacheKey();
+        key.setClaimId(claimId);
+        return get(key);
+    }
+
+    public Claim getByUrl(String url) {
+        ClaimCacheKey key = new ClaimCacheKey();
+        key.setUrl(url);
+        return get(key);
+    }
+
+    public boolean containsKey(ClaimCacheKey key) {
+        return get(key) != null;
+    }
+
+    public void remove(String claimId) {
+        if (Helper.isNullOrEmpty(claimId)) {
+            return;
+        }
+        String normalizedClaimId = normalizeClaimId(claimId);
+        synchronized (lock) {
+            Entry entry = claimsById.remove(normalizedClaimId);
+            if (entry != null) {
+                removeUrlKeys(normalizedClaimId, entry);
+                currentWeight -= entry.weight;
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            claimsById.clear();
+            claimIdsByUrl.clear();
+            currentWeight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return claimsById.size();
+        }
+    }
+
+    public long getEstimatedWeight() {
+        synchronized (lock) {
+            return currentWeight;
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    public long getEvictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Trims the cache down to the specified fraction of its limits, eg. when the system is low on memory.
+     * @param fraction value between 0 and 1
+     */
+    public void trimTo(float fraction) {
+        synchronized (lock) {
+            int targetEntries = (int) (maxEntries * fraction);
+            long targetWeight = (long) (maxWeightBytes * fraction);
+            evictUntil(targetEntries, targetWeight);
+        }
+    }
+
+    private void trimToSize() {
+        evictUntil(maxEntries, maxWeightBytes);
+    }
+
+    private void evictUntil(int targetEntries, long targetWeight) {
+        Iterator<Map.Entry<String, Entry>> iterator = claimsById.entrySet().iterator();
+        while ((claimsById.size() > targetEntries || currentWeight > targetWeight) && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            removeUrlKeys(eldest.getKey(), eldest.getValue());
+            currentWeight -= eldest.getValue().weight;
+            evictionCount++;
+        }
+    }
+
+    private void removeUrlKeys(String claimId, Entry entry) {
+        for (String urlKey : entry.urlKeys) {
+            // only remove the mapping if another claim hasn't taken over the url since (eg. a shorter short url)
+            if (claimId.equals(claimIdsByUrl.get(urlKey))) {
+                claimIdsByUrl.remove(urlKey);
+            }
+        }
+    }
+
+    private static List<String> buildUrlKeys(Claim claim) {
+        List<String> keys = new ArrayList<>(3);
+        addUrlKey(claim.getShortUrl(), keys);
+        addUrlKey(claim.getPermanentUrl(), keys);
+        addUrlKey(claim.getCanonicalUrl(), keys);
+        return keys;
+    }
+
+    private static void addUrlKey(String url, List<String> keys) {
+        String key = normalizeUrl(url);
+        if (key != null && !keys.contains(key)) {
+            keys.add(key);
+        }
+    }
+
+    private static String normalizeUrl(String url) {
+        if (Helper.isNullOrEmpty(url)) {
+            return null;
+        }
+        LbryUri uri = LbryUri.tryParse(url);
+        return uri != null ? uri.toString().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String normalizeClaimId(String claimId) {
+        return claimId.toLowerCase(Locale.ROOT);
+    }
+
+    private static long estimateWeight(Claim claim) {
+        long weight = BASE_CLAIM_WEIGHT;
+        weight += stringWeight(claim.getTitle());
+        weight += stringWeight(claim.getDescription());
+        weight += stringWeight(claim.getPermanentUrl());
+        weight += stringWeight(claim.getShortUrl());
+        weight += stringWeight(claim.getCanonicalUrl());
+        if (claim.getSigningChannel() != null) {
+            Claim channel = claim.getSigningChannel();
+            weight += BASE_CLAIM_WEIGHT + stringWeight(channel.getTitle()) + stringWeight(channel.getDescription());
+        }
+        if (claim.getRepostedClaim() != null) {
+            weight += estimateWeight(claim.getRepostedClaim());
+        }
+        return weight;
+    }
+
+    private static long stringWeight(String value) {
+        return value != null ? 2L * value.length() : 0;
+    }
+
+    private static class Entry {
+        private final Claim claim;
+        private final List<String> urlKeys;
+        private final long weight;
+        private final long cachedAt;
+
+        Entry(Claim claim, List<String> urlKeys, long weight, long cachedAt) {
+            this.claim = claim;
+            this.urlKeys = urlKeys;
+            this.weight = weight;
+            this.cachedAt = cachedAt;
+        }
+    }
+}
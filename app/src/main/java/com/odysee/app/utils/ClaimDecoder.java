@@ -0,0 +1,293 @@
+package com.odysee.app.utils;
+
+import android.util.Log;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.odysee.app.exceptions.LbryResponseException;
+import com.odysee.app.model.Claim;
+import lombok.Getter;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Streaming decoder for SDK responses which contain claims (resolve, claim_search and claim_list).
+ * Claims are read straight from the response into Claim objects in a single pass, without building
+ * a JSON tree of the whole response first. Fields which the app doesn't use are skipped.
+ */
+public final class ClaimDecoder {
+    private static final String TAG = "ClaimDecoder";
+    private static final Gson gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create();
+
+    private ClaimDecoder() {
+        // Ignore
+    }
+
+    /**
+     * A page of claims from a claim_search or claim_list result
+     */
+    public static class ClaimPage {
+        @Getter
+        private final List<Claim> items = new ArrayList<>();
+        @Getter
+        private int totalPages = -1;
+
+        /**
+         * @param page the requested page number
+         * @return true if there are no pages after this one. Without a page count in the response, only an
+         *         empty page is the last one.
+         */
+        public boolean isLastPage(int page) {
+            return totalPages >= 0 ? page >= totalPages : items.isEmpty();
+        }
+
+        /**
+         * Builds a page from a result which was already parsed, eg. the result of a call in a batch
+         */
+        public static ClaimPage fromJSONObject(JSONObject result) {
+            ClaimPage page = new ClaimPage();
+            JSONArray items = result.optJSONArray("items");
+            if (items != null) {
+                for (int i = 0; i < items.length(); i++) {
+                    JSONObject item = items.optJSONObject(i);
+                    Claim claim = item != null ? Claim.fromJSONObject(item) : null;
+                    if (claim != null) {
+                        page.items.add(claim);
+                    }
+                }
+            }
+            page.totalPages = result.optInt("total_pages", -1);
+            return page;
+        }
+    }
+
+    private interface ResultReader<T> {
+        T read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Decodes a resolve response
+     * @return the claims keyed by URL. The claim is null for URLs which could not be resolved.
+     */
+    public static Map<String, Claim> decodeResolveResponse(Response response) throws LbryResponseException {
+        return decodeResponse(response, ClaimDecoder::readResolveResult);
+    }
+
+    /**
+     * Decodes a claim_search or claim_list response
+     */
+    public static ClaimPage decodePageResponse(Response response) throws LbryResponseException {
+        return decodeResponse(response, ClaimDecoder::readPage);
+    }
+
+    /**
+     * Decodes a claim_search or claim_list response body which has already been read, eg. from a cache
+     */
+    public static ClaimPage decodePageResponse(byte[] responseBody) throws LbryResponseException {
+        return decodeResponse(
+                new InputStreamReader(new ByteArrayInputStream(responseBody), StandardCharsets.UTF_8), true, ClaimDecoder::readPage);
+    }
+
+    private static <T> T decodeResponse(Response response, ResultReader<T> resultReader) throws LbryResponseException {
+        try {
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new LbryResponseException("Protocol error with unknown response signature.");
+            }
+            return decodeResponse(body.charStream(), response.code() >= 200 && response.code() < 300, resultReader);
+        } finally {
+            response.close();
+        }
+    }
+
+    private static <T> T decodeResponse(Reader source, boolean successful, ResultReader<T> resultReader) throws LbryResponseException {
+        T result = null;
+        boolean hasResult = false;
+        String errorMessage = null;
+        try (JsonReader reader = new JsonReader(source)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("result".equals(name) && successful) {
+                    hasResult = true;
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        result = resultReader.read(reader);
+                    }
+                } else if ("error".equals(name)) {
+                    errorMessage = readErrorMessage(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException ex) {
+            throw new LbryResponseException("Could not parse response", ex);
+        }
+
+        if (hasResult) {
+            return result;
+        }
+        throw new LbryResponseException(errorMessage != null ? errorMessage : "Protocol error with unknown response signature.");
+    }
+
+    private static String readErrorMessage(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            return reader.nextString();
+        }
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            String message = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("message".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                    message = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return message;
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    private static Map<String, Claim> readResolveResult(JsonReader reader) throws IOException {
+        Map<String, Claim> claims = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String url = reader.nextName();
+            claims.put(url, readClaim(reader));
+        }
+        reader.endObject();
+        return claims;
+    }
+
+    private static ClaimPage readPage(JsonReader reader) throws IOException {
+        ClaimPage page = new ClaimPage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("items".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    Claim claim = readClaim(reader);
+                    if (claim != null) {
+                        page.items.add(claim);
+                    }
+                }
+                reader.endArray();
+            } else if ("total_pages".equals(name) && reader.peek() == JsonToken.NUMBER) {
+                page.totalPages = reader.nextInt();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return page;
+    }
+
+    /**
+     * Reads a claim object. The same rules as Claim.fromJSONObject apply: the value is decoded according
+     * to the value type, reposted claims are decoded recursively, and an error object results in null.
+     */
+    private static Claim readClaim(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        Claim claim = new Claim();
+        JsonObject value = null;
+        String error = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "address": claim.setAddress(reader.nextString()); break;
+                case "amount": claim.setAmount(reader.nextString()); break;
+                case "canonical_url": claim.setCanonicalUrl(reader.nextString()); break;
+                case "claim_id": claim.setClaimId(reader.nextString()); break;
+                case "claim_op": claim.setClaimOp(reader.nextString()); break;
+                case "claim_sequence": claim.setClaimSequence(reader.nextInt()); break;
+                case "confirmations": claim.setConfirmations(reader.nextLong()); break;
+                case "decoded_claim": claim.setDecodedClaim(reader.nextBoolean()); break;
+                case "height": claim.setHeight(reader.nextLong()); break;
+                case "is_channel_signature_valid": claim.setChannelSignatureValid(reader.nextBoolean()); break;
+                case "is_mine": claim.setMine(reader.nextBoolean()); break;
+                case "name": claim.setName(reader.nextString()); break;
+                case "normalized_name": claim.setNormalizedName(reader.nextString()); break;
+                case "nout": claim.setNout(reader.nextInt()); break;
+                case "permanent_url": claim.setPermanentUrl(reader.nextString()); break;
+                case "short_url": claim.setShortUrl(reader.nextString()); break;
+                case "timestamp": claim.setTimestamp(reader.nextLong()); break;
+                case "txid": claim.setTxid(reader.nextString()); break;
+                case "type": claim.setType(reader.nextString()); break;
+                case "value_type": claim.setValueType(reader.nextString()); break;
+                case "meta": claim.setMeta(gson.fromJson(reader, Claim.Meta.class)); break;
+                case "signing_channel": claim.setSigningChannel(readClaim(reader)); break;
+                case "reposted_claim": claim.setRepostedClaim(readClaim(reader)); break;
+                case "error": error = readErrorMessage(reader); break;
+                case "value":
+                    // the value type usually comes after the value, so only the (small) value object is buffered
+                    JsonElement element = gson.fromJson(reader, JsonElement.class);
+                    value = element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (error != null) {
+            Log.e(TAG, "readClaim: ".concat(error));
+            return null;
+        }
+
+        if (value != null) {
+            String valueType = claim.getValueType();
+            if (Claim.TYPE_STREAM.equalsIgnoreCase(valueType)) {
+                claim.setValue(gson.fromJson(value, Claim.StreamMetadata.class));
+            } else if (Claim.TYPE_CHANNEL.equalsIgnoreCase(valueType)) {
+                claim.setValue(gson.fromJson(value, Claim.ChannelMetadata.class));
+            } else {
+                claim.setValue(gson.fromJson(value, Claim.GenericMetadata.class));
+                if (Claim.TYPE_COLLECTION.equalsIgnoreCase(valueType) && value.has("claims") && value.get("claims").isJsonArray()) {
+                    List<String> ids = new ArrayList<>();
+                    for (JsonElement id : value.getAsJsonArray("claims")) {
+                        ids.add(id.getAsString());
+                    }
+                    claim.setClaimIds(ids);
+                }
+            }
+        }
+
+        return claim;
+    }
+}
@@ -0,0 +1,415 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import com.odysee.app.model.Claim;
+
+/**
+ * Ordered claims of a list, keyed by claim ID. Featured and livestream claims are kept at the top of the
+ * list, ahead of the other claims, as claims are added.
+ *
+ * Changes are made to the latest list right away, and the list which is displayed follows it: the difference
+ * between the two is computed on a background thread, then applied on the main thread in a single batch of
+ * updates. Positions always refer to the displayed list, so they match what the RecyclerView knows about.
+ *
+ * This must be used from the main thread.
+ */
+public class ClaimListStore {
+    private final ListUpdateCallback updateCallback;
+    private final Executor diffExecutor;
+    private Handler mainHandler;
+
+    // the list with every change made so far
+    private final List<Claim> latest = new ArrayList<>();
+    private final Map<String, Claim> latestById = new HashMap<>();
+    private final Map<String, Claim> latestByUrl = new HashMap<>();
+    // the number of featured and livestream claims at the top of the latest list
+    private int headCount;
+
+    // the list which is displayed
+    private List<Claim> current = Collections.emptyList();
+    private Map<String, Integer> currentPositions = Collections.emptyMap();
+    private int generation;
+    private ItemPreparer preparer;
+
+    public interface ItemPreparer {
+        /**
+         * Called on a background thread with the claims of a new list, before the list is displayed
+         */
+        void prepare(List<Claim> claims);
+    }
+
+    /**
+     * @param updateCallback receives the changes to the displayed list, usually an AdapterListUpdateCallback
+     * @param diffExecutor the executor on which differences are computed
+     */
+    public ClaimListStore(ListUpdateCallback updateCallback, Executor diffExecutor) {
+        this.updateCallback = updateCallback;
+        this.diffExecutor = diffExecutor;
+    }
+
+    /**
+     * Sets work to do on the claims of every new list off the main thread, such as preparing their rows.
+     * Lists compared against a displayed list are prepared before they are displayed. A list which replaces
+     * an empty list is displayed right away, so that the list is never empty for longer than it should be,
+     * and is prepared at the same time.
+     */
+    public void setPreparer(ItemPreparer preparer) {
+        this.preparer = preparer;
+    }
+
+    /**
+     * @return the number of displayed claims
+     */
+    public int size() {
+        return current.size();
+    }
+
+    /**
+     * @return the displayed claim at the position
+     */
+    public Claim get(int position) {
+        return current.get(position);
+    }
+
+    /**
+     * @return the position of the claim in the displayed list, or -1 if it is not displayed
+     */
+    public int getPosition(Claim claim) {
+        if (claim == null) {
+            return -1;
+        }
+        String key = key(claim);
+        if (key == null) {
+            return current.indexOf(claim);
+        }
+        Integer position = currentPositions.get(key);
+        return position != null && current.get(position) == claim ? position : -1;
+    }
+
+    /**
+     * @return a copy of the latest list, including changes which are not displayed yet
+     */
+    public List<Claim> getItems() {
+        return new ArrayList<>(latest);
+    }
+
+    public Claim getLast() {
+        return latest.isEmpty() ? null : latest.get(latest.size() - 1);
+    }
+
+    public Claim getById(String claimId) {
+        return Helper.isNullOrEmpty(claimId) ? null : latestById.get(claimId.toLowerCase(Locale.ROOT));
+    }
+
+    public Claim getByIdOrUrl(String claimId, String url) {
+        Claim claim = getById(claimId);
+        if (claim == null && !Helper.isNullOrEmpty(url)) {
+            claim = latestByUrl.get(url.toLowerCase(Locale.ROOT));
+        }
+        return claim;
+    }
+
+    /**
+     * Replaces the claims, keeping their order
+     */
+    public void setAll(List<Claim> claims) {
+        clearLatest();
+        for (Claim claim : claims) {
+            if (claim != null && !isIndexed(claim)) {
+                latest.add(claim);
+                index(claim);
+            }
+        }
+        headCount = 0;
+        while (headCount < latest.size() && isHeadClaim(latest.get(headCount))) {
+            headCount++;
+        }
+        submit();
+    }
+
+    /**
+     * Adds the claims which are not in the list yet. Livestreams go after the livestreams at the top of
+     * the list, and the other claims go at the end.
+     */
+    public void addAll(List<Claim> claims) {
+        boolean changed = false;
+        for (Claim claim : claims) {
+            if (claim == null || isIndexed(claim)) {
+                continue;
+            }
+            if (isHeadClaim(claim)) {
+                latest.add(headCount, claim);
+                headCount++;
+            } else {
+                latest.add(claim);
+            }
+            index(claim);
+            changed = true;
+        }
+        if (changed) {
+            submit();
+        }
+    }
+
+    /**
+     * Adds a claim at the top of the list, eg. a featured search result
+     */
+    public void addFirst(Claim claim) {
+        if (claim == null) {
+            return;
+        }
+        removeFromLatest(claim);
+        latest.add(0, claim);
+        index(claim);
+        if (isHeadClaim(claim)) {
+            headCount++;
+        } else {
+            headCount = 0;
+        }
+        submit();
+    }
+
+    /**
+     * Replaces the claim with the given claim ID
+     */
+    public void replace(String claimId, Claim claim) {
+        Claim existing = getById(claimId);
+        if (existing == null || claim == null) {
+            return;
+        }
+        int position = latest.indexOf(existing);
+        unindex(existing);
+        latest.set(position, claim);
+        index(claim);
+        submit();
+    }
+
+    public void remove(Claim claim) {
+        if (removeFromLatest(claim)) {
+            submit();
+        }
+    }
+
+    public void removeAll(Collection<Claim> claims) {
+        Set<String> keys = new HashSet<>();
+        Set<Claim> claimsWithoutKey = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Claim claim : claims) {
+            String key = claim != null ? key(claim) : null;
+            if (key != null) {
+                keys.add(key);
+            } else if (claim != null) {
+                claimsWithoutKey.add(claim);
+            }
+        }
+        removeIf(claim -> {
+            String key = key(claim);
+            return key != null ? keys.contains(key) : claimsWithoutKey.contains(claim);
+        });
+    }
+
+    public void removeIf(Predicate<Claim> filter) {
+        boolean changed = false;
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            Claim claim = latest.get(i);
+            if (filter.test(claim)) {
+                latest.remove(i);
+                unindex(claim);
+                if (i < headCount) {
+                    headCount--;
+                }
+                changed = true;
+            }
+        }
+        if (changed) {
+            submit();
+        }
+    }
+
+    public void clear() {
+        clearLatest();
+        submit();
+    }
+
+    private void submit() {
+        final int submitGeneration = ++generation;
+        final List<Claim> oldList = current;
+        final List<Claim> newList = new ArrayList<>(latest);
+        final ItemPreparer listPreparer = preparer;
+
+        // nothing to compare, so apply it right away
+        if (oldList.isEmpty() || newList.isEmpty()) {
+            current = newList;
+            currentPositions = buildPositions(newList);
+            if (!oldList.isEmpty()) {
+                updateCallback.onRemoved(0, oldList.size());
+            }
+            if (!newList.isEmpty()) {
+                updateCallback.onInserted(0, newList.size());
+                if (listPreparer != null) {
+                    diffExecutor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            listPreparer.prepare(newList);
+                        }
+                    });
+                }
+            }
+            return;
+        }
+
+        diffExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (listPreparer != null) {
+                    listPreparer.prepare(newList);
+                }
+                final DiffUtil.DiffResult result = DiffUtil.calculateDiff(new ClaimDiffCallback(oldList, newList), false);
+                final Map<String, Integer> positions = buildPositions(newList);
+                getMainHandler().post(new Runnable() {
+                    @Override
+                    public void run() {
+                        // a later change is on its way, which will be compared against the current list
+                        if (generation != submitGeneration) {
+                            return;
+                        }
+                        current = newList;
+                        currentPositions = positions;
+                        result.dispatchUpdatesTo(updateCallback);
+                    }
+                });
+            }
+        });
+    }
+
+    private boolean removeFromLatest(Claim claim) {
+        if (claim == null) {
+            return false;
+        }
+        String key = key(claim);
+        Claim existing = key != null ? latestById.get(key) : claim;
+        int position = existing != null ? latest.indexOf(existing) : -1;
+        if (position == -1) {
+            return false;
+        }
+        latest.remove(position);
+        unindex(existing);
+        if (position < headCount) {
+            headCount--;
+        }
+        return true;
+    }
+
+    private void clearLatest() {
+        latest.clear();
+        latestById.clear();
+        latestByUrl.clear();
+        headCount = 0;
+    }
+
+    private boolean isIndexed(Claim claim) {
+        String key = key(claim);
+        return key != null && latestById.containsKey(key);
+    }
+
+    private void index(Claim claim) {
+        String key = key(claim);
+        if (key != null) {
+            latestById.put(key, claim);
+        }
+        if (!Helper.isNullOrEmpty(claim.getPermanentUrl())) {
+            latestByUrl.put(claim.getPermanentUrl().toLowerCase(Locale.ROOT), claim);
+        }
+    }
+
+    private void unindex(Claim claim) {
+        String key = key(claim);
+        if (key != null) {
+            latestById.remove(key);
+        }
+        if (!Helper.isNullOrEmpty(claim.getPermanentUrl())) {
+            latestByUrl.remove(claim.getPermanentUrl().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static boolean isHeadClaim(Claim claim) {
+        return claim.isFeatured() || claim.isHighlightLive() || claim.getLivestreamUrl() != null;
+    }
+
+    private static Map<String, Integer> buildPositions(List<Claim> claims) {
+        Map<String, Integer> positions = new HashMap<>(claims.size() * 2);
+        for (int i = 0; i < claims.size(); i++) {
+            String key = key(claims.get(i));
+            if (key != null) {
+                positions.put(key, i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * @return the key of the claim, or null for claims without a claim ID (eg. a featured search result which
+     *         could not be resolved), which are compared by identity instead
+     */
+    private static String key(Claim claim) {
+        return Helper.isNullOrEmpty(claim.getClaimId()) ? null : claim.getClaimId().toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+
+    private static class ClaimDiffCallback extends DiffUtil.Callback {
+        private final List<Claim> oldList;
+        private final List<Claim> newList;
+
+        ClaimDiffCallback(List<Claim> oldList, List<Claim> newList) {
+            this.oldList = oldList;
+            this.newList = newList;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return oldList.size();
+        }
+
+        @Override
+        public int getNewListSize() {
+            return newList.size();
+        }
+
+        @Override
+        public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+            Claim oldClaim = oldList.get(oldItemPosition);
+            Claim newClaim = newList.get(newItemPosition);
+            String oldKey = key(oldClaim);
+            return oldKey != null ? oldKey.equals(key(newClaim)) : oldClaim == newClaim;
+        }
+
+        @Override
+        public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+            // claims are updated in place and notified individually, so a different instance means new contents
+            return oldList.get(oldItemPosition) == newList.get(newItemPosition);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import org.apache.commons.codec.binary.Hex;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.odysee.app.exceptions.LbryResponseException;
+import com.odysee.app.model.ClaimSearchCacheValue;
+import com.odysee.app.model.Page;
+
+/**
+ * Two-tier cache for claim_search pages: a bounded in-memory LRU backed by an on-disk store, both keyed
+ * by a canonical hash of the claim_search options. Expired pages are still returned (stale-while-revalidate)
+ * while a background refresh fetches fresh data, and registered listeners are notified on the main thread
+ * when the refreshed page arrives.
+ *
+ * Pages are written to disk on the disk pool of the task runtime, one at a time, and the oldest files are
+ * removed every few writes once there are more than the disk limit.
+ */
+public class ClaimSearchCache {
+    private static final String TAG = "ClaimSearchCache";
+    private static final String DIRECTORY_NAME = "claim_search";
+    // pages used to be saved as JSON with this extension, they can't be read anymore
+    private static final String LEGACY_FILE_EXTENSION = ".json";
+    private static final int MAX_MEMORY_ENTRIES = 100;
+    private static final int MAX_DISK_ENTRIES = 300;
+    // the directory is listed to remove the oldest pages after this many writes, rather than after every write
+    private static final int TRIM_INTERVAL_WRITES = 20;
+    // pages older than this are not served while revalidating, callers wait for the network instead
+    public static final long MAX_STALE_AGE = 7 * 24 * 60 * 60 * 1000L;
+
+    public interface RefreshListener {
+        void onClaimSearchRefreshed(Map<String, Object> options, Page claimsPage);
+    }
+
+    public interface PageFetcher {
+        /**
+         * @return the raw claim_search response body
+         */
+        byte[] fetch() throws Exception;
+    }
+
+    private final Object lock = new Object();
+    private final Object writeLock = new Object();
+    private final LinkedHashMap<String, ClaimSearchCacheValue> memoryCache = new LinkedHashMap<String, ClaimSearchCacheValue>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ClaimSearchCacheValue> eldest) {
+            return size() > MAX_MEMORY_ENTRIES;
+        }
+    };
+    private final Set<String> refreshingKeys = new HashSet<>();
+    private final List<RefreshListener> listeners = new CopyOnWriteArrayList<>();
+    private File directory;
+    // guarded by writeLock, starts at the interval so that the first write trims what earlier runs left
+    private int writesSinceTrim = TRIM_INTERVAL_WRITES;
+
+    /**
+     * Sets the directory for the on-disk store. Without this, only the in-memory tier is used.
+     * @param cacheDir the application cache directory
+     */
+    public void init(File cacheDir) {
+        File dir = new File(cacheDir, DIRECTORY_NAME);
+        if (dir.exists() || dir.mkdirs()) {
+            synchronized (lock) {
+                directory = dir;
+            }
+            TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, () -> deleteLegacyFiles(dir));
+        }
+    }
+
+    private static void deleteLegacyFiles(File dir) {
+        File[] files = dir.listFiles((parent, name) -> name.endsWith(LEGACY_FILE_EXTENSION));
+        if (files != null) {
+            for (File file : files) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+    }
+
+    public void addRefreshListener(RefreshListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    public void removeRefreshListener(RefreshListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Builds a stable key for the options map, independent of map ordering
+     */
+    public static String keyFor(Map<String, Object> options) {
+        String canonical = Lbry.buildJsonParams(new TreeMap<>(options)).toString();
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return new String(Hex.encodeHex(md.digest(canonical.getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException ex) {
+            return String.valueOf(canonical.hashCode());
+        }
+    }
+
+    /**
+     * Returns the cached value for the options from memory or disk, whether it is expired or not.
+     */
+    public ClaimSearchCacheValue get(String key, Map<String, Object> options) {
+        synchronized (lock) {
+            ClaimSearchCacheValue value = memoryCache.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        ClaimSearchCacheValue value = readFromDisk(key, options);
+        if (value != null) {
+            synchronized (lock) {
+                memoryCache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Caches the page in memory right away, and writes the response body to disk in the background
+     * @param responseBody the raw claim_search response body, or null to only cache the page in memory
+     */
+    public void put(String key, byte[] responseBody, Page claimsPage) {
+        long timestamp = System.currentTimeMillis();
+        synchronized (lock) {
+            memoryCache.put(key, new ClaimSearchCacheValue(claimsPage, timestamp));
+        }
+        if (responseBody != null && getFile(key) != null) {
+            TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, () -> writeToDisk(key, responseBody, timestamp));
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            memoryCache.clear();
+            if (directory != null) {
+                File[] files = directory.listFiles();
+                if (files != null) {
+                    for (File file : files) {
+                        //noinspection ResultOfMethodCallIgnored
+                        file.delete();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches the page in the background unless a refresh for the same key is already running, then caches
+     * the result and notifies the refresh listeners.
+     */
+    public void refreshInBackground(String key, Map<String, Object> options, PageFetcher fetcher) {
+        synchronized (lock) {
+            if (refreshingKeys.contains(key)) {
+                return;
+            }
+            refreshingKeys.add(key);
+        }
+
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, () -> {
+            try {
+                byte[] responseBody = fetcher.fetch();
+                Page claimsPage = Lbry.parseClaimSearchResult(responseBody, options);
+                put(key, responseBody, claimsPage);
+                new Handler(Looper.getMainLooper()).post(() -> {
+                    for (RefreshListener listener : listeners) {
+                        listener.onClaimSearchRefreshed(options, claimsPage);
+                    }
+                });
+            } catch (Exception ex) {
+                Log.e(TAG, "Background claim_search refresh failed", ex);
+            } finally {
+                synchronized (lock) {
+                    refreshingKeys.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Cached pages are stored as the write timestamp followed by the raw response body
+     */
+    private ClaimSearchCacheValue readFromDisk(String key, Map<String, Object> options) {
+        File file = getFile(key);
+        if (file == null || !file.exists()) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            long timestamp = in.readLong();
+            long age = System.currentTimeMillis() - timestamp;
+            if (age < 0 || age > MAX_STALE_AGE) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+                return null;
+            }
+
+            byte[] responseBody = new byte[(int) file.length() - 8];
+            in.readFully(responseBody);
+            Page claimsPage = Lbry.parseClaimSearchResult(responseBody, options);
+            return new ClaimSearchCacheValue(claimsPage, timestamp);
+        } catch (IOException | LbryResponseException ex) {
+            Log.e(TAG, String.format("Could not read cached claim_search page %s", key), ex);
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, byte[] responseBody, long timestamp) {
+        File file = getFile(key);
+        if (file == null || responseBody == null) {
+            return;
+        }
+
+        // writes don't overlap, as pages with the same key share the temporary file
+        synchronized (writeLock) {
+            try {
+                // write to a temporary file first so that a reader never sees a partially written page
+                File tmpFile = new File(file.getParentFile(), file.getName().concat(".tmp"));
+                try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+                    out.writeLong(timestamp);
+                    out.write(responseBody);
+                }
+                if (!tmpFile.renameTo(file)) {
+                    //noinspection ResultOfMethodCallIgnored
+                    tmpFile.delete();
+                }
+            } catch (IOException ex) {
+                Log.e(TAG, String.format("Could not write claim_search page %s to disk", key), ex);
+            }
+
+            writesSinceTrim++;
+            if (writesSinceTrim >= TRIM_INTERVAL_WRITES) {
+                writesSinceTrim = 0;
+                trimDiskEntries();
+            }
+        }
+    }
+
+    private void trimDiskEntries() {
+        File dir;
+        synchronized (lock) {
+            dir = directory;
+        }
+        File[] files = dir != null ? dir.listFiles() : null;
+        if (files == null || files.length <= MAX_DISK_ENTRIES) {
+            return;
+        }
+
+        // lastModified is a file system call, so it is read once per file rather than in every comparison
+        List<DiskEntry> entries = new ArrayList<>(files.length);
+        for (File file : files) {
+            entries.add(new DiskEntry(file, file.lastModified()));
+        }
+        Collections.sort(entries, (e1, e2) -> Long.compare(e1.lastModified, e2.lastModified));
+        for (int i = 0; i < entries.size() - MAX_DISK_ENTRIES; i++) {
+            //noinspection ResultOfMethodCallIgnored
+            entries.get(i).file.delete();
+        }
+    }
+
+    private File getFile(String key) {
+        synchronized (lock) {
+            return directory != null ? new File(directory, key.concat(".page")) : null;
+        }
+    }
+
+    private static class DiskEntry {
+        private final File file;
+        private final long lastModified;
+
+        DiskEntry(File file, long lastModified) {
+            this.file = file;
+            this.lastModified = lastModified;
+        }
+    }
+}
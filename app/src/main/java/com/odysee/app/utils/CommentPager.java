@@ -0,0 +1,139 @@
+package com.odysee.app.utils;
+
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.widget.ProgressBar;
+
+import java.util.List;
+
+import com.odysee.app.model.Comment;
+import com.odysee.app.tasks.CommentListHandler;
+import com.odysee.app.tasks.CommentListTask;
+import lombok.Getter;
+
+/**
+ * Loads the comments of a claim page by page. The first page is small so that it can be shown right away,
+ * and the next page is requested when the end of the comment list comes within a screen of the viewport.
+ * Each page is handed to the listener as soon as it arrives, so reactions and posters can be fetched for
+ * that page alone and merged into the list afterwards.
+ *
+ * This must be used from the main thread.
+ */
+public class CommentPager {
+    public static final int PAGE_SIZE = 25;
+
+    private final String claimId;
+    private final Integer sortBy;
+    private final ProgressBar progressBar;
+    private final PageListener listener;
+
+    @Getter
+    private int loadedPages;
+    @Getter
+    private boolean loading;
+    @Getter
+    private boolean hasReachedEnd;
+    private CommentListTask currentTask;
+
+    private View list;
+    private ViewTreeObserver observer;
+    private final Rect visibleRect = new Rect();
+    private final ViewTreeObserver.OnScrollChangedListener scrollListener = this::loadNextPageIfNearEnd;
+
+    public interface PageListener {
+        /**
+         * @param comments the comments of the page, with replies following their parent comment
+         * @param page the page number, starting at 1
+         */
+        void onPageLoaded(List<Comment> comments, int page, boolean hasReachedEnd);
+        void onError(Exception error);
+    }
+
+    /**
+     * @param sortBy one of the Comments.SORT_BY_ values, or null for the default order of the comment server
+     */
+    public CommentPager(String claimId, Integer sortBy, ProgressBar progressBar, PageListener listener) {
+        this.claimId = claimId;
+        this.sortBy = sortBy;
+        this.progressBar = progressBar;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the scroll position of the comment list, to load the next page when the user gets close
+     * to the end of it. The list is usually inside a NestedScrollView, so scrolling is observed on the whole
+     * view tree rather than on the list itself.
+     */
+    public void attach(View list) {
+        detach();
+        this.list = list;
+        this.observer = list.getViewTreeObserver();
+        observer.addOnScrollChangedListener(scrollListener);
+    }
+
+    /**
+     * Stops watching the comment list and cancels the page request in progress, if any
+     */
+    public void detach() {
+        if (list != null) {
+            ViewTreeObserver currentObserver = observer != null && observer.isAlive() ? observer : list.getViewTreeObserver();
+            currentObserver.removeOnScrollChangedListener(scrollListener);
+            list = null;
+            observer = null;
+        }
+        if (currentTask != null) {
+            currentTask.cancel(true);
+            currentTask = null;
+            loading = false;
+            Helper.setViewVisibility(progressBar, View.GONE);
+        }
+    }
+
+    public void loadNextPage() {
+        if (loading || hasReachedEnd) {
+            return;
+        }
+
+        loading = true;
+        int page = loadedPages + 1;
+        currentTask = new CommentListTask(page, PAGE_SIZE, claimId, sortBy, progressBar, new CommentListHandler() {
+            @Override
+            public void onSuccess(List<Comment> comments, boolean reachedEnd) {
+                currentTask = null;
+                loading = false;
+                loadedPages = page;
+                hasReachedEnd = reachedEnd;
+                listener.onPageLoaded(comments, page, reachedEnd);
+
+                // a short page may not fill the screen, in which case there won't be a scroll to trigger the next one
+                if (list != null && !reachedEnd) {
+                    list.post(CommentPager.this::loadNextPageIfNearEnd);
+                }
+            }
+
+            @Override
+            public void onError(Exception error) {
+                currentTask = null;
+                loading = false;
+                listener.onError(error);
+            }
+        });
+        currentTask.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
+    }
+
+    private void loadNextPageIfNearEnd() {
+        if (list == null || loading || hasReachedEnd || loadedPages == 0) {
+            return;
+        }
+        // while the list is hidden or collapsed, there's nothing to scroll through
+        if (!list.isShown() || list.getHeight() == 0 || !list.getLocalVisibleRect(visibleRect)) {
+            return;
+        }
+
+        int prefetchDistance = list.getResources().getDisplayMetrics().heightPixels;
+        if (visibleRect.bottom >= list.getHeight() - prefetchDistance) {
+            loadNextPage();
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package com.odysee.app.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.odysee.app.model.Comment;
+import lombok.Getter;
+
+/**
+ * Comments of a claim arranged as a tree, together with the flattened list of rows which are currently
+ * visible: the top-level comments, and the replies of every expanded comment. Comments are indexed by ID,
+ * and expanding, collapsing, inserting or removing a comment only touches the affected rows. Every
+ * operation reports the exact row range it changed, so the adapter can notify the RecyclerView precisely.
+ *
+ * This class is not thread-safe. It is meant to be used from the main thread only.
+ */
+public class CommentTree {
+    private final Map<String, Node> index = new LinkedHashMap<>();
+    private final List<Node> roots = new ArrayList<>();
+    private final List<Node> rows = new ArrayList<>();
+    // replies whose parent was not added yet, eg. because it is on a later page, keyed by comment ID
+    private final Map<String, Comment> orphans = new LinkedHashMap<>();
+
+    /**
+     * A change to the visible rows
+     */
+    public static class RowChange {
+        public static final int INSERTED = 1;
+        public static final int REMOVED = 2;
+        public static final int CHANGED = 3;
+
+        @Getter
+        private final int type;
+        @Getter
+        private final int position;
+        @Getter
+        private final int count;
+
+        RowChange(int type, int position, int count) {
+            this.type = type;
+            this.position = position;
+            this.count = count;
+        }
+    }
+
+    private static class Node {
+        private final Comment comment;
+        private final Node parent;
+        private final List<Node> children = new ArrayList<>();
+        private boolean expanded;
+        // position in the visible rows, or -1 if the node is not visible
+        private int row = -1;
+
+        Node(Comment comment, Node parent) {
+            this.comment = comment;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Builds a tree from comments in display order: top-level comments keep their order and replies are
+     * appended to their parent in the order in which they appear. Replies whose parent is not in the list
+     * are kept aside until the parent is appended.
+     */
+    public static CommentTree of(Collection<Comment> comments) {
+        CommentTree tree = new CommentTree();
+        tree.appendAll(comments);
+        return tree;
+    }
+
+    /**
+     * Appends comments to the tree. New top-level comments are added after the existing ones, and new
+     * replies after the existing replies of their parent. Replies whose parent was not added yet are kept
+     * aside, and attached once a later call appends the parent.
+     * @return the changes to the visible rows, in the order in which they should be applied
+     */
+    public List<RowChange> appendAll(Collection<Comment> comments) {
+        List<RowChange> changes = new ArrayList<>();
+        int start = rows.size();
+        // the replies left over from earlier pages come first, as they were received first
+        Map<String, Comment> replies = new LinkedHashMap<>(orphans);
+        orphans.clear();
+        for (Comment comment : comments) {
+            if (comment == null || Helper.isNullOrEmpty(comment.getId()) || index.containsKey(key(comment.getId()))
+                    || replies.containsKey(key(comment.getId()))) {
+                continue;
+            }
+            if (Helper.isNullOrEmpty(comment.getParentId())) {
+                Node node = new Node(comment, null);
+                index.put(key(comment.getId()), node);
+                roots.add(node);
+                node.row = rows.size();
+                rows.add(node);
+            } else {
+                replies.put(key(comment.getId()), comment);
+            }
+        }
+        if (rows.size() > start) {
+            changes.add(new RowChange(RowChange.INSERTED, start, rows.size() - start));
+        }
+
+        // replies can come before their parent, so keep going while parents keep turning up
+        List<Comment> pending = new ArrayList<>(replies.values());
+        boolean attached = true;
+        while (!pending.isEmpty() && attached) {
+            attached = false;
+            List<Comment> remaining = new ArrayList<>();
+            for (Comment reply : pending) {
+                Node parent = index.get(key(reply.getParentId()));
+                if (parent == null) {
+                    remaining.add(reply);
+                    continue;
+                }
+                Node node = new Node(reply, parent);
+                index.put(key(reply.getId()), node);
+                parent.children.add(node);
+                if (parent.expanded && parent.row != -1) {
+                    // the new reply is already counted, so this is the row right after the last visible descendant
+                    int position = parent.row + countVisibleDescendants(parent);
+                    rows.add(position, node);
+                    renumberFrom(position);
+                    changes.add(new RowChange(RowChange.INSERTED, position, 1));
+                }
+                attached = true;
+            }
+            pending = remaining;
+        }
+        for (Comment reply : pending) {
+            orphans.put(key(reply.getId()), reply);
+        }
+
+        return changes;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public int getCommentCount() {
+        return index.size();
+    }
+
+    public Comment getRow(int position) {
+        return rows.get(position).comment;
+    }
+
+    public Comment get(String commentId) {
+        Node node = find(commentId);
+        return node != null ? node.comment : null;
+    }
+
+    public boolean contains(String commentId) {
+        return find(commentId) != null;
+    }
+
+    /**
+     * @return all the comments, visible or not, in the order in which they were added
+     */
+    public List<Comment> getComments() {
+        List<Comment> comments = new ArrayList<>(index.size());
+        for (Node node : index.values()) {
+            comments.add(node.comment);
+        }
+        return comments;
+    }
+
+    /**
+     * @return the position of the row of the comment, or -1 if the comment is not visible
+     */
+    public int getPosition(String commentId) {
+        Node node = find(commentId);
+        return node != null ? node.row : -1;
+    }
+
+    public boolean hasReplies(int position) {
+        return !rows.get(position).children.isEmpty();
+    }
+
+    public boolean isExpanded(int position) {
+        return rows.get(position).expanded;
+    }
+
+    /**
+     * Expands or collapses the replies of a comment. Collapsing a comment also collapses all of its replies.
+     * @return the changes to the visible rows, in the order in which they should be applied
+     */
+    public List<RowChange> toggle(String commentId) {
+        List<RowChange> changes = new ArrayList<>();
+        Node node = find(commentId);
+        if (node != null && !node.children.isEmpty()) {
+            if (node.expanded) {
+                collapse(node, changes);
+            } else {
+                expand(node, changes);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Collapses all the comments except the ancestors of the given comment, which are expanded so that
+     * the comment becomes visible
+     * @return the changes to the visible rows, in the order in which they should be applied
+     */
+    public List<RowChange> expandOnly(String commentId) {
+        List<RowChange> changes = new ArrayList<>();
+        Node target = find(commentId);
+        Set<Node> path = new HashSet<>();
+        for (Node ancestor = target != null ? target.parent : null; ancestor != null; ancestor = ancestor.parent) {
+            path.add(ancestor);
+        }
+
+        // collapse from the bottom, so that earlier removals don't move the later ones
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            collapseExcept(roots.get(i), path, changes);
+        }
+
+        List<Node> toExpand = new ArrayList<>(path);
+        // top-down, as a node only becomes visible once its parent is expanded
+        Collections.sort(toExpand, (a, b) -> Integer.compare(depth(a), depth(b)));
+        for (Node node : toExpand) {
+            if (!node.expanded) {
+                expand(node, changes);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Inserts a top-level comment
+     * @param rootIndex the index among the top-level comments
+     */
+    public RowChange insertRoot(int rootIndex, Comment comment) {
+        if (comment == null || Helper.isNullOrEmpty(comment.getId()) || index.containsKey(key(comment.getId()))) {
+            return null;
+        }
+        Node node = new Node(comment, null);
+        int boundedIndex = Math.max(0, Math.min(rootIndex, roots.size()));
+        int position = boundedIndex < roots.size() ? roots.get(boundedIndex).row : rows.size();
+        roots.add(boundedIndex, node);
+        index.put(key(comment.getId()), node);
+        rows.add(position, node);
+        renumberFrom(position);
+        return new RowChange(RowChange.INSERTED, position, 1);
+    }
+
+    /**
+     * Adds a reply as the first child of its parent. If the parent is collapsed, the reply is not visible
+     * and only the parent row changes (to show that it now has replies).
+     * @return the change to the visible rows, or null if the parent is not in the tree
+     */
+    public RowChange insertReply(Comment comment) {
+        if (comment == null || Helper.isNullOrEmpty(comment.getId()) || index.containsKey(key(comment.getId()))) {
+            return null;
+        }
+        Node parent = find(comment.getParentId());
+        if (parent == null) {
+            return null;
+        }
+
+        Node node = new Node(comment, parent);
+        parent.children.add(0, node);
+        index.put(key(comment.getId()), node);
+        if (parent.row == -1) {
+            return null;
+        }
+        if (!parent.expanded) {
+            return new RowChange(RowChange.CHANGED, parent.row, 1);
+        }
+        int position = parent.row + 1;
+        rows.add(position, node);
+        renumberFrom(position);
+        return new RowChange(RowChange.INSERTED, position, 1);
+    }
+
+    /**
+     * Removes a comment along with all of its replies
+     * @return the changes to the visible rows, in the order in which they should be applied
+     */
+    public List<RowChange> remove(String commentId) {
+        List<RowChange> changes = new ArrayList<>();
+        Node node = find(commentId);
+        if (node == null) {
+            return changes;
+        }
+
+        if (node.row != -1) {
+            int position = node.row;
+            int count = 1 + countVisibleDescendants(node);
+            hideRows(position, count);
+            changes.add(new RowChange(RowChange.REMOVED, position, count));
+        }
+        unindex(node);
+        if (node.parent != null) {
+            node.parent.children.remove(node);
+            if (node.parent.row != -1) {
+                // the parent may no longer have replies to show
+                changes.add(new RowChange(RowChange.CHANGED, node.parent.row, 1));
+            }
+        } else {
+            roots.remove(node);
+        }
+        return changes;
+    }
+
+    public void clear() {
+        orphans.clear();
+        index.clear();
+        roots.clear();
+        rows.clear();
+    }
+
+    private void expand(Node node, List<RowChange> changes) {
+        node.expanded = true;
+        if (node.row == -1) {
+            return;
+        }
+        List<Node> visible = new ArrayList<>();
+        collectVisibleDescendants(node, visible);
+        int position = node.row + 1;
+        rows.addAll(position, visible);
+        renumberFrom(position);
+        // the row itself changes too, as it shows whether its replies are expanded
+        changes.add(new RowChange(RowChange.CHANGED, node.row, 1));
+        if (!visible.isEmpty()) {
+            changes.add(new RowChange(RowChange.INSERTED, position, visible.size()));
+        }
+    }
+
+    private void collapse(Node node, List<RowChange> changes) {
+        int count = node.row != -1 ? countVisibleDescendants(node) : 0;
+        collapseSubtree(node);
+        if (node.row == -1) {
+            return;
+        }
+        if (count > 0) {
+            hideRows(node.row + 1, count);
+            changes.add(new RowChange(RowChange.REMOVED, node.row + 1, count));
+        }
+        changes.add(new RowChange(RowChange.CHANGED, node.row, 1));
+    }
+
+    private void collapseExcept(Node node, Set<Node> keepExpanded, List<RowChange> changes) {
+        if (!node.expanded) {
+            return;
+        }
+        if (!keepExpanded.contains(node)) {
+            collapse(node, changes);
+            return;
+        }
+        for (int i = node.children.size() - 1; i >= 0; i--) {
+            collapseExcept(node.children.get(i), keepExpanded, changes);
+        }
+    }
+
+    private static void collapseSubtree(Node node) {
+        node.expanded = false;
+        for (Node child : node.children) {
+            if (child.expanded) {
+                collapseSubtree(child);
+            }
+        }
+    }
+
+    private static void collectVisibleDescendants(Node node, List<Node> visible) {
+        for (Node child : node.children) {
+            visible.add(child);
+            if (child.expanded) {
+                collectVisibleDescendants(child, visible);
+            }
+        }
+    }
+
+    private static int countVisibleDescendants(Node node) {
+        if (!node.expanded) {
+            return 0;
+        }
+        int count = 0;
+        for (Node child : node.children) {
+            count += 1 + countVisibleDescendants(child);
+        }
+        return count;
+    }
+
+    private void hideRows(int position, int count) {
+        List<Node> removed = rows.subList(position, position + count);
+        for (Node node : removed) {
+            node.row = -1;
+        }
+        removed.clear();
+        renumberFrom(position);
+    }
+
+    private void renumberFrom(int position) {
+        for (int i = position; i < rows.size(); i++) {
+            rows.get(i).row = i;
+        }
+    }
+
+    private void unindex(Node node) {
+        index.remove(key(node.comment.getId()));
+        for (Node child : node.children) {
+            unindex(child);
+        }
+    }
+
+    private Node find(String commentId) {
+        return Helper.isNullOrEmpty(commentId) ? null : index.get(key(commentId));
+    }
+
+    private static int depth(Node node) {
+        int depth = 0;
+        for (Node ancestor = node.parent; ancestor != null; ancestor = ancestor.parent) {
+            depth++;
+        }
+        return depth;
+    }
+
+    private static String key(String commentId) {
+        return commentId.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,7 +2,7 @@ package com.odysee.app.utils;
 
 import android.content.Context;
 import android.graphics.Typeface;
-import android.text.Html;
+import android.graphics.drawable.Drawable;
 import android.text.Spannable;
 import android.text.SpannableString;
 import android.text.SpannableStringBuilder;
@@ -10,7 +10,9 @@ import android.text.Spanned;
 import android.text.TextPaint;
 import android.text.style.ClickableSpan;
 import android.text.style.ForegroundColorSpan;
+import android.text.style.ImageSpan;
 import android.text.style.StyleSpan;
+import android.util.LruCache;
 import android.view.View;
 import android.widget.TextView;
 
@@ -21,12 +23,9 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 
 import com.odysee.app.R;
 import com.odysee.app.exceptions.ApiCallException;
@@ -42,10 +41,20 @@ import okhttp3.Response;
 public class Comments {
     private static final String EMOTICON_BASE_URL = "https://static.odycdn.com/emoticons/48%20px";
     private static final String STICKER_BASE_URL = "https://static.odycdn.com/stickers";
+    // longer than any emote or sticker name, so that long runs of text between colons are not looked up
+    private static final int MAX_IMAGE_NAME_LENGTH = 64;
+    private static final char OBJECT_REPLACEMENT_CHARACTER = '\uFFFC';
+    private static final LruCache<String, Spannable> renderedTextCache = new LruCache<>(200);
 
     private static final String STATUS_ENDPOINT = "https://comments.lbry.com";
     public static final String COMMENT_SERVER_ENDPOINT = "https://comments.lbry.com/api/v2";
 
+    // sort orders for comment.List
+    public static final int SORT_BY_NEWEST = 0;
+    public static final int SORT_BY_OLDEST = 1;
+    public static final int SORT_BY_CONTROVERSY = 2;
+    public static final int SORT_BY_POPULARITY = 3;
+
     public static JSONObject channelSignName(JSONObject params, final String channelId, final String channelName) throws ApiCallException, JSONException {
         // NOTE: Intentionally passing in channelName twice in a row.
         return channelSignPrivate(params, channelId, channelName, channelName);
@@ -106,18 +115,14 @@ public class Comments {
                                                   .post(requestBody)
                                                   .build();
 
-        OkHttpClient client = new OkHttpClient.Builder().writeTimeout(30, TimeUnit.SECONDS)
-                                                        .readTimeout(30, TimeUnit.SECONDS)
-                                                        .build();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.COMMENTS);
 
         return client.newCall(commentCreateRequest).execute();
     }
 
     public static void checkCommentsEndpointStatus() throws IOException, JSONException, ApiCallException {
         Request request = new Request.Builder().url(STATUS_ENDPOINT).build();
-        OkHttpClient client = new OkHttpClient.Builder().writeTimeout(30, TimeUnit.SECONDS)
-                                                        .readTimeout(30, TimeUnit.SECONDS)
-                                                        .build();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.COMMENTS);
         Response response = client.newCall(request).execute();
         JSONObject status = new JSONObject(Objects.requireNonNull(response.body()).string());
         String statusText = Helper.getJSONString("text", null, status);
@@ -175,72 +180,74 @@ public class Comments {
         return ssb;
     }
 
+    /**
+     * Replaces the :name: tokens of a text which match an emote or a sticker with the image, in a single pass.
+     * Texts with images are cached once all of their images have been loaded, so rendering the same text again
+     * (eg. when a chat row is bound again) doesn't tokenize it again.
+     */
     public static Spannable buildCommentWithStickers(String text, TextView textView) {
+        Spannable cached = renderedTextCache.get(text);
+        if (cached != null) {
+            return cached;
+        }
+
         SpannableStringBuilder ssb = new SpannableStringBuilder();
+        int imageCount = 0;
+        boolean hasPendingImages = false;
+        int plainTextStart = 0;
+        int tokenStart = text.indexOf(':');
+        while (tokenStart != -1) {
+            int tokenEnd = text.indexOf(':', tokenStart + 1);
+            if (tokenEnd == -1) {
+                break;
+            }
 
-        List<String> imageNames = new ArrayList<>();
-        StringBuilder plainText = new StringBuilder();
-
-        boolean inSticker = false;
-        StringBuilder imageName = new StringBuilder();
-        for (int i = 0; i < text.length(); i++) {
-            if (text.charAt(i) == ':') {
-                if (!inSticker && (i + 1 < text.length() && text.substring(i + 1).contains(":"))) {
-                    // TODO: Additional inSticker parsing (check that the regex character range is [a-z0-9_])+ within matching colon pairs
-                    inSticker = true;
-                    imageName = new StringBuilder();
-
-                    // reset plainText
-                    ssb.append(plainText.toString());
-                    plainText = new StringBuilder();
-                } else if (inSticker) {
-                    inSticker = false;
-                    String name = imageName.toString();
-                    if (isValidEmojiOrSticker(name)) {
-                        imageNames.add(name);
-
-                        Spannable span = null;
-                        try {
-                            Emote emote = Emote.valueOf(name);
-                            span = (Spannable) Html.fromHtml(
-                                    String.format("<img src=\"%s/%s\" />", EMOTICON_BASE_URL, emote.getPath("%402x")),
-                                    new GlideImageGetter(textView), null);
-                        } catch (IllegalArgumentException ex) {
-                            try {
-                                Sticker sticker = Sticker.valueOf(name);
-                                span = (Spannable) Html.fromHtml(
-                                        String.format("<img src=\"%s/%s\" />", STICKER_BASE_URL, sticker.getPath()),
-                                        new GlideImageGetter(textView), null);
-                            } catch (IllegalArgumentException stex) {
-                                // pass
-                            }
-                        }
-
-                        if (span != null) {
-                            ssb.append(span);
-                        }
-                    } else {
-                        // append the text as is
-                        ssb.append(String.format(":%s:", name));
-                    }
-                }
+            String source = getImageSource(text, tokenStart + 1, tokenEnd);
+            if (source == null) {
+                // not an image, but the closing colon may start one
+                tokenStart = tokenEnd;
+                continue;
             }
 
-            if (inSticker) {
-                if (text.charAt(i) == ':') {
-                    continue;
-                }
-                imageName.append(text.charAt(i));
-            } else {
-                plainText.append(text.charAt(i));
+            ssb.append(text, plainTextStart, tokenStart);
+            Drawable drawable = EmoteImageCache.getCached(source, textView.getResources());
+            if (drawable == null) {
+                drawable = EmoteImageCache.load(source, textView);
+                hasPendingImages = true;
             }
+            int spanStart = ssb.length();
+            ssb.append(OBJECT_REPLACEMENT_CHARACTER);
+            ssb.setSpan(new ImageSpan(drawable, source), spanStart, ssb.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            imageCount++;
+
+            plainTextStart = tokenEnd + 1;
+            tokenStart = text.indexOf(':', plainTextStart);
         }
+        ssb.append(text, plainTextStart, text.length());
 
-        if (plainText.length() > 0) {
-            ssb.append(plainText.toString());
+        Spannable result = new SpannableString(ssb);
+        if (imageCount > 0 && !hasPendingImages) {
+            renderedTextCache.put(text, result);
         }
+        return result;
+    }
 
-        return ssb;
+    /**
+     * @return the URL of the emote or sticker image named by text[start, end), or null if there isn't one
+     */
+    private static String getImageSource(String text, int start, int end) {
+        int length = end - start;
+        if (length == 0 || length > MAX_IMAGE_NAME_LENGTH) {
+            return null;
+        }
+
+        String name = text.substring(start, end);
+        Emote emote = Emote.fromName(name);
+        if (emote != null) {
+            return String.format("%s/%s", EMOTICON_BASE_URL, emote.getPath("%402x"));
+        }
+        Sticker sticker = Sticker.fromName(name);
+        return sticker != null ? String.format("%s/%s", STICKER_BASE_URL, sticker.getPath()) : null;
     }
 
     public static boolean isValidEmojiOrSticker(String name) {
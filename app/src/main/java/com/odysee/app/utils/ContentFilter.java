@@ -0,0 +1,349 @@
+package com.odysee.app.utils;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.odysee.app.model.Claim;
+import com.odysee.app.model.Comment;
+import com.odysee.app.model.lbryinc.CustomBlockRule;
+import com.odysee.app.model.lbryinc.OdyseeLocale;
+
+/**
+ * Immutable snapshot of everything which can hide a claim: the blocked and filtered outpoint lists,
+ * the channels blocked by the user and the custom (regional) block rules. Outpoints are indexed by
+ * their decoded txid and nout instead of the "txid:nout" string, so a lookup is a single hash probe.
+ *
+ * The current snapshot is replaced atomically whenever one of the sources changes, so readers on any
+ * thread always see a consistent filter without locking.
+ */
+public final class ContentFilter {
+    private static final ContentFilter EMPTY = new ContentFilter(
+            Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), null);
+    private static final AtomicReference<ContentFilter> current = new AtomicReference<>(EMPTY);
+
+    private final Set<Outpoint> blockedOutpoints;
+    private final Set<Outpoint> filteredOutpoints;
+    private final Set<String> blockedChannelIds;
+    // claim ID -> block message, for the claims which the custom rules block in the current locale
+    private final Map<String, String> customBlockedClaims;
+    private final OdyseeLocale locale;
+
+    private ContentFilter(Set<Outpoint> blockedOutpoints,
+                          Set<Outpoint> filteredOutpoints,
+                          Set<String> blockedChannelIds,
+                          Map<String, String> customBlockedClaims,
+                          OdyseeLocale locale) {
+        this.blockedOutpoints = blockedOutpoints;
+        this.filteredOutpoints = filteredOutpoints;
+        this.blockedChannelIds = blockedChannelIds;
+        this.customBlockedClaims = customBlockedClaims;
+        this.locale = locale;
+    }
+
+    /**
+     * @return the current filter snapshot. The returned instance never changes, so it can be held for the
+     * duration of an operation (eg. filtering a page of results).
+     */
+    public static ContentFilter get() {
+        return current.get();
+    }
+
+    public static void setBlockedOutpoints(JSONArray outpoints) throws JSONException {
+        Set<Outpoint> blocked = parseOutpoints(outpoints);
+        ContentFilter previous;
+        do {
+            previous = current.get();
+        } while (!current.compareAndSet(previous, new ContentFilter(
+                blocked, previous.filteredOutpoints, previous.blockedChannelIds,
+                previous.customBlockedClaims, previous.locale)));
+    }
+
+    public static void setFilteredOutpoints(JSONArray outpoints) throws JSONException {
+        Set<Outpoint> filtered = parseOutpoints(outpoints);
+        ContentFilter previous;
+        do {
+            previous = current.get();
+        } while (!current.compareAndSet(previous, new ContentFilter(
+                previous.blockedOutpoints, filtered, previous.blockedChannelIds,
+                previous.customBlockedClaims, previous.locale)));
+    }
+
+    public static void setBlockedChannels(List<LbryUri> blockedChannels) {
+        Set<String> channelIds = new HashSet<>();
+        if (blockedChannels != null) {
+            for (LbryUri uri : blockedChannels) {
+                if (uri != null && !Helper.isNullOrEmpty(uri.getClaimId())) {
+                    channelIds.add(uri.getClaimId().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        Set<String> unmodifiableChannelIds = Collections.unmodifiableSet(channelIds);
+        ContentFilter previous;
+        do {
+            previous = current.get();
+        } while (!current.compareAndSet(previous, new ContentFilter(
+                previous.blockedOutpoints, previous.filteredOutpoints, unmodifiableChannelIds,
+                previous.customBlockedClaims, previous.locale)));
+    }
+
+    /**
+     * Sets the custom block rules and the locale they should be evaluated against. The rules are resolved
+     * for the locale once here, so that checking a claim afterwards is a single map lookup.
+     * @param rules the block rules, keyed by claim ID
+     * @param locale the locale of the user, or null if it is not known yet
+     */
+    public static void setCustomBlockRules(Map<String, List<CustomBlockRule>> rules, OdyseeLocale locale) {
+        Map<String, String> blockedClaims = new HashMap<>();
+        if (rules != null && locale != null) {
+            for (Map.Entry<String, List<CustomBlockRule>> entry : rules.entrySet()) {
+                CustomBlockRule rule = findMatchingRule(entry.getValue(), locale);
+                if (rule != null) {
+                    blockedClaims.put(entry.getKey().toLowerCase(Locale.ROOT), rule.getMessage());
+                }
+            }
+        }
+
+        Map<String, String> unmodifiableBlockedClaims = Collections.unmodifiableMap(blockedClaims);
+        ContentFilter previous;
+        do {
+            previous = current.get();
+        } while (!current.compareAndSet(previous, new ContentFilter(
+                previous.blockedOutpoints, previous.filteredOutpoints, previous.blockedChannelIds,
+                unmodifiableBlockedClaims, locale)));
+    }
+
+    /**
+     * Checks whether a claim should be hidden from feeds, search results, related content and comments.
+     * A claim is hidden if it or its signing channel is on the blocked or filtered lists, if it is signed
+     * by (or is) a channel which the user blocked, or if a custom block rule applies to it.
+     */
+    public boolean isHidden(Claim claim) {
+        if (claim == null) {
+            return false;
+        }
+        if (isListed(claim, blockedOutpoints) || isListed(claim, filteredOutpoints)) {
+            return true;
+        }
+        if (isChannelBlocked(claim.getClaimId()) || isCustomBlocked(claim.getClaimId())) {
+            return true;
+        }
+
+        Claim signingChannel = claim.getSigningChannel();
+        return signingChannel != null && (
+                isListed(signingChannel, blockedOutpoints) ||
+                isListed(signingChannel, filteredOutpoints) ||
+                isChannelBlocked(signingChannel.getClaimId()));
+    }
+
+    /**
+     * Checks whether a claim, or its signing channel, is on the blocked outpoint list. Blocked content
+     * cannot be viewed at all, as opposed to filtered content, which is only left out of listings.
+     */
+    public boolean isBlocked(Claim claim) {
+        if (claim == null) {
+            return false;
+        }
+        return isListed(claim, blockedOutpoints) ||
+                (claim.getSigningChannel() != null && isListed(claim.getSigningChannel(), blockedOutpoints));
+    }
+
+    public boolean isChannelBlocked(String channelClaimId) {
+        return !Helper.isNullOrEmpty(channelClaimId) && !blockedChannelIds.isEmpty() &&
+                blockedChannelIds.contains(channelClaimId.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the status of the custom block rules for the claim, or null if the rules or the locale have not been loaded
+     */
+    public CustomBlockRule.CustomBlockStatus getCustomBlockedStatus(String claimId) {
+        if (locale == null) {
+            return null;
+        }
+
+        CustomBlockRule.CustomBlockStatus status = new CustomBlockRule.CustomBlockStatus();
+        if (!Helper.isNullOrEmpty(claimId)) {
+            String normalizedClaimId = claimId.toLowerCase(Locale.ROOT);
+            if (customBlockedClaims.containsKey(normalizedClaimId)) {
+                status.setBlocked(true);
+                status.setMessage(customBlockedClaims.get(normalizedClaimId));
+            }
+        }
+        return status;
+    }
+
+    public List<Claim> filterClaims(List<Claim> claims) {
+        List<Claim> filtered = new ArrayList<>(claims.size());
+        for (Claim claim : claims) {
+            if (!isHidden(claim)) {
+                filtered.add(claim);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Removes the claims which, or whose signing channel, are on the blocked or filtered outpoint lists.
+     * Blocked channels and custom block rules are not applied, as this is for the page of a channel which
+     * the user opened, where they would hide everything.
+     */
+    public List<Claim> filterListedClaims(List<Claim> claims) {
+        List<Claim> filtered = new ArrayList<>(claims.size());
+        for (Claim claim : claims) {
+            Claim signingChannel = claim.getSigningChannel();
+            if (isListed(claim, blockedOutpoints) || isListed(claim, filteredOutpoints) || (signingChannel != null &&
+                    (isListed(signingChannel, blockedOutpoints) || isListed(signingChannel, filteredOutpoints)))) {
+                continue;
+            }
+            filtered.add(claim);
+        }
+        return filtered;
+    }
+
+    /**
+     * Removes comments without a poster, and comments posted by hidden channels.
+     */
+    public List<Comment> filterComments(List<Comment> comments) {
+        List<Comment> filtered = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            if (comment.getPoster() != null && !isHidden(comment.getPoster())) {
+                filtered.add(comment);
+            }
+        }
+        return filtered;
+    }
+
+    private boolean isCustomBlocked(String claimId) {
+        return !Helper.isNullOrEmpty(claimId) && !customBlockedClaims.isEmpty() &&
+                customBlockedClaims.containsKey(claimId.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isListed(Claim claim, Set<Outpoint> outpoints) {
+        if (outpoints.isEmpty()) {
+            return false;
+        }
+        Outpoint outpoint = Outpoint.of(claim.getTxid(), claim.getNout());
+        return outpoint != null && outpoints.contains(outpoint);
+    }
+
+    private static CustomBlockRule findMatchingRule(List<CustomBlockRule> rules, OdyseeLocale locale) {
+        if (rules == null) {
+            return null;
+        }
+        for (CustomBlockRule rule : rules) {
+            if (CustomBlockRule.Scope.special == rule.getScope() &&
+                    "eu-only".equalsIgnoreCase(rule.getId()) && locale.isEuMember()) {
+                return rule;
+            }
+            if (CustomBlockRule.Scope.continent == rule.getScope() &&
+                    rule.getId() != null && rule.getId().equalsIgnoreCase(locale.getContinent())) {
+                return rule;
+            }
+            if (CustomBlockRule.Scope.country == rule.getScope() &&
+                    rule.getId() != null && rule.getId().equalsIgnoreCase(locale.getCountry())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static Set<Outpoint> parseOutpoints(JSONArray source) throws JSONException {
+        Set<Outpoint> outpoints = new HashSet<>();
+        if (source != null) {
+            for (int i = 0; i < source.length(); i++) {
+                String value = source.getString(i).trim();
+                int separator = value.lastIndexOf(':');
+                if (separator <= 0) {
+                    continue;
+                }
+                try {
+                    Outpoint outpoint = Outpoint.of(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)));
+                    if (outpoint != null) {
+                        outpoints.add(outpoint);
+                    }
+                } catch (NumberFormatException ex) {
+                    // skip malformed entries
+                }
+            }
+        }
+        return Collections.unmodifiableSet(outpoints);
+    }
+
+    /**
+     * A transaction output, with the 32-byte txid packed into four longs
+     */
+    private static final class Outpoint {
+        private static final int TXID_LENGTH = 64;
+
+        private final long txid0;
+        private final long txid1;
+        private final long txid2;
+        private final long txid3;
+        private final int nout;
+        private final int hash;
+
+        private Outpoint(long txid0, long txid1, long txid2, long txid3, int nout) {
+            this.txid0 = txid0;
+            this.txid1 = txid1;
+            this.txid2 = txid2;
+            this.txid3 = txid3;
+            this.nout = nout;
+            long mixed = txid0 ^ (txid1 * 31) ^ (txid2 * 961) ^ (txid3 * 29791);
+            this.hash = (int) (mixed ^ (mixed >>> 32)) * 31 + nout;
+        }
+
+        /**
+         * @return the outpoint, or null if the txid is not a 64-character hex string
+         */
+        static Outpoint of(String txid, int nout) {
+            if (txid == null || txid.length() != TXID_LENGTH) {
+                return null;
+            }
+            try {
+                return new Outpoint(
+                        parseHexLong(txid, 0), parseHexLong(txid, 16), parseHexLong(txid, 32), parseHexLong(txid, 48), nout);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+
+        private static long parseHexLong(String value, int offset) {
+            long result = 0;
+            for (int i = offset; i < offset + 16; i++) {
+                int digit = Character.digit(value.charAt(i), 16);
+                if (digit == -1) {
+                    throw new NumberFormatException(String.format("Invalid hex character in %s", value));
+                }
+                result = (result << 4) | digit;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Outpoint)) {
+                return false;
+            }
+            Outpoint other = (Outpoint) o;
+            return nout == other.nout && txid0 == other.txid0 && txid1 == other.txid1 && txid2 == other.txid2 && txid3 == other.txid3;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
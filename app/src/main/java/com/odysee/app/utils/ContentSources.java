@@ -124,7 +124,7 @@ public final class ContentSources {
                 List<Category> loadedCategories = new ArrayList<>();
 
                 Request request = new Request.Builder().url(ENDPOINT).build();
-                OkHttpClient client = new OkHttpClient.Builder().build();
+                OkHttpClient client = HttpClients.get();
                 ResponseBody responseBody = null;
                 try {
                     Response response = client.newCall(request).execute();
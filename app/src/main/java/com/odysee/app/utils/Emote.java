@@ -1,5 +1,8 @@
 package com.odysee.app.utils;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Getter;
 
 public enum Emote {
@@ -89,6 +92,14 @@ public enum Emote {
     @Getter
     private final String path;
 
+    private static final Map<String, Emote> emoteByName = new HashMap<>();
+
+    static {
+        for (Emote emote : values()) {
+            emoteByName.put(emote.name, emote);
+        }
+    }
+
     Emote(String name, String path) {
         this.name = name;
         this.path = path;
@@ -98,14 +109,14 @@ public enum Emote {
         return path.replace("__multiplier__", multiplier);
     }
 
-    public static boolean isEmote(String name) {
-        Emote[] emotes = Emote.values();
-        for (Emote emote : emotes) {
-            if (emote.name.equals(name)) {
-                return true;
-            }
-        }
+    /**
+     * @return the emote with the given name, or null if there is none
+     */
+    public static Emote fromName(String name) {
+        return emoteByName.get(name);
+    }
 
-        return false;
+    public static boolean isEmote(String name) {
+        return emoteByName.containsKey(name);
     }
 }
@@ -0,0 +1,124 @@
+package com.odysee.app.utils;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.PixelFormat;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.target.CustomTarget;
+import com.bumptech.glide.request.transition.Transition;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Drawables for the emote and sticker images shown in comments and chat messages. Once an image has been
+ * loaded, a single drawable sized for the screen density is shared by every message which shows it, so
+ * rendering a message with images that were already loaded doesn't go through Glide or trigger a relayout.
+ */
+public final class EmoteImageCache {
+    private static final int MAX_CACHE_BYTES = 8 * 1024 * 1024;
+
+    private static final LruCache<String, BitmapDrawable> drawables = new LruCache<String, BitmapDrawable>(MAX_CACHE_BYTES) {
+        @Override
+        protected int sizeOf(String key, BitmapDrawable value) {
+            return value.getBitmap().getByteCount();
+        }
+    };
+
+    private EmoteImageCache() {
+        // Ignore
+    }
+
+    /**
+     * @return the drawable for the image with its bounds set, or null if the image hasn't been loaded yet
+     */
+    public static Drawable getCached(String source, Resources resources) {
+        return drawables.get(getKey(source, resources));
+    }
+
+    /**
+     * Starts loading the image
+     * @return a placeholder which draws the image once it is loaded. The text of the text view is then set
+     *         again so that it is laid out with the size of the image.
+     */
+    public static Drawable load(String source, TextView textView) {
+        PendingDrawable placeholder = new PendingDrawable();
+        Resources resources = textView.getResources();
+        WeakReference<TextView> container = new WeakReference<>(textView);
+        Glide.with(textView.getContext().getApplicationContext()).asBitmap().load(source).into(new CustomTarget<Bitmap>() {
+            @Override
+            public void onResourceReady(@NonNull Bitmap bitmap, @Nullable Transition<? super Bitmap> transition) {
+                BitmapDrawable drawable = createDrawable(bitmap, resources);
+                drawables.put(getKey(source, resources), drawable);
+                placeholder.setLoaded(drawable);
+
+                TextView textView = container.get();
+                if (textView != null) {
+                    textView.setText(textView.getText());
+                }
+            }
+
+            @Override
+            public void onLoadCleared(@Nullable Drawable placeholderDrawable) {
+                // the drawable keeps a reference to the bitmap, which is only released with the cache entry
+            }
+        });
+        return placeholder;
+    }
+
+    private static BitmapDrawable createDrawable(Bitmap bitmap, Resources resources) {
+        BitmapDrawable drawable = new BitmapDrawable(resources, bitmap);
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+        int maxWidth = resources.getDisplayMetrics().widthPixels;
+        if (width > maxWidth) {
+            height = maxWidth * height / width;
+            width = maxWidth;
+        }
+        drawable.setBounds(0, 0, width, height);
+        return drawable;
+    }
+
+    private static String getKey(String source, Resources resources) {
+        return String.format("%s@%d", source, resources.getDisplayMetrics().densityDpi);
+    }
+
+    /**
+     * Draws nothing until the image is loaded, then takes its size and draws it
+     */
+    private static class PendingDrawable extends Drawable {
+        private Drawable loaded;
+
+        void setLoaded(Drawable loaded) {
+            this.loaded = loaded;
+            setBounds(loaded.getBounds());
+        }
+
+        @Override
+        public void draw(@NonNull Canvas canvas) {
+            if (loaded != null) {
+                loaded.draw(canvas);
+            }
+        }
+
+        @Override
+        public void setAlpha(int alpha) { }
+
+        @Override
+        public void setColorFilter(@Nullable ColorFilter colorFilter) { }
+
+        @Override
+        public int getOpacity() {
+            return PixelFormat.TRANSLUCENT;
+        }
+    }
+}
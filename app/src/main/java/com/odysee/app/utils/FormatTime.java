@@ -17,7 +17,8 @@ public class FormatTime {
         prettyTime.removeUnit(Decade.class);
     }
 
-    public static String fromEpochMillis(final long epochMillis) {
+    // PrettyTime is not thread-safe, and claim list rows are formatted on background threads
+    public static synchronized String fromEpochMillis(final long epochMillis) {
         if (prettyTime == null) {
             initPrettyTime();
         }
@@ -14,7 +14,6 @@ import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
 import android.graphics.drawable.ShapeDrawable;
 import android.net.Uri;
-import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Environment;
 import android.provider.DocumentsContract;
@@ -49,10 +48,10 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
@@ -64,13 +63,10 @@ import com.odysee.app.data.DatabaseHelper;
 import com.odysee.app.dialog.ContentFromDialogFragment;
 import com.odysee.app.dialog.ContentSortDialogFragment;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.Comment;
 import com.odysee.app.model.LbryFile;
 import com.odysee.app.model.Tag;
 import com.odysee.app.model.UrlSuggestion;
 import com.odysee.app.model.ViewHistory;
-import com.odysee.app.model.lbryinc.CustomBlockRule;
-import com.odysee.app.model.lbryinc.OdyseeLocale;
 import com.odysee.app.tasks.localdata.SaveUrlHistoryTask;
 import com.odysee.app.tasks.localdata.SaveViewHistoryTask;
 import okhttp3.MediaType;
@@ -448,7 +444,7 @@ public final class Helper {
         return String.format(">%d", Double.valueOf(cal.getTimeInMillis() / 1000.0).longValue());
     }
 
-    public static final Map<String, Integer> randomColorMap = new HashMap<>();
+    public static final Map<String, Integer> randomColorMap = new ConcurrentHashMap<>();
     public static int generateRandomColorForValue(String value) {
         if (Helper.isNullOrEmpty(value)) {
             return 0;
@@ -832,7 +828,7 @@ public final class Helper {
             suggestion.setUri(LbryUri.tryParse(url));
             suggestion.setType(type);
             suggestion.setText(Helper.isNull(title) ? "" : title);
-            new SaveUrlHistoryTask(suggestion, dbHelper, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            new SaveUrlHistoryTask(suggestion, dbHelper, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
         }
     }
 
@@ -840,7 +836,7 @@ public final class Helper {
         DatabaseHelper dbHelper = DatabaseHelper.getInstance();
         if (dbHelper != null) {
             ViewHistory viewHistory = ViewHistory.fromClaimWithUrlAndDeviceName(claim, url, getDeviceName());
-            new SaveViewHistoryTask(viewHistory, dbHelper, null).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+            new SaveViewHistoryTask(viewHistory, dbHelper, null).executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.DISK));
         }
     }
     public static String normalizeChannelName(String channelName) {
@@ -897,72 +893,6 @@ public final class Helper {
         return id.toString();
     }
 
-    public static List<Claim> filterClaimsByBlockedChannels(List<Claim> claims, List<LbryUri> blockedChannels) {
-        List<Claim> filtered = new ArrayList<>();
-        List<String> blockedChannelClaimIds = new ArrayList<>();
-        for (LbryUri uri : blockedChannels) {
-            blockedChannelClaimIds.add(uri.getClaimId());
-        }
-        for (Claim claim : claims) {
-            if (blockedChannelClaimIds.contains(claim.getClaimId()) ||
-                    (claim.getSigningChannel() != null && blockedChannelClaimIds.contains(claim.getSigningChannel().getClaimId()))) {
-                continue;
-            }
-            filtered.add(claim);
-        }
-        return filtered;
-    }
-
-    public static List<Comment> filterCommentsByBlockedChannels(List<Comment> comments, List<LbryUri> blockedChannels) {
-        List<Comment> filtered = new ArrayList<>();
-        List<String> blockedChannelClaimIds = new ArrayList<>();
-        for (LbryUri uri : blockedChannels) {
-            blockedChannelClaimIds.add(uri.getClaimId());
-        }
-        for (Comment comment : comments) {
-            if (comment.getPoster() == null || blockedChannelClaimIds.contains(comment.getPoster().getClaimId())) {
-                continue;
-            }
-            filtered.add(comment);
-        }
-        return filtered;
-    }
-
-    public static List<Claim> filterClaimsByOutpoint(List<Claim> claims) {
-        List<Claim> filtered = new ArrayList<>();
-        for (Claim claim : claims) {
-            String outpoint = String.format("%s:%d", claim.getTxid(), claim.getNout());
-            if (Lbryio.blockedOutpoints.contains(outpoint) || Lbryio.filteredOutpoints.contains(outpoint)) {
-                continue;
-            }
-
-            if (claim.getSigningChannel() != null) {
-                Claim signingChannel = claim.getSigningChannel();
-                String channelOutpoint = String.format("%s:%d", signingChannel.getTxid(), signingChannel.getNout());
-                if (Lbryio.blockedOutpoints.contains(channelOutpoint) || Lbryio.filteredOutpoints.contains(channelOutpoint)) {
-                    continue;
-                }
-            }
-
-            filtered.add(claim);
-        }
-
-        return filtered;
-    }
-
-    public static boolean isClaimBlocked(Claim claim) {
-        if (claim.getSigningChannel() != null) {
-            Claim signingChannel = claim.getSigningChannel();
-            String channelOutpoint = String.format("%s:%d", signingChannel.getTxid(), signingChannel.getNout());
-            if (Lbryio.blockedOutpoints.contains(channelOutpoint)) {
-                return true;
-            }
-        }
-
-        String outpoint = String.format("%s:%d", claim.getTxid(), claim.getNout());
-        return Lbryio.blockedOutpoints.contains(outpoint);
-    }
-
     public static boolean isSignedIn(Context context) {
         if (context instanceof MainActivity) {
             return ((MainActivity) context).isSignedIn();
@@ -1010,40 +940,4 @@ public final class Helper {
 
         return hexString;
     }
-
-    public static CustomBlockRule.CustomBlockStatus getCustomBlockedStatus(
-            String claimId, Map<String, List<CustomBlockRule>> rules, OdyseeLocale locale) {
-        if (rules == null || locale == null) {
-            return null;
-        }
-
-        CustomBlockRule.CustomBlockStatus status = new CustomBlockRule.CustomBlockStatus();
-        if (rules.containsKey(claimId)) {
-            List<CustomBlockRule> ruleList = rules.get(claimId);
-            if (ruleList != null) {
-                for (CustomBlockRule rule : ruleList) {
-                    if (CustomBlockRule.Scope.special == rule.getScope() &&
-                            "eu-only".equalsIgnoreCase(rule.getId()) && locale.isEuMember()) {
-                        status.setBlocked(true);
-                        status.setMessage(rule.getMessage());
-                        break;
-                    }
-                    if (CustomBlockRule.Scope.continent == rule.getScope() &&
-                            rule.getId().equalsIgnoreCase(locale.getContinent())) {
-                        status.setBlocked(true);
-                        status.setMessage(rule.getMessage());
-                        break;
-                    }
-                    if (CustomBlockRule.Scope.country == rule.getScope() &&
-                            rule.getId().equalsIgnoreCase(locale.getContinent())) {
-                        status.setBlocked(true);
-                        status.setMessage(rule.getMessage());
-                        break;
-                    }
-                }
-            }
-        }
-
-        return status;
-    }
 }
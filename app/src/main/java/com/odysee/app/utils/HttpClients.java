@@ -0,0 +1,124 @@
+package com.odysee.app.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Process-wide HTTP transport. Every client handed out here is derived from the same base client,
+ * so they all share one connection pool (and therefore TLS sessions and HTTP/2 connections) and
+ * one dispatcher. Only the timeouts differ between the endpoint profiles.
+ */
+public final class HttpClients {
+    private static final int MAX_IDLE_CONNECTIONS = 10;
+    private static final long KEEP_ALIVE_DURATION_MINUTES = 5;
+    private static final int MAX_REQUESTS = 64;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    public enum Profile {
+        /**
+         * Default timeouts, for small requests such as the live status API or categories
+         */
+        DEFAULT(10, 10, 10),
+        /**
+         * Lighthouse search and autocomplete
+         */
+        SEARCH(10, 30, 10),
+        /**
+         * Comment server requests
+         */
+        COMMENTS(10, 30, 30),
+        /**
+         * Odysee (Lbryio) API requests
+         */
+        LBRYIO(10, 120, 120),
+        /**
+         * SDK proxy JSON-RPC calls, which includes publishing
+         */
+        SDK(10, 300, 300),
+        /**
+         * Analytics events, which should never hold up anything else for long
+         */
+        EVENTS(10, 60, 60),
+        /**
+         * File and thumbnail uploads
+         */
+        UPLOAD(10, 300, 300);
+
+        private final int connectTimeoutSeconds;
+        private final int readTimeoutSeconds;
+        private final int writeTimeoutSeconds;
+        private volatile OkHttpClient client;
+
+        Profile(int connectTimeoutSeconds, int readTimeoutSeconds, int writeTimeoutSeconds) {
+            this.connectTimeoutSeconds = connectTimeoutSeconds;
+            this.readTimeoutSeconds = readTimeoutSeconds;
+            this.writeTimeoutSeconds = writeTimeoutSeconds;
+        }
+    }
+
+    private static volatile OkHttpClient baseClient;
+
+    private HttpClients() {
+        // Ignore
+    }
+
+    private static OkHttpClient getBaseClient() {
+        if (baseClient == null) {
+            synchronized (HttpClients.class) {
+                if (baseClient == null) {
+                    Dispatcher dispatcher = new Dispatcher();
+                    dispatcher.setMaxRequests(MAX_REQUESTS);
+                    dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+                    baseClient = new OkHttpClient.Builder()
+                            .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MINUTES, TimeUnit.MINUTES))
+                            .dispatcher(dispatcher)
+                            .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                            .retryOnConnectionFailure(true)
+                            .build();
+                }
+            }
+        }
+
+        return baseClient;
+    }
+
+    /**
+     * Returns the shared client configured with the timeouts of the specified profile.
+     * @param profile the endpoint profile
+     * @return an OkHttpClient which shares the connection pool and dispatcher with every other profile
+     */
+    public static OkHttpClient get(Profile profile) {
+        if (profile.client == null) {
+            synchronized (HttpClients.class) {
+                if (profile.client == null) {
+                    profile.client = getBaseClient().newBuilder()
+                            .connectTimeout(profile.connectTimeoutSeconds, TimeUnit.SECONDS)
+                            .readTimeout(profile.readTimeoutSeconds, TimeUnit.SECONDS)
+                            .writeTimeout(profile.writeTimeoutSeconds, TimeUnit.SECONDS)
+                            .build();
+                }
+            }
+        }
+
+        return profile.client;
+    }
+
+    public static OkHttpClient get() {
+        return get(Profile.DEFAULT);
+    }
+
+    /**
+     * Closes idle connections in the shared pool, for example when the app is trimming memory.
+     */
+    public static void evictIdleConnections() {
+        if (baseClient != null) {
+            baseClient.connectionPool().evictAll();
+        }
+    }
+}
@@ -13,21 +13,21 @@ import java.security.KeyStore;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.odysee.app.exceptions.ApiCallException;
 import com.odysee.app.exceptions.LbryRequestException;
 import com.odysee.app.exceptions.LbryResponseException;
+import com.odysee.app.listener.TransactionListener;
 import com.odysee.app.model.Claim;
-import com.odysee.app.model.ClaimCacheKey;
 import com.odysee.app.model.ClaimSearchCacheValue;
 import com.odysee.app.model.LbryFile;
 import com.odysee.app.model.OdyseeCollection;
@@ -39,11 +39,13 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 public final class Lbry {
     private static final Object lock = new Object();
-    public static final Map<ClaimCacheKey, Claim> claimCache = new HashMap<>();
-    public static final Map<Map<String, Object>, ClaimSearchCacheValue> claimSearchCache = new HashMap<>();
+    public static final ClaimCache claimCache = new ClaimCache();
+    public static final ResolveBatcher resolveBatcher = new ResolveBatcher(Lbry.API_CONNECTION_STRING);
+    public static final ClaimSearchCache claimSearchCache = new ClaimSearchCache();
     public static WalletBalance walletBalance = new WalletBalance();
     public static List<Tag> knownTags = new ArrayList<>();
     public static List<Tag> followedTags = new ArrayList<>();
@@ -111,6 +113,13 @@ public final class Lbry {
 
     public static final String METHOD_COMMENT_LIST = "comment_list";
 
+    // calls which submit a transaction, after which the wallet balance changes
+    private static final List<String> TRANSACTION_METHODS = Arrays.asList(
+            METHOD_PUBLISH, METHOD_WALLET_SEND, METHOD_SUPPORT_CREATE, METHOD_SUPPORT_ABANDON, METHOD_TXO_SPEND,
+            METHOD_CHANNEL_ABANDON, METHOD_CHANNEL_CREATE, METHOD_CHANNEL_UPDATE, METHOD_STREAM_ABANDON, METHOD_STREAM_REPOST);
+
+    private static volatile TransactionListener transactionListener;
+
     public static KeyStore KEYSTORE;
     public static boolean SDK_READY = false;
 
@@ -168,10 +177,7 @@ public final class Lbry {
         }
 
         Request request =  requestBuilder.build();
-        OkHttpClient client = new OkHttpClient.Builder().
-                writeTimeout(300, TimeUnit.SECONDS).
-                readTimeout(300, TimeUnit.SECONDS).
-                build();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.SDK);
 
         try {
             return client.newCall(request).execute();
@@ -209,14 +215,7 @@ public final class Lbry {
             responseString = response.body().string();
             JSONObject json = new JSONObject(responseString);
             if (response.code() >= 200 && response.code() < 300) {
-                if (json.has("result")) {
-                    if (json.isNull("result")) {
-                        return null;
-                    }
-                    return json.get("result");
-                } else {
-                    processErrorJson(json);
-                }
+                return parseResult(json);
             }
 
             processErrorJson(json);
@@ -227,6 +226,44 @@ public final class Lbry {
         return null;
     }
 
+    /**
+     * @return the result of a JSON-RPC response, which is either a whole response or an item of a batch response
+     */
+    static Object parseResult(JSONObject json) throws LbryResponseException {
+        try {
+            if (json.has("result")) {
+                return json.isNull("result") ? null : json.get("result");
+            }
+            processErrorJson(json);
+        } catch (JSONException ex) {
+            throw new LbryResponseException(String.format("Could not parse response: %s", json), ex);
+        }
+        return null;
+    }
+
+    static boolean isTransactionMethod(String method) {
+        return TRANSACTION_METHODS.contains(method);
+    }
+
+    /**
+     * Sets the listener which is told about the transactions submitted through the generic API calls, eg. to
+     * refresh the wallet balance. The listener is called on the thread which made the call.
+     */
+    public static void setTransactionListener(TransactionListener listener) {
+        transactionListener = listener;
+    }
+
+    /**
+     * Tells the transaction listener about a call which returned a result. Calls which don't submit a
+     * transaction are ignored, so this can be called after any call.
+     */
+    public static void onCallSucceeded(String method) {
+        TransactionListener listener = transactionListener;
+        if (listener != null && isTransactionMethod(method)) {
+            listener.onTransactionSubmitted(method);
+        }
+    }
+
     private static void processErrorJson(JSONObject json) throws JSONException, LbryResponseException {
         if (json.has("error")) {
             String errorMessage = null;
@@ -245,22 +282,46 @@ public final class Lbry {
     /**
      * API Calls
      */
+    /**
+     * Resolves the URLs. Calls to the default SDK endpoint are coalesced with other concurrent resolve
+     * calls through the resolve batcher, and may be answered from the claim cache.
+     */
     public static List<Claim> resolve(List<String> urls, String connectionString) throws ApiCallException {
-        List<Claim> claims = new ArrayList<>();
+        return resolve(urls, connectionString, true);
+    }
+
+    /**
+     * @param useCache false to get the current claims from the SDK, eg. after a publish, edit, repost or support
+     */
+    public static List<Claim> resolve(List<String> urls, String connectionString, boolean useCache) throws ApiCallException {
+        if (API_CONNECTION_STRING.equals(connectionString)) {
+            return resolveBatcher.resolve(urls, useCache);
+        }
+
+        return new ArrayList<>(resolveUrls(urls, connectionString).values());
+    }
+
+    /**
+     * Performs a single resolve call for the URLs, without batching or checking the claim cache
+     * @return the resolved claims keyed by the requested URL. The claim is null for URLs which could not be resolved.
+     */
+    public static Map<String, Claim> resolveUrls(List<String> urls, String connectionString) throws ApiCallException {
+        Map<String, Claim> claims = new LinkedHashMap<>();
         Map<String, Object> params = new HashMap<>();
         params.put("urls", urls);
         try {
-            JSONObject result = (JSONObject) parseResponse(apiCall(METHOD_RESOLVE, params, connectionString));
+            Map<String, Claim> result = ClaimDecoder.decodeResolveResponse(apiCall(METHOD_RESOLVE, params, connectionString));
             if (result != null) {
-                Iterator<String> keys = result.keys();
-                while (keys.hasNext()) {
-                    Claim claim = Claim.fromJSONObject(result.getJSONObject(keys.next()));
-                    claims.add(claim);
+                for (Map.Entry<String, Claim> entry : result.entrySet()) {
+                    Claim claim = entry.getValue();
+                    claims.put(entry.getKey(), claim);
 
-                    addClaimToCache(claim);
+                    if (claim != null) {
+                        addClaimToCache(claim);
+                    }
                 }
             }
-        } catch (LbryRequestException | LbryResponseException | JSONException ex) {
+        } catch (LbryRequestException | LbryResponseException ex) {
             throw new ApiCallException("Could not execute resolve call", ex);
         }
 
@@ -268,6 +329,17 @@ public final class Lbry {
     }
     public static List<Transaction> transactionList(int page, int pageSize, String authToken) throws ApiCallException {
         List<Transaction> transactions = new ArrayList<>();
+        for (JSONObject item : transactionListItems(page, pageSize, authToken)) {
+            transactions.add(Transaction.fromJSONObject(item));
+        }
+        return transactions;
+    }
+
+    /**
+     * @return the items of a page of transaction_list, without parsing them, eg. to save them as they are
+     */
+    public static List<JSONObject> transactionListItems(int page, int pageSize, String authToken) throws ApiCallException {
+        List<JSONObject> transactions = new ArrayList<>();
         Map<String, Object> params = new HashMap<>();
         if (page > 0) {
             params.put("page", page);
@@ -282,8 +354,7 @@ public final class Lbry {
             JSONObject result = (JSONObject) parseResponse(apiCall(METHOD_TRANSACTION_LIST, params, API_CONNECTION_STRING));
             JSONArray items = result.getJSONArray("items");
             for (int i = 0; i < items.length(); i++) {
-                Transaction tx = Transaction.fromJSONObject(items.getJSONObject(i));
-                transactions.add(tx);
+                transactions.add(items.getJSONObject(i));
             }
         } catch (LbryRequestException | LbryResponseException | JSONException ex) {
             throw new ApiCallException("Could not execute transaction_list call", ex);
@@ -303,10 +374,9 @@ public final class Lbry {
             if (file != null) {
                 String fileClaimId = file.getClaimId();
                 if (!Helper.isNullOrEmpty(fileClaimId)) {
-                    ClaimCacheKey key = new ClaimCacheKey();
-                    key.setClaimId(fileClaimId);
-                    if (claimCache.containsKey(key)) {
-                        claimCache.get(key).setFile(file);
+                    Claim cachedClaim = claimCache.getByClaimId(fileClaimId);
+                    if (cachedClaim != null) {
+                        cachedClaim.setFile(file);
                     }
                 }
             }
@@ -343,10 +413,9 @@ public final class Lbry {
 
                 String fileClaimId = file.getClaimId();
                 if (!Helper.isNullOrEmpty(fileClaimId)) {
-                    ClaimCacheKey key = new ClaimCacheKey();
-                    key.setClaimId(fileClaimId);
-                    if (claimCache.containsKey(key)) {
-                        claimCache.get(key).setFile(file);
+                    Claim cachedClaim = claimCache.getByClaimId(fileClaimId);
+                    if (cachedClaim != null) {
+                        cachedClaim.setFile(file);
                     }
                 }
             }
@@ -433,54 +502,95 @@ public final class Lbry {
         }
     }
 
+    /**
+     * Runs claim_search with the options. Cached pages are returned if they have not expired.
+     */
     public static Page claimSearch(Map<String, Object> options, String connectionString) throws ApiCallException {
-        if (claimSearchCache.containsKey(options)) {
-            ClaimSearchCacheValue value = claimSearchCache.get(options);
-            if (value != null && !value.isExpired(TTL_CLAIM_SEARCH_VALUE)) {
-                return claimSearchCache.get(options).getClaimsPage();
+        return claimSearch(options, connectionString, false);
+    }
+
+    /**
+     * Runs claim_search with the options. Cached pages are returned if they have not expired.
+     * @param allowStale true to also return an expired page straight away, and refresh it in the background.
+     *                   claimSearchCache listeners are notified when the fresh page is available, so this should
+     *                   only be used by callers which are registered as listeners to display it.
+     */
+    public static Page claimSearch(Map<String, Object> options, String connectionString, boolean allowStale) throws ApiCallException {
+        String cacheKey = ClaimSearchCache.keyFor(options);
+        ClaimSearchCacheValue value = claimSearchCache.get(cacheKey, options);
+        if (value != null) {
+            if (!value.isExpired(TTL_CLAIM_SEARCH_VALUE)) {
+                return value.getClaimsPage();
+            }
+            if (allowStale) {
+                Map<String, Object> refreshOptions = new HashMap<>(options);
+                claimSearchCache.refreshInBackground(cacheKey, refreshOptions,
+                        () -> fetchClaimSearchResult(refreshOptions, connectionString));
+                return value.getClaimsPage();
             }
         }
 
-        List<Claim> claims = new ArrayList<>();
-        boolean isLastPage;
         Page claimsPage;
         try {
-            JSONObject result = (JSONObject) parseResponse(apiCall(METHOD_CLAIM_SEARCH, options, connectionString));
-            JSONArray items;
-            if (result != null) {
-                items = result.getJSONArray("items");
+            byte[] responseBody = fetchClaimSearchResult(options, connectionString);
+            claimsPage = parseClaimSearchResult(responseBody, options);
+            claimSearchCache.put(cacheKey, responseBody, claimsPage);
+        } catch (LbryRequestException | LbryResponseException ex) {
+            throw new ApiCallException("Could not execute resolve call", ex);
+        }
 
-                for (int i = 0; i < items.length(); i++) {
-                    Claim claim = Claim.fromJSONObject(items.getJSONObject(i));
+        return claimsPage;
+    }
 
-                    if (claim != null) {
-                        String claimValueType = claim.getValueType();
-                        String claimMediaType = claim.getMediaType();
-
-                        // Using Java Stream API to make it easier to add new future claim types/media types
-                        List<String> claimTypes = Stream.of(Claim.TYPE_COLLECTION, Claim.TYPE_REPOST, Claim.TYPE_CHANNEL)
-                                                        .collect(Collectors.toList());
-                        Stream<String> mediaTypes = Stream.of("video", "audio", "image", "text");
-
-                        // For now, only claims which are video, audio, images, text, playlists
-                        // or already/scheduled livestreaming now can be viewed
-                        if (claimTypes.contains(claimValueType.toLowerCase())
-                                || !claim.hasSource()
-                                || (claim.hasSource() && mediaTypes.anyMatch(claimMediaType::contains))) {
-                            claims.add(claim);
-                        }
-                    }
-                }
+    /**
+     * Runs claim_search and returns the raw response body, which is kept as is for the claim_search disk cache
+     */
+    private static byte[] fetchClaimSearchResult(Map<String, Object> options, String connectionString)
+            throws LbryRequestException, LbryResponseException {
+        try (Response response = apiCall(METHOD_CLAIM_SEARCH, options, connectionString)) {
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new LbryResponseException("Protocol error with unknown response signature.");
             }
+            return body.bytes();
+        } catch (IOException ex) {
+            throw new LbryResponseException("Could not read claim_search response", ex);
+        }
+    }
 
-            isLastPage = Helper.parseInt(options.get("page"), 0) >= result.getInt("total_pages");
-            claimsPage = new Page(claims, isLastPage);
-            claimSearchCache.put(options, new ClaimSearchCacheValue(claimsPage, System.currentTimeMillis()));
-        } catch (LbryRequestException | LbryResponseException | JSONException ex) {
-            throw new ApiCallException("Could not execute resolve call", ex);
+    /**
+     * Decodes a claim_search response body into a page of claims which can be displayed
+     */
+    public static Page parseClaimSearchResult(byte[] responseBody, Map<String, Object> options) throws LbryResponseException {
+        return toClaimSearchPage(ClaimDecoder.decodePageResponse(responseBody), options);
+    }
+
+    /**
+     * Keeps the claims of a claim_search result which can be displayed
+     */
+    private static Page toClaimSearchPage(ClaimDecoder.ClaimPage result, Map<String, Object> options) {
+        List<Claim> claims = new ArrayList<>();
+        if (result != null) {
+            // Using Java Stream API to make it easier to add new future claim types/media types
+            List<String> claimTypes = Stream.of(Claim.TYPE_COLLECTION, Claim.TYPE_REPOST, Claim.TYPE_CHANNEL)
+                                            .collect(Collectors.toList());
+            for (Claim claim : result.getItems()) {
+                String claimValueType = claim.getValueType();
+                String claimMediaType = claim.getMediaType();
+                Stream<String> mediaTypes = Stream.of("video", "audio", "image", "text");
+
+                // For now, only claims which are video, audio, images, text, playlists
+                // or already/scheduled livestreaming now can be viewed
+                if ((claimValueType != null && claimTypes.contains(claimValueType.toLowerCase()))
+                        || !claim.hasSource()
+                        || (claimMediaType != null && mediaTypes.anyMatch(claimMediaType::contains))) {
+                    claims.add(claim);
+                }
+            }
         }
 
-        return claimsPage;
+        boolean isLastPage = result == null || result.isLastPage(Helper.parseInt(options.get("page"), 0));
+        return new Page(claims, isLastPage);
     }
 
     public static Map<String, Object> buildClaimListOptions(
@@ -513,21 +623,13 @@ public final class Lbry {
     public static Page claimList(Map<String, Object> options, String authToken) throws ApiCallException {
         Page claimsPage = null;
         try {
-            JSONObject result = (JSONObject) authenticatedGenericApiCall(METHOD_CLAIM_LIST, options, authToken);
-            JSONArray items;
+            ClaimDecoder.ClaimPage result = ClaimDecoder.decodePageResponse(
+                    apiCall(METHOD_CLAIM_LIST, options, API_CONNECTION_STRING, authToken));
             if (result != null) {
-                items = result.getJSONArray("items");
-
-                List<Claim> claims = new ArrayList<>(items.length());
-                for (int i = 0; i < items.length(); i++) {
-                    Claim claim = Claim.fromJSONObject(items.getJSONObject(i));
-                    claims.add(claim);
-                }
-
-                boolean isLastPage = Helper.parseInt(options.get("page"), 0) >= result.getInt("total_pages");
-                claimsPage = new Page(claims, isLastPage);
+                boolean isLastPage = result.isLastPage(Helper.parseInt(options.get("page"), 0));
+                claimsPage = new Page(result.getItems(), isLastPage);
             }
-        } catch (ApiCallException | JSONException ex) {
+        } catch (LbryRequestException | LbryResponseException ex) {
             throw new ApiCallException("Could not execute claim_list call", ex);
         }
 
@@ -550,6 +652,7 @@ public final class Lbry {
         Object response = null;
         try {
             response = parseResponse(apiCall(method, params));
+            onCallSucceeded(method);
         } catch (LbryRequestException | LbryResponseException ex) {
             throw new ApiCallException(String.format("Could not execute %s call: %s", method, ex.getMessage()), ex);
         }
@@ -559,6 +662,7 @@ public final class Lbry {
         Object response = null;
         try {
             response = parseResponse(apiCall(method, params, API_CONNECTION_STRING, authToken));
+            onCallSucceeded(method);
         } catch (LbryRequestException | LbryResponseException ex) {
             throw new ApiCallException(String.format("Could not execute %s call: %s", method, ex.getMessage()), ex);
         }
@@ -590,6 +694,7 @@ public final class Lbry {
         Object response = null;
         try {
             response = parseResponse(apiCall(method, p, API_CONNECTION_STRING));
+            onCallSucceeded(method);
         } catch (LbryRequestException | LbryResponseException ex) {
             throw new ApiCallException(String.format("Could not execute %s call: %s", method, ex.getMessage()), ex);
         }
@@ -622,31 +727,22 @@ public final class Lbry {
     }
 
     public static void addClaimToCache(Claim claim) {
-        ClaimCacheKey fullKey = ClaimCacheKey.fromClaim(claim);
-        ClaimCacheKey shortUrlKey = ClaimCacheKey.fromClaimShortUrl(claim);
-        ClaimCacheKey permanentUrlKey = ClaimCacheKey.fromClaimPermanentUrl(claim);
-        ClaimCacheKey canonicalUrlKey = ClaimCacheKey.fromClaimCanonicalUrl(claim);
+        claimCache.put(claim);
+    }
 
-        if (!Helper.isNullOrEmpty(fullKey.getUrl())) {
-            claimCache.put(fullKey, claim);
-        }
-        if (!Helper.isNullOrEmpty(permanentUrlKey.getUrl())) {
-            claimCache.put(permanentUrlKey, claim);
-        }
-        if (!Helper.isNullOrEmpty(shortUrlKey.getUrl())) {
-            claimCache.put(shortUrlKey, claim);
-        }
-        if (!Helper.isNullOrEmpty(canonicalUrlKey.getUrl())) {
-            claimCache.put(canonicalUrlKey, claim);
-        }
+    /**
+     * Removes a claim which was changed by a transaction from the claim cache, so that it is resolved again
+     * rather than shown as it was before the change
+     */
+    public static void removeClaimFromCache(String claimId) {
+        claimCache.remove(claimId);
     }
 
     public static void unsetFilesForCachedClaims(List<String> claimIds) {
         for (String claimId : claimIds) {
-            ClaimCacheKey key = new ClaimCacheKey();
-            key.setClaimId(claimId);
-            if (claimCache.containsKey(key)) {
-                claimCache.get(key).setFile(null);
+            Claim cachedClaim = claimCache.getByClaimId(claimId);
+            if (cachedClaim != null) {
+                cachedClaim.setFile(null);
             }
         }
     }
@@ -665,36 +761,65 @@ public final class Lbry {
             return ownCollections;
         }
 
-        List<OdyseeCollection> collections = new ArrayList<>();
+        // for each claim, we need to claim_search the "claims" in values. The searches which are not cached
+        // are sent together, so that loading the collections takes two round trips however many there are.
+        List<Claim> collectionClaims = new ArrayList<>();
+        List<Map<String, Object>> searchOptions = new ArrayList<>();
+        List<List<Claim>> claimsInCollections = new ArrayList<>();
+        LbryBatch batch = new LbryBatch();
+        Map<Integer, Integer> batchIndexes = new HashMap<>();
         for (int i = 0; i < items.length(); i++) {
             Claim claim = Claim.fromJSONObject(items.getJSONObject(i));
+            if (Helper.isNullOrEmpty(claim.getClaimId())) {
+                continue;
+            }
+            Map<String, Object> opt = Lbry.buildClaimSearchOptions(
+                    null,
+                    null,
+                    null,
+                    new ArrayList<>(claim.getClaimIds()),
+                    null,
+                    null,
+                    null,
+                    null,
+                    0,
+                    0,
+                    1,
+                    999
+            );
+            ClaimSearchCacheValue cached = claimSearchCache.get(ClaimSearchCache.keyFor(opt), opt);
+            if (cached != null && !cached.isExpired(TTL_CLAIM_SEARCH_VALUE)) {
+                claimsInCollections.add(cached.getClaimsPage().getClaims());
+            } else {
+                claimsInCollections.add(null);
+                batchIndexes.put(collectionClaims.size(), batch.add(METHOD_CLAIM_SEARCH, opt));
+            }
+            collectionClaims.add(claim);
+            searchOptions.add(opt);
+        }
 
-            //  for each claim, we need to claim_search the "claims" in values
-            //  not very efficient, would've been nicer to have claim urls instead of just IDs
-            if (!Helper.isNullOrEmpty(claim.getClaimId())) {
-                Map<String, Object> opt = Lbry.buildClaimSearchOptions(
-                        null,
-                        null,
-                        null,
-                        new ArrayList<>(claim.getClaimIds()),
-                        null,
-                        null,
-                        null,
-                        null,
-                        0,
-                        0,
-                        1,
-                        999
-                );
-                List<Claim> claimsInCollection = Lbry.claimSearch(opt, API_CONNECTION_STRING).getClaims();
-                List<String> claimUrls = new ArrayList<>();
-                for (Claim collectionClaim : claimsInCollection) {
-                    claimUrls.add(collectionClaim.getPermanentUrl());
+        List<LbryBatch.Result> results = batch.size() > 0 ? batch.execute(API_CONNECTION_STRING, null) : new ArrayList<>();
+        List<OdyseeCollection> collections = new ArrayList<>();
+        for (int i = 0; i < collectionClaims.size(); i++) {
+            List<Claim> claimsInCollection = claimsInCollections.get(i);
+            if (claimsInCollection == null) {
+                Map<String, Object> opt = searchOptions.get(i);
+                Object result = results.get(batchIndexes.get(i)).get();
+                if (!(result instanceof JSONObject)) {
+                    throw new ApiCallException("Could not execute claim_search call: the result is not a page of claims");
                 }
+                // the batch response was already parsed, so the page is built from it. There is no response body
+                // of its own to write to disk, so the page is only cached in memory.
+                Page claimsPage = toClaimSearchPage(ClaimDecoder.ClaimPage.fromJSONObject((JSONObject) result), opt);
+                claimSearchCache.put(ClaimSearchCache.keyFor(opt), null, claimsPage);
+                claimsInCollection = claimsPage.getClaims();
+            }
 
-                OdyseeCollection actualCollection = OdyseeCollection.fromClaim(claim,  claimUrls);
-                collections.add(actualCollection);
+            List<String> claimUrls = new ArrayList<>();
+            for (Claim collectionClaim : claimsInCollection) {
+                claimUrls.add(collectionClaim.getPermanentUrl());
             }
+            collections.add(OdyseeCollection.fromClaim(collectionClaims.get(i), claimUrls));
         }
 
         ownCollections = new ArrayList<>(collections);
@@ -0,0 +1,255 @@
+package com.odysee.app.utils;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.odysee.app.exceptions.ApiCallException;
+import com.odysee.app.exceptions.LbryRequestException;
+import com.odysee.app.exceptions.LbryResponseException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Several independent SDK calls which are sent together. The calls are sent as a single JSON-RPC batch
+ * request, an array of requests which is answered with an array of responses, so they only cost one round
+ * trip. An endpoint which does not support batches gets the calls as single requests, in parallel on the network
+ * pool of the task runtime, instead.
+ * This is found out with the first batch sent to the endpoint, when it answers with something else than an
+ * array of responses, and remembered for a while.
+ *
+ * Calls which submit a transaction are never batched, so that a batch which was rejected can always be sent
+ * again as single calls.
+ */
+public class LbryBatch {
+    private static final String TAG = "LbryBatch";
+    // endpoints which did not support batches are tried again after this delay, eg. after a server upgrade
+    private static final long UNSUPPORTED_RETRY_MS = 30 * 60 * 1000;
+
+    // the time at which the endpoints were found not to support batches
+    private static final Map<String, Long> unsupportedEndpoints = new ConcurrentHashMap<>();
+
+    private final List<String> methods = new ArrayList<>();
+    private final List<Map<String, Object>> paramsList = new ArrayList<>();
+
+    /**
+     * @return the index of the result of the call in the list returned by execute
+     */
+    public int add(String method, Map<String, Object> params) {
+        methods.add(method);
+        paramsList.add(params != null ? new HashMap<>(params) : new HashMap<>());
+        return methods.size() - 1;
+    }
+
+    public int size() {
+        return methods.size();
+    }
+
+    /**
+     * Sends the calls, blocking until all of them completed. This must not be called from the main thread.
+     * @return the results, in the order in which the calls were added. A call which failed has an error
+     *         result, and the other calls are not affected.
+     */
+    public List<Result> execute(String connectionString, String authToken) {
+        if (Helper.isNullOrEmpty(authToken)) {
+            // like with apiCall, the auth token can be passed with the params
+            for (Map<String, Object> params : paramsList) {
+                if (params.get("auth_token") != null) {
+                    authToken = params.get("auth_token").toString();
+                    break;
+                }
+            }
+        }
+        if (methods.size() > 1 && canBatch(connectionString)) {
+            try {
+                return executeBatch(connectionString, authToken);
+            } catch (LbryResponseException ex) {
+                Log.i(TAG, String.format("Batch requests are not supported by %s, sending single calls", connectionString), ex);
+                unsupportedEndpoints.put(connectionString, SystemClock.elapsedRealtime());
+            } catch (LbryRequestException ex) {
+                // the calls would most likely fail the same way one by one, eg. with an error response code
+                List<Result> results = new ArrayList<>();
+                for (String method : methods) {
+                    results.add(new Result(null, new ApiCallException(String.format("Could not execute %s call: %s", method, ex.getMessage()), ex)));
+                }
+                return results;
+            }
+        }
+        return executeSeparately(connectionString, authToken);
+    }
+
+    private boolean canBatch(String connectionString) {
+        for (String method : methods) {
+            if (Lbry.isTransactionMethod(method)) {
+                return false;
+            }
+        }
+        Long unsupportedSince = unsupportedEndpoints.get(connectionString);
+        return unsupportedSince == null || SystemClock.elapsedRealtime() - unsupportedSince > UNSUPPORTED_RETRY_MS;
+    }
+
+    /**
+     * @throws LbryResponseException if the endpoint answered with something else than a batch response
+     * @throws LbryRequestException if the request could not be sent or was answered with an error code
+     */
+    private List<Result> executeBatch(String connectionString, String authToken) throws LbryRequestException, LbryResponseException {
+        JSONArray requestBody = new JSONArray();
+        try {
+            for (int i = 0; i < methods.size(); i++) {
+                Map<String, Object> params = new HashMap<>(paramsList.get(i));
+                params.remove("auth_token");
+
+                JSONObject request = new JSONObject();
+                request.put("jsonrpc", "2.0");
+                request.put("method", methods.get(i));
+                request.put("params", Lbry.buildJsonParams(params));
+                request.put("id", i);
+                requestBody.put(request);
+            }
+        } catch (JSONException ex) {
+            throw new LbryRequestException("Could not build the JSON request body.", ex);
+        }
+
+        Request.Builder requestBuilder = new Request.Builder().url(connectionString)
+                .post(RequestBody.create(requestBody.toString(), Helper.JSON_MEDIA_TYPE));
+        if (!Helper.isNullOrEmpty(authToken)) {
+            requestBuilder.addHeader("X-Lbry-Auth-Token", authToken);
+        }
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.SDK);
+
+        String responseString;
+        try (Response response = client.newCall(requestBuilder.build()).execute()) {
+            ResponseBody body = response.body();
+            if (response.code() < 200 || response.code() >= 300 || body == null) {
+                // this says nothing about batch support, eg. the server may be down
+                throw new LbryRequestException(String.format("Batch request to %s failed with response code %d", connectionString, response.code()));
+            }
+            responseString = body.string();
+        } catch (IOException ex) {
+            throw new LbryRequestException(String.format("Batch request to %s failed", connectionString), ex);
+        }
+        return parseBatchResponse(responseString);
+    }
+
+    /**
+     * Matches the responses of a batch to the calls by ID, as they may come in any order. A call without a
+     * response gets an error result.
+     * @throws LbryResponseException if the response is not an array of responses
+     */
+    List<Result> parseBatchResponse(String responseString) throws LbryResponseException {
+        Result[] results = new Result[methods.size()];
+        JSONArray responses;
+        try {
+            responses = new JSONArray(responseString);
+        } catch (JSONException ex) {
+            throw new LbryResponseException(String.format("Could not parse batch response: %s", responseString), ex);
+        }
+        for (int i = 0; i < responses.length(); i++) {
+            JSONObject response = responses.optJSONObject(i);
+            int id = response != null ? response.optInt("id", -1) : -1;
+            if (id < 0 || id >= results.length || results[id] != null) {
+                continue;
+            }
+            try {
+                results[id] = new Result(Lbry.parseResult(response), null);
+            } catch (LbryResponseException ex) {
+                results[id] = new Result(null, new ApiCallException(
+                        String.format("Could not execute %s call: %s", methods.get(id), ex.getMessage()), ex));
+            }
+        }
+
+        List<Result> resultList = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            resultList.add(results[i] != null ? results[i] :
+                    new Result(null, new ApiCallException(String.format("The batch response is missing the %s call", methods.get(i)))));
+        }
+        return resultList;
+    }
+
+    private List<Result> executeSeparately(String connectionString, String authToken) {
+        List<Callable<Result>> calls = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            final int index = i;
+            calls.add(() -> executeSingle(index, connectionString, authToken));
+        }
+
+        List<Result> results = new ArrayList<>();
+        List<Future<Result>> futures;
+        try {
+            // the calling thread runs the calls which no pool thread has started, instead of only waiting
+            futures = TaskRuntime.getInstance().invokeAll(TaskRuntime.Pool.NETWORK, calls);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            for (String method : methods) {
+                results.add(new Result(null, new ApiCallException(String.format("Interrupted while executing %s call", method), ex)));
+            }
+            return results;
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            String method = methods.get(i);
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException ex) {
+                results.add(new Result(null, new ApiCallException(String.format("Could not execute %s call", method), ex.getCause())));
+            } catch (CancellationException | InterruptedException ex) {
+                results.add(new Result(null, new ApiCallException(String.format("Interrupted while executing %s call", method), ex)));
+            }
+        }
+        return results;
+    }
+
+    private Result executeSingle(int index, String connectionString, String authToken) {
+        String method = methods.get(index);
+        try {
+            // apiCall takes the auth token out of the params, so they are copied to keep the batch as it was
+            Map<String, Object> params = new HashMap<>(paramsList.get(index));
+            Object value = Lbry.parseResponse(Lbry.apiCall(method, params, connectionString, authToken));
+            Lbry.onCallSucceeded(method);
+            return new Result(value, null);
+        } catch (LbryRequestException | LbryResponseException ex) {
+            return new Result(null, new ApiCallException(String.format("Could not execute %s call: %s", method, ex.getMessage()), ex));
+        }
+    }
+
+    public static class Result {
+        private final Object value;
+        private final ApiCallException error;
+
+        Result(Object value, ApiCallException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        /**
+         * @return the result of the call, like Lbry.authenticatedGenericApiCall would
+         * @throws ApiCallException if the call failed
+         */
+        public Object get() throws ApiCallException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+}
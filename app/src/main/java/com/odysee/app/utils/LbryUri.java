@@ -1,7 +1,7 @@
 package com.odysee.app.utils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +23,29 @@ public class LbryUri {
     private static final String REGEX_PART_MODIFIER_SEPARATOR = "([:$#]?)([^/]*)";
     private static final String QUERY_STRING_BREAKER = "^([\\S]+)([?][\\S]*)";
     private static final Pattern PATTERN_SEPARATE_QUERY_STRING = Pattern.compile(QUERY_STRING_BREAKER);
+    private static final Pattern PATTERN_INVALID_URI = Pattern.compile(REGEX_INVALID_URI);
+    private static final Pattern PATTERN_COMPONENTS = Pattern.compile(String.format("%s%s%s%s(/?)%s%s",
+            REGEX_PART_PROTOCOL,
+            REGEX_PART_HOST,
+            REGEX_PART_STREAM_OR_CHANNEL_NAME,
+            REGEX_PART_MODIFIER_SEPARATOR,
+            REGEX_PART_STREAM_OR_CHANNEL_NAME,
+            REGEX_PART_MODIFIER_SEPARATOR));
+
+    // the same urls are parsed over and over (subscriptions, feed rows, playback positions), so recent results are kept
+    private static final int PARSE_CACHE_SIZE = 512;
+    private static final Map<String, Object> parseCache = new LinkedHashMap<String, Object>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > PARSE_CACHE_SIZE;
+        }
+    };
+    private static final Map<String, String> normalizeCache = new LinkedHashMap<String, String>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > PARSE_CACHE_SIZE;
+        }
+    };
 
     private String path;
     private boolean channel;
@@ -45,7 +68,7 @@ public class LbryUri {
     }
 
     public static boolean isNameValid(String name) {
-        return !Pattern.compile(REGEX_INVALID_URI).matcher(name).find();
+        return !PATTERN_INVALID_URI.matcher(name).find();
     }
 
     public static LbryUri tryParse(String url) {
@@ -58,20 +81,43 @@ public class LbryUri {
     public static LbryUri parse(String url) throws LbryUriException {
         return parse(url, false);
     }
+    /**
+     * Parses the url. Results (and failures) are cached, so callers always get their own copy
+     * of the parsed LbryUri which they are free to modify.
+     */
     public static LbryUri parse(String url, boolean requireProto) throws LbryUriException {
-        Pattern componentsPattern = Pattern.compile(String.format("%s%s%s%s(/?)%s%s",
-                REGEX_PART_PROTOCOL,
-                REGEX_PART_HOST,
-                REGEX_PART_STREAM_OR_CHANNEL_NAME,
-                REGEX_PART_MODIFIER_SEPARATOR,
-                REGEX_PART_STREAM_OR_CHANNEL_NAME,
-                REGEX_PART_MODIFIER_SEPARATOR));
-
-        String cleanUrl = url, queryString = null;
         if (Helper.isNullOrEmpty(url)) {
             throw new LbryUriException("Invalid url parameter.");
         }
 
+        String cacheKey = requireProto ? "1".concat(url) : "0".concat(url);
+        Object cached;
+        synchronized (parseCache) {
+            cached = parseCache.get(cacheKey);
+        }
+        if (cached instanceof LbryUri) {
+            return ((LbryUri) cached).copy();
+        }
+        if (cached instanceof String) {
+            throw new LbryUriException((String) cached);
+        }
+
+        try {
+            LbryUri uri = parseUncached(url, requireProto);
+            synchronized (parseCache) {
+                parseCache.put(cacheKey, uri);
+            }
+            return uri.copy();
+        } catch (LbryUriException ex) {
+            synchronized (parseCache) {
+                parseCache.put(cacheKey, ex.getMessage());
+            }
+            throw ex;
+        }
+    }
+
+    private static LbryUri parseUncached(String url, boolean requireProto) throws LbryUriException {
+        String cleanUrl = url, queryString = null;
         Matcher qsMatcher = PATTERN_SEPARATE_QUERY_STRING.matcher(url);
         if (qsMatcher.matches()) {
             queryString = qsMatcher.group(2);
@@ -81,48 +127,42 @@ public class LbryUri {
             }
         }
 
-        List<String> components = new ArrayList<>();
-        Matcher matcher = componentsPattern.matcher(cleanUrl);
-        if (matcher.matches()) {
-            // Note: For Java regex, group index 0 is always the full match
-            for (int i = 1; i <= matcher.groupCount(); i++) {
-                components.add(matcher.group(i));
-            }
-        }
-
-        if (components.size() == 0) {
+        Matcher matcher = PATTERN_COMPONENTS.matcher(cleanUrl);
+        if (!matcher.matches()) {
             throw new LbryUriException("Regular expression error occurred while trying to parse the value");
         }
 
-        // components[0] = proto
-        // components[1] = host
-        // components[2] = streamNameOrChannelName
-        // components[3] = primaryModSeparator
-        // components[4] = primaryModValue
-        // components[5] = pathSep
-        // components[6] = possibleStreamName
-        // components[7] = secondaryModSeparator
-        // components[8] = secondaryModValue
-        if (requireProto && Helper.isNullOrEmpty(components.get(0))) {
+        // Note: For Java regex, group index 0 is always the full match
+        // group(1) = proto
+        // group(2) = host
+        // group(3) = streamNameOrChannelName
+        // group(4) = primaryModSeparator
+        // group(5) = primaryModValue
+        // group(6) = pathSep
+        // group(7) = possibleStreamName
+        // group(8) = secondaryModSeparator
+        // group(9) = secondaryModValue
+        if (requireProto && Helper.isNullOrEmpty(matcher.group(1))) {
             throw new LbryUriException("LBRY URLs must include a protocol prefix (lbry://).");
         }
 
-        if (Helper.isNullOrEmpty(components.get(2))) {
+        if (Helper.isNullOrEmpty(matcher.group(3))) {
             throw new LbryUriException("URL does not include name.");
         }
 
-        for (String component : components.subList(2, components.size())) {
-            if (component.indexOf(' ') > -1) {
-                throw new LbryUriException("URL cannot include a space.");
-            }
+        // the path is everything after the host, so the space check and the path itself don't need the components joined
+        int pathStart = matcher.start(3);
+        if (cleanUrl.indexOf(' ', pathStart) > -1) {
+            throw new LbryUriException("URL cannot include a space.");
         }
+        String path = cleanUrl.substring(pathStart);
 
-        String streamOrChannelName = components.get(2);
-        String primaryModSeparator = components.get(3);
-        String primaryModValue = components.get(4);
-        String possibleStreamName = components.get(6);
-        String secondaryModSeparator = components.get(7);
-        String secondaryModValue = components.get(8);
+        String streamOrChannelName = matcher.group(3);
+        String primaryModSeparator = matcher.group(4);
+        String primaryModValue = matcher.group(5);
+        String possibleStreamName = matcher.group(7);
+        String secondaryModSeparator = matcher.group(8);
+        String secondaryModValue = matcher.group(9);
 
         boolean includesChannel = streamOrChannelName.startsWith("@");
         boolean isChannel = includesChannel && Helper.isNullOrEmpty(possibleStreamName);
@@ -136,7 +176,7 @@ public class LbryUri {
          */
 
         /*
-        if (!components.get(1).isEmpty()) {
+        if (!matcher.group(2).isEmpty()) {
             if (primaryModSeparator.equals(":"))
                 primaryModSeparator = "#";
             if (secondaryModSeparator.equals(":"))
@@ -166,7 +206,7 @@ public class LbryUri {
 
         LbryUri uri = new LbryUri();
         uri.setChannel(isChannel);
-        uri.setPath(Helper.join(components.subList(2, components.size()), ""));
+        uri.setPath(path);
         uri.setStreamName(streamName);
         uri.setStreamClaimId(streamClaimId);
         uri.setChannelName(channelName);
@@ -247,7 +287,39 @@ public class LbryUri {
     }
 
     public static String normalize(String url) throws LbryUriException {
-        return parse(url).toString();
+        if (url != null) {
+            synchronized (normalizeCache) {
+                String normalized = normalizeCache.get(url);
+                if (normalized != null) {
+                    return normalized;
+                }
+            }
+        }
+
+        String normalized = parse(url).toString();
+        synchronized (normalizeCache) {
+            normalizeCache.put(url, normalized);
+        }
+        return normalized;
+    }
+
+    private LbryUri copy() {
+        LbryUri uri = new LbryUri();
+        uri.setPath(path);
+        uri.setChannel(channel);
+        uri.setStreamName(streamName);
+        uri.setStreamClaimId(streamClaimId);
+        uri.setChannelName(channelName);
+        uri.setChannelClaimId(channelClaimId);
+        uri.setPrimaryClaimSequence(primaryClaimSequence);
+        uri.setSecondaryClaimSequence(secondaryClaimSequence);
+        uri.setPrimaryBidPosition(primaryBidPosition);
+        uri.setSecondaryBidPosition(secondaryBidPosition);
+        uri.setClaimName(claimName);
+        uri.setClaimId(claimId);
+        uri.setContentName(contentName);
+        uri.setQueryString(queryString);
+        return uri;
     }
 
     public String toOdyseeString() {
@@ -298,7 +370,7 @@ public class LbryUri {
                 }
             }
 
-            if (!Helper.isNullOrEmpty(claimId) && (claimId.length() > CLAIM_ID_MAX_LENGTH || !claimId.matches("^[0-9a-f]+$"))) {
+            if (!Helper.isNullOrEmpty(claimId) && (claimId.length() > CLAIM_ID_MAX_LENGTH || !isLowercaseHex(claimId))) {
                 throw new LbryUriException(String.format("Invalid claim ID %s", claimId));
             }
             if (claimSequence == -1) {
@@ -310,5 +382,15 @@ public class LbryUri {
 
             return new UriModifier(claimId, claimSequence, bidPosition);
         }
+
+        private static boolean isLowercaseHex(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -15,7 +15,6 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -27,7 +26,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.odysee.app.MainActivity;
@@ -62,8 +60,6 @@ public final class Lbryio {
     public static final String AUTH_TOKEN_PARAM = "auth_token";
     public static List<Subscription> subscriptions = new ArrayList<>();
     public static List<Claim> cacheResolvedSubscriptions = new ArrayList<>();
-    public static List<String> blockedOutpoints = new ArrayList<>();
-    public static List<String> filteredOutpoints = new ArrayList<>();
     public static List<LbryUri> blockedChannels = new ArrayList<>();
     public static double LBCUSDRate = 0;
     public static String AUTH_TOKEN;
@@ -128,10 +124,7 @@ public final class Lbryio {
         }
 
         Request request = builder.build();
-        OkHttpClient client = new OkHttpClient.Builder().
-                writeTimeout(120, TimeUnit.SECONDS).
-                readTimeout(120, TimeUnit.SECONDS).
-                build();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.LBRYIO);
         try {
             return client.newCall(request).execute();
         } catch (IOException ex) {
@@ -241,15 +234,6 @@ public final class Lbryio {
         }
     }
 
-    public static void populateOutpointList(List<String> outpoints, JSONArray source) throws JSONException {
-        outpoints.clear();
-        if (source != null) {
-            for (int i = 0; i < source.length(); i++) {
-                outpoints.add(source.getString(i));
-            }
-        }
-    }
-
     public static User fetchCurrentUser(Context context) throws AuthTokenInvalidatedException {
         try {
             Response response = Lbryio.call("user", "me", context);
@@ -412,13 +396,11 @@ public final class Lbryio {
         return subscriptions.contains(Subscription.fromClaim(claim));
     }
     public static boolean isChannelBlocked(Claim channel) {
-        String channelClaimId = channel.getClaimId();
-        for (LbryUri uri : blockedChannels) {
-            if (uri.getClaimId().equalsIgnoreCase(channelClaimId)) {
-                return true;
-            }
-        }
-        return false;
+        return ContentFilter.get().isChannelBlocked(channel.getClaimId());
+    }
+    public static void setBlockedChannels(List<LbryUri> channels) {
+        blockedChannels = new ArrayList<>(channels);
+        ContentFilter.setBlockedChannels(blockedChannels);
     }
     public static boolean isNotificationsDisabled(Claim claim) {
         Subscription sub = Subscription.fromClaim(claim);
@@ -11,7 +11,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import com.odysee.app.exceptions.LbryRequestException;
 import com.odysee.app.exceptions.LbryResponseException;
@@ -101,7 +100,7 @@ public class Lighthouse {
 
         List<String> results = new ArrayList<>();
         Request request = new Request.Builder().url(uriBuilder.toString()).build();
-        OkHttpClient client = new OkHttpClient.Builder().readTimeout(30, TimeUnit.SECONDS).build();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.SEARCH);
         ResponseBody responseBody = null;
         Response response = null;
         try {
@@ -143,7 +142,7 @@ public class Lighthouse {
         Uri.Builder uriBuilder = Uri.parse(String.format("%s/autocomplete", CONNECTION_STRING)).buildUpon().
                 appendQueryParameter("s", text);
         Request request = new Request.Builder().url(uriBuilder.toString()).build();
-        OkHttpClient client = new OkHttpClient();
+        OkHttpClient client = HttpClients.get(HttpClients.Profile.SEARCH);
         Response response = null;
         ResponseBody responseBody = null;
         try {
@@ -0,0 +1,198 @@
+package com.odysee.app.utils;
+
+import android.util.Log;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.odysee.app.model.LiveStatus;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Looks up the live status of channels. The Odysee Live API only accepts one channel per request, so
+ * the requests for a set of channels are made concurrently on the network pool of the task runtime, statuses
+ * are cached for a short time, and a channel which is already being looked up by another caller is not
+ * requested twice. A waiting caller makes the requests which no pool thread has started yet itself.
+ */
+public class LiveStatusService {
+    private static final String TAG = "LiveStatusService";
+    private static final String ODYSEE_LIVESTREAM_CHANNEL_LIVE_STATUS_API = "https://api.odysee.live/livestream/is_live?channel_claim_id=";
+    public static final long CACHE_TTL_MS = 30 * 1000;
+    private static final long REQUEST_TIMEOUT_SECONDS = 30;
+    private static final int MAX_CACHED_STATUSES = 1000;
+
+    private static LiveStatusService instance;
+
+    private final Object lock = new Object();
+    // in the order in which the statuses were fetched, so the oldest one is removed when the cache is full
+    private final Map<String, CachedStatus> cache = new LinkedHashMap<String, CachedStatus>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedStatus> eldest) {
+            return size() > MAX_CACHED_STATUSES;
+        }
+    };
+    private final Map<String, PendingStatus> pendingStatuses = new HashMap<>();
+
+    public static synchronized LiveStatusService getInstance() {
+        if (instance == null) {
+            instance = new LiveStatusService();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the live status of each channel, blocking until all of them are available. This must not
+     * be called from the main thread.
+     * @param channelIds the claim IDs of the channels
+     * @return the live status for each channel claim ID. Channels whose status could not be retrieved are not included.
+     */
+    public Map<String, LiveStatus> getLiveStatuses(Collection<String> channelIds) {
+        Map<String, LiveStatus> statuses = new HashMap<>();
+        List<PendingStatus> waitFor = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            for (String channelId : new LinkedHashSet<>(channelIds)) {
+                if (Helper.isNullOrEmpty(channelId)) {
+                    continue;
+                }
+
+                CachedStatus cached = cache.get(channelId);
+                if (cached != null && now - cached.fetchedAt < CACHE_TTL_MS) {
+                    statuses.put(channelId, cached.status);
+                    continue;
+                }
+
+                PendingStatus pending = pendingStatuses.get(channelId);
+                if (pending == null) {
+                    pending = new PendingStatus(channelId);
+                    pendingStatuses.put(channelId, pending);
+                    TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, pending);
+                }
+                waitFor.add(pending);
+            }
+        }
+
+        // a single deadline for all the channels, rather than a timeout for each of them
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(REQUEST_TIMEOUT_SECONDS);
+        for (PendingStatus pending : waitFor) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining > 0) {
+                // run it here if no pool thread has started it
+                pending.run();
+                remaining = deadline - System.currentTimeMillis();
+            }
+            try {
+                if (!pending.latch.await(Math.max(remaining, 0), TimeUnit.MILLISECONDS)) {
+                    Log.w(TAG, String.format("Timed out waiting for the live status of %s", pending.channelId));
+                    continue;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (pending.status != null) {
+                statuses.put(pending.channelId, pending.status);
+            }
+        }
+
+        return statuses;
+    }
+
+    public LiveStatus getLiveStatus(String channelId) {
+        List<String> channelIds = new ArrayList<>(1);
+        channelIds.add(channelId);
+        return getLiveStatuses(channelIds).get(channelId);
+    }
+
+    public void clearCache() {
+        synchronized (lock) {
+            cache.clear();
+        }
+    }
+
+    private void execute(PendingStatus pending) {
+        LiveStatus status = null;
+        try {
+            status = fetchLiveStatus(pending.channelId);
+        } catch (Exception ex) {
+            Log.e(TAG, String.format("Could not get the live status of %s", pending.channelId), ex);
+        }
+
+        synchronized (lock) {
+            pendingStatuses.remove(pending.channelId);
+            if (status != null) {
+                // removed first so that the refreshed status moves to the end of the fetch order
+                cache.remove(pending.channelId);
+                cache.put(pending.channelId, new CachedStatus(status, System.currentTimeMillis()));
+            }
+        }
+        pending.status = status;
+        pending.latch.countDown();
+    }
+
+    private static LiveStatus fetchLiveStatus(String channelId) throws IOException, JSONException {
+        Request request = new Request.Builder().url(ODYSEE_LIVESTREAM_CHANNEL_LIVE_STATUS_API.concat(channelId)).build();
+        try (Response resp = HttpClients.get().newCall(request).execute()) {
+            ResponseBody body = resp.body();
+            int responseCode = resp.code();
+            if (body == null || responseCode < 200 || responseCode >= 300) {
+                return null;
+            }
+
+            JSONObject json = new JSONObject(body.string());
+            if (!json.isNull("data") && (json.has("success") && json.getBoolean("success"))) {
+                JSONObject jsonData = json.getJSONObject("data");
+                if (jsonData.has("ChannelClaimID") && jsonData.getString("ChannelClaimID").equals(channelId)) {
+                    return new LiveStatus(channelId, jsonData.has("Live") && jsonData.getBoolean("Live"), jsonData);
+                }
+            }
+            // a successful response without data means that the channel has never streamed
+            return new LiveStatus(channelId, false, null);
+        }
+    }
+
+    private static class CachedStatus {
+        private final LiveStatus status;
+        private final long fetchedAt;
+
+        CachedStatus(LiveStatus status, long fetchedAt) {
+            this.status = status;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+
+    /**
+     * A live status request which is made by whichever thread gets to it first, a pool thread or a waiting caller
+     */
+    private class PendingStatus implements Runnable {
+        private final String channelId;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private volatile LiveStatus status;
+
+        PendingStatus(String channelId) {
+            this.channelId = channelId;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                execute(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.odysee.app.utils;
+
+import android.content.SharedPreferences;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.odysee.app.data.DatabaseHelper;
+import com.odysee.app.exceptions.LbryUriException;
+import com.odysee.app.model.Claim;
+
+/**
+ * Last playback positions of streams, saved in the playback_positions table by claim ID.
+ *
+ * Positions which were read are kept in memory, including the claims without a position, so a feed page
+ * is looked up with a single query and rows can be bound without reading the database. Saved positions
+ * are written behind: they are collected for a while and written together in one transaction.
+ *
+ * Positions used to be saved in the default shared preferences, keyed by the normalized URL of the
+ * claim. They are moved to a table of their own once, and moved again to the claim ID when found. The
+ * first read waits for that move, so that a claim is never cached without the position it had before.
+ */
+public class PlaybackPositionStore {
+    private static final String TAG = "PlaybackPositionStore";
+
+    public static final long NO_POSITION = -1;
+
+    private static final String LEGACY_PREFERENCE_PREFIX = "PlayPos_";
+    private static final String PREFERENCE_KEY_MIGRATED = "com.odysee.app.preference.internal.PlaybackPositionsMigrated";
+    private static final int CACHE_SIZE = 2000;
+    // positions are saved every few seconds while playing, so they are written at most once per delay
+    private static final long WRITE_DELAY_MS = 15 * 1000;
+    private static final long RETENTION_MS = 180L * 24 * 60 * 60 * 1000;
+    private static final int MAX_ENTRIES = 10000;
+
+    private static PlaybackPositionStore instance;
+
+    private final Object lock = new Object();
+    // held while taking and writing a snapshot of the pending writes, so that snapshots are written in order
+    private final Object writeLock = new Object();
+    private final LruCache<String, Long> cache = new LruCache<>(CACHE_SIZE);
+    private final Map<String, Long> pendingWrites = new LinkedHashMap<>();
+    private final Object migrationLock = new Object();
+    private boolean writeScheduled;
+    private Handler mainHandler;
+    private volatile SharedPreferences preferences;
+    // claims without a position may still have one in the shared preferences until they are migrated
+    private volatile boolean migrated;
+    private boolean migrationAttempted;
+
+    public interface PositionHandler {
+        /**
+         * @param position the position in milliseconds, or NO_POSITION
+         */
+        void onPosition(long position);
+    }
+
+    public static synchronized PlaybackPositionStore getInstance() {
+        if (instance == null) {
+            instance = new PlaybackPositionStore();
+        }
+        return instance;
+    }
+
+    /**
+     * @param sp the default shared preferences, which hold the positions to migrate
+     */
+    public void init(SharedPreferences sp) {
+        preferences = sp;
+    }
+
+    /**
+     * @return the position in milliseconds if it was already read, or NO_POSITION. This does not read the database.
+     */
+    public long getCachedPosition(Claim claim) {
+        String claimId = getKey(claim);
+        Long position = claimId != null ? cache.get(claimId) : null;
+        return position != null ? position : NO_POSITION;
+    }
+
+    /**
+     * @return the position in milliseconds, or NO_POSITION. The database is read if the position was not
+     *         read yet, so this should be called from a background thread unless the claim was preloaded.
+     */
+    public long getPosition(Claim claim) {
+        String claimId = getKey(claim);
+        if (claimId == null) {
+            return NO_POSITION;
+        }
+        Long position = cache.get(claimId);
+        if (position == null) {
+            List<Claim> claims = new ArrayList<>();
+            claims.add(claim);
+            load(claims);
+            position = cache.get(claimId);
+        }
+        return position != null ? position : NO_POSITION;
+    }
+
+    /**
+     * Gets the position without blocking the main thread. The handler is called right away if the position
+     * was already read, and on the main thread once it is read otherwise.
+     */
+    public void getPosition(Claim claim, PositionHandler handler) {
+        String claimId = getKey(claim);
+        Long position = claimId != null ? cache.get(claimId) : null;
+        if (claimId == null || position != null) {
+            handler.onPosition(position != null ? position : NO_POSITION);
+            return;
+        }
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, () -> {
+            long loaded = getPosition(claim);
+            getMainHandler().post(() -> handler.onPosition(loaded));
+        });
+    }
+
+    /**
+     * Reads the positions of the claims which were not read yet, eg. for a page of a feed
+     * @return the claim IDs of the claims which have a position
+     */
+    public List<String> load(Collection<Claim> claims) {
+        List<String> found = new ArrayList<>();
+        if (!migrated) {
+            migrateAndTrim();
+        }
+        SQLiteDatabase db = getDatabase();
+        if (db == null) {
+            return found;
+        }
+
+        Map<String, String> legacyUrls = new HashMap<>();
+        for (Claim claim : claims) {
+            String claimId = getKey(claim);
+            if (claimId != null && cache.get(claimId) == null) {
+                legacyUrls.put(claimId, getLegacyUrl(claim));
+            }
+        }
+        if (legacyUrls.isEmpty()) {
+            return found;
+        }
+
+        try {
+            Map<String, Long> positions = DatabaseHelper.getPlaybackPositions(legacyUrls.keySet(), db);
+            List<String> missingUrls = new ArrayList<>();
+            for (Map.Entry<String, String> entry : legacyUrls.entrySet()) {
+                if (!positions.containsKey(entry.getKey()) && entry.getValue() != null) {
+                    missingUrls.add(entry.getValue());
+                }
+            }
+            if (!missingUrls.isEmpty()) {
+                Map<String, Long> legacyPositions = DatabaseHelper.getLegacyPlaybackPositions(missingUrls, db);
+                if (!legacyPositions.isEmpty()) {
+                    Map<String, Long> migrated = new HashMap<>();
+                    for (Map.Entry<String, String> entry : legacyUrls.entrySet()) {
+                        Long position = entry.getValue() != null ? legacyPositions.get(entry.getValue()) : null;
+                        if (position != null && !positions.containsKey(entry.getKey())) {
+                            migrated.put(entry.getKey(), position);
+                        }
+                    }
+                    DatabaseHelper.replaceLegacyPlaybackPositions(migrated, legacyPositions.keySet(), System.currentTimeMillis(), db);
+                    positions.putAll(migrated);
+                }
+            }
+
+            synchronized (lock) {
+                for (String claimId : legacyUrls.keySet()) {
+                    // a position saved while reading is more recent than the one which was read
+                    if (cache.get(claimId) != null) {
+                        continue;
+                    }
+                    Long position = positions.get(claimId);
+                    if (position != null) {
+                        cache.put(claimId, position);
+                        found.add(claimId);
+                    } else if (migrated) {
+                        cache.put(claimId, NO_POSITION);
+                    }
+                }
+            }
+        } catch (SQLiteException ex) {
+            Log.e(TAG, "Could not read playback positions", ex);
+        }
+        return found;
+    }
+
+    /**
+     * Reads the position of a claim in the background, so that it is available when playback starts
+     */
+    public void preload(Claim claim) {
+        if (getKey(claim) == null) {
+            return;
+        }
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, () -> getPosition(claim));
+    }
+
+    /**
+     * Saves the position of a claim. It is written to the database with the other positions saved
+     * within the write delay.
+     */
+    public void savePosition(Claim claim, long position) {
+        String claimId = getKey(claim);
+        if (claimId == null) {
+            return;
+        }
+        synchronized (lock) {
+            cache.put(claimId, position);
+            pendingWrites.put(claimId, position);
+            if (!writeScheduled) {
+                writeScheduled = true;
+                TaskRuntime.getInstance().getScheduledExecutor().schedule(
+                        () -> TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, this::writePending),
+                        WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the saved positions right away, eg. when playback is paused or the app goes to the background
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (pendingWrites.isEmpty()) {
+                return;
+            }
+        }
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.DISK, this::writePending);
+    }
+
+    /**
+     * Moves the positions from the shared preferences to the database, once, then removes positions
+     * which were not updated for a long time. This is done once per process, by the first caller, and
+     * must be called from a background thread.
+     */
+    public void migrateAndTrim() {
+        synchronized (migrationLock) {
+            SharedPreferences sp = preferences;
+            if (migrationAttempted || sp == null) {
+                return;
+            }
+            migrationAttempted = true;
+            migrateAndTrim(sp);
+        }
+    }
+
+    private void migrateAndTrim(SharedPreferences sp) {
+        SQLiteDatabase db = getDatabase();
+        if (db == null) {
+            return;
+        }
+
+        try {
+            if (!sp.getBoolean(PREFERENCE_KEY_MIGRATED, false)) {
+                Map<String, Long> positionsByUrl = new HashMap<>();
+                List<String> keys = new ArrayList<>();
+                for (Map.Entry<String, ?> entry : sp.getAll().entrySet()) {
+                    if (entry.getKey().startsWith(LEGACY_PREFERENCE_PREFIX) && entry.getValue() instanceof Long) {
+                        positionsByUrl.put(entry.getKey().substring(LEGACY_PREFERENCE_PREFIX.length()), (Long) entry.getValue());
+                        keys.add(entry.getKey());
+                    }
+                }
+                DatabaseHelper.saveLegacyPlaybackPositions(positionsByUrl, System.currentTimeMillis(), db);
+
+                SharedPreferences.Editor editor = sp.edit();
+                for (String key : keys) {
+                    editor.remove(key);
+                }
+                editor.putBoolean(PREFERENCE_KEY_MIGRATED, true).apply();
+                Log.d(TAG, String.format("Migrated %d playback positions", keys.size()));
+            }
+
+            DatabaseHelper.trimPlaybackPositions(System.currentTimeMillis() - RETENTION_MS, MAX_ENTRIES, db);
+            migrated = true;
+        } catch (SQLiteException ex) {
+            Log.e(TAG, "Could not migrate playback positions", ex);
+        }
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            Map<String, Long> positions;
+            synchronized (lock) {
+                positions = new HashMap<>(pendingWrites);
+                pendingWrites.clear();
+                writeScheduled = false;
+            }
+            SQLiteDatabase db = getDatabase();
+            if (positions.isEmpty() || db == null) {
+                return;
+            }
+            try {
+                DatabaseHelper.savePlaybackPositions(positions, System.currentTimeMillis(), db);
+            } catch (SQLiteException ex) {
+                Log.e(TAG, "Could not save playback positions", ex);
+            }
+        }
+    }
+
+    private static SQLiteDatabase getDatabase() {
+        DatabaseHelper dbHelper = DatabaseHelper.getInstance();
+        try {
+            return dbHelper != null ? dbHelper.getWritableDatabase() : null;
+        } catch (SQLiteException ex) {
+            Log.e(TAG, "Could not open the database", ex);
+            return null;
+        }
+    }
+
+    private static String getKey(Claim claim) {
+        return claim == null || Helper.isNullOrEmpty(claim.getClaimId()) ? null : claim.getClaimId().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the URL under which the position of the claim was saved in the shared preferences
+     */
+    private static String getLegacyUrl(Claim claim) {
+        String url = !Helper.isNullOrEmpty(claim.getShortUrl()) ? claim.getShortUrl() : claim.getPermanentUrl();
+        if (Helper.isNullOrEmpty(url)) {
+            return null;
+        }
+        try {
+            return LbryUri.normalize(url);
+        } catch (LbryUriException ex) {
+            return null;
+        }
+    }
+
+    private synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+}
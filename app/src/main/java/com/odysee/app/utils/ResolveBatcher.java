@@ -0,0 +1,242 @@
+package com.odysee.app.utils;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.odysee.app.exceptions.ApiCallException;
+import com.odysee.app.model.Claim;
+import com.odysee.app.model.ClaimCacheKey;
+
+/**
+ * Coalesces resolve requests which arrive within a short window into a single JSON-RPC resolve
+ * call. URLs which are already queued or in flight are shared between callers, and URLs which
+ * were resolved recently are answered from the claim cache without going to the network. Callers which
+ * need the current state of the claims, eg. right after changing them with a transaction, skip both.
+ *
+ * Batches run on the network pool of the task runtime. Callers usually wait on a thread of that same
+ * pool, so a caller runs the batch of its URLs itself if no pool thread has picked it up yet.
+ */
+public class ResolveBatcher {
+    private static final String TAG = "ResolveBatcher";
+    public static final long BATCH_WINDOW_MS = 25;
+    public static final int MAX_BATCH_SIZE = 100;
+    public static final long CACHE_MAX_AGE_MS = 5 * 60 * 1000;
+    private static final long RESOLVE_TIMEOUT_SECONDS = 300;
+
+    private final String connectionString;
+    private final Object lock = new Object();
+    private final Map<String, PendingUrl> pendingUrls = new HashMap<>();
+    private final List<String> queuedUrls = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public ResolveBatcher(String connectionString) {
+        this.connectionString = connectionString;
+    }
+
+    /**
+     * Resolves the specified URLs, blocking until every claim is available. This must not be
+     * called from the main thread.
+     * @param urls the URLs to resolve
+     * @return the resolved claims, in the order of the requested URLs. URLs which could not be resolved are skipped.
+     * @throws ApiCallException if the resolve call for any of the URLs failed
+     */
+    public List<Claim> resolve(List<String> urls) throws ApiCallException {
+        return resolve(urls, true);
+    }
+
+    /**
+     * @param useCache false to send a resolve call of its own for the URLs, rather than to use the cached claims
+     *                 or to wait for a call which may have been sent before the claims changed
+     * @see #resolve(List)
+     */
+    public List<Claim> resolve(List<String> urls, boolean useCache) throws ApiCallException {
+        List<Claim> claims = new ArrayList<>();
+        if (!useCache) {
+            List<String> distinctUrls = new ArrayList<>();
+            for (String url : new LinkedHashSet<>(urls)) {
+                if (!Helper.isNullOrEmpty(url)) {
+                    distinctUrls.add(url);
+                }
+            }
+            if (distinctUrls.isEmpty()) {
+                return claims;
+            }
+            // the resolved claims replace the cached ones
+            for (Claim claim : Lbry.resolveUrls(distinctUrls, connectionString).values()) {
+                if (claim != null) {
+                    claims.add(claim);
+                }
+            }
+            return claims;
+        }
+
+        List<PendingUrl> waitFor = new ArrayList<>();
+        List<Object> ordered = new ArrayList<>();
+        for (String url : new LinkedHashSet<>(urls)) {
+            if (Helper.isNullOrEmpty(url)) {
+                continue;
+            }
+
+            ClaimCacheKey key = new ClaimCacheKey();
+            key.setUrl(url);
+            Claim cached = Lbry.claimCache.get(key, CACHE_MAX_AGE_MS);
+            if (cached != null) {
+                ordered.add(cached);
+                continue;
+            }
+
+            PendingUrl pending = enqueue(url);
+            waitFor.add(pending);
+            ordered.add(pending);
+        }
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(RESOLVE_TIMEOUT_SECONDS);
+        for (PendingUrl pending : waitFor) {
+            try {
+                while (!pending.latch.await(BATCH_WINDOW_MS, TimeUnit.MILLISECONDS)) {
+                    Batch batch = pending.batch;
+                    if (batch != null) {
+                        // run it here if no pool thread has started it
+                        batch.run();
+                    }
+                    if (System.currentTimeMillis() >= deadline) {
+                        throw new ApiCallException("Timed out waiting for the resolve call");
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ApiCallException("Interrupted while waiting for the resolve call", ex);
+            }
+            if (pending.error != null) {
+                throw new ApiCallException("Could not execute resolve call", pending.error);
+            }
+        }
+
+        for (Object item : ordered) {
+            Claim claim = item instanceof PendingUrl ? ((PendingUrl) item).claim : (Claim) item;
+            if (claim != null) {
+                claims.add(claim);
+            }
+        }
+
+        return claims;
+    }
+
+    private PendingUrl enqueue(String url) {
+        synchronized (lock) {
+            PendingUrl pending = pendingUrls.get(url);
+            if (pending != null) {
+                // already queued or in flight for another caller
+                return pending;
+            }
+
+            pending = new PendingUrl(url);
+            pendingUrls.put(url, pending);
+            queuedUrls.add(url);
+
+            if (queuedUrls.size() >= MAX_BATCH_SIZE) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                }
+                scheduledFlush = TaskRuntime.getInstance().getScheduledExecutor().schedule(this::flush, 0, TimeUnit.MILLISECONDS);
+            } else if (scheduledFlush == null || scheduledFlush.isDone()) {
+                scheduledFlush = TaskRuntime.getInstance().getScheduledExecutor().schedule(this::flush, BATCH_WINDOW_MS, TimeUnit.MILLISECONDS);
+            }
+
+            return pending;
+        }
+    }
+
+    private void flush() {
+        List<PendingUrl> batch = new ArrayList<>();
+        synchronized (lock) {
+            int count = Math.min(queuedUrls.size(), MAX_BATCH_SIZE);
+            for (int i = 0; i < count; i++) {
+                batch.add(pendingUrls.get(queuedUrls.get(i)));
+            }
+            queuedUrls.subList(0, count).clear();
+            scheduledFlush = null;
+            if (queuedUrls.size() > 0) {
+                scheduledFlush = TaskRuntime.getInstance().getScheduledExecutor().schedule(this::flush, 0, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (batch.size() > 0) {
+            Batch task = new Batch(batch);
+            for (PendingUrl pending : batch) {
+                pending.batch = task;
+            }
+            TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, task);
+        }
+    }
+
+    private void execute(List<PendingUrl> batch) {
+        List<String> urls = new ArrayList<>(batch.size());
+        for (PendingUrl pending : batch) {
+            urls.add(pending.url);
+        }
+
+        Map<String, Claim> results = null;
+        Exception error = null;
+        try {
+            results = Lbry.resolveUrls(urls, connectionString);
+        } catch (Exception ex) {
+            Log.e(TAG, String.format("resolve failed for a batch of %d urls", urls.size()), ex);
+            error = ex;
+        }
+
+        synchronized (lock) {
+            for (PendingUrl pending : batch) {
+                pendingUrls.remove(pending.url);
+            }
+        }
+        for (PendingUrl pending : batch) {
+            if (error != null) {
+                pending.error = error;
+            } else {
+                pending.claim = results.get(pending.url);
+            }
+            pending.latch.countDown();
+        }
+    }
+
+    /**
+     * A resolve call which is executed by whichever thread gets to it first, a pool thread or a waiting caller
+     */
+    private class Batch implements Runnable {
+        private final List<PendingUrl> urls;
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        Batch(List<PendingUrl> urls) {
+            this.urls = urls;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                execute(urls);
+            }
+        }
+    }
+
+    private static class PendingUrl {
+        private final String url;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile Batch batch;
+        private volatile Claim claim;
+        private volatile Exception error;
+
+        PendingUrl(String url) {
+            this.url = url;
+        }
+    }
+}
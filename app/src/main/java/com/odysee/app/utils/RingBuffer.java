@@ -0,0 +1,76 @@
+package com.odysee.app.utils;
+
+import java.util.List;
+
+/**
+ * A list with a fixed capacity which keeps the most recently added elements. Once it is full, adding
+ * elements evicts the oldest ones from the front. Elements are indexed from the oldest to the newest.
+ *
+ * This class is not thread-safe.
+ */
+public class RingBuffer<T> {
+    private final Object[] elements;
+    private int head;
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be greater than zero");
+        }
+        this.elements = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", index, size));
+        }
+        return (T) elements[(head + index) % elements.length];
+    }
+
+    /**
+     * Appends the items. If there are more items than the capacity, only the last ones are kept.
+     * @return the number of elements which were evicted from the front of the buffer
+     */
+    public int addAll(List<T> items) {
+        int capacity = elements.length;
+        int added = Math.min(items.size(), capacity);
+        int evicted = Math.max(0, size + added - capacity);
+        for (int i = items.size() - added; i < items.size(); i++) {
+            add(items.get(i));
+        }
+        return evicted;
+    }
+
+    /**
+     * Appends an item, evicting the oldest element if the buffer is full
+     * @return true if an element was evicted
+     */
+    public boolean add(T item) {
+        int capacity = elements.length;
+        if (size < capacity) {
+            elements[(head + size) % capacity] = item;
+            size++;
+            return false;
+        }
+        elements[head] = item;
+        head = (head + 1) % capacity;
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) % elements.length] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.odysee.app.utils;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.odysee.app.tasks.wallet.SaveSharedUserStateTask;
+
+/**
+ * Saves the shared user state (subscriptions, followed tags, blocked channels and collections) to the wallet
+ * preferences. Saves are requested whenever the state changes, and changes made in a short time are saved
+ * together: each request pushes the save back a little, up to a maximum delay. A single save runs at a time,
+ * and a request made while saving is handled by another save once it is done.
+ *
+ * The local state which was last saved is kept, so nothing is sent when the state did not actually change.
+ *
+ * This must be used from the main thread.
+ */
+public class SharedUserStateSaver {
+    private static final long SAVE_DELAY_MS = 2000;
+    private static final long MAX_SAVE_DELAY_MS = 10000;
+
+    private final Context context;
+    private final SaveListener listener;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable saveRunnable = new Runnable() {
+        @Override
+        public void run() {
+            save();
+        }
+    };
+
+    private boolean dirty;
+    private boolean saving;
+    // the time of the first request which has not been saved yet
+    private long dirtySince;
+    private String lastSavedSnapshot;
+    private String lastSavedAuthToken;
+
+    public interface SaveListener {
+        /**
+         * Called on the main thread when the saved state was updated
+         */
+        void onSaved();
+    }
+
+    public SharedUserStateSaver(Context context, SaveListener listener) {
+        this.context = context;
+        this.listener = listener;
+    }
+
+    /**
+     * Marks the state as changed, so that it is saved after the delay
+     */
+    public void requestSave() {
+        if (!dirty) {
+            dirty = true;
+            dirtySince = SystemClock.elapsedRealtime();
+        }
+        if (!saving) {
+            schedule();
+        }
+    }
+
+    /**
+     * Saves the pending changes right away, eg. when the app goes to the background
+     */
+    public void flush() {
+        if (dirty && !saving) {
+            handler.removeCallbacks(saveRunnable);
+            save();
+        }
+    }
+
+    /**
+     * Drops the pending request, eg. when the activity is destroyed. A save which is running is completed.
+     */
+    public void cancel() {
+        handler.removeCallbacks(saveRunnable);
+        dirty = false;
+    }
+
+    private void schedule() {
+        long maxDelay = dirtySince + MAX_SAVE_DELAY_MS - SystemClock.elapsedRealtime();
+        handler.removeCallbacks(saveRunnable);
+        handler.postDelayed(saveRunnable, Math.max(0, Math.min(SAVE_DELAY_MS, maxDelay)));
+    }
+
+    private void save() {
+        if (saving || !dirty) {
+            return;
+        }
+        dirty = false;
+        if (!Lbryio.isSignedIn()) {
+            return;
+        }
+
+        saving = true;
+        final String authToken = Lbryio.AUTH_TOKEN;
+        String previousSnapshot = authToken != null && authToken.equals(lastSavedAuthToken) ? lastSavedSnapshot : null;
+        SaveSharedUserStateTask task = new SaveSharedUserStateTask(authToken, previousSnapshot, context, new SaveSharedUserStateTask.SaveSharedUserStateHandler() {
+            @Override
+            public void onSuccess(String snapshot, boolean changed) {
+                lastSavedSnapshot = snapshot;
+                lastSavedAuthToken = authToken;
+                onSaveFinished();
+                if (changed && listener != null) {
+                    listener.onSaved();
+                }
+            }
+
+            @Override
+            public void onError(Exception error) {
+                // the whole state is saved again with the next change
+                onSaveFinished();
+            }
+        });
+        task.executeOnExecutor(TaskRuntime.getInstance().getExecutor(TaskRuntime.Pool.NETWORK));
+    }
+
+    private void onSaveFinished() {
+        saving = false;
+        if (dirty) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.odysee.app.utils;
+
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+
+import com.odysee.app.model.StartupStage;
+
+/**
+ * Runs app startup stages as a dependency graph. Every stage declares the stages it depends on, and
+ * a stage is started on the executor as soon as all of its dependencies have finished, so independent
+ * stages run concurrently.
+ *
+ * A critical stage which fails ends the pipeline unsuccessfully. A non-critical stage which fails is
+ * recorded, and the stages depending on it still run. Deferred stages run like any other stage, but
+ * the pipeline reports completion without waiting for them.
+ */
+public class StartupPipeline {
+    private static final String TAG = "StartupPipeline";
+
+    public interface StageAction {
+        /**
+         * @return true if the stage completed successfully
+         */
+        boolean run() throws Exception;
+    }
+
+    public interface PipelineListener {
+        /**
+         * Called once, on an executor thread, when every non-deferred stage has finished or a critical stage has failed.
+         * @param successful whether all critical stages succeeded
+         * @param stages the result and duration of each stage, ordered by stage ID
+         */
+        void onPipelineFinished(boolean successful, List<StartupStage> stages);
+    }
+
+    private static class Stage {
+        private final int id;
+        private final boolean critical;
+        private final boolean deferred;
+        private final StageAction action;
+        private final int[] dependsOn;
+        private boolean started;
+        private boolean finished;
+        private boolean successful;
+        private long durationMs;
+
+        Stage(int id, boolean critical, boolean deferred, StageAction action, int[] dependsOn) {
+            this.id = id;
+            this.critical = critical;
+            this.deferred = deferred;
+            this.action = action;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    private final Map<Integer, Stage> stages = new TreeMap<>();
+    private ExecutorService executor;
+    private PipelineListener listener;
+    private boolean pipelineFinished;
+
+    /**
+     * Adds a stage which must succeed for startup to succeed.
+     */
+    public StartupPipeline addStage(int id, StageAction action, int... dependsOn) {
+        stages.put(id, new Stage(id, true, false, action, dependsOn));
+        return this;
+    }
+
+    /**
+     * Adds a stage which is allowed to fail without failing startup.
+     * @param deferred true if the pipeline should not wait for this stage before reporting completion
+     */
+    public StartupPipeline addOptionalStage(int id, boolean deferred, StageAction action, int... dependsOn) {
+        stages.put(id, new Stage(id, false, deferred, action, dependsOn));
+        return this;
+    }
+
+    public void start(ExecutorService executor, PipelineListener listener) {
+        synchronized (this) {
+            for (Stage stage : stages.values()) {
+                for (int dependency : stage.dependsOn) {
+                    if (!stages.containsKey(dependency)) {
+                        throw new IllegalArgumentException(String.format("Stage %d depends on unknown stage %d", stage.id, dependency));
+                    }
+                }
+            }
+
+            this.executor = executor;
+            this.listener = listener;
+            scheduleReadyStages();
+        }
+    }
+
+    private void scheduleReadyStages() {
+        for (Stage stage : stages.values()) {
+            if (!stage.started && dependenciesFinished(stage)) {
+                stage.started = true;
+                executor.execute(() -> runStage(stage));
+            }
+        }
+    }
+
+    private boolean dependenciesFinished(Stage stage) {
+        for (int dependency : stage.dependsOn) {
+            if (!stages.get(dependency).finished) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void runStage(Stage stage) {
+        long start = System.currentTimeMillis();
+        boolean successful;
+        try {
+            successful = stage.action == null || stage.action.run();
+        } catch (Exception ex) {
+            Log.e(TAG, String.format("Startup stage %d failed: %s", stage.id, ex.getMessage()), ex);
+            successful = false;
+        }
+        long durationMs = System.currentTimeMillis() - start;
+
+        boolean notify = false;
+        boolean pipelineSuccessful = true;
+        List<StartupStage> results = null;
+        synchronized (this) {
+            stage.finished = true;
+            stage.successful = successful;
+            stage.durationMs = durationMs;
+            Log.d(TAG, String.format("Startup stage %d finished in %dms (successful: %s)", stage.id, durationMs, successful));
+
+            if (pipelineFinished) {
+                return;
+            }
+
+            if (!successful && stage.critical) {
+                pipelineFinished = true;
+                pipelineSuccessful = false;
+            } else {
+                scheduleReadyStages();
+                pipelineFinished = allRequiredStagesFinished();
+            }
+
+            if (pipelineFinished) {
+                notify = true;
+                results = buildResults();
+            }
+        }
+
+        if (notify && listener != null) {
+            listener.onPipelineFinished(pipelineSuccessful, results);
+        }
+    }
+
+    private boolean allRequiredStagesFinished() {
+        for (Stage stage : stages.values()) {
+            if (!stage.deferred && !stage.finished) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<StartupStage> buildResults() {
+        List<StartupStage> results = new ArrayList<>(stages.size());
+        for (Stage stage : stages.values()) {
+            results.add(new StartupStage(stage.id, stage.finished && stage.successful, stage.durationMs));
+        }
+        return Collections.unmodifiableList(results);
+    }
+}
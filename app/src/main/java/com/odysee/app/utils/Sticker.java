@@ -1,5 +1,8 @@
 package com.odysee.app.utils;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import lombok.Getter;
 
 public enum Sticker {
@@ -66,20 +69,28 @@ public enum Sticker {
     @Getter
     private final double price;
 
+    private static final Map<String, Sticker> stickerByName = new HashMap<>();
+
+    static {
+        for (Sticker sticker : values()) {
+            stickerByName.put(sticker.name, sticker);
+        }
+    }
+
     Sticker(String name, String path, double price) {
         this.name = name;
         this.path = path;
         this.price = price;
     }
 
-    public static boolean isSticker(String name) {
-        Sticker[] stickers = Sticker.values();
-        for (Sticker sticker : stickers) {
-            if (sticker.name.equals(name)) {
-                return true;
-            }
-        }
+    /**
+     * @return the sticker with the given name, or null if there is none
+     */
+    public static Sticker fromName(String name) {
+        return stickerByName.get(name);
+    }
 
-        return false;
+    public static boolean isSticker(String name) {
+        return stickerByName.containsKey(name);
     }
 }
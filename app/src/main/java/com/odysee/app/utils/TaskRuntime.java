@@ -0,0 +1,350 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * Central place for background work. Work is split by kind over separate bounded pools, so that slow
+ * network calls can't hold up database access and vice versa:
+ * <ul>
+ *     <li>NETWORK for API calls and other blocking network I/O</li>
+ *     <li>DISK for database and file access</li>
+ *     <li>CPU for parsing, diffing and other computation</li>
+ * </ul>
+ *
+ * Tasks can be tied to a lifecycle owner (eg. a fragment), in which case they are cancelled when the
+ * owner is destroyed. Each pool keeps queue depth, wait time and run time metrics. Delayed and periodic
+ * work goes through the shared scheduled executor.
+ *
+ * There is a single runtime for the process. Code with a Context can reach it through OdyseeApp.getTaskRuntime(),
+ * the singletons in this package use getInstance().
+ */
+public class TaskRuntime {
+    private static final String TAG = "TaskRuntime";
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    public enum Pool {
+        NETWORK,
+        DISK,
+        CPU
+    }
+
+    private static TaskRuntime instance;
+
+    private final Map<Pool, InstrumentedExecutor> executors = new EnumMap<>(Pool.class);
+    private ScheduledExecutorService scheduledExecutor;
+    private Handler mainHandler;
+
+    private TaskRuntime() {
+        int availableCores = Runtime.getRuntime().availableProcessors();
+        executors.put(Pool.NETWORK, new InstrumentedExecutor(Pool.NETWORK, Math.max(availableCores * 2, 8)));
+        executors.put(Pool.DISK, new InstrumentedExecutor(Pool.DISK, 2));
+        executors.put(Pool.CPU, new InstrumentedExecutor(Pool.CPU, Math.max(availableCores - 1, 2)));
+    }
+
+    public static synchronized TaskRuntime getInstance() {
+        if (instance == null) {
+            instance = new TaskRuntime();
+        }
+        return instance;
+    }
+
+    public ExecutorService getExecutor(Pool pool) {
+        return executors.get(pool);
+    }
+
+    /**
+     * Executor for delayed and periodic tasks. Tasks which block for long, such as API calls, should
+     * hand their work off to one of the pools so that they don't hold up the other timers.
+     */
+    public synchronized ScheduledExecutorService getScheduledExecutor() {
+        if (scheduledExecutor == null) {
+            int availableCores = Runtime.getRuntime().availableProcessors();
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                    Math.max(availableCores, 4), new NamedThreadFactory("scheduled"));
+            executor.setRemoveOnCancelPolicy(true);
+            scheduledExecutor = executor;
+        }
+        return scheduledExecutor;
+    }
+
+    public Future<?> execute(Pool pool, Runnable task) {
+        return executors.get(pool).submit(task);
+    }
+
+    public <T> Future<T> submit(Pool pool, Callable<T> task) {
+        return executors.get(pool).submit(task);
+    }
+
+    /**
+     * Runs the task on the pool and cancels it (interrupting it if it is running) when the owner is destroyed.
+     * This must be called from the main thread.
+     */
+    public Future<?> execute(Pool pool, LifecycleOwner owner, Runnable task) {
+        Lifecycle lifecycle = owner.getLifecycle();
+        LifecycleBoundTask future = new LifecycleBoundTask(task, lifecycle);
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) {
+            future.cancel(false);
+            return future;
+        }
+        lifecycle.addObserver(future);
+        executors.get(pool).execute(future);
+        return future;
+    }
+
+    /**
+     * Runs the tasks on the pool and waits for all of them to complete, like ExecutorService.invokeAll.
+     * The calling thread runs any task which hasn't been picked up by a pool thread yet instead of only
+     * waiting for it, so this is safe to call from a thread of the same pool without risking starvation.
+     */
+    public <T> List<Future<T>> invokeAll(Pool pool, Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        InstrumentedExecutor executor = executors.get(pool);
+        List<ClaimableTask<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            ClaimableTask<T> future = new ClaimableTask<>(task);
+            futures.add(future);
+            executor.execute(future);
+        }
+
+        try {
+            for (ClaimableTask<T> future : futures) {
+                // run it here if no pool thread has started it
+                future.run();
+            }
+            for (ClaimableTask<T> future : futures) {
+                if (!future.isDone()) {
+                    try {
+                        future.get();
+                    } catch (CancellationException | ExecutionException ex) {
+                        // reported through the future
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            for (ClaimableTask<T> future : futures) {
+                future.cancel(true);
+            }
+            throw ex;
+        }
+
+        return new ArrayList<>(futures);
+    }
+
+    public PoolMetrics getMetrics(Pool pool) {
+        return executors.get(pool).snapshotMetrics();
+    }
+
+    public void logMetrics() {
+        for (Pool pool : Pool.values()) {
+            Log.d(TAG, getMetrics(pool).toString());
+        }
+    }
+
+    private synchronized Handler getMainHandler() {
+        if (mainHandler == null) {
+            mainHandler = new Handler(Looper.getMainLooper());
+        }
+        return mainHandler;
+    }
+
+    /**
+     * A point-in-time view of the activity of a pool
+     */
+    public static class PoolMetrics {
+        @Getter
+        private final Pool pool;
+        @Getter
+        private final int poolSize;
+        @Getter
+        private final int activeCount;
+        @Getter
+        private final int queueDepth;
+        @Getter
+        private final long completedCount;
+        @Getter
+        private final long averageWaitMillis;
+        @Getter
+        private final long maxWaitMillis;
+        @Getter
+        private final long averageRunMillis;
+
+        PoolMetrics(Pool pool, int poolSize, int activeCount, int queueDepth, long completedCount,
+                    long averageWaitMillis, long maxWaitMillis, long averageRunMillis) {
+            this.pool = pool;
+            this.poolSize = poolSize;
+            this.activeCount = activeCount;
+            this.queueDepth = queueDepth;
+            this.completedCount = completedCount;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+            this.averageRunMillis = averageRunMillis;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format("%s: %d/%d active, %d queued, %d completed, wait avg %dms max %dms, run avg %dms",
+                    pool, activeCount, poolSize, queueDepth, completedCount, averageWaitMillis, maxWaitMillis, averageRunMillis);
+        }
+    }
+
+    /**
+     * A future which is run by whichever thread gets to it first, the pool thread or the thread waiting for it
+     */
+    private static class ClaimableTask<T> extends FutureTask<T> {
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+
+        ClaimableTask(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                super.run();
+            }
+        }
+    }
+
+    /**
+     * A future which cancels itself when its lifecycle is destroyed, and stops observing the lifecycle once done
+     */
+    private class LifecycleBoundTask extends FutureTask<Void> implements LifecycleEventObserver {
+        private final Lifecycle lifecycle;
+
+        LifecycleBoundTask(Runnable runnable, Lifecycle lifecycle) {
+            super(runnable, null);
+            this.lifecycle = lifecycle;
+        }
+
+        @Override
+        public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+            if (event == Lifecycle.Event.ON_DESTROY) {
+                cancel(true);
+            }
+        }
+
+        @Override
+        protected void done() {
+            // observers can only be removed on the main thread
+            getMainHandler().post(() -> lifecycle.removeObserver(this));
+        }
+    }
+
+    private static class TimedRunnable implements Runnable {
+        private final Runnable delegate;
+        private final long enqueuedAt = System.nanoTime();
+        private long startedAt;
+
+        TimedRunnable(Runnable delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+    private static class InstrumentedExecutor extends ThreadPoolExecutor {
+        private final Pool pool;
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong totalRunNanos = new AtomicLong();
+
+        InstrumentedExecutor(Pool pool, int threads) {
+            super(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new NamedThreadFactory(pool.name().toLowerCase()));
+            this.pool = pool;
+            allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            super.execute(command instanceof TimedRunnable ? command : new TimedRunnable(command));
+        }
+
+        @Override
+        protected void beforeExecute(Thread t, Runnable r) {
+            super.beforeExecute(t, r);
+            if (r instanceof TimedRunnable) {
+                TimedRunnable timed = (TimedRunnable) r;
+                timed.startedAt = System.nanoTime();
+                long wait = timed.startedAt - timed.enqueuedAt;
+                totalWaitNanos.addAndGet(wait);
+                long currentMax;
+                do {
+                    currentMax = maxWaitNanos.get();
+                } while (wait > currentMax && !maxWaitNanos.compareAndSet(currentMax, wait));
+            }
+        }
+
+        @Override
+        protected void afterExecute(Runnable r, Throwable t) {
+            super.afterExecute(r, t);
+            if (r instanceof TimedRunnable) {
+                totalRunNanos.addAndGet(System.nanoTime() - ((TimedRunnable) r).startedAt);
+                completedCount.incrementAndGet();
+            }
+        }
+
+        PoolMetrics snapshotMetrics() {
+            long completed = completedCount.get();
+            return new PoolMetrics(
+                    pool,
+                    getPoolSize(),
+                    getActiveCount(),
+                    getQueue().size(),
+                    completed,
+                    completed > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / completed) : 0,
+                    TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()),
+                    completed > 0 ? TimeUnit.NANOSECONDS.toMillis(totalRunNanos.get() / completed) : 0);
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String name) {
+            this.prefix = String.format("%s-%s-", TAG, name);
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix.concat(String.valueOf(count.incrementAndGet())));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.odysee.app.utils;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.os.SystemClock;
+import android.util.Log;
+
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.odysee.app.data.DatabaseHelper;
+import com.odysee.app.exceptions.ApiCallException;
+import com.odysee.app.model.Transaction;
+
+/**
+ * Wallet transactions, saved in the transactions table by txid, so that the wallet and transaction history
+ * screens are displayed from the database a page at a time.
+ *
+ * transaction_list returns the most recent transactions first, so a refresh only fetches pages until it
+ * reaches a transaction which was already saved as confirmed, or only the first page when nothing was saved
+ * yet. Older transactions are fetched when the saved ones run out while scrolling, until the first
+ * transaction of the wallet is reached.
+ *
+ * The methods read the database or call the SDK, so they must be called from a background thread.
+ */
+public class TransactionHistoryStore {
+    private static final String TAG = "TransactionHistoryStore";
+
+    public static final int PAGE_SIZE = 50;
+    // when there are more new transactions than this, the saved ones are replaced instead of fetching every page
+    private static final int MAX_FETCH_PAGES = 5;
+    // the wallet screens refresh whenever they are displayed, which may happen a few times in a row
+    private static final long MIN_REFRESH_INTERVAL_MS = 30 * 1000;
+
+    private static TransactionHistoryStore instance;
+
+    private final Object fetchLock = new Object();
+    private volatile long lastRefreshTime;
+    // guarded by fetchLock. The user that the saved transactions were fetched for, and whether the oldest
+    // transaction of the wallet was saved.
+    private String authToken;
+    private boolean complete;
+
+    public static synchronized TransactionHistoryStore getInstance() {
+        if (instance == null) {
+            instance = new TransactionHistoryStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Makes the next refresh fetch the new transactions even if the last one was recent, eg. after a
+     * transaction was submitted
+     */
+    public void invalidate() {
+        lastRefreshTime = 0;
+    }
+
+    /**
+     * @return a page of the saved transactions, without fetching anything
+     */
+    public List<Transaction> getSavedPage(Transaction before, int limit) {
+        SQLiteDatabase db = getDatabase();
+        return db != null ? DatabaseHelper.getTransactions(before, limit, db) : new ArrayList<>();
+    }
+
+    /**
+     * @param before the last transaction of the previous page, or null for the first page
+     * @return a page of the saved transactions. Older transactions are fetched and saved first if there are
+     *         not enough saved transactions to fill the page.
+     */
+    public List<Transaction> loadPage(Transaction before, int limit, String authToken) {
+        SQLiteDatabase db = getDatabase();
+        if (db == null) {
+            return new ArrayList<>();
+        }
+        List<Transaction> transactions = DatabaseHelper.getTransactions(before, limit, db);
+        if (transactions.size() < limit && !Helper.isNullOrEmpty(authToken) && fetchOlder(authToken, db)) {
+            transactions = DatabaseHelper.getTransactions(before, limit, db);
+        }
+        return transactions;
+    }
+
+    /**
+     * Fetches and saves the transactions which are more recent than the saved ones, and the pending ones
+     * @param force true to refresh even if the transactions were refreshed recently
+     * @return true if the saved transactions changed
+     */
+    public boolean refresh(String authToken, boolean force) {
+        if (Helper.isNullOrEmpty(authToken)) {
+            return false;
+        }
+        synchronized (fetchLock) {
+            SQLiteDatabase db = getDatabase();
+            if (db == null) {
+                return false;
+            }
+            checkUser(authToken, db);
+            long now = SystemClock.elapsedRealtime();
+            if (!force && lastRefreshTime > 0 && now - lastRefreshTime < MIN_REFRESH_INTERVAL_MS) {
+                return false;
+            }
+
+            int maxPages;
+            try {
+                // without saved transactions, the older pages are left to be fetched while scrolling
+                maxPages = DatabaseHelper.getTransactionCount(db) > 0 ? MAX_FETCH_PAGES : 1;
+            } catch (SQLiteException ex) {
+                Log.e(TAG, "Could not read the transactions", ex);
+                return false;
+            }
+
+            List<JSONObject> newItems = new ArrayList<>();
+            Set<String> pendingTxids = new HashSet<>();
+            boolean changed = false;
+            boolean reachedSaved = false;
+            boolean reachedEnd = false;
+            try {
+                for (int page = 1; page <= maxPages && !reachedSaved && !reachedEnd; page++) {
+                    List<JSONObject> items = Lbry.transactionListItems(page, PAGE_SIZE, authToken);
+                    Map<String, Long> saved = DatabaseHelper.getTransactionConfirmations(getTxids(items), db);
+                    for (JSONObject item : items) {
+                        String txid = Helper.getJSONString("txid", null, item);
+                        boolean confirmed = Helper.getJSONInt("confirmations", -1, item) > 0;
+                        Long savedConfirmations = saved.get(txid);
+                        boolean savedConfirmed = savedConfirmations != null && savedConfirmations > 0;
+                        if (!confirmed) {
+                            pendingTxids.add(txid);
+                        }
+                        if (savedConfirmations == null || confirmed != savedConfirmed) {
+                            changed = true;
+                        }
+                        // transactions are saved from the most recent, so all the older ones are saved too
+                        reachedSaved |= confirmed && savedConfirmed;
+                    }
+                    newItems.addAll(items);
+                    reachedEnd = items.size() < PAGE_SIZE;
+                }
+            } catch (ApiCallException ex) {
+                Log.e(TAG, "Could not fetch the transactions", ex);
+                return false;
+            }
+
+            try {
+                // a saved pending transaction which was not fetched was dropped, but only if the fetched pages
+                // went past all the pending transactions. Otherwise the saved transactions are replaced below.
+                if ((reachedSaved || reachedEnd) && !pendingTxids.containsAll(DatabaseHelper.getPendingTransactionIds(db))) {
+                    changed = true;
+                }
+                db.beginTransactionNonExclusive();
+                try {
+                    if (!reachedSaved) {
+                        // there may be a gap between the new transactions and the saved ones
+                        changed |= DatabaseHelper.getTransactionCount(db) > newItems.size();
+                        DatabaseHelper.clearTransactions(db);
+                        complete = false;
+                    }
+                    DatabaseHelper.saveTransactions(newItems, true, db);
+                    db.setTransactionSuccessful();
+                } finally {
+                    db.endTransaction();
+                }
+            } catch (SQLiteException ex) {
+                Log.e(TAG, "Could not save the transactions", ex);
+                return false;
+            }
+            complete |= reachedEnd;
+            lastRefreshTime = now;
+            return changed;
+        }
+    }
+
+    /**
+     * Fetches the transactions which are older than the saved ones
+     * @return true if new transactions were saved
+     */
+    private boolean fetchOlder(String authToken, SQLiteDatabase db) {
+        synchronized (fetchLock) {
+            checkUser(authToken, db);
+            if (complete) {
+                return false;
+            }
+            try {
+                int savedCount = DatabaseHelper.getTransactionCount(db);
+                // pages start from the most recent transaction, so a page overlaps the saved transactions when
+                // there were new ones since the last refresh. Those are only fetched again.
+                for (int page = savedCount / PAGE_SIZE + 1, i = 0; i < MAX_FETCH_PAGES; page++, i++) {
+                    List<JSONObject> items = Lbry.transactionListItems(page, PAGE_SIZE, authToken);
+                    DatabaseHelper.saveTransactions(items, false, db);
+                    complete = items.size() < PAGE_SIZE;
+                    if (complete || DatabaseHelper.getTransactionCount(db) > savedCount) {
+                        return true;
+                    }
+                }
+            } catch (ApiCallException ex) {
+                Log.e(TAG, "Could not fetch the transactions", ex);
+            } catch (SQLiteException ex) {
+                Log.e(TAG, "Could not save the transactions", ex);
+            }
+            return false;
+        }
+    }
+
+    // must be called while holding fetchLock
+    private void checkUser(String authToken, SQLiteDatabase db) {
+        if (!authToken.equals(this.authToken)) {
+            // signing out clears the table, so the transactions saved before the first call belong to this user.
+            // Those saved in this process for another user must not be shown to this one.
+            if (this.authToken != null) {
+                try {
+                    DatabaseHelper.clearTransactions(db);
+                } catch (SQLiteException ex) {
+                    Log.e(TAG, "Could not clear the transactions", ex);
+                }
+            }
+            this.authToken = authToken;
+            complete = false;
+            lastRefreshTime = 0;
+        }
+    }
+
+    private static List<String> getTxids(List<JSONObject> items) {
+        List<String> txids = new ArrayList<>(items.size());
+        for (JSONObject item : items) {
+            String txid = Helper.getJSONString("txid", null, item);
+            if (txid != null) {
+                txids.add(txid);
+            }
+        }
+        return txids;
+    }
+
+    private static SQLiteDatabase getDatabase() {
+        DatabaseHelper dbHelper = DatabaseHelper.getInstance();
+        try {
+            return dbHelper != null ? dbHelper.getWritableDatabase() : null;
+        } catch (SQLiteException ex) {
+            Log.e(TAG, "Could not open the database", ex);
+            return null;
+        }
+    }
+}
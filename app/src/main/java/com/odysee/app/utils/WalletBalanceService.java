@@ -0,0 +1,219 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.odysee.app.callable.WalletBalanceFetch;
+import com.odysee.app.listener.WalletBalanceListener;
+import com.odysee.app.model.WalletBalance;
+
+/**
+ * Keeps Lbry.walletBalance up to date. The balance is fetched when something may have changed it: at startup,
+ * when the app comes to the foreground, when the user asks for it and after a transaction is submitted.
+ *
+ * A submitted transaction takes a few blocks to be confirmed, so the balance is then fetched again a few times,
+ * less and less often, until the transaction should have been confirmed.
+ *
+ * The listener is called on the main thread when the balance changes, and gets the current balance when it is set.
+ */
+public class WalletBalanceService {
+    private static final String TAG = "WalletBalanceService";
+
+    private static final long PENDING_INITIAL_DELAY_MS = 5000;
+    private static final long PENDING_MAX_DELAY_MS = 60000;
+    // blocks come every 2.5 minutes on average, so this is enough for a few confirmations
+    private static final long PENDING_DURATION_MS = 10 * 60 * 1000;
+
+    private static WalletBalanceService instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private WalletBalanceListener listener;
+    private String authToken;
+
+    // guarded by this
+    private boolean fetching;
+    private boolean fetchAgain;
+    private boolean paused;
+    private long pendingUntil;
+    private long pendingDelay;
+    private ScheduledFuture<?> pendingFetch;
+
+    public static synchronized WalletBalanceService getInstance() {
+        if (instance == null) {
+            instance = new WalletBalanceService();
+        }
+        return instance;
+    }
+
+    public synchronized void setListener(WalletBalanceListener listener) {
+        this.listener = listener;
+        if (listener != null) {
+            // a balance fetched before the listener was set is not fetched again until something changes it
+            mainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    WalletBalanceListener currentListener;
+                    synchronized (WalletBalanceService.this) {
+                        currentListener = WalletBalanceService.this.listener;
+                    }
+                    WalletBalance balance = Lbry.walletBalance;
+                    if (currentListener == listener && balance != null) {
+                        listener.onWalletBalanceUpdated(balance);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Fetches the balance. A fetch requested while one is running is done once it completes.
+     * @param authToken the auth token of the user, which is also used for the fetches made later
+     */
+    public void refresh(String authToken) {
+        synchronized (this) {
+            this.authToken = authToken;
+        }
+        fetch();
+    }
+
+    /**
+     * Fetches the balance now, then again while the transaction is being confirmed
+     */
+    public void onTransactionSubmitted() {
+        synchronized (this) {
+            if (authToken == null) {
+                return;
+            }
+            pendingUntil = SystemClock.elapsedRealtime() + PENDING_DURATION_MS;
+            pendingDelay = PENDING_INITIAL_DELAY_MS;
+            schedulePendingFetch();
+        }
+        fetch();
+    }
+
+    /**
+     * Stops fetching the balance while the app is in the background
+     */
+    public synchronized void pause() {
+        paused = true;
+        if (pendingFetch != null) {
+            pendingFetch.cancel(false);
+            pendingFetch = null;
+        }
+    }
+
+    /**
+     * Fetches the balance when the app comes back to the foreground, and carries on with the fetches of
+     * transactions which are still pending
+     */
+    public void resume(String authToken) {
+        synchronized (this) {
+            paused = false;
+            schedulePendingFetch();
+        }
+        refresh(authToken);
+    }
+
+    /**
+     * Stops fetching the balance, eg. when the user signs out
+     */
+    public synchronized void stop() {
+        authToken = null;
+        pendingUntil = 0;
+        if (pendingFetch != null) {
+            pendingFetch.cancel(false);
+            pendingFetch = null;
+        }
+    }
+
+    private void fetch() {
+        String token;
+        synchronized (this) {
+            if (authToken == null) {
+                return;
+            }
+            if (fetching) {
+                fetchAgain = true;
+                return;
+            }
+            fetching = true;
+            token = authToken;
+        }
+        TaskRuntime.getInstance().execute(TaskRuntime.Pool.NETWORK, new Runnable() {
+            @Override
+            public void run() {
+                WalletBalance balance = null;
+                try {
+                    balance = new WalletBalanceFetch(token).call();
+                } catch (Exception ex) {
+                    Log.e(TAG, "Could not fetch the wallet balance", ex);
+                }
+                boolean again;
+                synchronized (WalletBalanceService.this) {
+                    fetching = false;
+                    again = fetchAgain;
+                    fetchAgain = false;
+                }
+                if (balance != null) {
+                    deliver(balance, token);
+                }
+                if (again) {
+                    fetch();
+                }
+            }
+        });
+    }
+
+    /**
+     * @param token the auth token which the balance was fetched with. The balance is dropped if the user
+     *              signed out or changed in the meantime.
+     */
+    private void deliver(final WalletBalance balance, final String token) {
+        mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                WalletBalanceListener currentListener;
+                synchronized (WalletBalanceService.this) {
+                    if (!token.equals(authToken)) {
+                        return;
+                    }
+                    currentListener = listener;
+                }
+                if (balance.equals(Lbry.walletBalance)) {
+                    return;
+                }
+                Lbry.walletBalance = balance;
+                if (currentListener != null) {
+                    currentListener.onWalletBalanceUpdated(balance);
+                }
+            }
+        });
+    }
+
+    // must be called while holding the lock
+    private void schedulePendingFetch() {
+        if (pendingFetch != null) {
+            pendingFetch.cancel(false);
+            pendingFetch = null;
+        }
+        if (paused || SystemClock.elapsedRealtime() >= pendingUntil) {
+            return;
+        }
+        pendingFetch = TaskRuntime.getInstance().getScheduledExecutor().schedule(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (WalletBalanceService.this) {
+                    pendingFetch = null;
+                    pendingDelay = Math.min(pendingDelay * 2, PENDING_MAX_DELAY_MS);
+                    schedulePendingFetch();
+                }
+                fetch();
+            }
+        }, pendingDelay, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,131 @@
+package com.odysee.app.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * Decides when the wallet is synced with the remote wallet. Syncs are run periodically while the app is in
+ * the foreground, and the interval doubles every time a sync finds that nothing changed, up to a maximum.
+ * It goes back to the base interval as soon as something changes. Nothing is run in the background: when
+ * the app comes back to the foreground, a sync is run right away if one is due.
+ *
+ * Requested syncs, eg. when a notification is received, run shortly after they are requested, ahead of the
+ * periodic ones.
+ *
+ * This must be used from the main thread.
+ */
+public class WalletSyncScheduler {
+    private static final long BASE_INTERVAL_MS = 5 * 60 * 1000;
+    private static final long MAX_INTERVAL_MS = 30 * 60 * 1000;
+    // requests made within this delay are run as a single sync
+    private static final long REQUEST_DELAY_MS = 3000;
+
+    private final SyncListener listener;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable syncRunnable = new Runnable() {
+        @Override
+        public void run() {
+            runSync();
+        }
+    };
+
+    private boolean started;
+    private boolean paused;
+    private long interval = BASE_INTERVAL_MS;
+    private long lastSyncTime;
+    private boolean requested;
+
+    public interface SyncListener {
+        /**
+         * Called on the main thread when the wallet should be synced. onSyncFinished should be called with the
+         * result of the sync.
+         */
+        void onSync();
+    }
+
+    public WalletSyncScheduler(SyncListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the periodic syncs, with a first sync right away
+     */
+    public void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        lastSyncTime = SystemClock.elapsedRealtime() - interval;
+        schedule();
+    }
+
+    public void stop() {
+        started = false;
+        requested = false;
+        handler.removeCallbacks(syncRunnable);
+    }
+
+    /**
+     * Called when the app goes to the foreground
+     */
+    public void resume() {
+        paused = false;
+        schedule();
+    }
+
+    /**
+     * Called when the app goes to the background. Syncs are not run until resume is called.
+     */
+    public void pause() {
+        paused = true;
+        handler.removeCallbacks(syncRunnable);
+    }
+
+    /**
+     * Runs a sync shortly, and goes back to the base interval
+     */
+    public void requestSync() {
+        interval = BASE_INTERVAL_MS;
+        requested = true;
+        schedule();
+    }
+
+    /**
+     * @param changed true if the remote wallet had changed since the previous sync
+     */
+    public void onSyncFinished(boolean changed) {
+        interval = changed ? BASE_INTERVAL_MS : Math.min(interval * 2, MAX_INTERVAL_MS);
+        schedule();
+    }
+
+    /**
+     * Goes back to the base interval, eg. after a local change was pushed, as more changes are likely to follow
+     */
+    public void resetInterval() {
+        if (interval != BASE_INTERVAL_MS) {
+            interval = BASE_INTERVAL_MS;
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        handler.removeCallbacks(syncRunnable);
+        if (!started || paused) {
+            return;
+        }
+        long delay = requested ? REQUEST_DELAY_MS : lastSyncTime + interval - SystemClock.elapsedRealtime();
+        handler.postDelayed(syncRunnable, Math.max(0, delay));
+    }
+
+    private void runSync() {
+        if (!started || paused) {
+            return;
+        }
+        requested = false;
+        lastSyncTime = SystemClock.elapsedRealtime();
+        // the next sync is scheduled when this one finishes, or after the interval if it never reports back
+        handler.postDelayed(syncRunnable, interval);
+        listener.onSync();
+    }
+}
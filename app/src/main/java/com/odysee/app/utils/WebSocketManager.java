@@ -0,0 +1,372 @@
+package com.odysee.app.utils;
+
+import android.os.Build;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.handshake.ServerHandshake;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLParameters;
+
+import lombok.Getter;
+
+/**
+ * Owns the websocket connections of the app. Callers subscribe to the message types (topics) they are
+ * interested in on a websocket URL, and a single connection per URL is shared by all of its subscribers.
+ * The connection is opened with the first subscription and closed when the last one is removed.
+ *
+ * Lost connections are re-established with an exponential backoff with jitter, rather than right away,
+ * and pings are sent periodically so that a connection which stopped responding is detected and replaced.
+ */
+public class WebSocketManager {
+    private static final String TAG = "WebSocketManager";
+
+    public static final String TOPIC_COMMENT_DELTA = "delta";
+    public static final String TOPIC_VIEWERS = "viewers";
+    public static final String TOPIC_LIVESTREAM = "livestream";
+
+    private static final long INITIAL_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 5 * 60 * 1000;
+    // the backoff is only reset once a connection has stayed open for this long, so that a connection which
+    // is accepted and then dropped right away doesn't cause a reconnect loop
+    private static final long STABLE_CONNECTION_MS = 30 * 1000;
+    // a ping is sent every interval, and the connection is closed if there was no pong for longer than that
+    private static final int HEARTBEAT_INTERVAL_SECONDS = 30;
+
+    public enum State {
+        CONNECTING,
+        CONNECTED,
+        WAITING_TO_RECONNECT,
+        CLOSED
+    }
+
+    private static WebSocketManager instance;
+
+    private final Object lock = new Object();
+    private final Map<String, Connection> connections = new HashMap<>();
+    private final Random random = new Random();
+
+    public interface MessageListener {
+        /**
+         * Called on the connection thread for every message on one of the subscribed topics
+         * @param type the type of the message, or null if it doesn't have one
+         * @param message the message, or null if it is not a JSON object
+         */
+        void onMessage(String type, JSONObject message);
+    }
+
+    public static synchronized WebSocketManager getInstance() {
+        if (instance == null) {
+            instance = new WebSocketManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Subscribes to messages on a websocket, connecting to it if needed
+     * @param url the URL of the websocket
+     * @param name a name for the connection, used for logging and metrics instead of the URL, which may contain credentials
+     * @param topics the message types to deliver to the listener. If none are specified, every message is delivered.
+     */
+    public Subscription subscribe(String url, String name, MessageListener listener, String... topics) {
+        synchronized (lock) {
+            Connection connection = connections.get(url);
+            if (connection == null) {
+                connection = new Connection(url, name);
+                connections.put(url, connection);
+            }
+            Subscription subscription = new Subscription(connection, listener, topics);
+            connection.subscriptions.add(subscription);
+            if (connection.state == State.CLOSED) {
+                connect(connection);
+            }
+            return subscription;
+        }
+    }
+
+    public List<ConnectionMetrics> getMetrics() {
+        List<ConnectionMetrics> metrics = new ArrayList<>();
+        synchronized (lock) {
+            for (Connection connection : connections.values()) {
+                metrics.add(connection.snapshotMetrics());
+            }
+        }
+        return metrics;
+    }
+
+    public void logMetrics() {
+        for (ConnectionMetrics metrics : getMetrics()) {
+            Log.d(TAG, metrics.toString());
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        WebSocketClient client;
+        synchronized (lock) {
+            Connection connection = subscription.connection;
+            if (!connection.subscriptions.remove(subscription) || !connection.subscriptions.isEmpty()) {
+                return;
+            }
+
+            connections.remove(connection.url);
+            connection.state = State.CLOSED;
+            if (connection.reconnect != null) {
+                connection.reconnect.cancel(false);
+                connection.reconnect = null;
+            }
+            client = connection.client;
+            connection.client = null;
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    // must be called with the lock held
+    private void connect(Connection connection) {
+        connection.reconnect = null;
+        connection.connectAttempts++;
+        try {
+            connection.client = createClient(connection);
+        } catch (URISyntaxException ex) {
+            Log.e(TAG, String.format("Invalid websocket URL for %s", connection.name), ex);
+            connection.state = State.CLOSED;
+            return;
+        }
+        connection.state = State.CONNECTING;
+        connection.client.connect();
+    }
+
+    private void onOpen(Connection connection, WebSocketClient client) {
+        synchronized (lock) {
+            if (connection.client != client) {
+                return;
+            }
+            connection.state = State.CONNECTED;
+            connection.openedAt = System.currentTimeMillis();
+            connection.successfulConnects++;
+        }
+    }
+
+    private void onClose(Connection connection, WebSocketClient client, int code) {
+        synchronized (lock) {
+            if (connection.client != client || connection.state == State.CLOSED) {
+                // closed on purpose, or an older client of the connection
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            connection.client = null;
+            connection.disconnects++;
+            if (connection.openedAt > 0 && now - connection.openedAt >= STABLE_CONNECTION_MS) {
+                connection.consecutiveFailures = 0;
+            }
+            connection.openedAt = 0;
+
+            long delay = getBackoffDelay(connection.consecutiveFailures);
+            connection.consecutiveFailures++;
+            connection.state = State.WAITING_TO_RECONNECT;
+            connection.nextReconnectAt = now + delay;
+            connection.reconnect = TaskRuntime.getInstance().getScheduledExecutor().schedule(() -> {
+                synchronized (lock) {
+                    if (connection.state == State.WAITING_TO_RECONNECT) {
+                        connect(connection);
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+            Log.d(TAG, String.format("%s closed with code %d, reconnecting in %dms", connection.name, code, delay));
+        }
+    }
+
+    private void dispatch(Connection connection, String message) {
+        connection.messagesReceived.incrementAndGet();
+        String type = null;
+        JSONObject json = null;
+        try {
+            json = new JSONObject(message);
+            type = Helper.getJSONString("type", null, json);
+        } catch (JSONException ex) {
+            // delivered as is to the subscribers of all messages
+        }
+        for (Subscription subscription : connection.subscriptions) {
+            if (subscription.accepts(type)) {
+                subscription.listener.onMessage(type, json);
+            }
+        }
+    }
+
+    /**
+     * Exponential backoff with jitter: the delay doubles with every failure, up to a maximum, and a random
+     * half of it is added so that clients which lost their connections at the same time don't all come back together
+     */
+    private long getBackoffDelay(int failures) {
+        long ceiling = Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(failures, 20));
+        long half = ceiling / 2;
+        return half + (long) (random.nextDouble() * half);
+    }
+
+    private WebSocketClient createClient(Connection connection) throws URISyntaxException {
+        WebSocketClient client = new WebSocketClient(new URI(connection.url)) {
+            @Override
+            public void onOpen(ServerHandshake handshakedata) {
+                WebSocketManager.this.onOpen(connection, this);
+            }
+
+            @Override
+            public void onMessage(String message) {
+                if (connection.client == this) {
+                    dispatch(connection, message);
+                }
+            }
+
+            @Override
+            public void onClose(int code, String reason, boolean remote) {
+                WebSocketManager.this.onClose(connection, this, code);
+            }
+
+            @Override
+            public void onError(Exception ex) {
+                // onClose is called as well when the error ends the connection
+                Log.d(TAG, String.format("%s: %s", connection.name, ex.getMessage()));
+            }
+
+            @Override
+            public void onWebsocketPong(WebSocket conn, Framedata f) {
+                super.onWebsocketPong(conn, f);
+                connection.lastPongAt = System.currentTimeMillis();
+            }
+
+            @Override
+            protected void onSetSSLParameters(SSLParameters sslParameters) {
+                // don't call setEndpointIdentificationAlgorithm for API level < 24
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+                    sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+                }
+            }
+        };
+        client.setConnectionLostTimeout(HEARTBEAT_INTERVAL_SECONDS);
+        return client;
+    }
+
+    /**
+     * A listener attached to some topics of a websocket. Messages are delivered until it is unsubscribed.
+     */
+    public class Subscription {
+        private final Connection connection;
+        private final MessageListener listener;
+        private final Set<String> topics;
+
+        Subscription(Connection connection, MessageListener listener, String[] topics) {
+            this.connection = connection;
+            this.listener = listener;
+            this.topics = new HashSet<>(Arrays.asList(topics));
+        }
+
+        public String getUrl() {
+            return connection.url;
+        }
+
+        public void unsubscribe() {
+            WebSocketManager.this.unsubscribe(this);
+        }
+
+        private boolean accepts(String type) {
+            return topics.isEmpty() || (type != null && topics.contains(type.toLowerCase()));
+        }
+    }
+
+    /**
+     * A point-in-time view of a connection
+     */
+    public static class ConnectionMetrics {
+        @Getter
+        private final String name;
+        @Getter
+        private final State state;
+        @Getter
+        private final int subscriptions;
+        @Getter
+        private final long connectAttempts;
+        @Getter
+        private final long successfulConnects;
+        @Getter
+        private final long disconnects;
+        @Getter
+        private final int consecutiveFailures;
+        @Getter
+        private final long messagesReceived;
+        @Getter
+        private final long lastPongAt;
+        @Getter
+        private final long nextReconnectAt;
+
+        ConnectionMetrics(String name, State state, int subscriptions, long connectAttempts, long successfulConnects,
+                          long disconnects, int consecutiveFailures, long messagesReceived, long lastPongAt, long nextReconnectAt) {
+            this.name = name;
+            this.state = state;
+            this.subscriptions = subscriptions;
+            this.connectAttempts = connectAttempts;
+            this.successfulConnects = successfulConnects;
+            this.disconnects = disconnects;
+            this.consecutiveFailures = consecutiveFailures;
+            this.messagesReceived = messagesReceived;
+            this.lastPongAt = lastPongAt;
+            this.nextReconnectAt = nextReconnectAt;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return String.format("%s: %s, %d subscriptions, %d/%d connects, %d disconnects, %d consecutive failures, %d messages",
+                    name, state, subscriptions, successfulConnects, connectAttempts, disconnects, consecutiveFailures, messagesReceived);
+        }
+    }
+
+    private static class Connection {
+        private final String url;
+        private final String name;
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+        private final AtomicLong messagesReceived = new AtomicLong();
+        private volatile WebSocketClient client;
+        private volatile long lastPongAt;
+        private State state = State.CLOSED;
+        private ScheduledFuture<?> reconnect;
+        private long openedAt;
+        private long nextReconnectAt;
+        private long connectAttempts;
+        private long successfulConnects;
+        private long disconnects;
+        private int consecutiveFailures;
+
+        Connection(String url, String name) {
+            this.url = url;
+            this.name = name;
+        }
+
+        ConnectionMetrics snapshotMetrics() {
+            return new ConnectionMetrics(name, state, subscriptions.size(), connectAttempts, successfulConnects, disconnects,
+                    consecutiveFailures, messagesReceived.get(), lastPongAt, state == State.WAITING_TO_RECONNECT ? nextReconnectAt : 0);
+        }
+    }
+}
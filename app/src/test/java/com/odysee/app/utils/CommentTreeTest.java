@@ -0,0 +1,133 @@
+package com.odysee.app.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.odysee.app.model.Comment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CommentTreeTest {
+    private static Comment comment(String id, String parentId) {
+        return new Comment("channel", "@channel", id, id, parentId);
+    }
+
+    private static void assertChange(CommentTree.RowChange change, int type, int position, int count) {
+        assertEquals(type, change.getType());
+        assertEquals(position, change.getPosition());
+        assertEquals(count, change.getCount());
+    }
+
+    @Test
+    public void appendAllInsertsTopLevelCommentsAsOneRange() {
+        CommentTree tree = CommentTree.of(Arrays.asList(comment("a", null), comment("a1", "a")));
+
+        List<CommentTree.RowChange> changes = tree.appendAll(Arrays.asList(comment("b", null), comment("c", null)));
+
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.INSERTED, 1, 2);
+        assertEquals(3, tree.getRowCount());
+        assertEquals(4, tree.getCommentCount());
+        // replies are collapsed at first
+        assertEquals(-1, tree.getPosition("a1"));
+        assertTrue(tree.hasReplies(0));
+    }
+
+    @Test
+    public void toggleInsertsAndRemovesTheReplyRows() {
+        CommentTree tree = CommentTree.of(Arrays.asList(
+                comment("a", null), comment("a1", "a"), comment("a2", "a"), comment("b", null)));
+
+        List<CommentTree.RowChange> changes = tree.toggle("a");
+        assertEquals(2, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.CHANGED, 0, 1);
+        assertChange(changes.get(1), CommentTree.RowChange.INSERTED, 1, 2);
+        assertEquals("a2", tree.getRow(2).getId());
+        assertEquals(3, tree.getPosition("b"));
+
+        changes = tree.toggle("a");
+        assertEquals(2, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.REMOVED, 1, 2);
+        assertChange(changes.get(1), CommentTree.RowChange.CHANGED, 0, 1);
+        assertEquals(1, tree.getPosition("b"));
+    }
+
+    @Test
+    public void appendedReplyGoesAfterTheVisibleDescendantsOfItsParent() {
+        CommentTree tree = CommentTree.of(Arrays.asList(
+                comment("a", null), comment("a1", "a"), comment("a1x", "a1"), comment("b", null)));
+        tree.toggle("a");
+        tree.toggle("a1");
+
+        List<CommentTree.RowChange> changes = tree.appendAll(Collections.singletonList(comment("a2", "a")));
+
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.INSERTED, 3, 1);
+        assertEquals(3, tree.getPosition("a2"));
+        assertEquals(4, tree.getPosition("b"));
+    }
+
+    @Test
+    public void replyIsKeptUntilItsParentIsAppended() {
+        CommentTree tree = CommentTree.of(Collections.singletonList(comment("a", null)));
+
+        assertTrue(tree.appendAll(Collections.singletonList(comment("b1", "b"))).isEmpty());
+        assertFalse(tree.contains("b1"));
+
+        List<CommentTree.RowChange> changes = tree.appendAll(Collections.singletonList(comment("b", null)));
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.INSERTED, 1, 1);
+        assertTrue(tree.contains("b1"));
+
+        changes = tree.toggle("b");
+        assertChange(changes.get(1), CommentTree.RowChange.INSERTED, 2, 1);
+        assertEquals("b1", tree.getRow(2).getId());
+    }
+
+    @Test
+    public void expandOnlyExpandsTheAncestorsTopDown() {
+        CommentTree tree = CommentTree.of(Arrays.asList(
+                comment("a", null), comment("a1", "a"), comment("a2", "a"), comment("a1x", "a1"), comment("b", null)));
+
+        List<CommentTree.RowChange> changes = tree.expandOnly("a1x");
+
+        assertEquals(4, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.CHANGED, 0, 1);
+        assertChange(changes.get(1), CommentTree.RowChange.INSERTED, 1, 2);
+        assertChange(changes.get(2), CommentTree.RowChange.CHANGED, 1, 1);
+        assertChange(changes.get(3), CommentTree.RowChange.INSERTED, 2, 1);
+        assertEquals(2, tree.getPosition("a1x"));
+        assertEquals(5, tree.getRowCount());
+    }
+
+    @Test
+    public void removeTakesTheVisibleRepliesAlong() {
+        CommentTree tree = CommentTree.of(Arrays.asList(
+                comment("a", null), comment("a1", "a"), comment("a2", "a"), comment("b", null)));
+        tree.toggle("a");
+
+        List<CommentTree.RowChange> changes = tree.remove("a");
+
+        assertEquals(1, changes.size());
+        assertChange(changes.get(0), CommentTree.RowChange.REMOVED, 0, 3);
+        assertEquals(0, tree.getPosition("b"));
+        assertFalse(tree.contains("a1"));
+        assertEquals(1, tree.getCommentCount());
+    }
+
+    @Test
+    public void replyToCollapsedCommentOnlyChangesTheParentRow() {
+        CommentTree tree = CommentTree.of(Arrays.asList(comment("a", null), comment("b", null)));
+
+        CommentTree.RowChange change = tree.insertReply(comment("b1", "b"));
+
+        assertChange(change, CommentTree.RowChange.CHANGED, 1, 1);
+        assertEquals(2, tree.getRowCount());
+        assertTrue(tree.hasReplies(1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.odysee.app.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import com.odysee.app.exceptions.ApiCallException;
+import com.odysee.app.exceptions.LbryResponseException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class LbryBatchTest {
+    private LbryBatch batch;
+
+    @Before
+    public void createBatch() {
+        batch = new LbryBatch();
+        assertEquals(0, batch.add(Lbry.METHOD_WALLET_BALANCE, null));
+        assertEquals(1, batch.add(Lbry.METHOD_RESOLVE, null));
+        assertEquals(2, batch.add(Lbry.METHOD_CLAIM_SEARCH, null));
+    }
+
+    @Test
+    public void responsesAreMatchedToTheCallsById() throws Exception {
+        List<LbryBatch.Result> results = batch.parseBatchResponse("[" +
+                "{\"jsonrpc\": \"2.0\", \"id\": 2, \"result\": \"search\"}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 0, \"result\": \"balance\"}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": \"resolve\"}]");
+
+        assertEquals(3, results.size());
+        assertEquals("balance", results.get(0).get());
+        assertEquals("resolve", results.get(1).get());
+        assertEquals("search", results.get(2).get());
+    }
+
+    @Test
+    public void errorOnlyFailsItsOwnCall() throws Exception {
+        List<LbryBatch.Result> results = batch.parseBatchResponse("[" +
+                "{\"jsonrpc\": \"2.0\", \"id\": 0, \"result\": \"balance\"}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 1, \"error\": {\"code\": -32500, \"message\": \"Invalid URL\"}}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 2, \"result\": \"search\"}]");
+
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertTrue(results.get(2).isSuccessful());
+        try {
+            results.get(1).get();
+            fail("The call with an error response should fail");
+        } catch (ApiCallException ex) {
+            assertTrue(ex.getMessage().contains("Invalid URL"));
+        }
+    }
+
+    @Test
+    public void callsMissingFromTheResponseFail() throws Exception {
+        List<LbryBatch.Result> results = batch.parseBatchResponse("[" +
+                "{\"jsonrpc\": \"2.0\", \"id\": 1, \"result\": \"resolve\"}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 7, \"result\": \"unknown\"}]");
+
+        assertEquals(3, results.size());
+        assertFalse(results.get(0).isSuccessful());
+        assertEquals("resolve", results.get(1).get());
+        assertFalse(results.get(2).isSuccessful());
+    }
+
+    @Test
+    public void duplicateIdsKeepTheFirstResponse() throws Exception {
+        List<LbryBatch.Result> results = batch.parseBatchResponse("[" +
+                "{\"jsonrpc\": \"2.0\", \"id\": 0, \"result\": \"first\"}," +
+                "{\"jsonrpc\": \"2.0\", \"id\": 0, \"result\": \"second\"}]");
+
+        assertEquals("first", results.get(0).get());
+    }
+
+    @Test(expected = LbryResponseException.class)
+    public void singleResponseMeansBatchesAreNotSupported() throws Exception {
+        // execute falls back to single calls when parsing throws
+        batch.parseBatchResponse("{\"jsonrpc\": \"2.0\", \"id\": null, \"error\": {\"code\": -32600, \"message\": \"Invalid Request\"}}");
+    }
+}
@@ -0,0 +1,75 @@
+package com.odysee.app.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTest {
+    private static void assertContents(RingBuffer<Integer> buffer, Integer... expected) {
+        assertEquals(expected.length, buffer.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], buffer.get(i));
+        }
+    }
+
+    @Test
+    public void addEvictsTheOldestElementOnceFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        assertFalse(buffer.add(1));
+        assertFalse(buffer.add(2));
+        assertFalse(buffer.add(3));
+
+        assertTrue(buffer.add(4));
+        assertContents(buffer, 2, 3, 4);
+        assertTrue(buffer.add(5));
+        assertTrue(buffer.add(6));
+        assertTrue(buffer.add(7));
+        assertContents(buffer, 5, 6, 7);
+    }
+
+    @Test
+    public void addAllReturnsTheNumberOfEvictedElements() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertEquals(0, buffer.addAll(Arrays.asList(1, 2, 3)));
+        assertEquals(2, buffer.addAll(Arrays.asList(4, 5, 6)));
+        assertContents(buffer, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void addAllKeepsTheLastItemsWhenThereAreMoreThanTheCapacity() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        buffer.add(0);
+
+        // the items which don't fit are skipped, they are not counted as evicted
+        assertEquals(1, buffer.addAll(Arrays.asList(1, 2, 3, 4, 5)));
+        assertContents(buffer, 3, 4, 5);
+        assertEquals(3, buffer.capacity());
+    }
+
+    @Test
+    public void clearEmptiesTheBufferAndStartsOver() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.addAll(Arrays.asList(1, 2, 3));
+        buffer.clear();
+
+        assertEquals(0, buffer.size());
+        assertFalse(buffer.add(4));
+        assertContents(buffer, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBeyondTheSizeThrows() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        buffer.add(1);
+        buffer.get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityMustBePositive() {
+        new RingBuffer<Integer>(0);
+    }
+}